@@ -0,0 +1,270 @@
+package com.classhub.domain.calendar;
+
+import com.classhub.domain.calendar.dto.StudentCalendarResponse;
+import com.classhub.domain.calendar.mapper.StudentCalendarMapper;
+import com.classhub.domain.calendar.model.CalendarEventType;
+import com.classhub.domain.calendar.repository.CalendarEventProjection;
+import com.classhub.domain.member.model.MemberRole;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * StudentCalendarService가 calendar_event 조회 결과를 응답으로 조립하는 비용을 잰다.
+ * 한 달치 이벤트를 강의 진도:개인 진도:클리닉 = 2:1:1로 섞고, 클리닉 절반에 기록 요약을 붙인다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentCalendarMapperBenchmark {
+
+    @Param({"40", "200"})
+    private int eventsPerMonth;
+
+    private final StudentCalendarMapper studentCalendarMapper = new StudentCalendarMapper();
+    private final UUID studentId = UUID.randomUUID();
+    private List<CalendarEventProjection> events;
+
+    @Setup
+    public void setUp() {
+        events = monthEvents(eventsPerMonth);
+    }
+
+    @Benchmark
+    public StudentCalendarResponse assembleMonth() {
+        return assemble(studentCalendarMapper, studentId, events);
+    }
+
+    public static StudentCalendarResponse assemble(StudentCalendarMapper mapper,
+                                                   UUID studentId,
+                                                   List<CalendarEventProjection> events) {
+        List<StudentCalendarResponse.CourseProgressEvent> courseProgressEvents = new ArrayList<>();
+        List<StudentCalendarResponse.PersonalProgressEvent> personalProgressEvents = new ArrayList<>();
+        List<StudentCalendarResponse.ClinicEvent> clinicEvents = new ArrayList<>();
+        for (CalendarEventProjection event : events) {
+            switch (event.getEventType()) {
+                case COURSE_PROGRESS -> courseProgressEvents.add(mapper.toCourseProgressEvent(event));
+                case PERSONAL_PROGRESS -> personalProgressEvents.add(mapper.toPersonalProgressEvent(event));
+                case CLINIC -> clinicEvents.add(mapper.toClinicEvent(event));
+            }
+        }
+        return new StudentCalendarResponse(studentId, 2025, 3, courseProgressEvents, personalProgressEvents, clinicEvents);
+    }
+
+    public static List<CalendarEventProjection> monthEvents(int count) {
+        List<CalendarEventProjection> events = new ArrayList<>(count);
+        UUID courseId = UUID.randomUUID();
+        UUID recordId = UUID.randomUUID();
+        UUID teacherId = UUID.randomUUID();
+        LocalDate firstDay = LocalDate.of(2025, 3, 1);
+        for (int i = 0; i < count; i++) {
+            CalendarEventType type = switch (i % 4) {
+                case 0, 1 -> CalendarEventType.COURSE_PROGRESS;
+                case 2 -> CalendarEventType.PERSONAL_PROGRESS;
+                default -> CalendarEventType.CLINIC;
+            };
+            LocalDate date = firstDay.plusDays(i % 31);
+            boolean withRecord = type == CalendarEventType.CLINIC && i % 8 == 3;
+            events.add(new EventRow(
+                    UUID.randomUUID(),
+                    type,
+                    courseId,
+                    "고등 수학 A반",
+                    type == CalendarEventType.PERSONAL_PROGRESS ? recordId : null,
+                    date,
+                    "단원 " + i + " 진도",
+                    "교과서 " + (i * 4) + "~" + (i * 4 + 3) + "쪽, 익힘책 풀이",
+                    teacherId,
+                    "김선생",
+                    MemberRole.TEACHER,
+                    date.atTime(21, 0),
+                    type == CalendarEventType.CLINIC ? UUID.randomUUID() : null,
+                    type == CalendarEventType.CLINIC ? UUID.randomUUID() : null,
+                    LocalTime.of(18, 0),
+                    LocalTime.of(19, 0),
+                    false,
+                    withRecord ? UUID.randomUUID() : null,
+                    withRecord ? "클리닉 기록" : null,
+                    withRecord ? "오답 정리 후 유사 문항 3개 추가 풀이" : null,
+                    withRecord ? "80%" : null,
+                    withRecord ? teacherId : null,
+                    withRecord ? "김선생" : null,
+                    withRecord ? MemberRole.TEACHER : null,
+                    withRecord ? date.atTime(19, 10) : null
+            ));
+        }
+        return events;
+    }
+
+    private record EventRow(
+            UUID sourceId,
+            CalendarEventType eventType,
+            UUID courseId,
+            String courseName,
+            UUID studentCourseRecordId,
+            LocalDate eventDate,
+            String title,
+            String content,
+            UUID writerId,
+            String writerName,
+            MemberRole writerRole,
+            LocalDateTime sourceCreatedAt,
+            UUID clinicSessionId,
+            UUID slotId,
+            LocalTime startTime,
+            LocalTime endTime,
+            boolean canceled,
+            UUID clinicRecordId,
+            String recordTitle,
+            String recordContent,
+            String recordHomeworkProgress,
+            UUID recordWriterId,
+            String recordWriterName,
+            MemberRole recordWriterRole,
+            LocalDateTime recordCreatedAt
+    ) implements CalendarEventProjection {
+
+        @Override
+        public UUID getSourceId() {
+            return sourceId;
+        }
+
+        @Override
+        public CalendarEventType getEventType() {
+            return eventType;
+        }
+
+        @Override
+        public UUID getCourseId() {
+            return courseId;
+        }
+
+        @Override
+        public String getCourseName() {
+            return courseName;
+        }
+
+        @Override
+        public UUID getStudentCourseRecordId() {
+            return studentCourseRecordId;
+        }
+
+        @Override
+        public LocalDate getEventDate() {
+            return eventDate;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getContent() {
+            return content;
+        }
+
+        @Override
+        public UUID getWriterId() {
+            return writerId;
+        }
+
+        @Override
+        public String getWriterName() {
+            return writerName;
+        }
+
+        @Override
+        public MemberRole getWriterRole() {
+            return writerRole;
+        }
+
+        @Override
+        public LocalDateTime getSourceCreatedAt() {
+            return sourceCreatedAt;
+        }
+
+        @Override
+        public UUID getClinicSessionId() {
+            return clinicSessionId;
+        }
+
+        @Override
+        public UUID getSlotId() {
+            return slotId;
+        }
+
+        @Override
+        public LocalTime getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public LocalTime getEndTime() {
+            return endTime;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled;
+        }
+
+        @Override
+        public UUID getClinicRecordId() {
+            return clinicRecordId;
+        }
+
+        @Override
+        public String getRecordTitle() {
+            return recordTitle;
+        }
+
+        @Override
+        public String getRecordContent() {
+            return recordContent;
+        }
+
+        @Override
+        public String getRecordHomeworkProgress() {
+            return recordHomeworkProgress;
+        }
+
+        @Override
+        public UUID getRecordWriterId() {
+            return recordWriterId;
+        }
+
+        @Override
+        public String getRecordWriterName() {
+            return recordWriterName;
+        }
+
+        @Override
+        public MemberRole getRecordWriterRole() {
+            return recordWriterRole;
+        }
+
+        @Override
+        public LocalDateTime getRecordCreatedAt() {
+            return recordCreatedAt;
+        }
+    }
+}
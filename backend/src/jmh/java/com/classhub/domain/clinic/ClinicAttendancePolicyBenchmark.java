@@ -0,0 +1,83 @@
+package com.classhub.domain.clinic;
+
+import com.classhub.domain.clinic.attendance.support.ClinicAttendancePolicy;
+import com.classhub.domain.clinic.session.model.ClinicSession;
+import com.classhub.domain.clinic.session.model.ClinicSessionType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 출석 신청·이동·배치에서 세션마다 호출되는 ClinicAttendancePolicy 판정 비용을 잰다. (한 지점 한 달치 세션 1,000건)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClinicAttendancePolicyBenchmark {
+
+    private static final int SESSIONS = 1_000;
+
+    private List<ClinicSession> sessions;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        LocalDate firstDate = LocalDate.of(2025, 3, 3);
+        UUID teacherId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+        sessions = new ArrayList<>(SESSIONS);
+        for (int i = 0; i < SESSIONS; i++) {
+            LocalTime start = LocalTime.of(14 + i % 6, (i % 2) * 30);
+            sessions.add(ClinicSession.builder()
+                    .slotId(UUID.randomUUID())
+                    .teacherMemberId(teacherId)
+                    .branchId(branchId)
+                    .sessionType(ClinicSessionType.REGULAR)
+                    .date(firstDate.plusDays(i % 30))
+                    .startTime(start)
+                    .endTime(start.plusMinutes(50))
+                    .capacity(10)
+                    .build());
+        }
+        now = LocalDateTime.of(firstDate.plusDays(15), LocalTime.of(16, 45));
+    }
+
+    @Benchmark
+    public void isLocked(Blackhole blackhole) {
+        for (ClinicSession session : sessions) {
+            blackhole.consume(ClinicAttendancePolicy.isLocked(session, now));
+        }
+    }
+
+    @Benchmark
+    public void isMoveAllowed(Blackhole blackhole) {
+        for (ClinicSession session : sessions) {
+            blackhole.consume(ClinicAttendancePolicy.isMoveAllowed(session, now));
+        }
+    }
+
+    @Benchmark
+    public void resolveWeek(Blackhole blackhole) {
+        for (ClinicSession session : sessions) {
+            blackhole.consume(ClinicAttendancePolicy.resolveWeek(session.getDate()));
+        }
+    }
+}
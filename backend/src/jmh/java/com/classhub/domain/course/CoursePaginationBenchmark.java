@@ -0,0 +1,164 @@
+package com.classhub.domain.course;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 선생님 강의 목록의 깊은 페이지 조회 비용을 비교한다. (H2 MySQL 모드, 선생님 1명 20,000건)
+ * - offsetPage: 기존 PageResponse 경로. OFFSET page*size + COUNT(*)
+ * - seekPage: 커서 모드 경로. (created_at, id) 커서 이후 size + 1건, COUNT 없음
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoursePaginationBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int SIZE = 20;
+    private static final long TEACHER_ID = 1L;
+
+    private static final String OFFSET_SQL = """
+            SELECT id, name, created_at FROM course
+            WHERE teacher_member_id = ? AND deleted_at IS NULL
+            ORDER BY created_at DESC, id DESC
+            LIMIT ? OFFSET ?
+            """;
+    private static final String COUNT_SQL = """
+            SELECT COUNT(*) FROM course WHERE teacher_member_id = ? AND deleted_at IS NULL
+            """;
+    private static final String SEEK_SQL = """
+            SELECT id, name, created_at FROM course
+            WHERE teacher_member_id = ? AND deleted_at IS NULL
+              AND (created_at < ? OR (created_at = ? AND id < ?))
+            ORDER BY created_at DESC, id DESC
+            LIMIT ?
+            """;
+
+    @Param({"0", "200", "800"})
+    private int page;
+
+    private Connection connection;
+    private Timestamp cursorCreatedAt;
+    private long cursorId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:course-pagination;MODE=MYSQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS course");
+            statement.execute("""
+                    CREATE TABLE course (
+                        id BIGINT PRIMARY KEY,
+                        teacher_member_id BIGINT NOT NULL,
+                        name VARCHAR(100) NOT NULL,
+                        created_at TIMESTAMP NOT NULL,
+                        deleted_at TIMESTAMP
+                    )
+                    """);
+            statement.execute("CREATE INDEX idx_course_teacher_created ON course (teacher_member_id, created_at, id)");
+        }
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO course (id, teacher_member_id, name, created_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                insert.setLong(1, i);
+                insert.setLong(2, TEACHER_ID);
+                insert.setString(3, "course-" + i);
+                insert.setTimestamp(4, Timestamp.valueOf(base.plusMinutes(i / 2)));
+                insert.addBatch();
+                if (i % 1_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        // 커서 모드는 직전 페이지의 마지막 행을 커서로 받으므로, 같은 위치의 정렬 키를 미리 구해 둔다.
+        if (page > 0) {
+            try (PreparedStatement statement = connection.prepareStatement(OFFSET_SQL)) {
+                statement.setLong(1, TEACHER_ID);
+                statement.setInt(2, 1);
+                statement.setInt(3, page * SIZE - 1);
+                try (ResultSet rs = statement.executeQuery()) {
+                    rs.next();
+                    cursorId = rs.getLong(1);
+                    cursorCreatedAt = rs.getTimestamp(3);
+                }
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE course");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void offsetPage(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(OFFSET_SQL)) {
+            statement.setLong(1, TEACHER_ID);
+            statement.setInt(2, SIZE);
+            statement.setInt(3, page * SIZE);
+            consume(statement, blackhole);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(COUNT_SQL)) {
+            statement.setLong(1, TEACHER_ID);
+            consume(statement, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void seekPage(Blackhole blackhole) throws SQLException {
+        if (page == 0) {
+            try (PreparedStatement statement = connection.prepareStatement(OFFSET_SQL)) {
+                statement.setLong(1, TEACHER_ID);
+                statement.setInt(2, SIZE + 1);
+                statement.setInt(3, 0);
+                consume(statement, blackhole);
+            }
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(SEEK_SQL)) {
+            statement.setLong(1, TEACHER_ID);
+            statement.setTimestamp(2, cursorCreatedAt);
+            statement.setTimestamp(3, cursorCreatedAt);
+            statement.setLong(4, cursorId);
+            statement.setInt(5, SIZE + 1);
+            consume(statement, blackhole);
+        }
+    }
+
+    private void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getObject(1));
+            }
+        }
+    }
+}
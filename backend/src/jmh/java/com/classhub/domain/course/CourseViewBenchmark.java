@@ -0,0 +1,144 @@
+package com.classhub.domain.course;
+
+import com.classhub.domain.company.branch.model.Branch;
+import com.classhub.domain.company.cache.BranchSnapshot;
+import com.classhub.domain.company.cache.CompanySnapshot;
+import com.classhub.domain.company.company.model.Company;
+import com.classhub.domain.company.company.model.CompanyType;
+import com.classhub.domain.course.application.CourseViewAssembler;
+import com.classhub.domain.course.application.CourseViewAssembler.CourseContext;
+import com.classhub.domain.course.dto.response.CourseResponse;
+import com.classhub.domain.course.model.Course;
+import com.classhub.domain.course.validator.CourseScheduleValidator;
+import com.classhub.domain.course.validator.CourseScheduleValidator.ScheduleInput;
+import com.classhub.global.entity.BaseEntity;
+import java.lang.reflect.Field;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 강의 생성·조회 경로의 메모리 연산 비용을 잰다.
+ * - validateSchedules: CourseScheduleValidator.validate (요일별 정렬·겹침 검사)
+ * - toCourseResponses: 목록 한 페이지를 CourseViewAssembler.toCourseResponse로 변환 (지점 5개, 회사 2개 컨텍스트)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CourseViewBenchmark {
+
+    private static final int BRANCHES = 5;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"3", "14"})
+    private int schedulesPerCourse;
+
+    private List<ScheduleInput> scheduleInputs;
+    private List<Course> courses;
+    private CourseContext context;
+    private CourseViewAssembler courseViewAssembler;
+
+    @Setup
+    public void setUp() {
+        scheduleInputs = scheduleInputs(schedulesPerCourse);
+        Set<Course.CourseSchedule> schedules = new HashSet<>();
+        scheduleInputs.forEach(input -> schedules.add(
+                new Course.CourseSchedule(input.dayOfWeek(), input.startTime(), input.endTime())));
+
+        Company academy = withId(Company.create("클래스허브 학원", null, CompanyType.ACADEMY, null, UUID.randomUUID()));
+        Company individual = withId(Company.create("개인 과외", null, CompanyType.INDIVIDUAL, null, UUID.randomUUID()));
+        Map<UUID, BranchSnapshot> branches = new HashMap<>();
+        Map<UUID, UUID> branchCompanyMap = new HashMap<>();
+        List<Branch> branchList = new ArrayList<>();
+        for (int i = 0; i < BRANCHES; i++) {
+            Company company = i == 0 ? individual : academy;
+            Branch branch = withId(Branch.create(company.getId(), "지점 " + i, UUID.randomUUID(), null));
+            branches.put(branch.getId(), BranchSnapshot.from(branch));
+            branchCompanyMap.put(branch.getId(), company.getId());
+            branchList.add(branch);
+        }
+        context = new CourseContext(
+                branches,
+                Map.of(
+                        academy.getId(), CompanySnapshot.from(academy),
+                        individual.getId(), CompanySnapshot.from(individual)
+                ),
+                branchCompanyMap
+        );
+
+        courses = new ArrayList<>(pageSize);
+        UUID teacherId = UUID.randomUUID();
+        for (int i = 0; i < pageSize; i++) {
+            courses.add(withId(Course.create(
+                    branchList.get(i % BRANCHES).getId(),
+                    teacherId,
+                    "고등 수학 " + i + "반",
+                    "주간 정규 수업과 클리닉을 함께 운영하는 반입니다.",
+                    LocalDate.of(2025, 3, 1),
+                    LocalDate.of(2025, 8, 31),
+                    schedules
+            )));
+        }
+        courseViewAssembler = new CourseViewAssembler(null);
+    }
+
+    @Benchmark
+    public List<ScheduleInput> validateSchedules() {
+        CourseScheduleValidator.validate(scheduleInputs);
+        return scheduleInputs;
+    }
+
+    @Benchmark
+    public List<CourseResponse> toCourseResponses() {
+        List<CourseResponse> responses = new ArrayList<>(courses.size());
+        for (Course course : courses) {
+            responses.add(courseViewAssembler.toCourseResponse(course, context));
+        }
+        return responses;
+    }
+
+    /**
+     * 요일마다 겹치지 않는 1시간 수업을 돌아가며 배치한다. validate가 매번 새 리스트를 정렬하도록 가변 리스트로 둔다.
+     */
+    static List<ScheduleInput> scheduleInputs(int count) {
+        List<ScheduleInput> inputs = new ArrayList<>(count);
+        DayOfWeek[] days = DayOfWeek.values();
+        for (int i = 0; i < count; i++) {
+            LocalTime start = LocalTime.of(9 + (i / days.length) * 2, 0);
+            inputs.add(new ScheduleInput(days[i % days.length], start, start.plusHours(1)));
+        }
+        return inputs;
+    }
+
+    static <T extends BaseEntity> T withId(T entity) {
+        Field id = ReflectionUtils.findField(BaseEntity.class, "id");
+        ReflectionUtils.makeAccessible(id);
+        ReflectionUtils.setField(id, entity, UUID.randomUUID());
+        return entity;
+    }
+}
@@ -0,0 +1,109 @@
+package com.classhub.global.jwt;
+
+import com.classhub.domain.member.dto.MemberPrincipal;
+import com.classhub.domain.member.model.MemberRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * JwtAuthenticationFilter의 요청당 인증 처리 비용을 비교한다.
+ * - legacyFilterPath: 기존 isValidToken + getAuthentication(getClaims 2회) 경로, 매번 키 파생
+ * - parseOncePath: 캐시 없이 한 번만 검증·파싱하는 경로
+ * - cachedFilterPath: 검증 캐시를 거치는 현재 필터 경로 (같은 탭의 반복 요청)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "0123456789012345678901234567890123456789012345678901234567890123";
+
+    private JwtProvider jwtProvider;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setIssuer("classhub-benchmark");
+        properties.setSecretKey(SECRET);
+        properties.setAccessTokenExpirationMillis(TimeUnit.HOURS.toMillis(1));
+        properties.setRefreshTokenExpirationMillis(TimeUnit.DAYS.toMillis(14));
+
+        jwtProvider = new JwtProvider(properties);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+                jwtProvider,
+                new VerifiedTokenCache(properties, Clock.systemUTC()),
+                null
+        );
+        accessToken = jwtProvider.generateAccessToken(UUID.randomUUID(), MemberRole.TEACHER);
+    }
+
+    @Benchmark
+    public Authentication legacyFilterPath() {
+        if (!legacyIsValid(accessToken)) {
+            return null;
+        }
+        Claims claims = legacyClaims(accessToken);
+        MemberRole role = MemberRole.valueOf(claims.get("role", String.class));
+        UUID memberId = UUID.fromString(legacyClaims(accessToken).get("id", String.class));
+        return new UsernamePasswordAuthenticationToken(
+                new MemberPrincipal(memberId, role),
+                null,
+                List.of(new SimpleGrantedAuthority(role.name()))
+        );
+    }
+
+    @Benchmark
+    public Authentication parseOncePath() {
+        return jwtProvider.verifyAccessToken(accessToken)
+                .map(verified -> jwtProvider.createAuthentication(verified.principal()))
+                .orElse(null);
+    }
+
+    @Benchmark
+    public Authentication cachedFilterPath() {
+        return jwtAuthenticationFilter.resolveAuthentication(accessToken);
+    }
+
+    private boolean legacyIsValid(String token) {
+        try {
+            legacyClaims(token);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
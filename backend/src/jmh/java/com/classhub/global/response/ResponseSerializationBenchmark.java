@@ -0,0 +1,110 @@
+package com.classhub.global.response;
+
+import com.classhub.domain.calendar.StudentCalendarMapperBenchmark;
+import com.classhub.domain.calendar.dto.StudentCalendarResponse;
+import com.classhub.domain.calendar.mapper.StudentCalendarMapper;
+import com.classhub.domain.course.dto.response.CourseResponse;
+import com.classhub.domain.course.dto.response.CourseScheduleResponse;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 컨트롤러 응답 본문(RsData)의 Jackson 직렬화 비용을 잰다.
+ * - coursePage: RsData<PageResponse<CourseResponse>>, 강의마다 요일 수업 3개
+ * - studentCalendar: RsData<StudentCalendarResponse>, 한 달치 이벤트
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    @State(Scope.Benchmark)
+    public static class CoursePage {
+
+        @Param({"20", "100"})
+        private int pageSize;
+
+        private RsData<PageResponse<CourseResponse>> payload;
+
+        @Setup
+        public void setUp() {
+            List<CourseResponse> courses = new ArrayList<>(pageSize);
+            UUID branchId = UUID.randomUUID();
+            UUID companyId = UUID.randomUUID();
+            List<CourseScheduleResponse> schedules = List.of(
+                    new CourseScheduleResponse(DayOfWeek.MONDAY, LocalTime.of(18, 0), LocalTime.of(20, 0)),
+                    new CourseScheduleResponse(DayOfWeek.WEDNESDAY, LocalTime.of(18, 0), LocalTime.of(20, 0)),
+                    new CourseScheduleResponse(DayOfWeek.FRIDAY, LocalTime.of(18, 0), LocalTime.of(20, 0))
+            );
+            for (int i = 0; i < pageSize; i++) {
+                courses.add(new CourseResponse(
+                        UUID.randomUUID(),
+                        branchId,
+                        "강남 본원",
+                        companyId,
+                        "클래스허브 학원",
+                        "고등 수학 " + i + "반",
+                        "주간 정규 수업과 클리닉을 함께 운영하는 반입니다.",
+                        LocalDate.of(2025, 3, 1),
+                        LocalDate.of(2025, 8, 31),
+                        true,
+                        schedules
+                ));
+            }
+            payload = RsData.from(
+                    RsCode.SUCCESS,
+                    new PageResponse<>(courses, 0, pageSize, 1_000, 1_000 / pageSize, true, false)
+            );
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class StudentCalendar {
+
+        @Param({"40", "200"})
+        private int eventsPerMonth;
+
+        private RsData<StudentCalendarResponse> payload;
+
+        @Setup
+        public void setUp() {
+            payload = RsData.from(RsCode.SUCCESS, StudentCalendarMapperBenchmark.assemble(
+                    new StudentCalendarMapper(),
+                    UUID.randomUUID(),
+                    StudentCalendarMapperBenchmark.monthEvents(eventsPerMonth)
+            ));
+        }
+    }
+
+    @Benchmark
+    public byte[] coursePage(CoursePage state) {
+        return OBJECT_MAPPER.writeValueAsBytes(state.payload);
+    }
+
+    @Benchmark
+    public byte[] studentCalendar(StudentCalendar state) {
+        return OBJECT_MAPPER.writeValueAsBytes(state.payload);
+    }
+}
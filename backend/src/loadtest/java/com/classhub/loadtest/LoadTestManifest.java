@@ -0,0 +1,127 @@
+package com.classhub.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 생성기가 만든 계정·강의·미래 세션 식별자를 CSV로 남기고, 시나리오 러너가 같은 파일을 읽는다.
+ * 러너가 API로 데이터를 탐색하지 않아도 되도록 요청에 필요한 값만 담는다.
+ */
+public final class LoadTestManifest implements Closeable {
+
+    public static final String TEACHERS_FILE = "teachers.csv";
+    public static final String STUDENTS_FILE = "students.csv";
+    public static final String SESSIONS_FILE = "sessions.csv";
+
+    private final BufferedWriter teachers;
+    private final BufferedWriter students;
+    private final BufferedWriter sessions;
+
+    private LoadTestManifest(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        this.teachers = Files.newBufferedWriter(directory.resolve(TEACHERS_FILE), StandardCharsets.UTF_8);
+        this.students = Files.newBufferedWriter(directory.resolve(STUDENTS_FILE), StandardCharsets.UTF_8);
+        this.sessions = Files.newBufferedWriter(directory.resolve(SESSIONS_FILE), StandardCharsets.UTF_8);
+    }
+
+    public static LoadTestManifest create(Path directory) {
+        try {
+            return new LoadTestManifest(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void addTeacher(TeacherRow row) {
+        write(teachers, row.teacherNo() + "," + row.email() + "," + row.memberId());
+    }
+
+    public void addStudent(StudentRow row) {
+        write(students, String.join(",",
+                row.email(),
+                row.memberId().toString(),
+                row.name(),
+                String.valueOf(row.teacherNo()),
+                row.courseId().toString()));
+    }
+
+    public void addSession(SessionRow row) {
+        write(sessions, String.join(",",
+                String.valueOf(row.teacherNo()),
+                row.sessionId().toString(),
+                row.date().toString(),
+                row.startTime().toString()));
+    }
+
+    @Override
+    public void close() {
+        try (teachers; students; sessions) {
+            // 세 파일을 모두 닫는다
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static List<TeacherRow> readTeachers(Path directory) {
+        return read(directory.resolve(TEACHERS_FILE), columns -> new TeacherRow(
+                Integer.parseInt(columns[0]),
+                columns[1],
+                UUID.fromString(columns[2])));
+    }
+
+    public static List<StudentRow> readStudents(Path directory) {
+        return read(directory.resolve(STUDENTS_FILE), columns -> new StudentRow(
+                columns[0],
+                UUID.fromString(columns[1]),
+                columns[2],
+                Integer.parseInt(columns[3]),
+                UUID.fromString(columns[4])));
+    }
+
+    public static List<SessionRow> readSessions(Path directory) {
+        return read(directory.resolve(SESSIONS_FILE), columns -> new SessionRow(
+                Integer.parseInt(columns[0]),
+                UUID.fromString(columns[1]),
+                LocalDate.parse(columns[2]),
+                LocalTime.parse(columns[3])));
+    }
+
+    private static void write(BufferedWriter writer, String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> List<T> read(Path file, Function<String[], T> mapper) {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> !line.isBlank())
+                    .map(line -> mapper.apply(line.split(",")))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record TeacherRow(int teacherNo, String email, UUID memberId) {
+    }
+
+    public record StudentRow(String email, UUID memberId, String name, int teacherNo, UUID courseId) {
+    }
+
+    public record SessionRow(int teacherNo, UUID sessionId, LocalDate date, LocalTime startTime) {
+    }
+}
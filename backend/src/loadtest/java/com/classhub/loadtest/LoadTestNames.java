@@ -0,0 +1,42 @@
+package com.classhub.loadtest;
+
+import java.util.List;
+
+/**
+ * 번호에서 결정적으로 만드는 계정 이메일과 한글 이름. 같은 번호는 생성기와 러너에서 같은 값이 된다.
+ */
+public final class LoadTestNames {
+
+    public static final String EMAIL_DOMAIN = "loadtest.classhub.dev";
+
+    private static final List<String> SURNAMES = List.of(
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임",
+            "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"
+    );
+    private static final List<String> GIVEN_SYLLABLES = List.of(
+            "민", "서", "지", "현", "우", "준", "하", "윤", "도", "예",
+            "수", "은", "재", "유", "건", "다", "시", "연", "주", "원"
+    );
+
+    private LoadTestNames() {
+    }
+
+    public static String teacherEmail(int teacherNo) {
+        return "lt-teacher-%05d@%s".formatted(teacherNo, EMAIL_DOMAIN);
+    }
+
+    public static String studentEmail(int studentNo) {
+        return "lt-student-%06d@%s".formatted(studentNo, EMAIL_DOMAIN);
+    }
+
+    public static String personName(int number) {
+        int size = GIVEN_SYLLABLES.size();
+        return SURNAMES.get(number % SURNAMES.size())
+                + GIVEN_SYLLABLES.get((number / SURNAMES.size()) % size)
+                + GIVEN_SYLLABLES.get((number / (SURNAMES.size() * size)) % size);
+    }
+
+    public static String phoneNumber(int number) {
+        return "010-%04d-%04d".formatted((number / 10_000) % 10_000, number % 10_000);
+    }
+}
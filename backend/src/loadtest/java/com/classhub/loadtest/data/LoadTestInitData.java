@@ -0,0 +1,385 @@
+package com.classhub.loadtest.data;
+
+import com.classhub.domain.assignment.model.BranchRole;
+import com.classhub.domain.assignment.model.TeacherBranchAssignment;
+import com.classhub.domain.assignment.model.TeacherStudentAssignment;
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
+import com.classhub.domain.clinic.batch.repository.ClinicBatchJdbcRepository;
+import com.classhub.domain.clinic.batch.repository.ClinicBatchJdbcRepository.AttendanceRow;
+import com.classhub.domain.clinic.batch.repository.ClinicBatchJdbcRepository.SessionRow;
+import com.classhub.domain.clinic.slot.model.ClinicSlot;
+import com.classhub.domain.company.branch.model.Branch;
+import com.classhub.domain.company.company.model.Company;
+import com.classhub.domain.company.company.model.CompanyType;
+import com.classhub.domain.company.company.model.VerifiedStatus;
+import com.classhub.domain.course.model.Course;
+import com.classhub.domain.member.model.Member;
+import com.classhub.domain.member.model.MemberRole;
+import com.classhub.domain.member.model.StudentGrade;
+import com.classhub.domain.member.model.StudentInfo;
+import com.classhub.domain.member.repository.MemberRepository;
+import com.classhub.domain.progress.course.model.CourseProgress;
+import com.classhub.domain.progress.personal.model.PersonalProgress;
+import com.classhub.domain.studentcourse.model.StudentCourseAssignment;
+import com.classhub.domain.studentcourse.model.StudentCourseRecord;
+import com.classhub.global.entity.BaseEntity;
+import com.classhub.global.entity.BulkInserter;
+import com.classhub.global.init.data.BaseInitData;
+import com.classhub.global.util.KstTime;
+import com.classhub.loadtest.LoadTestManifest;
+import com.classhub.loadtest.LoadTestNames;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * loadtest 프로필 전용 대용량 시드. 지점 하나를 트랜잭션 하나로 만들어 메모리와 롤백 범위를 지점 단위로 묶는다.
+ * - 회원·강의·슬롯·수강 기록·진도: BulkInserter (hibernate.jdbc.batch_size 단위 batch insert)
+ * - 세션·출석: 주간 배치와 같은 ClinicBatchJdbcRepository batch insert
+ * - calendar_event: 원본을 쓴 트랜잭션 안에서 기존 동기화 쿼리로 채운다
+ * 이미 생성된 DB면 건너뛴다. 다시 만들려면 DB를 지우고 실행한다.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+public class LoadTestInitData extends BaseInitData {
+
+    private static final List<List<DayOfWeek>> COURSE_DAYS = List.of(
+            List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY),
+            List.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY),
+            List.of(DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY),
+            List.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY)
+    );
+    private static final List<LocalTime> COURSE_START_TIMES = List.of(
+            LocalTime.of(14, 0),
+            LocalTime.of(16, 0),
+            LocalTime.of(18, 0),
+            LocalTime.of(20, 0)
+    );
+    private static final List<DayOfWeek> SLOT_DAYS = List.of(
+            DayOfWeek.TUESDAY,
+            DayOfWeek.THURSDAY,
+            DayOfWeek.SATURDAY,
+            DayOfWeek.FRIDAY
+    );
+    private static final List<StudentGrade> GRADES = List.of(
+            StudentGrade.MIDDLE_1, StudentGrade.MIDDLE_2, StudentGrade.MIDDLE_3,
+            StudentGrade.HIGH_1, StudentGrade.HIGH_2, StudentGrade.HIGH_3
+    );
+
+    private final LoadTestProperties properties;
+    private final MemberRepository memberRepository;
+    private final BulkInserter bulkInserter;
+    private final ClinicBatchJdbcRepository clinicBatchJdbcRepository;
+    private final CalendarEventJdbcRepository calendarEventJdbcRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public LoadTestInitData(LoadTestProperties properties,
+                            MemberRepository memberRepository,
+                            BulkInserter bulkInserter,
+                            ClinicBatchJdbcRepository clinicBatchJdbcRepository,
+                            CalendarEventJdbcRepository calendarEventJdbcRepository,
+                            PasswordEncoder passwordEncoder,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${custom.clinic.batch.chunk-size:500}") int batchSize) {
+        super("loadtest-large-seed", 1000);
+        this.properties = properties;
+        this.memberRepository = memberRepository;
+        this.bulkInserter = bulkInserter;
+        this.clinicBatchJdbcRepository = clinicBatchJdbcRepository;
+        this.calendarEventJdbcRepository = calendarEventJdbcRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    protected void doInitialize(boolean force) {
+        if (memberRepository.existsByEmail(LoadTestNames.teacherEmail(0))) {
+            log.info("Load test data already present, skip. Drop the database to regenerate.");
+            return;
+        }
+        LocalDate today = KstTime.nowDate();
+        Plan plan = new Plan(
+                today,
+                today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(properties.getHistoryWeeks()),
+                properties.getHistoryWeeks() + properties.getFutureWeeks(),
+                passwordEncoder.encode(properties.getPassword())
+        );
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        long startedAt = System.nanoTime();
+        int branchNo = 0;
+        try (LoadTestManifest manifest = LoadTestManifest.create(Path.of(properties.getManifestDir()))) {
+            for (int companyNo = 0; companyNo < properties.getCompanies(); companyNo++) {
+                int currentCompanyNo = companyNo;
+                List<Branch> branches = transactionTemplate.execute(status -> seedCompany(currentCompanyNo));
+                for (Branch branch : branches) {
+                    int currentBranchNo = branchNo++;
+                    SplittableRandom branchRandom = random.split();
+                    transactionTemplate.executeWithoutResult(status ->
+                            seedBranch(branch, currentBranchNo, plan, branchRandom, manifest));
+                }
+                log.info("Load test seed: company {}/{} done in {}s",
+                        companyNo + 1,
+                        properties.getCompanies(),
+                        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt));
+            }
+        }
+    }
+
+    private List<Branch> seedCompany(int companyNo) {
+        Company company = Company.create(
+                "부하테스트 학원 %02d".formatted(companyNo),
+                "부하 테스트용 합성 데이터",
+                CompanyType.ACADEMY,
+                VerifiedStatus.VERIFIED,
+                null
+        );
+        bulkInserter.insertAll(List.of(company));
+        List<Branch> branches = new ArrayList<>();
+        for (int i = 0; i < properties.getBranchesPerCompany(); i++) {
+            branches.add(Branch.create(company.getId(), "%s %d호점".formatted(company.getName(), i + 1), null, VerifiedStatus.VERIFIED));
+        }
+        return bulkInserter.insertAll(branches);
+    }
+
+    private void seedBranch(Branch branch, int branchNo, Plan plan, SplittableRandom random, LoadTestManifest manifest) {
+        int teacherBase = branchNo * properties.getTeachersPerBranch();
+        List<Member> teachers = new ArrayList<>();
+        for (int i = 0; i < properties.getTeachersPerBranch(); i++) {
+            int teacherNo = teacherBase + i;
+            teachers.add(member(LoadTestNames.teacherEmail(teacherNo), teacherNo, MemberRole.TEACHER, plan));
+        }
+        bulkInserter.insertAll(teachers);
+        bulkInserter.insertAll(teachers.stream()
+                .map(teacher -> TeacherBranchAssignment.create(teacher.getId(), branch.getId(), BranchRole.FREELANCE))
+                .toList());
+        for (int i = 0; i < teachers.size(); i++) {
+            Member teacher = teachers.get(i);
+            manifest.addTeacher(new LoadTestManifest.TeacherRow(teacherBase + i, teacher.getEmail(), teacher.getId()));
+            seedTeacher(branch, teacher, teacherBase + i, plan, random, manifest);
+        }
+    }
+
+    private void seedTeacher(Branch branch,
+                             Member teacher,
+                             int teacherNo,
+                             Plan plan,
+                             SplittableRandom random,
+                             LoadTestManifest manifest) {
+        int studentBase = teacherNo * properties.getStudentsPerTeacher();
+        List<Member> students = new ArrayList<>();
+        for (int i = 0; i < properties.getStudentsPerTeacher(); i++) {
+            int studentNo = studentBase + i;
+            students.add(member(LoadTestNames.studentEmail(studentNo), 1_000_000 + studentNo, MemberRole.STUDENT, plan));
+        }
+        bulkInserter.insertAll(students);
+        bulkInserter.insertAll(students.stream()
+                .map(student -> StudentInfo.create(
+                        student,
+                        "부하테스트 고등학교",
+                        GRADES.get(random.nextInt(GRADES.size())),
+                        LocalDate.of(2008, 1, 1).plusDays(random.nextInt(365 * 3)),
+                        LoadTestNames.phoneNumber(random.nextInt(100_000_000))
+                ))
+                .toList());
+        bulkInserter.insertAll(students.stream()
+                .map(student -> TeacherStudentAssignment.create(teacher.getId(), student.getId()))
+                .toList());
+
+        List<Course> courses = bulkInserter.insertAll(courses(branch, teacher, teacherNo, plan));
+        List<ClinicSlot> slots = bulkInserter.insertAll(slots(branch, teacher, teacherNo));
+
+        List<StudentCourseAssignment> assignments = new ArrayList<>();
+        List<StudentCourseRecord> records = new ArrayList<>();
+        for (int i = 0; i < students.size(); i++) {
+            Member student = students.get(i);
+            Course course = courses.get(i % courses.size());
+            ClinicSlot slot = slots.get(i % slots.size());
+            assignments.add(StudentCourseAssignment.create(
+                    student.getId(),
+                    course.getId(),
+                    teacher.getId(),
+                    plan.firstMonday().atStartOfDay()
+            ));
+            records.add(StudentCourseRecord.create(student.getId(), course.getId(), null, slot.getId(), null));
+            manifest.addStudent(new LoadTestManifest.StudentRow(
+                    student.getEmail(),
+                    student.getId(),
+                    student.getName(),
+                    teacherNo,
+                    course.getId()
+            ));
+        }
+        bulkInserter.insertAll(assignments);
+        bulkInserter.insertAll(records);
+
+        List<UUID> attendedSessionIds = seedClinic(slots, records, teacherNo, plan, random, manifest);
+        List<CourseProgress> courseProgresses = bulkInserter.insertAll(courseProgresses(courses, teacher, plan));
+        List<PersonalProgress> personalProgresses = bulkInserter.insertAll(personalProgresses(records, teacher, plan, random));
+
+        calendarEventJdbcRepository.syncCourseProgresses(ids(courseProgresses));
+        calendarEventJdbcRepository.syncPersonalProgresses(ids(personalProgresses));
+        calendarEventJdbcRepository.syncClinicSessions(attendedSessionIds);
+    }
+
+    /**
+     * 전체 기간의 정규 세션을 만들고, 지난 세션에는 기본 슬롯 학생 일부를 출석으로 채운다. 미래 세션은 예약 시나리오를 위해 비워 둔다.
+     */
+    private List<UUID> seedClinic(List<ClinicSlot> slots,
+                                  List<StudentCourseRecord> records,
+                                  int teacherNo,
+                                  Plan plan,
+                                  SplittableRandom random,
+                                  LoadTestManifest manifest) {
+        List<SessionRow> sessions = new ArrayList<>();
+        List<AttendanceRow> attendances = new ArrayList<>();
+        List<UUID> attendedSessionIds = new ArrayList<>();
+        for (ClinicSlot slot : slots) {
+            List<StudentCourseRecord> slotRecords = records.stream()
+                    .filter(record -> slot.getId().equals(record.getDefaultClinicSlotId()))
+                    .toList();
+            for (int week = 0; week < plan.weeks(); week++) {
+                LocalDate date = plan.firstMonday().plusWeeks(week).plusDays(slot.getDayOfWeek().ordinal());
+                SessionRow session = SessionRow.regular(slot, date);
+                sessions.add(session);
+                if (!date.isBefore(plan.today())) {
+                    manifest.addSession(new LoadTestManifest.SessionRow(teacherNo, session.id(), date, session.startTime()));
+                    continue;
+                }
+                int before = attendances.size();
+                for (StudentCourseRecord record : slotRecords) {
+                    if (attendances.size() - before >= session.capacity()) {
+                        break;
+                    }
+                    if (random.nextDouble() < properties.getAttendanceRatio()) {
+                        attendances.add(AttendanceRow.of(session.id(), record.getId()));
+                    }
+                }
+                if (attendances.size() > before) {
+                    attendedSessionIds.add(session.id());
+                }
+            }
+        }
+        clinicBatchJdbcRepository.insertSessions(sessions, batchSize);
+        clinicBatchJdbcRepository.reserveSeats(attendances);
+        clinicBatchJdbcRepository.insertAttendances(attendances, batchSize);
+        return attendedSessionIds;
+    }
+
+    private List<Course> courses(Branch branch, Member teacher, int teacherNo, Plan plan) {
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < properties.getCoursesPerTeacher(); i++) {
+            int variant = teacherNo + i;
+            List<DayOfWeek> days = COURSE_DAYS.get(variant % COURSE_DAYS.size());
+            LocalTime start = COURSE_START_TIMES.get(i % COURSE_START_TIMES.size());
+            courses.add(Course.create(
+                    branch.getId(),
+                    teacher.getId(),
+                    "%s %c반".formatted(teacher.getName(), (char) ('A' + i)),
+                    "부하 테스트 강의",
+                    plan.firstMonday(),
+                    plan.firstMonday().plusWeeks(plan.weeks()).minusDays(1),
+                    Set.of(
+                            new Course.CourseSchedule(days.get(0), start, start.plusHours(2)),
+                            new Course.CourseSchedule(days.get(1), start, start.plusHours(2))
+                    )
+            ));
+        }
+        return courses;
+    }
+
+    private List<ClinicSlot> slots(Branch branch, Member teacher, int teacherNo) {
+        List<ClinicSlot> slots = new ArrayList<>();
+        for (int i = 0; i < properties.getSlotsPerTeacher(); i++) {
+            LocalTime start = LocalTime.of(17 + (i / SLOT_DAYS.size()) % 4, 0);
+            slots.add(ClinicSlot.builder()
+                    .teacherMemberId(teacher.getId())
+                    .creatorMemberId(teacher.getId())
+                    .branchId(branch.getId())
+                    .dayOfWeek(SLOT_DAYS.get((teacherNo + i) % SLOT_DAYS.size()))
+                    .startTime(start)
+                    .endTime(start.plusMinutes(50))
+                    .defaultCapacity(properties.getSlotCapacity())
+                    .build());
+        }
+        return slots;
+    }
+
+    private List<CourseProgress> courseProgresses(List<Course> courses, Member teacher, Plan plan) {
+        List<CourseProgress> progresses = new ArrayList<>();
+        for (Course course : courses) {
+            for (int week = 0; week < plan.weeks(); week++) {
+                for (Course.CourseSchedule schedule : course.getSchedules()) {
+                    LocalDate date = plan.firstMonday().plusWeeks(week).plusDays(schedule.getDayOfWeek().ordinal());
+                    if (!date.isBefore(plan.today())) {
+                        continue;
+                    }
+                    progresses.add(CourseProgress.builder()
+                            .courseId(course.getId())
+                            .writerId(teacher.getId())
+                            .date(date)
+                            .title("%d주차 진도".formatted(week + 1))
+                            .content("교과서 %d~%d쪽, 익힘책 풀이".formatted(week * 8 + 1, week * 8 + 8))
+                            .build());
+                }
+            }
+        }
+        return progresses;
+    }
+
+    private List<PersonalProgress> personalProgresses(List<StudentCourseRecord> records,
+                                                      Member teacher,
+                                                      Plan plan,
+                                                      SplittableRandom random) {
+        int pastDays = (int) Math.max(1, ChronoUnit.DAYS.between(plan.firstMonday(), plan.today()));
+        List<PersonalProgress> progresses = new ArrayList<>();
+        for (StudentCourseRecord record : records) {
+            for (int i = 0; i < properties.getPersonalProgressPerStudent(); i++) {
+                progresses.add(PersonalProgress.builder()
+                        .studentCourseRecordId(record.getId())
+                        .writerId(teacher.getId())
+                        .date(plan.firstMonday().plusDays(random.nextInt(pastDays)))
+                        .title("개별 보충 %d회차".formatted(i + 1))
+                        .content("오답 정리 후 유사 문항 풀이")
+                        .build());
+            }
+        }
+        return progresses;
+    }
+
+    private Member member(String email, int nameNo, MemberRole role, Plan plan) {
+        return Member.builder()
+                .email(email)
+                .password(plan.passwordHash())
+                .name(LoadTestNames.personName(nameNo))
+                .phoneNumber(LoadTestNames.phoneNumber(nameNo))
+                .role(role)
+                .build();
+    }
+
+    private static List<UUID> ids(List<? extends BaseEntity> entities) {
+        return entities.stream().map(BaseEntity::getId).toList();
+    }
+
+    private record Plan(LocalDate today, LocalDate firstMonday, int weeks, String passwordHash) {
+    }
+}
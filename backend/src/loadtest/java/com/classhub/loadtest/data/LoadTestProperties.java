@@ -0,0 +1,32 @@
+package com.classhub.loadtest.data;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부하 테스트 데이터 규모. 기본값은 회사 50, 지점 500, 선생님 5,000, 학생 200,000명이다.
+ */
+@Setter
+@Getter
+@Component
+@Profile("loadtest")
+@ConfigurationProperties("custom.loadtest")
+public class LoadTestProperties {
+    private int companies = 50;
+    private int branchesPerCompany = 10;
+    private int teachersPerBranch = 10;
+    private int studentsPerTeacher = 40;
+    private int coursesPerTeacher = 2;
+    private int slotsPerTeacher = 2;
+    private int slotCapacity = 20;
+    private int historyWeeks = 46; // 오늘 이전 세션·출석·진도를 만드는 주 수
+    private int futureWeeks = 6; // 예약 시나리오가 쓸 빈 세션 주 수
+    private double attendanceRatio = 0.5; // 지난 세션마다 기본 슬롯 학생 중 출석으로 채울 비율
+    private int personalProgressPerStudent = 4;
+    private String password = "Loadtest1!"; // 모든 생성 계정의 비밀번호 (해시는 한 번만 계산)
+    private String manifestDir = "build/loadtest";
+    private long seed = 20250301L;
+}
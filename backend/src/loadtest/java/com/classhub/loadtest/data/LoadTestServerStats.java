@@ -0,0 +1,78 @@
+package com.classhub.loadtest.data;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 on/off 비교용 서버 측 지표. 주기적으로 플랫폼 스레드 수, 힙, 프로세스 RSS를 남기고 종료 시 최댓값을 요약한다.
+ * 플랫폼 스레드 스택은 힙 밖(native)에 잡히므로 메모리 비교는 RSS를 본다.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+public class LoadTestServerStats {
+
+    private static final Path PROC_STATUS = Path.of("/proc/self/status");
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final boolean virtualThreads;
+
+    private long peakHeapBytes;
+    private long peakRssBytes;
+
+    public LoadTestServerStats(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Scheduled(fixedDelayString = "${custom.loadtest.stats-interval-millis:10000}")
+    public void report() {
+        long heap = memory.getHeapMemoryUsage().getUsed();
+        long rss = residentSetBytes();
+        peakHeapBytes = Math.max(peakHeapBytes, heap);
+        peakRssBytes = Math.max(peakRssBytes, rss);
+        log.info("Load test server stats: virtualThreads={}, platformThreads={}, heapUsed={}MB, rss={}MB",
+                virtualThreads,
+                threads.getThreadCount(),
+                heap >> 20,
+                rss >> 20);
+    }
+
+    @PreDestroy
+    public void summary() {
+        log.info("Load test server peak: virtualThreads={}, platformThreads={}, heapUsed={}MB, rss={}MB",
+                virtualThreads,
+                threads.getPeakThreadCount(),
+                peakHeapBytes >> 20,
+                peakRssBytes >> 20);
+    }
+
+    /**
+     * Linux에서만 값이 있고, 그 외 환경에서는 0을 돌려준다.
+     */
+    private static long residentSetBytes() {
+        if (!Files.isReadable(PROC_STATUS)) {
+            return 0;
+        }
+        try {
+            return Files.readAllLines(PROC_STATUS).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.replaceAll("\\D", ""))
+                    .mapToLong(kilobytes -> Long.parseLong(kilobytes) << 10)
+                    .findFirst()
+                    .orElse(0);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.classhub.loadtest.scenario;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.UUID;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 시나리오가 호출하는 API만 감싼 얇은 클라이언트. 응답 본문은 로그인 외에는 읽지 않고 상태 코드만 돌려준다.
+ */
+final class ClassHubClient {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final Duration timeout;
+
+    ClassHubClient(URI baseUri, Duration timeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .build();
+        this.baseUri = baseUri;
+        this.timeout = timeout;
+    }
+
+    String login(String email, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(
+                post("/api/v1/auth/login", null, Map.of("email", email, "password", password)),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("login failed: " + email + " status=" + response.statusCode());
+        }
+        JsonNode body = OBJECT_MAPPER.readTree(response.body());
+        return body.path("data").path("accessToken").asString();
+    }
+
+    int reserveClinic(String token, UUID sessionId, UUID courseId) throws IOException, InterruptedException {
+        return send(post(
+                "/api/v1/students/me/clinic-attendances",
+                token,
+                Map.of("clinicSessionId", sessionId.toString(), "courseId", courseId.toString())
+        ));
+    }
+
+    int studentCalendar(String token, UUID studentId, YearMonth month) throws IOException, InterruptedException {
+        return send(get(
+                "/api/v1/students/%s/calendar?year=%d&month=%d".formatted(studentId, month.getYear(), month.getMonthValue()),
+                token
+        ));
+    }
+
+    int searchStudents(String token, String keyword) throws IOException, InterruptedException {
+        return send(get(
+                "/api/v1/teacher-students?keyword=%s&page=0&size=20".formatted(URLEncoder.encode(keyword, StandardCharsets.UTF_8)),
+                token
+        ));
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Map<String, String> body) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(timeout);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
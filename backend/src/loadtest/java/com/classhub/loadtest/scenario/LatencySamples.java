@@ -0,0 +1,85 @@
+package com.classhub.loadtest.scenario;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 워커 한 개가 단독으로 쓰는 지연 시간 버퍼. 워커끼리 공유하지 않으므로 잠금이 없고, 끝난 뒤 merge로 합친다.
+ * 가상 스레드에서 synchronized로 블로킹하면 캐리어 스레드가 묶이므로 측정 경로에 모니터를 두지 않는다.
+ */
+final class LatencySamples {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private long success;
+    private long clientErrors;
+    private long serverErrors;
+    private long failures;
+
+    void record(int status, long elapsedNanos) {
+        if (size == nanos.length) {
+            nanos = Arrays.copyOf(nanos, size * 2);
+        }
+        nanos[size++] = elapsedNanos;
+        if (status >= 500) {
+            serverErrors++;
+        } else if (status >= 400) {
+            clientErrors++;
+        } else {
+            success++;
+        }
+    }
+
+    /**
+     * 응답을 받지 못한 요청(타임아웃, 연결 실패). 지연 분포에는 넣지 않는다.
+     */
+    void recordFailure() {
+        failures++;
+    }
+
+    static LatencySamples merge(Collection<LatencySamples> parts) {
+        LatencySamples merged = new LatencySamples();
+        merged.nanos = new long[Math.max(1, parts.stream().mapToInt(part -> part.size).sum())];
+        for (LatencySamples part : parts) {
+            System.arraycopy(part.nanos, 0, merged.nanos, merged.size, part.size);
+            merged.size += part.size;
+            merged.success += part.success;
+            merged.clientErrors += part.clientErrors;
+            merged.serverErrors += part.serverErrors;
+            merged.failures += part.failures;
+        }
+        Arrays.sort(merged.nanos, 0, merged.size);
+        return merged;
+    }
+
+    /**
+     * merge 결과(정렬된 상태)에서만 호출한다. nearest-rank 방식.
+     */
+    double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * size);
+        return nanos[Math.min(size, Math.max(rank, 1)) - 1] / 1_000_000.0;
+    }
+
+    long requests() {
+        return size + failures;
+    }
+
+    long success() {
+        return success;
+    }
+
+    long clientErrors() {
+        return clientErrors;
+    }
+
+    long serverErrors() {
+        return serverErrors;
+    }
+
+    long failures() {
+        return failures;
+    }
+}
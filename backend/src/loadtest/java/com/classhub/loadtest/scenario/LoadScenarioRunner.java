@@ -0,0 +1,280 @@
+package com.classhub.loadtest.scenario;
+
+import com.classhub.loadtest.LoadTestManifest;
+import com.classhub.loadtest.LoadTestManifest.SessionRow;
+import com.classhub.loadtest.LoadTestManifest.StudentRow;
+import com.classhub.loadtest.LoadTestManifest.TeacherRow;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * loadtest 프로필로 띄운 서버에 시나리오 부하를 건다. 데이터는 생성기가 남긴 manifest CSV에서 읽는다.
+ * - booking-storm: 한 선생님의 학생 전원이 같은 미래 세션에 동시에 예약 (--storms 회 반복, 매번 다른 선생님)
+ * - calendar: 선생님 토큰으로 담당 학생의 월간 캘린더 조회
+ * - roster: 선생님 토큰으로 학생 이름 검색
+ * - mixed: calendar:roster:booking = 6:3:1
+ * 워커마다 가상 스레드 하나를 쓰고 지연 시간은 워커 로컬에 모아 끝에서 합친다.
+ *
+ * 예: ./gradlew loadtestRun -PloadtestArgs="--scenario=mixed --duration=60 --concurrency=200"
+ * 가상 스레드 비교: 서버를 VIRTUAL_THREADS_ENABLED=true/false로 각각 띄우고 --concurrency=2000으로 같은 시나리오를 돌린 뒤,
+ * 두 리포트의 throughput·p99와 서버 로그의 LoadTestServerStats(스레드 수·RSS)를 나란히 본다.
+ */
+public final class LoadScenarioRunner {
+
+    private static final String BOOKING = "booking";
+    private static final String CALENDAR = "calendar";
+    private static final String ROSTER = "roster";
+
+    private final ClassHubClient client;
+    private final Options options;
+    private final List<TeacherRow> teachers;
+    private final Map<Integer, List<StudentRow>> studentsByTeacher;
+    private final Map<Integer, List<SessionRow>> sessionsByTeacher;
+
+    private LoadScenarioRunner(Options options) {
+        this.options = options;
+        this.client = new ClassHubClient(URI.create(options.baseUrl()), Duration.ofSeconds(10));
+        this.teachers = LoadTestManifest.readTeachers(options.manifestDir());
+        this.studentsByTeacher = LoadTestManifest.readStudents(options.manifestDir()).stream()
+                .collect(Collectors.groupingBy(StudentRow::teacherNo));
+        this.sessionsByTeacher = LoadTestManifest.readSessions(options.manifestDir()).stream()
+                .collect(Collectors.groupingBy(SessionRow::teacherNo));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        LoadScenarioRunner runner = new LoadScenarioRunner(options);
+        List<ScenarioReport> reports = switch (options.scenario()) {
+            case "booking-storm" -> runner.bookingStorms();
+            case CALENDAR -> runner.timed(Map.of(CALENDAR, 1));
+            case ROSTER -> runner.timed(Map.of(ROSTER, 1));
+            case "mixed" -> runner.timed(Map.of(CALENDAR, 6, ROSTER, 3, BOOKING, 1));
+            default -> throw new IllegalArgumentException("unknown scenario: " + options.scenario());
+        };
+        reports.forEach(report -> System.out.println(report.toLine()));
+        if (options.report() != null) {
+            Files.createDirectories(options.report().toAbsolutePath().getParent());
+            JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValue(options.report().toFile(), reports);
+            System.out.println("report written to " + options.report());
+        }
+    }
+
+    /**
+     * 학생 로그인을 모두 끝낸 뒤 래치로 동시에 출발시켜 같은 세션 좌석을 두고 경쟁하게 한다.
+     * 정원을 넘는 요청은 4xx가 정상이며, 5xx나 정원 초과 예약이 생기면 동시성 제어가 깨진 것이다.
+     */
+    private List<ScenarioReport> bookingStorms() throws Exception {
+        List<LatencySamples> parts = new ArrayList<>();
+        long elapsed = 0;
+        int storms = Math.min(options.storms(), teachers.size());
+        for (int storm = 0; storm < storms; storm++) {
+            TeacherRow teacher = teachers.get(storm * (teachers.size() / storms));
+            List<StudentRow> students = studentsByTeacher.getOrDefault(teacher.teacherNo(), List.of());
+            SessionRow session = sessionsByTeacher.getOrDefault(teacher.teacherNo(), List.of()).stream()
+                    .max(Comparator.comparing(SessionRow::date))
+                    .orElse(null);
+            if (students.isEmpty() || session == null) {
+                continue;
+            }
+            List<String> tokens = loginAll(students.stream().map(StudentRow::email).toList());
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<LatencySamples>> futures = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < students.size(); i++) {
+                    String token = tokens.get(i);
+                    StudentRow student = students.get(i);
+                    futures.add(executor.submit(() -> {
+                        LatencySamples samples = new LatencySamples();
+                        start.await();
+                        call(samples, () -> client.reserveClinic(token, session.sessionId(), student.courseId()));
+                        return samples;
+                    }));
+                }
+                long startedAt = System.nanoTime();
+                start.countDown();
+                for (Future<LatencySamples> future : futures) {
+                    parts.add(future.get());
+                }
+                elapsed += System.nanoTime() - startedAt;
+            }
+        }
+        return List.of(ScenarioReport.of("booking-storm", parts, elapsed));
+    }
+
+    /**
+     * concurrency 개의 워커가 duration 동안 가중치에 따라 요청 종류를 골라 쉬지 않고 보낸다.
+     */
+    private List<ScenarioReport> timed(Map<String, Integer> weights) throws Exception {
+        int users = Math.min(options.users(), teachers.size());
+        List<TeacherRow> activeTeachers = teachers.subList(0, users);
+        List<String> teacherTokens = loginAll(activeTeachers.stream().map(TeacherRow::email).toList());
+        List<StudentRow> bookingStudents = new ArrayList<>();
+        List<String> studentTokens = List.of();
+        if (weights.containsKey(BOOKING)) {
+            for (TeacherRow teacher : activeTeachers) {
+                List<StudentRow> students = studentsByTeacher.getOrDefault(teacher.teacherNo(), List.of());
+                if (!students.isEmpty()) {
+                    bookingStudents.add(students.getFirst());
+                }
+            }
+            studentTokens = loginAll(bookingStudents.stream().map(StudentRow::email).toList());
+        }
+        List<String> operations = new ArrayList<>();
+        weights.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+
+        List<String> bookingTokens = studentTokens;
+        long deadline = System.nanoTime() + options.duration().toNanos();
+        List<Future<Map<String, LatencySamples>>> futures = new ArrayList<>();
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < options.concurrency(); worker++) {
+                futures.add(executor.submit(() -> {
+                    Map<String, LatencySamples> samples = new HashMap<>();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        String operation = operations.get(random.nextInt(operations.size()));
+                        LatencySamples target = samples.computeIfAbsent(operation, key -> new LatencySamples());
+                        switch (operation) {
+                            case CALENDAR -> {
+                                int index = random.nextInt(activeTeachers.size());
+                                List<StudentRow> students = studentsByTeacher.getOrDefault(activeTeachers.get(index).teacherNo(), List.of());
+                                if (students.isEmpty()) {
+                                    continue;
+                                }
+                                StudentRow student = students.get(random.nextInt(students.size()));
+                                YearMonth month = YearMonth.now().minusMonths(random.nextInt(12));
+                                call(target, () -> client.studentCalendar(teacherTokens.get(index), student.memberId(), month));
+                            }
+                            case ROSTER -> {
+                                int index = random.nextInt(activeTeachers.size());
+                                List<StudentRow> students = studentsByTeacher.getOrDefault(activeTeachers.get(index).teacherNo(), List.of());
+                                if (students.isEmpty()) {
+                                    continue;
+                                }
+                                String keyword = students.get(random.nextInt(students.size())).name().substring(0, 1);
+                                call(target, () -> client.searchStudents(teacherTokens.get(index), keyword));
+                            }
+                            default -> {
+                                if (bookingStudents.isEmpty()) {
+                                    continue;
+                                }
+                                int index = random.nextInt(bookingStudents.size());
+                                StudentRow student = bookingStudents.get(index);
+                                List<SessionRow> sessions = sessionsByTeacher.getOrDefault(student.teacherNo(), List.of());
+                                if (sessions.isEmpty()) {
+                                    continue;
+                                }
+                                SessionRow session = sessions.get(random.nextInt(sessions.size()));
+                                call(target, () -> client.reserveClinic(bookingTokens.get(index), session.sessionId(), student.courseId()));
+                            }
+                        }
+                    }
+                    return samples;
+                }));
+            }
+            Map<String, List<LatencySamples>> byOperation = new LinkedHashMap<>();
+            for (Future<Map<String, LatencySamples>> future : futures) {
+                future.get().forEach((operation, samples) ->
+                        byOperation.computeIfAbsent(operation, key -> new ArrayList<>()).add(samples));
+            }
+            long elapsed = System.nanoTime() - startedAt;
+            List<ScenarioReport> reports = new ArrayList<>();
+            byOperation.forEach((operation, parts) -> reports.add(ScenarioReport.of(operation, parts, elapsed)));
+            if (byOperation.size() > 1) {
+                reports.add(ScenarioReport.of(
+                        "total",
+                        byOperation.values().stream().flatMap(List::stream).toList(),
+                        elapsed
+                ));
+            }
+            return reports;
+        }
+    }
+
+    private List<String> loginAll(List<String> emails) throws Exception {
+        List<Future<String>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String email : emails) {
+                futures.add(executor.submit(() -> client.login(email, options.password())));
+            }
+            List<String> tokens = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                tokens.add(future.get());
+            }
+            return tokens;
+        }
+    }
+
+    private static void call(LatencySamples samples, Request request) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        try {
+            int status = request.send();
+            samples.record(status, System.nanoTime() - startedAt);
+        } catch (IOException e) {
+            samples.recordFailure();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Request {
+
+        int send() throws IOException, InterruptedException;
+    }
+
+    private record Options(
+            String scenario,
+            String baseUrl,
+            Path manifestDir,
+            String password,
+            Duration duration,
+            int concurrency,
+            int users,
+            int storms,
+            Path report
+    ) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("expected --key=value but was " + arg);
+                }
+                int separator = arg.indexOf('=');
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+            String report = values.get("report");
+            return new Options(
+                    values.getOrDefault("scenario", "mixed"),
+                    values.getOrDefault("base-url", "http://localhost:8080"),
+                    Path.of(values.getOrDefault("manifest-dir", "build/loadtest")),
+                    values.getOrDefault("password", "Loadtest1!"),
+                    Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                    Integer.parseInt(values.getOrDefault("concurrency", "100")),
+                    Integer.parseInt(values.getOrDefault("users", "200")),
+                    Integer.parseInt(values.getOrDefault("storms", "10")),
+                    report == null ? null : Path.of(report)
+            );
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.classhub.loadtest.scenario;
+
+import java.util.Collection;
+
+/**
+ * 시나리오(또는 mixed 안의 요청 종류) 하나의 결과. --report 경로가 있으면 이 레코드 목록이 JSON으로 저장된다.
+ */
+record ScenarioReport(
+        String name,
+        long requests,
+        long success,
+        long clientErrors,
+        long serverErrors,
+        long failures,
+        double elapsedSeconds,
+        double throughput,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis
+) {
+
+    static ScenarioReport of(String name, Collection<LatencySamples> parts, long elapsedNanos) {
+        LatencySamples merged = LatencySamples.merge(parts);
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new ScenarioReport(
+                name,
+                merged.requests(),
+                merged.success(),
+                merged.clientErrors(),
+                merged.serverErrors(),
+                merged.failures(),
+                seconds,
+                seconds == 0 ? 0 : merged.requests() / seconds,
+                merged.percentileMillis(50),
+                merged.percentileMillis(95),
+                merged.percentileMillis(99),
+                merged.percentileMillis(100)
+        );
+    }
+
+    String toLine() {
+        return "%-14s requests=%d 2xx=%d 4xx=%d 5xx=%d failed=%d throughput=%.1f/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms"
+                .formatted(name, requests, success, clientErrors, serverErrors, failures,
+                        throughput, p50Millis, p95Millis, p99Millis, maxMillis);
+    }
+}
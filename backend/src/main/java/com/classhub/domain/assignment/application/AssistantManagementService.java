@@ -3,6 +3,7 @@ package com.classhub.domain.assignment.application;
 import com.classhub.domain.assignment.dto.AssistantAssignmentStatusFilter;
 import com.classhub.domain.assignment.dto.response.AssistantAssignmentResponse;
 import com.classhub.domain.assignment.dto.response.AssistantSearchResponse;
+import com.classhub.domain.assignment.membership.MembershipChangedEvent;
 import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
 import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
 import com.classhub.domain.member.model.Member;
@@ -18,6 +19,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +37,7 @@ public class AssistantManagementService {
     private final TeacherAssistantAssignmentRepository assignmentRepository;
     private final MemberRepository memberRepository;
     private final StudentCourseRecordRepository studentCourseRecordRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public PageResponse<AssistantAssignmentResponse> getAssistantAssignments(
@@ -113,6 +116,7 @@ public class AssistantManagementService {
                 .orElseGet(() -> TeacherAssistantAssignment.create(teacherId, assistantMemberId));
 
         TeacherAssistantAssignment saved = assignmentRepository.save(assignment);
+        eventPublisher.publishEvent(MembershipChangedEvent.ofAssistant(teacherId, assistantMemberId));
         return AssistantAssignmentResponse.from(saved, assistant);
     }
 
@@ -132,6 +136,7 @@ public class AssistantManagementService {
         }
 
         TeacherAssistantAssignment saved = assignmentRepository.save(assignment);
+        eventPublisher.publishEvent(MembershipChangedEvent.ofAssistant(teacherId, saved.getAssistantMemberId()));
         Member assistant = memberRepository.findById(saved.getAssistantMemberId())
                 .orElseThrow(RsCode.MEMBER_NOT_FOUND::toException);
 
@@ -1,21 +1,19 @@
 package com.classhub.domain.assignment.application;
 
-import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
 import com.classhub.domain.assignment.model.TeacherBranchAssignment;
 import com.classhub.domain.assignment.model.TeacherStudentAssignment;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
 import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
 import com.classhub.domain.assignment.repository.TeacherStudentAssignmentRepository;
 import com.classhub.domain.assignment.dto.request.StudentTeacherRequestCreateRequest;
 import com.classhub.domain.assignment.dto.response.StudentTeacherRequestResponse;
+import com.classhub.domain.assignment.membership.MembershipChangedEvent;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.assignment.model.StudentTeacherRequest;
 import com.classhub.domain.assignment.model.TeacherStudentRequestStatus;
 import com.classhub.domain.assignment.repository.StudentTeacherRequestRepository;
-import com.classhub.domain.company.branch.model.Branch;
-import com.classhub.domain.company.branch.repository.BranchRepository;
-import com.classhub.domain.company.company.model.Company;
-import com.classhub.domain.company.company.model.VerifiedStatus;
-import com.classhub.domain.company.company.repository.CompanyRepository;
+import com.classhub.domain.company.cache.BranchSnapshot;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
+import com.classhub.domain.company.cache.CompanySnapshot;
 import com.classhub.domain.member.dto.response.TeacherSearchResponse;
 import com.classhub.domain.member.dto.response.TeacherSearchResponse.TeacherBranchSummary;
 import com.classhub.domain.member.model.Member;
@@ -25,9 +23,14 @@ import com.classhub.domain.member.repository.StudentInfoRepository;
 import com.classhub.domain.member.dto.response.StudentSummaryResponse;
 import com.classhub.domain.member.repository.MemberRepository;
 import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.CursorSliceResponse;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.search.KeywordCandidates;
+import com.classhub.global.search.KeywordSearchIndex;
 import com.classhub.global.util.KstTime;
+import com.classhub.global.util.ListingCountCache;
+import com.classhub.global.util.SeekCursor;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.LocalDateTime;
@@ -39,9 +42,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -63,10 +68,12 @@ public class StudentTeacherRequestService {
     private final TeacherStudentAssignmentRepository teacherStudentAssignmentRepository;
     private final MemberRepository memberRepository;
     private final StudentInfoRepository studentInfoRepository;
-    private final TeacherAssistantAssignmentRepository assistantAssignmentRepository;
+    private final MembershipGraph membershipGraph;
     private final TeacherBranchAssignmentRepository teacherBranchAssignmentRepository;
-    private final BranchRepository branchRepository;
-    private final CompanyRepository companyRepository;
+    private final CompanyReferenceCache companyReferenceCache;
+    private final ListingCountCache listingCountCache;
+    private final KeywordSearchIndex keywordSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public StudentTeacherRequestResponse createRequest(UUID studentId, StudentTeacherRequestCreateRequest request) {
@@ -159,30 +166,63 @@ public class StudentTeacherRequestService {
         Page<StudentTeacherRequest> requestPage = requestRepository.searchRequestsForTeacher(
                 teacherId,
                 resolveStatuses(statuses),
-                normalizeKeyword(keyword),
+                keywordSearchIndex.students(normalizeKeyword(keyword)),
                 pageable);
         return toPageResponse(requestPage, pageable);
     }
 
+    /**
+     * 선생님 요청 목록의 커서 모드. OFFSET/COUNT 없이 (createdAt, id) 키로 이어 읽고, 전체 건수는 요청할 때만 캐시를 거쳐 센다.
+     */
+    public CursorSliceResponse<StudentTeacherRequestResponse> getRequestsForTeacherByCursor(
+            UUID teacherId,
+            Set<TeacherStudentRequestStatus> statuses,
+            String keyword,
+            String cursor,
+            int size,
+            boolean includeTotal
+    ) {
+        CursorSliceResponse.validateSize(size);
+        SeekCursor seek = SeekCursor.decode(cursor);
+        Set<TeacherStudentRequestStatus> resolvedStatuses = resolveStatuses(statuses);
+        String normalizedKeyword = normalizeKeyword(keyword);
+        KeywordCandidates candidates = keywordSearchIndex.students(normalizedKeyword);
+        List<StudentTeacherRequest> rows = requestRepository.searchRequestsForTeacherAfter(
+                teacherId,
+                resolvedStatuses,
+                candidates,
+                SeekCursor.createdAtOf(seek),
+                SeekCursor.idOf(seek),
+                CursorSliceResponse.fetchLimit(size)
+        );
+        Long total = includeTotal
+                ? listingCountCache.get(
+                        ListingCountCache.key("teacher-requests", teacherId, new TreeSet<>(resolvedStatuses), normalizedKeyword),
+                        () -> requestRepository.countRequestsForTeacher(teacherId, resolvedStatuses, candidates))
+                : null;
+        return CursorSliceResponse.of(
+                rows,
+                size,
+                request -> new SeekCursor(request.getCreatedAt(), request.getId()),
+                this::toResponses,
+                total
+        );
+    }
+
     public PageResponse<StudentTeacherRequestResponse> getRequestsForAssistant(UUID assistantId,
                                                                                Set<TeacherStudentRequestStatus> statuses,
                                                                                String keyword,
                                                                                int page,
                                                                                int size) {
         PageRequest pageable = PageRequest.of(page, size);
-        List<TeacherAssistantAssignment> assignments = assistantAssignmentRepository
-                .findByAssistantMemberIdAndDeletedAtIsNull(assistantId);
-        if (assignments.isEmpty()) {
+        List<UUID> teacherIds = membershipGraph.getTeacherIdsOfAssistant(assistantId);
+        if (teacherIds.isEmpty()) {
             return PageResponse.from(new PageImpl<>(List.of(), pageable, 0));
         }
-        List<UUID> teacherIds = assignments.stream()
-                .map(TeacherAssistantAssignment::getTeacherMemberId)
-                .distinct()
-                .toList();
         Page<StudentTeacherRequest> requestPage = requestRepository.searchRequestsForTeachers(
                 teacherIds,
                 resolveStatuses(statuses),
-                normalizeKeyword(keyword),
+                keywordSearchIndex.students(normalizeKeyword(keyword)),
                 pageable);
         return toPageResponse(requestPage, pageable);
     }
@@ -203,6 +243,7 @@ public class StudentTeacherRequestService {
         request.approve(processorId, LocalDateTime.now(KstTime.clock()));
         teacherStudentAssignmentRepository.save(
                 TeacherStudentAssignment.create(request.getTeacherMemberId(), request.getStudentMemberId()));
+        eventPublisher.publishEvent(MembershipChangedEvent.ofTeacher(request.getTeacherMemberId()));
         return buildResponseWithSummary(request);
     }
 
@@ -252,8 +293,8 @@ public class StudentTeacherRequestService {
         Map<UUID, List<TeacherBranchAssignment>> assignmentMap = assignments.stream()
                 .collect(Collectors.groupingBy(TeacherBranchAssignment::getTeacherMemberId));
 
-        Map<UUID, Branch> branchMap = loadBranchMap(assignments);
-        Map<UUID, Company> companyMap = loadCompanyMap(branchMap.values());
+        Map<UUID, BranchSnapshot> branchMap = loadBranchMap(assignments);
+        Map<UUID, CompanySnapshot> companyMap = loadCompanyMap(branchMap.values());
 
         Map<UUID, List<TeacherBranchSummary>> summaries = new HashMap<>();
         for (Map.Entry<UUID, List<TeacherBranchAssignment>> entry : assignmentMap.entrySet()) {
@@ -268,53 +309,37 @@ public class StudentTeacherRequestService {
         return summaries;
     }
 
-    private Map<UUID, Branch> loadBranchMap(List<TeacherBranchAssignment> assignments) {
+    private Map<UUID, BranchSnapshot> loadBranchMap(List<TeacherBranchAssignment> assignments) {
         Set<UUID> branchIds = assignments.stream()
                 .map(TeacherBranchAssignment::getBranchId)
                 .collect(Collectors.toCollection(HashSet::new));
-        if (branchIds.isEmpty()) {
-            return Map.of();
-        }
-        List<Branch> branches = branchRepository.findAllById(branchIds);
-        Map<UUID, Branch> branchMap = new HashMap<>();
-        for (Branch branch : branches) {
-            branchMap.put(branch.getId(), branch);
-        }
-        return branchMap;
+        return companyReferenceCache.getBranches(branchIds);
     }
 
-    private Map<UUID, Company> loadCompanyMap(Iterable<Branch> branches) {
+    private Map<UUID, CompanySnapshot> loadCompanyMap(Iterable<BranchSnapshot> branches) {
         Set<UUID> companyIds = new HashSet<>();
-        for (Branch branch : branches) {
-            companyIds.add(branch.getCompanyId());
-        }
-        if (companyIds.isEmpty()) {
-            return Map.of();
+        for (BranchSnapshot branch : branches) {
+            companyIds.add(branch.companyId());
         }
-        List<Company> companies = companyRepository.findAllById(companyIds);
-        Map<UUID, Company> companyMap = new HashMap<>();
-        for (Company company : companies) {
-            companyMap.put(company.getId(), company);
-        }
-        return companyMap;
+        return companyReferenceCache.getCompanies(companyIds);
     }
 
     private TeacherBranchSummary toBranchSummary(TeacherBranchAssignment assignment,
-                                                 Map<UUID, Branch> branchMap,
-                                                 Map<UUID, Company> companyMap) {
-        Branch branch = branchMap.get(assignment.getBranchId());
-        if (branch == null || branch.isDeleted() || branch.getVerifiedStatus() != VerifiedStatus.VERIFIED) {
+                                                 Map<UUID, BranchSnapshot> branchMap,
+                                                 Map<UUID, CompanySnapshot> companyMap) {
+        BranchSnapshot branch = branchMap.get(assignment.getBranchId());
+        if (branch == null || !branch.isActiveAndVerified()) {
             return null;
         }
-        Company company = companyMap.get(branch.getCompanyId());
-        if (company == null || company.isDeleted() || company.getVerifiedStatus() != VerifiedStatus.VERIFIED) {
+        CompanySnapshot company = companyMap.get(branch.companyId());
+        if (company == null || !company.isActiveAndVerified()) {
             return null;
         }
         return new TeacherBranchSummary(
-                company.getId(),
-                company.getName(),
-                branch.getId(),
-                branch.getName()
+                company.id(),
+                company.name(),
+                branch.id(),
+                branch.name()
         );
     }
 
@@ -339,9 +364,20 @@ public class StudentTeacherRequestService {
             Page<StudentTeacherRequestResponse> empty = new PageImpl<>(List.of(), pageable, 0);
             return PageResponse.from(empty);
         }
-        Map<UUID, TeacherSearchResponse> teacherMap = buildTeacherResponseMap(requestPage.getContent());
-        Map<UUID, StudentSummaryResponse> studentMap = buildStudentSummaryMap(requestPage.getContent());
-        List<StudentTeacherRequestResponse> content = requestPage.getContent().stream()
+        Page<StudentTeacherRequestResponse> dtoPage = new PageImpl<>(
+                toResponses(requestPage.getContent()),
+                pageable,
+                requestPage.getTotalElements());
+        return PageResponse.from(dtoPage);
+    }
+
+    private List<StudentTeacherRequestResponse> toResponses(List<StudentTeacherRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, TeacherSearchResponse> teacherMap = buildTeacherResponseMap(requests);
+        Map<UUID, StudentSummaryResponse> studentMap = buildStudentSummaryMap(requests);
+        return requests.stream()
                 .map(request -> {
                     TeacherSearchResponse teacher = teacherMap.get(request.getTeacherMemberId());
                     StudentSummaryResponse student = studentMap.get(request.getStudentMemberId());
@@ -354,11 +390,6 @@ public class StudentTeacherRequestService {
                     return toResponse(request, teacher, student);
                 })
                 .toList();
-        Page<StudentTeacherRequestResponse> dtoPage = new PageImpl<>(
-                content,
-                pageable,
-                requestPage.getTotalElements());
-        return PageResponse.from(dtoPage);
     }
 
     private StudentTeacherRequestResponse buildResponseWithSummary(StudentTeacherRequest request) {
@@ -431,10 +462,7 @@ public class StudentTeacherRequestService {
         if (teacherId.equals(processorId)) {
             return;
         }
-        boolean allowed = assistantAssignmentRepository
-                .findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(teacherId, processorId)
-                .isPresent();
-        if (!allowed) {
+        if (!membershipGraph.isAssistantOf(teacherId, processorId)) {
             throw new BusinessException(RsCode.FORBIDDEN);
         }
     }
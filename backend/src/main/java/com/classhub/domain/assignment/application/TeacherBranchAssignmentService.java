@@ -8,6 +8,7 @@ import com.classhub.domain.assignment.dto.request.TeacherBranchAssignmentCreateR
 import com.classhub.domain.assignment.dto.request.TeacherBranchAssignmentCreateRequest.IndividualInput;
 import com.classhub.domain.assignment.dto.request.TeacherBranchAssignmentStatusUpdateRequest;
 import com.classhub.domain.assignment.dto.response.TeacherBranchAssignmentResponse;
+import com.classhub.domain.assignment.membership.MembershipChangedEvent;
 import com.classhub.domain.assignment.model.BranchRole;
 import com.classhub.domain.assignment.model.TeacherBranchAssignment;
 import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
@@ -35,6 +36,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -54,6 +56,7 @@ public class TeacherBranchAssignmentService {
     private final BranchCommandService branchCommandService;
     private final CompanyRepository companyRepository;
     private final CompanyCommandService companyCommandService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TeacherBranchAssignmentResponse createAssignment(
             UUID teacherId,
@@ -79,6 +82,7 @@ public class TeacherBranchAssignmentService {
                 ));
 
         TeacherBranchAssignment saved = assignmentRepository.save(assignment);
+        eventPublisher.publishEvent(MembershipChangedEvent.ofTeacher(teacherId));
         return toResponse(saved, branch, company);
     }
 
@@ -131,6 +135,7 @@ public class TeacherBranchAssignmentService {
         }
 
         TeacherBranchAssignment saved = assignmentRepository.save(assignment);
+        eventPublisher.publishEvent(MembershipChangedEvent.ofTeacher(teacherId));
         Branch branch = branchRepository.findById(saved.getBranchId())
                 .orElseThrow(RsCode.BRANCH_NOT_FOUND::toException);
         Company company = companyRepository.findById(branch.getCompanyId())
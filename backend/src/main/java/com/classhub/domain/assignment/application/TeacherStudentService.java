@@ -2,9 +2,8 @@ package com.classhub.domain.assignment.application;
 
 import com.classhub.domain.assignment.dto.response.TeacherStudentCourseResponse;
 import com.classhub.domain.assignment.dto.response.TeacherStudentDetailResponse;
-import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.assignment.model.TeacherStudentAssignment;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
 import com.classhub.domain.assignment.repository.TeacherStudentAssignmentRepository;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
@@ -20,9 +19,14 @@ import com.classhub.domain.studentcourse.model.StudentCourseRecord;
 import com.classhub.domain.studentcourse.repository.StudentCourseAssignmentRepository;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
 import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.CursorSliceResponse;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.search.KeywordCandidates;
+import com.classhub.global.search.KeywordSearchIndex;
 import com.classhub.global.util.KstTime;
+import com.classhub.global.util.ListingCountCache;
+import com.classhub.global.util.SeekCursor;
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.Comparator;
@@ -45,12 +49,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class TeacherStudentService {
 
     private final TeacherStudentAssignmentRepository teacherStudentAssignmentRepository;
-    private final TeacherAssistantAssignmentRepository teacherAssistantAssignmentRepository;
+    private final MembershipGraph membershipGraph;
     private final StudentCourseAssignmentRepository studentCourseAssignmentRepository;
     private final StudentCourseRecordRepository studentCourseRecordRepository;
     private final CourseRepository courseRepository;
     private final MemberRepository memberRepository;
     private final StudentInfoRepository studentInfoRepository;
+    private final ListingCountCache listingCountCache;
+    private final KeywordSearchIndex keywordSearchIndex;
 
     public PageResponse<StudentSummaryResponse> getTeacherStudents(MemberPrincipal principal,
                                                                    UUID courseId,
@@ -58,12 +64,12 @@ public class TeacherStudentService {
                                                                    int page,
                                                                    int size) {
         PageRequest pageable = PageRequest.of(page, size);
-        String normalizedKeyword = normalizeKeyword(keyword);
+        KeywordCandidates candidates = keywordSearchIndex.students(normalizeKeyword(keyword));
         if (principal.role() == MemberRole.TEACHER) {
             Page<TeacherStudentAssignment> assignmentPage = teacherStudentAssignmentRepository.searchAssignmentsForTeacherByCourse(
                     principal.id(),
                     courseId,
-                    normalizedKeyword,
+                    candidates,
                     pageable
             );
             return toStudentSummaryResponseFromAssignments(assignmentPage, pageable);
@@ -75,7 +81,7 @@ public class TeacherStudentService {
             Page<UUID> studentIdPage = teacherStudentAssignmentRepository.searchDistinctStudentIdsForTeachers(
                     teacherIds,
                     courseId,
-                    normalizedKeyword,
+                    candidates,
                     pageable
             );
             return toStudentSummaryResponseFromStudentIds(studentIdPage, pageable);
@@ -84,22 +90,71 @@ public class TeacherStudentService {
         }
     }
 
-    private PageResponse<StudentSummaryResponse> toStudentSummaryResponseFromAssignments(
-            Page<TeacherStudentAssignment> assignmentPage,
-            PageRequest pageable
-    ) {
-        if (assignmentPage.isEmpty()) {
-            return PageResponse.from(new PageImpl<>(List.of(), pageable, assignmentPage.getTotalElements()));
+    /**
+     * 선생님 학생 목록의 커서 모드. OFFSET/COUNT 없이 배정 (createdAt, id) 키로 이어 읽고, 전체 건수는 요청할 때만 캐시를 거쳐 센다.
+     */
+    public CursorSliceResponse<StudentSummaryResponse> getTeacherStudentsByCursor(MemberPrincipal principal,
+                                                                                  UUID courseId,
+                                                                                  String keyword,
+                                                                                  String cursor,
+                                                                                  int size,
+                                                                                  boolean includeTotal) {
+        if (principal.role() != MemberRole.TEACHER) {
+            throw new BusinessException(RsCode.FORBIDDEN);
+        }
+        CursorSliceResponse.validateSize(size);
+        SeekCursor seek = SeekCursor.decode(cursor);
+        String normalizedKeyword = normalizeKeyword(keyword);
+        KeywordCandidates candidates = keywordSearchIndex.students(normalizedKeyword);
+        List<TeacherStudentAssignment> rows = teacherStudentAssignmentRepository.searchAssignmentsForTeacherByCourseAfter(
+                principal.id(),
+                courseId,
+                candidates,
+                SeekCursor.createdAtOf(seek),
+                SeekCursor.idOf(seek),
+                CursorSliceResponse.fetchLimit(size)
+        );
+        Long total = includeTotal
+                ? listingCountCache.get(
+                        ListingCountCache.key("teacher-students", principal.id(), courseId, normalizedKeyword),
+                        () -> teacherStudentAssignmentRepository.countAssignmentsForTeacherByCourse(
+                                principal.id(),
+                                courseId,
+                                candidates
+                        ))
+                : null;
+        return CursorSliceResponse.of(
+                rows,
+                size,
+                assignment -> new SeekCursor(assignment.getCreatedAt(), assignment.getId()),
+                this::toStudentSummaries,
+                total
+        );
+    }
+
+    private List<StudentSummaryResponse> toStudentSummaries(List<TeacherStudentAssignment> assignments) {
+        if (assignments.isEmpty()) {
+            return List.of();
         }
-        List<UUID> studentIds = assignmentPage.getContent().stream()
+        List<UUID> studentIds = assignments.stream()
                 .map(TeacherStudentAssignment::getStudentMemberId)
                 .distinct()
                 .toList();
         Map<UUID, Member> memberMap = loadMembers(studentIds);
         Map<UUID, StudentInfo> infoMap = loadStudentInfos(studentIds);
-        List<StudentSummaryResponse> content = assignmentPage.getContent().stream()
+        return assignments.stream()
                 .map(assignment -> toStudentSummary(memberMap, infoMap, assignment.getStudentMemberId()))
                 .toList();
+    }
+
+    private PageResponse<StudentSummaryResponse> toStudentSummaryResponseFromAssignments(
+            Page<TeacherStudentAssignment> assignmentPage,
+            PageRequest pageable
+    ) {
+        if (assignmentPage.isEmpty()) {
+            return PageResponse.from(new PageImpl<>(List.of(), pageable, assignmentPage.getTotalElements()));
+        }
+        List<StudentSummaryResponse> content = toStudentSummaries(assignmentPage.getContent());
         Page<StudentSummaryResponse> dtoPage = new PageImpl<>(content, pageable, assignmentPage.getTotalElements());
         return PageResponse.from(dtoPage);
     }
@@ -137,12 +192,7 @@ public class TeacherStudentService {
         if (teacherIds.isEmpty()) {
             throw new BusinessException(RsCode.FORBIDDEN);
         }
-        boolean assigned = principal.role() == MemberRole.TEACHER
-                ? teacherStudentAssignmentRepository
-                        .existsByTeacherMemberIdAndStudentMemberIdAndDeletedAtIsNull(principal.id(), studentId)
-                : teacherStudentAssignmentRepository
-                        .existsByTeacherMemberIdInAndStudentMemberIdAndDeletedAtIsNull(teacherIds, studentId);
-        if (!assigned) {
+        if (!membershipGraph.isStudentOfAny(teacherIds, studentId)) {
             throw new BusinessException(RsCode.FORBIDDEN);
         }
         Member member = memberRepository.findById(studentId)
@@ -252,15 +302,7 @@ public class TeacherStudentService {
     }
 
     private List<UUID> resolveAssistantTeacherIds(UUID assistantId) {
-        List<TeacherAssistantAssignment> assignments = teacherAssistantAssignmentRepository
-                .findByAssistantMemberIdAndDeletedAtIsNull(assistantId);
-        if (assignments.isEmpty()) {
-            return List.of();
-        }
-        return assignments.stream()
-                .map(TeacherAssistantAssignment::getTeacherMemberId)
-                .distinct()
-                .toList();
+        return membershipGraph.getTeacherIdsOfAssistant(assistantId);
     }
 
     private String normalizeKeyword(String keyword) {
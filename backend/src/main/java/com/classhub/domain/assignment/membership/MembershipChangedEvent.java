@@ -0,0 +1,17 @@
+package com.classhub.domain.assignment.membership;
+
+import java.util.UUID;
+
+/**
+ * 선생님-조교/지점/학생 배정이 바뀌었음을 알린다. 조교 배정이 바뀐 경우에만 assistantId가 있다.
+ */
+public record MembershipChangedEvent(UUID teacherId, UUID assistantId) {
+
+    public static MembershipChangedEvent ofTeacher(UUID teacherId) {
+        return new MembershipChangedEvent(teacherId, null);
+    }
+
+    public static MembershipChangedEvent ofAssistant(UUID teacherId, UUID assistantId) {
+        return new MembershipChangedEvent(teacherId, assistantId);
+    }
+}
@@ -0,0 +1,122 @@
+package com.classhub.domain.assignment.membership;
+
+import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
+import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
+import com.classhub.domain.assignment.repository.TeacherStudentAssignmentRepository;
+import com.classhub.global.cache.CacheVersionTracker;
+import com.classhub.global.cache.NearCache;
+import com.classhub.global.datasource.PrimaryReads;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 선생님↔조교, 선생님↔지점, 선생님↔학생 활성 배정을 요청 간에 공유하는 관계 그래프.
+ * - 선생님(테넌트) 단위로 처음 조회할 때 세 관계를 한 번에 읽고, 이후 포함 여부는 Set 조회로 끝난다
+ * - 조교 → 선생님 역방향은 조교 단위로 따로 캐시한다
+ * - 배정을 바꾸는 서비스가 MembershipChangedEvent를 발행하면, 커밋 직전에 cache_version을 올리고
+ *   트랜잭션이 끝날 때(커밋·롤백 모두) 이 노드의 해당 선생님·조교 항목을 비운다. 다른 노드는 폴링으로 전체를 비운다
+ * - 빈 항목은 호출한 트랜잭션과 별도로 primary에서 읽어 채운다 (PrimaryReads). readOnly 호출자의 replica에서 읽으면
+ *   무효화 직후 지연된 이전 배정이 다시 채워져, 해제된 권한이 TTL 동안 남는다
+ * - 쓰기 직전의 중복 검사처럼 커밋된 최신 값이 꼭 필요한 곳은 여기 대신 저장소를 직접 조회한다
+ */
+@Component
+public class MembershipGraph {
+
+    static final String CACHE_NAME = "membership-graph";
+
+    private final TeacherAssistantAssignmentRepository teacherAssistantAssignmentRepository;
+    private final TeacherBranchAssignmentRepository teacherBranchAssignmentRepository;
+    private final TeacherStudentAssignmentRepository teacherStudentAssignmentRepository;
+    private final CacheVersionTracker cacheVersionTracker;
+    private final PrimaryReads primaryReads;
+    private final NearCache<UUID, TeacherMembership> teachers;
+    private final NearCache<UUID, List<UUID>> assistants;
+
+    public MembershipGraph(TeacherAssistantAssignmentRepository teacherAssistantAssignmentRepository,
+                           TeacherBranchAssignmentRepository teacherBranchAssignmentRepository,
+                           TeacherStudentAssignmentRepository teacherStudentAssignmentRepository,
+                           CacheVersionTracker cacheVersionTracker,
+                           PrimaryReads primaryReads,
+                           Clock clock,
+                           MeterRegistry meterRegistry,
+                           @Value("${custom.cache.membership.ttl-millis:600000}") long ttlMillis,
+                           @Value("${custom.cache.membership.max-size:5000}") int maxSize) {
+        this.teacherAssistantAssignmentRepository = teacherAssistantAssignmentRepository;
+        this.teacherBranchAssignmentRepository = teacherBranchAssignmentRepository;
+        this.teacherStudentAssignmentRepository = teacherStudentAssignmentRepository;
+        this.cacheVersionTracker = cacheVersionTracker;
+        this.primaryReads = primaryReads;
+        Duration ttl = Duration.ofMillis(ttlMillis);
+        this.teachers = new NearCache<>("membership-teacher", clock, ttl, maxSize, meterRegistry);
+        this.assistants = new NearCache<>("membership-assistant", clock, ttl, maxSize, meterRegistry);
+        cacheVersionTracker.register(CACHE_NAME, this::invalidateAll);
+    }
+
+    public TeacherMembership getTeacher(UUID teacherId) {
+        return teachers.get(teacherId, id -> Optional.of(primaryReads.load(() -> loadTeacher(id)))).orElseThrow();
+    }
+
+    /**
+     * 조교가 활성 배정된 선생님 id (배정 순)
+     */
+    public List<UUID> getTeacherIdsOfAssistant(UUID assistantId) {
+        return assistants.get(assistantId, id -> Optional.of(primaryReads.load(() ->
+                List.copyOf(teacherAssistantAssignmentRepository.findActiveTeacherIdsByAssistantMemberId(id))
+        ))).orElseThrow();
+    }
+
+    public boolean isAssistantOf(UUID teacherId, UUID assistantId) {
+        return getTeacher(teacherId).assistantIds().contains(assistantId);
+    }
+
+    public boolean isAssignedToBranch(UUID teacherId, UUID branchId) {
+        return getTeacher(teacherId).branchIds().contains(branchId);
+    }
+
+    public boolean isStudentOf(UUID teacherId, UUID studentId) {
+        return getTeacher(teacherId).studentIds().contains(studentId);
+    }
+
+    public boolean isStudentOfAny(Collection<UUID> teacherIds, UUID studentId) {
+        for (UUID teacherId : teacherIds) {
+            if (isStudentOf(teacherId, studentId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        cacheVersionTracker.bump(CACHE_NAME, () -> {
+            teachers.invalidate(List.of(event.teacherId()));
+            if (event.assistantId() != null) {
+                assistants.invalidate(List.of(event.assistantId()));
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        teachers.invalidateAll();
+        assistants.invalidateAll();
+    }
+
+    private TeacherMembership loadTeacher(UUID teacherId) {
+        return new TeacherMembership(
+                teacherId,
+                Set.copyOf(teacherAssistantAssignmentRepository.findActiveAssistantIdsByTeacherMemberId(teacherId)),
+                Set.copyOf(teacherBranchAssignmentRepository.findActiveBranchIdsByTeacherMemberId(teacherId)),
+                Set.copyOf(teacherStudentAssignmentRepository.findActiveStudentIdsByTeacherMemberId(teacherId))
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.classhub.domain.assignment.membership;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 선생님 한 명(테넌트)에 딸린 활성 관계. 조교·지점·학생 배정 중 삭제되지 않은 것만 담는다.
+ */
+public record TeacherMembership(
+        UUID teacherId,
+        Set<UUID> assistantIds,
+        Set<UUID> branchIds,
+        Set<UUID> studentIds
+) {
+
+    public TeacherMembership {
+        assistantIds = Set.copyOf(assistantIds);
+        branchIds = Set.copyOf(branchIds);
+        studentIds = Set.copyOf(studentIds);
+    }
+}
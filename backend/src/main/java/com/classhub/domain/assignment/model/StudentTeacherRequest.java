@@ -23,6 +23,7 @@ import lombok.NoArgsConstructor;
         indexes = {
                 @Index(name = "idx_str_student", columnList = "student_member_id"),
                 @Index(name = "idx_str_teacher", columnList = "teacher_member_id"),
+                @Index(name = "idx_str_teacher_created", columnList = "teacher_member_id, created_at, id"),
                 @Index(name = "idx_str_status", columnList = "status")
         }
 )
@@ -18,6 +18,7 @@ import lombok.NoArgsConstructor;
         name = "teacher_student_assignment",
         indexes = {
                 @Index(name = "idx_tsa_teacher", columnList = "teacher_member_id"),
+                @Index(name = "idx_tsa_teacher_created", columnList = "teacher_member_id, created_at, id"),
                 @Index(name = "idx_tsa_student", columnList = "student_member_id")
         }
 )
@@ -2,6 +2,9 @@ package com.classhub.domain.assignment.repository;
 
 import com.classhub.domain.assignment.model.StudentTeacherRequest;
 import com.classhub.domain.assignment.model.TeacherStudentRequestStatus;
+import com.classhub.global.search.KeywordCandidates;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -33,6 +36,22 @@ public interface StudentTeacherRequestRepository extends JpaRepository<StudentTe
             @Param("statuses") Set<TeacherStudentRequestStatus> statuses
     );
 
+    default Page<StudentTeacherRequest> searchRequestsForTeacher(
+            UUID teacherId,
+            Set<TeacherStudentRequestStatus> statuses,
+            KeywordCandidates keyword,
+            Pageable pageable
+    ) {
+        return searchRequestsForTeacherInternal(
+                teacherId,
+                statuses,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                pageable
+        );
+    }
+
     @Query("""
             SELECT req
             FROM StudentTeacherRequest req
@@ -44,12 +63,33 @@ public interface StudentTeacherRequestRepository extends JpaRepository<StudentTe
                    OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR req.studentMemberId IN :keywordIds)
             ORDER BY req.createdAt DESC
             """)
-    Page<StudentTeacherRequest> searchRequestsForTeacher(@Param("teacherId") UUID teacherId,
-                                                         @Param("statuses") Set<TeacherStudentRequestStatus> statuses,
-                                                         @Param("keyword") String keyword,
-                                                         Pageable pageable);
+    Page<StudentTeacherRequest> searchRequestsForTeacherInternal(
+            @Param("teacherId") UUID teacherId,
+            @Param("statuses") Set<TeacherStudentRequestStatus> statuses,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
+            Pageable pageable
+    );
+
+    default Page<StudentTeacherRequest> searchRequestsForTeachers(
+            List<UUID> teacherIds,
+            Set<TeacherStudentRequestStatus> statuses,
+            KeywordCandidates keyword,
+            Pageable pageable
+    ) {
+        return searchRequestsForTeachersInternal(
+                teacherIds,
+                statuses,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                pageable
+        );
+    }
 
     @Query("""
             SELECT req
@@ -62,12 +102,105 @@ public interface StudentTeacherRequestRepository extends JpaRepository<StudentTe
                    OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR req.studentMemberId IN :keywordIds)
             ORDER BY req.createdAt DESC
             """)
-    Page<StudentTeacherRequest> searchRequestsForTeachers(@Param("teacherIds") List<UUID> teacherIds,
-                                                          @Param("statuses") Set<TeacherStudentRequestStatus> statuses,
-                                                          @Param("keyword") String keyword,
-                                                          Pageable pageable);
+    Page<StudentTeacherRequest> searchRequestsForTeachersInternal(
+            @Param("teacherIds") List<UUID> teacherIds,
+            @Param("statuses") Set<TeacherStudentRequestStatus> statuses,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
+            Pageable pageable
+    );
+
+    /**
+     * searchRequestsForTeacher의 커서 모드. (createdAt DESC, id DESC) 순으로 커서 다음 행부터 읽는다.
+     */
+    default List<StudentTeacherRequest> searchRequestsForTeacherAfter(
+            UUID teacherId,
+            Set<TeacherStudentRequestStatus> statuses,
+            KeywordCandidates keyword,
+            LocalDateTime cursorCreatedAt,
+            UUID cursorId,
+            Pageable pageable
+    ) {
+        return searchRequestsForTeacherAfterInternal(
+                teacherId,
+                statuses,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                cursorCreatedAt,
+                cursorId,
+                pageable
+        );
+    }
+
+    @Query("""
+            SELECT req
+            FROM StudentTeacherRequest req
+            JOIN Member m ON m.id = req.studentMemberId
+            JOIN StudentInfo si ON si.memberId = m.id
+            WHERE req.teacherMemberId = :teacherId
+              AND req.status IN :statuses
+              AND (:keyword IS NULL
+                   OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                   OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                   OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR req.studentMemberId IN :keywordIds)
+              AND (
+                :cursorCreatedAt IS NULL
+                OR req.createdAt < :cursorCreatedAt
+                OR (req.createdAt = :cursorCreatedAt AND req.id < :cursorId)
+              )
+            ORDER BY req.createdAt DESC, req.id DESC
+            """)
+    List<StudentTeacherRequest> searchRequestsForTeacherAfterInternal(
+            @Param("teacherId") UUID teacherId,
+            @Param("statuses") Set<TeacherStudentRequestStatus> statuses,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable
+    );
+
+    default long countRequestsForTeacher(
+            UUID teacherId,
+            Set<TeacherStudentRequestStatus> statuses,
+            KeywordCandidates keyword
+    ) {
+        return countRequestsForTeacherInternal(
+                teacherId,
+                statuses,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids()
+        );
+    }
+
+    @Query("""
+            SELECT COUNT(req)
+            FROM StudentTeacherRequest req
+            JOIN Member m ON m.id = req.studentMemberId
+            JOIN StudentInfo si ON si.memberId = m.id
+            WHERE req.teacherMemberId = :teacherId
+              AND req.status IN :statuses
+              AND (:keyword IS NULL
+                   OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                   OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                   OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR req.studentMemberId IN :keywordIds)
+            """)
+    long countRequestsForTeacherInternal(
+            @Param("teacherId") UUID teacherId,
+            @Param("statuses") Set<TeacherStudentRequestStatus> statuses,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds
+    );
 
     Optional<StudentTeacherRequest> findByStudentMemberIdAndTeacherMemberId(UUID studentMemberId,
                                                                              UUID teacherMemberId);
@@ -8,6 +8,8 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TeacherAssistantAssignmentRepository
         extends JpaRepository<TeacherAssistantAssignment, UUID> {
@@ -42,4 +44,21 @@ public interface TeacherAssistantAssignmentRepository
             UUID teacherMemberId,
             UUID assistantMemberId
     );
+
+    @Query("""
+            SELECT taa.assistantMemberId
+            FROM TeacherAssistantAssignment taa
+            WHERE taa.teacherMemberId = :teacherId
+              AND taa.deletedAt IS NULL
+            """)
+    List<UUID> findActiveAssistantIdsByTeacherMemberId(@Param("teacherId") UUID teacherId);
+
+    @Query("""
+            SELECT taa.teacherMemberId
+            FROM TeacherAssistantAssignment taa
+            WHERE taa.assistantMemberId = :assistantId
+              AND taa.deletedAt IS NULL
+            ORDER BY taa.createdAt ASC
+            """)
+    List<UUID> findActiveTeacherIdsByAssistantMemberId(@Param("assistantId") UUID assistantId);
 }
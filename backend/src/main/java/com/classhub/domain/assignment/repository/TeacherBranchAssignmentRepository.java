@@ -7,6 +7,8 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TeacherBranchAssignmentRepository extends JpaRepository<TeacherBranchAssignment, UUID> {
 
@@ -21,4 +23,12 @@ public interface TeacherBranchAssignmentRepository extends JpaRepository<Teacher
     Optional<TeacherBranchAssignment> findByIdAndTeacherMemberId(UUID assignmentId, UUID teacherMemberId);
 
     List<TeacherBranchAssignment> findByTeacherMemberIdInAndDeletedAtIsNull(List<UUID> teacherMemberIds);
+
+    @Query("""
+            SELECT tba.branchId
+            FROM TeacherBranchAssignment tba
+            WHERE tba.teacherMemberId = :teacherId
+              AND tba.deletedAt IS NULL
+            """)
+    List<UUID> findActiveBranchIdsByTeacherMemberId(@Param("teacherId") UUID teacherId);
 }
@@ -1,6 +1,9 @@
 package com.classhub.domain.assignment.repository;
 
 import com.classhub.domain.assignment.model.TeacherStudentAssignment;
+import com.classhub.global.search.KeywordCandidates;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -16,6 +19,22 @@ public interface TeacherStudentAssignmentRepository extends JpaRepository<Teache
 
     List<TeacherStudentAssignment> findByStudentMemberIdAndDeletedAtIsNull(UUID studentMemberId);
 
+    default Page<TeacherStudentAssignment> searchAssignmentsForTeacher(
+            UUID teacherId,
+            KeywordCandidates keyword,
+            List<UUID> excludeIds,
+            Pageable pageable
+    ) {
+        return searchAssignmentsForTeacherInternal(
+                teacherId,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                excludeIds,
+                pageable
+        );
+    }
+
     @Query("""
             SELECT tsa
             FROM TeacherStudentAssignment tsa
@@ -27,13 +46,32 @@ public interface TeacherStudentAssignmentRepository extends JpaRepository<Teache
                    OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR tsa.studentMemberId IN :keywordIds)
               AND (:excludeIds IS NULL OR tsa.studentMemberId NOT IN :excludeIds)
             ORDER BY tsa.createdAt DESC
             """)
-    Page<TeacherStudentAssignment> searchAssignmentsForTeacher(@Param("teacherId") UUID teacherId,
-                                                               @Param("keyword") String keyword,
-                                                               @Param("excludeIds") List<UUID> excludeIds,
-                                                               Pageable pageable);
+    Page<TeacherStudentAssignment> searchAssignmentsForTeacherInternal(
+            @Param("teacherId") UUID teacherId,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
+            @Param("excludeIds") List<UUID> excludeIds,
+            Pageable pageable
+    );
+
+    default Page<TeacherStudentAssignment> searchAssignmentsForTeachers(
+            List<UUID> teacherIds,
+            KeywordCandidates keyword,
+            Pageable pageable
+    ) {
+        return searchAssignmentsForTeachersInternal(
+                teacherIds,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                pageable
+        );
+    }
 
     @Query("""
             SELECT tsa
@@ -46,11 +84,32 @@ public interface TeacherStudentAssignmentRepository extends JpaRepository<Teache
                    OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR tsa.studentMemberId IN :keywordIds)
             ORDER BY tsa.createdAt DESC
             """)
-    Page<TeacherStudentAssignment> searchAssignmentsForTeachers(@Param("teacherIds") List<UUID> teacherIds,
-                                                                @Param("keyword") String keyword,
-                                                                Pageable pageable);
+    Page<TeacherStudentAssignment> searchAssignmentsForTeachersInternal(
+            @Param("teacherIds") List<UUID> teacherIds,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
+            Pageable pageable
+    );
+
+    default Page<TeacherStudentAssignment> searchAssignmentsForTeacherByCourse(
+            UUID teacherId,
+            UUID courseId,
+            KeywordCandidates keyword,
+            Pageable pageable
+    ) {
+        return searchAssignmentsForTeacherByCourseInternal(
+                teacherId,
+                courseId,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                pageable
+        );
+    }
 
     @Query("""
             SELECT tsa
@@ -69,12 +128,33 @@ public interface TeacherStudentAssignmentRepository extends JpaRepository<Teache
                    OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR tsa.studentMemberId IN :keywordIds)
             ORDER BY tsa.createdAt DESC
             """)
-    Page<TeacherStudentAssignment> searchAssignmentsForTeacherByCourse(@Param("teacherId") UUID teacherId,
-                                                                       @Param("courseId") UUID courseId,
-                                                                       @Param("keyword") String keyword,
-                                                                       Pageable pageable);
+    Page<TeacherStudentAssignment> searchAssignmentsForTeacherByCourseInternal(
+            @Param("teacherId") UUID teacherId,
+            @Param("courseId") UUID courseId,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
+            Pageable pageable
+    );
+
+    default Page<TeacherStudentAssignment> searchAssignmentsForTeachersByCourse(
+            List<UUID> teacherIds,
+            UUID courseId,
+            KeywordCandidates keyword,
+            Pageable pageable
+    ) {
+        return searchAssignmentsForTeachersByCourseInternal(
+                teacherIds,
+                courseId,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                pageable
+        );
+    }
 
     @Query("""
             SELECT tsa
@@ -93,12 +173,133 @@ public interface TeacherStudentAssignmentRepository extends JpaRepository<Teache
                    OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR tsa.studentMemberId IN :keywordIds)
             ORDER BY tsa.createdAt DESC
             """)
-    Page<TeacherStudentAssignment> searchAssignmentsForTeachersByCourse(@Param("teacherIds") List<UUID> teacherIds,
-                                                                        @Param("courseId") UUID courseId,
-                                                                        @Param("keyword") String keyword,
-                                                                        Pageable pageable);
+    Page<TeacherStudentAssignment> searchAssignmentsForTeachersByCourseInternal(
+            @Param("teacherIds") List<UUID> teacherIds,
+            @Param("courseId") UUID courseId,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
+            Pageable pageable
+    );
+
+    /**
+     * searchAssignmentsForTeacherByCourse의 커서 모드. (createdAt DESC, id DESC) 순으로 커서 다음 행부터 읽는다.
+     */
+    default List<TeacherStudentAssignment> searchAssignmentsForTeacherByCourseAfter(
+            UUID teacherId,
+            UUID courseId,
+            KeywordCandidates keyword,
+            LocalDateTime cursorCreatedAt,
+            UUID cursorId,
+            Pageable pageable
+    ) {
+        return searchAssignmentsForTeacherByCourseAfterInternal(
+                teacherId,
+                courseId,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                cursorCreatedAt,
+                cursorId,
+                pageable
+        );
+    }
+
+    @Query("""
+            SELECT tsa
+            FROM TeacherStudentAssignment tsa
+            JOIN Member m ON m.id = tsa.studentMemberId
+            JOIN StudentInfo si ON si.memberId = m.id
+            WHERE tsa.teacherMemberId = :teacherId
+              AND tsa.deletedAt IS NULL
+              AND (:courseId IS NULL OR EXISTS (
+                    SELECT 1
+                    FROM StudentCourseAssignment sca
+                    WHERE sca.courseId = :courseId
+                      AND sca.studentMemberId = tsa.studentMemberId
+              ))
+              AND (:keyword IS NULL
+                   OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                   OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                   OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR tsa.studentMemberId IN :keywordIds)
+              AND (
+                :cursorCreatedAt IS NULL
+                OR tsa.createdAt < :cursorCreatedAt
+                OR (tsa.createdAt = :cursorCreatedAt AND tsa.id < :cursorId)
+              )
+            ORDER BY tsa.createdAt DESC, tsa.id DESC
+            """)
+    List<TeacherStudentAssignment> searchAssignmentsForTeacherByCourseAfterInternal(
+            @Param("teacherId") UUID teacherId,
+            @Param("courseId") UUID courseId,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable
+    );
+
+    default long countAssignmentsForTeacherByCourse(
+            UUID teacherId,
+            UUID courseId,
+            KeywordCandidates keyword
+    ) {
+        return countAssignmentsForTeacherByCourseInternal(
+                teacherId,
+                courseId,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids()
+        );
+    }
+
+    @Query("""
+            SELECT COUNT(tsa)
+            FROM TeacherStudentAssignment tsa
+            JOIN Member m ON m.id = tsa.studentMemberId
+            JOIN StudentInfo si ON si.memberId = m.id
+            WHERE tsa.teacherMemberId = :teacherId
+              AND tsa.deletedAt IS NULL
+              AND (:courseId IS NULL OR EXISTS (
+                    SELECT 1
+                    FROM StudentCourseAssignment sca
+                    WHERE sca.courseId = :courseId
+                      AND sca.studentMemberId = tsa.studentMemberId
+              ))
+              AND (:keyword IS NULL
+                   OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                   OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
+                   OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR tsa.studentMemberId IN :keywordIds)
+            """)
+    long countAssignmentsForTeacherByCourseInternal(
+            @Param("teacherId") UUID teacherId,
+            @Param("courseId") UUID courseId,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds
+    );
+
+    default Page<UUID> searchDistinctStudentIdsForTeachers(
+            List<UUID> teacherIds,
+            UUID courseId,
+            KeywordCandidates keyword,
+            Pageable pageable
+    ) {
+        return searchDistinctStudentIdsForTeachersInternal(
+                teacherIds,
+                courseId,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                pageable
+        );
+    }
 
     @Query(value = """
             SELECT tsa.studentMemberId
@@ -119,6 +320,7 @@ public interface TeacherStudentAssignmentRepository extends JpaRepository<Teache
                    OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR tsa.studentMemberId IN :keywordIds)
             GROUP BY tsa.studentMemberId
             ORDER BY MAX(tsa.createdAt) DESC
             """, countQuery = """
@@ -140,12 +342,25 @@ public interface TeacherStudentAssignmentRepository extends JpaRepository<Teache
                    OR LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(si.schoolName) LIKE LOWER(CONCAT('%', :keyword, '%'))
                    OR LOWER(m.phoneNumber) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR tsa.studentMemberId IN :keywordIds)
             """)
-    Page<UUID> searchDistinctStudentIdsForTeachers(@Param("teacherIds") List<UUID> teacherIds,
-                                                   @Param("courseId") UUID courseId,
-                                                   @Param("keyword") String keyword,
-                                                   Pageable pageable);
+    Page<UUID> searchDistinctStudentIdsForTeachersInternal(
+            @Param("teacherIds") List<UUID> teacherIds,
+            @Param("courseId") UUID courseId,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
+            Pageable pageable
+    );
 
     boolean existsByTeacherMemberIdInAndStudentMemberIdAndDeletedAtIsNull(List<UUID> teacherIds,
                                                                           UUID studentMemberId);
+
+    @Query("""
+            SELECT tsa.studentMemberId
+            FROM TeacherStudentAssignment tsa
+            WHERE tsa.teacherMemberId = :teacherId
+              AND tsa.deletedAt IS NULL
+            """)
+    List<UUID> findActiveStudentIdsByTeacherMemberId(@Param("teacherId") UUID teacherId);
 }
@@ -7,6 +7,7 @@ import com.classhub.domain.assignment.model.TeacherStudentRequestStatus;
 import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.domain.member.model.MemberRole;
 import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.CursorSliceResponse;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
 import com.classhub.global.response.RsData;
@@ -65,6 +66,28 @@ public class StudentTeacherRequestController {
         return RsData.from(RsCode.SUCCESS, response);
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('TEACHER')")
+    @Operation(summary = "학생 선생님 요청 목록 커서 조회")
+    public RsData<CursorSliceResponse<StudentTeacherRequestResponse>> getRequestsByCursor(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            @RequestParam(name = "status", required = false) Set<TeacherStudentRequestStatus> statuses,
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        CursorSliceResponse<StudentTeacherRequestResponse> response = requestService.getRequestsForTeacherByCursor(
+                principal.id(),
+                statuses,
+                keyword,
+                cursor,
+                size,
+                includeTotal
+        );
+        return RsData.from(RsCode.SUCCESS, response);
+    }
+
     @PatchMapping("/{requestId}/cancel")
     @PreAuthorize("hasAuthority('STUDENT')")
     @Operation(summary = "학생 선생님 요청 취소")
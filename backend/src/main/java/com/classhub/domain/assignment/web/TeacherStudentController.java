@@ -4,6 +4,7 @@ import com.classhub.domain.assignment.application.TeacherStudentService;
 import com.classhub.domain.assignment.dto.response.TeacherStudentDetailResponse;
 import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.domain.member.dto.response.StudentSummaryResponse;
+import com.classhub.global.response.CursorSliceResponse;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
 import com.classhub.global.response.RsData;
@@ -47,6 +48,28 @@ public class TeacherStudentController {
         return RsData.from(RsCode.SUCCESS, response);
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('TEACHER')")
+    @Operation(summary = "학생 목록 커서 조회")
+    public RsData<CursorSliceResponse<StudentSummaryResponse>> getTeacherStudentsByCursor(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            @RequestParam(name = "courseId", required = false) UUID courseId,
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        CursorSliceResponse<StudentSummaryResponse> response = teacherStudentService.getTeacherStudentsByCursor(
+                principal,
+                courseId,
+                keyword,
+                cursor,
+                size,
+                includeTotal
+        );
+        return RsData.from(RsCode.SUCCESS, response);
+    }
+
     @GetMapping("/{studentId}")
     @PreAuthorize("hasAnyAuthority('TEACHER','ASSISTANT')")
     @Operation(summary = "선생님 학생 상세 조회")
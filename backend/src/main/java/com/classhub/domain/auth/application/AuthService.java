@@ -26,7 +26,7 @@ public class AuthService {
     private final JwtProvider jwtProvider;
     private final RefreshTokenStore refreshTokenStore;
 
-    @Transactional(readOnly = true)
+    @Transactional
     public AuthTokens login(LoginRequest request) {
         Member member = memberRepository.findByEmail(request.normalizedEmail())
                 .orElseThrow(() -> new BusinessException(RsCode.UNAUTHENTICATED));
@@ -42,7 +42,7 @@ public class AuthService {
         return issueTokens(member);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public AuthTokens refresh(String refreshToken) {
         if (refreshToken == null) {
             throw new BusinessException(RsCode.UNAUTHENTICATED);
@@ -95,6 +95,7 @@ public class AuthService {
         String refreshToken = jwtProvider.generateRefreshToken(member.getId());
         LocalDateTime accessExpiresAt = jwtProvider.getExpiration(accessToken);
         LocalDateTime refreshExpiresAt = jwtProvider.getExpiration(refreshToken);
+        refreshTokenStore.register(member.getId(), refreshToken, refreshExpiresAt);
 
         return new AuthTokens(
                 member.getId(),
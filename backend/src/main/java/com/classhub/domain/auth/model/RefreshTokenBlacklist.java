@@ -0,0 +1,33 @@
+package com.classhub.domain.auth.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * JdbcRefreshTokenStore가 공유하는 블랙리스트 테이블 (토큰 원문 대신 SHA-256 digest 저장)
+ */
+@Getter
+@Entity
+@Table(
+        name = "refresh_token_blacklist",
+        indexes = {
+                @Index(name = "idx_refresh_token_blacklist_expires", columnList = "expires_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshTokenBlacklist {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
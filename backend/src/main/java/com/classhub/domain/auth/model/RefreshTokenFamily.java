@@ -0,0 +1,38 @@
+package com.classhub.domain.auth.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * JdbcRefreshTokenStore가 공유하는 회원별 발급 토큰 테이블 (전체 로그아웃 대상)
+ */
+@Getter
+@Entity
+@Table(
+        name = "refresh_token_family",
+        indexes = {
+                @Index(name = "idx_refresh_token_family_member", columnList = "member_id, expires_at"),
+                @Index(name = "idx_refresh_token_family_expires", columnList = "expires_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshTokenFamily {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "member_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID memberId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
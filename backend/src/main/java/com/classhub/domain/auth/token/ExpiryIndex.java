@@ -0,0 +1,47 @@
+package com.classhub.domain.auth.token;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각을 고정 간격 bucket으로 묶어 관리하는 인덱스
+ * - 만료된 bucket은 앞에서부터 통째로 꺼내므로 항목당 정리 비용이 상수에 가깝다
+ * - 아직 만료되지 않은 bucket은 건드리지 않으므로 만료 항목이 없으면 head 확인만 한다
+ */
+final class ExpiryIndex<K> {
+
+    private final long bucketMillis;
+    private final ConcurrentSkipListMap<Long, Set<K>> buckets = new ConcurrentSkipListMap<>();
+
+    ExpiryIndex(long bucketMillis) {
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("bucketMillis must be positive");
+        }
+        this.bucketMillis = bucketMillis;
+    }
+
+    void add(K key, long expiresAtMillis) {
+        buckets.computeIfAbsent(Math.floorDiv(expiresAtMillis, bucketMillis), bucket -> ConcurrentHashMap.newKeySet())
+                .add(key);
+    }
+
+    void drainExpired(long nowMillis, Consumer<K> onExpired) {
+        Map.Entry<Long, Set<K>> head;
+        while ((head = buckets.firstEntry()) != null && (head.getKey() + 1) * bucketMillis <= nowMillis) {
+            if (buckets.remove(head.getKey(), head.getValue())) {
+                head.getValue().forEach(onExpired);
+            }
+        }
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    void clear() {
+        buckets.clear();
+    }
+}
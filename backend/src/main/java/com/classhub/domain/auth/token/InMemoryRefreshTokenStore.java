@@ -1,48 +1,124 @@
 package com.classhub.domain.auth.token;
 
+import com.classhub.global.util.KstTime;
+import com.classhub.global.util.TokenDigest;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import com.classhub.global.util.KstTime;
 
+/**
+ * 단일 노드용 refresh 토큰 저장소
+ * - 토큰 원문 대신 digest를 보관하고, 만료 정리는 시간 bucket 인덱스로 분할 상환한다
+ * - 회원별 토큰 family는 compute 단위로만 변경해서 등록과 전체 로그아웃이 서로 유실되지 않는다
+ */
 @Component
+@ConditionalOnProperty(name = "custom.auth.refresh-token-store", havingValue = "memory", matchIfMissing = true)
 public class InMemoryRefreshTokenStore implements RefreshTokenStore {
 
-    private final Map<String, LocalDateTime> blacklist = new ConcurrentHashMap<>();
+    private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final Clock clock;
+    private final Map<String, Long> blacklist = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<String, Long>> families = new ConcurrentHashMap<>();
+    private final ExpiryIndex<String> blacklistExpiry = new ExpiryIndex<>(BUCKET_MILLIS);
+    private final ExpiryIndex<FamilyKey> familyExpiry = new ExpiryIndex<>(BUCKET_MILLIS);
+
+    public InMemoryRefreshTokenStore() {
+        this(KstTime.clock());
+    }
+
+    InMemoryRefreshTokenStore(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void register(UUID memberId, String token, LocalDateTime expiresAt) {
+        long now = clock.millis();
+        evictExpired(now);
+        long expiresAtMillis = toEpochMillis(expiresAt);
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        String digest = TokenDigest.sha256Hex(token);
+        families.compute(memberId, (id, tokens) -> {
+            Map<String, Long> family = tokens == null ? new HashMap<>() : tokens;
+            family.put(digest, expiresAtMillis);
+            return family;
+        });
+        familyExpiry.add(new FamilyKey(memberId, digest), expiresAtMillis);
+    }
 
     @Override
     public void blacklist(String token, LocalDateTime expiresAt) {
-        evictExpired();
-        blacklist.put(token, expiresAt);
+        long now = clock.millis();
+        evictExpired(now);
+        addToBlacklist(TokenDigest.sha256Hex(token), toEpochMillis(expiresAt), now);
     }
 
     @Override
     public boolean isBlacklisted(String token) {
-        evictExpired();
-        LocalDateTime expiresAt = blacklist.get(token);
-        if (expiresAt == null) {
-            return false;
-        }
-        if (expiresAt.isBefore(LocalDateTime.now(KstTime.clock()))) {
-            blacklist.remove(token);
-            return false;
-        }
-        return true;
+        long now = clock.millis();
+        evictExpired(now);
+        Long expiresAt = blacklist.get(TokenDigest.sha256Hex(token));
+        return expiresAt != null && expiresAt > now;
     }
 
     @Override
     public void blacklistAllForMember(UUID memberId) {
-        // TODO: Redis 기반 저장소 도입 시 실제 토큰들을 추적해 전체 로그아웃을 구현한다.
+        long now = clock.millis();
+        evictExpired(now);
+        families.computeIfPresent(memberId, (id, tokens) -> {
+            tokens.forEach((digest, expiresAt) -> addToBlacklist(digest, expiresAt, now));
+            return null;
+        });
     }
 
     public void clear() {
         blacklist.clear();
+        families.clear();
+        blacklistExpiry.clear();
+        familyExpiry.clear();
+    }
+
+    private void addToBlacklist(String digest, long expiresAtMillis, long now) {
+        if (expiresAtMillis <= now) {
+            return;
+        }
+        // 같은 digest가 더 늦은 만료로 다시 들어오면 앞 bucket은 항목을 남겨 두므로 늘어난 만료도 색인한다
+        if (blacklist.merge(digest, expiresAtMillis, Math::max) == expiresAtMillis) {
+            blacklistExpiry.add(digest, expiresAtMillis);
+        }
+    }
+
+    int blacklistSize() {
+        return blacklist.size();
+    }
+
+    int familySize(UUID memberId) {
+        Map<String, Long> family = families.get(memberId);
+        return family == null ? 0 : family.size();
+    }
+
+    private void evictExpired(long now) {
+        blacklistExpiry.drainExpired(now, digest ->
+                blacklist.computeIfPresent(digest, (key, expiresAt) -> expiresAt <= now ? null : expiresAt));
+        familyExpiry.drainExpired(now, key ->
+                families.computeIfPresent(key.memberId(), (id, tokens) -> {
+                    tokens.computeIfPresent(key.digest(), (digest, expiresAt) -> expiresAt <= now ? null : expiresAt);
+                    return tokens.isEmpty() ? null : tokens;
+                }));
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(KstTime.ZONE_ID).toInstant().toEpochMilli();
     }
 
-    private void evictExpired() {
-        LocalDateTime now = LocalDateTime.now(KstTime.clock());
-        blacklist.entrySet().removeIf(entry -> entry.getValue().isBefore(now));
+    private record FamilyKey(UUID memberId, String digest) {
     }
 }
@@ -0,0 +1,95 @@
+package com.classhub.domain.auth.token;
+
+import com.classhub.global.util.KstTime;
+import com.classhub.global.util.TokenDigest;
+import com.classhub.global.util.UuidBytes;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 테이블(refresh_token_blacklist, refresh_token_family)을 공유하는 다중 노드용 refresh 토큰 저장소
+ * - 중복 등록은 INSERT IGNORE로 흡수해서 노드 간 동시 요청에도 예외 없이 멱등하게 처리한다
+ * - 만료 행 삭제는 노드마다 PURGE_INTERVAL에 한 번, 쓰기 요청에 얹어서 expires_at 인덱스로 처리한다
+ */
+@Component
+@ConditionalOnProperty(name = "custom.auth.refresh-token-store", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong nextPurgeAtMillis = new AtomicLong();
+
+    @Override
+    public void register(UUID memberId, String token, LocalDateTime expiresAt) {
+        purgeExpiredIfDue();
+        jdbcTemplate.update("""
+                        INSERT IGNORE INTO refresh_token_family (token_hash, member_id, expires_at)
+                        VALUES (?, ?, ?)
+                        """,
+                TokenDigest.sha256Hex(token),
+                UuidBytes.toBytes(memberId),
+                expiresAt
+        );
+    }
+
+    @Override
+    public void blacklist(String token, LocalDateTime expiresAt) {
+        purgeExpiredIfDue();
+        jdbcTemplate.update("""
+                        INSERT IGNORE INTO refresh_token_blacklist (token_hash, expires_at)
+                        VALUES (?, ?)
+                        """,
+                TokenDigest.sha256Hex(token),
+                expiresAt
+        );
+    }
+
+    @Override
+    public boolean isBlacklisted(String token) {
+        Integer count = jdbcTemplate.queryForObject("""
+                        SELECT COUNT(*)
+                        FROM refresh_token_blacklist
+                        WHERE token_hash = ?
+                          AND expires_at > ?
+                        """,
+                Integer.class,
+                TokenDigest.sha256Hex(token),
+                KstTime.nowDateTime()
+        );
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void blacklistAllForMember(UUID memberId) {
+        purgeExpiredIfDue();
+        jdbcTemplate.update("""
+                        INSERT IGNORE INTO refresh_token_blacklist (token_hash, expires_at)
+                        SELECT f.token_hash, f.expires_at
+                        FROM refresh_token_family f
+                        WHERE f.member_id = ?
+                          AND f.expires_at > ?
+                        """,
+                UuidBytes.toBytes(memberId),
+                KstTime.nowDateTime()
+        );
+    }
+
+    private void purgeExpiredIfDue() {
+        long now = KstTime.clock().millis();
+        long due = nextPurgeAtMillis.get();
+        if (now < due || !nextPurgeAtMillis.compareAndSet(due, now + PURGE_INTERVAL.toMillis())) {
+            return;
+        }
+        LocalDateTime threshold = KstTime.nowDateTime();
+        jdbcTemplate.update("DELETE FROM refresh_token_blacklist WHERE expires_at <= ?", threshold);
+        jdbcTemplate.update("DELETE FROM refresh_token_family WHERE expires_at <= ?", threshold);
+    }
+}
@@ -5,6 +5,11 @@ import java.util.UUID;
 
 public interface RefreshTokenStore {
 
+    /**
+     * 발급한 refresh 토큰을 회원별 토큰 family에 등록 (전체 로그아웃 대상 추적용)
+     */
+    void register(UUID memberId, String token, LocalDateTime expiresAt);
+
     void blacklist(String token, LocalDateTime expiresAt);
 
     boolean isBlacklisted(String token);
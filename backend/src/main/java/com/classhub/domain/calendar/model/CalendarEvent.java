@@ -0,0 +1,100 @@
+package com.classhub.domain.calendar.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학생 월간 캘린더 읽기 모델. 수업 진도/개인 진도/클리닉 출석 한 건이 한 행이며 source_id는 원본 행의 id다.
+ * 원본 쓰기 경로에서 {@code CalendarEventJdbcRepository}가 INSERT ... SELECT로 다시 만들어 항상 원본과 같게 유지한다.
+ * 강좌명/작성자명은 바뀔 수 있어 저장하지 않고 조회 시 조인한다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "calendar_event",
+        indexes = {
+                @Index(name = "idx_calendar_event_course_date", columnList = "course_id, event_date"),
+                @Index(name = "idx_calendar_event_record_date", columnList = "student_course_record_id, event_date"),
+                @Index(name = "idx_calendar_event_clinic_session", columnList = "clinic_session_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CalendarEvent {
+
+    @Id
+    @Column(name = "source_id", columnDefinition = "BINARY(16)")
+    private UUID sourceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private CalendarEventType eventType;
+
+    @Column(name = "course_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID courseId;
+
+    /**
+     * 수업 진도는 강좌 전체 공유라 null이다.
+     */
+    @Column(name = "student_course_record_id", columnDefinition = "BINARY(16)")
+    private UUID studentCourseRecordId;
+
+    @Column(name = "event_date", nullable = false)
+    private LocalDate eventDate;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "writer_id", columnDefinition = "BINARY(16)")
+    private UUID writerId;
+
+    @Column(name = "source_created_at")
+    private LocalDateTime sourceCreatedAt;
+
+    @Column(name = "clinic_session_id", columnDefinition = "BINARY(16)")
+    private UUID clinicSessionId;
+
+    @Column(name = "slot_id", columnDefinition = "BINARY(16)")
+    private UUID slotId;
+
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    @Column(name = "is_canceled", nullable = false)
+    private boolean canceled;
+
+    @Column(name = "clinic_record_id", columnDefinition = "BINARY(16)")
+    private UUID clinicRecordId;
+
+    @Column(name = "record_title", length = 200)
+    private String recordTitle;
+
+    @Column(name = "record_content", columnDefinition = "TEXT")
+    private String recordContent;
+
+    @Column(name = "record_homework_progress", columnDefinition = "TEXT")
+    private String recordHomeworkProgress;
+
+    @Column(name = "record_writer_id", columnDefinition = "BINARY(16)")
+    private UUID recordWriterId;
+
+    @Column(name = "record_created_at")
+    private LocalDateTime recordCreatedAt;
+}
@@ -0,0 +1,7 @@
+package com.classhub.domain.calendar.model;
+
+public enum CalendarEventType {
+    COURSE_PROGRESS,
+    PERSONAL_PROGRESS,
+    CLINIC
+}
@@ -0,0 +1,154 @@
+package com.classhub.domain.calendar.repository;
+
+import com.classhub.global.util.UuidBytes;
+import jakarta.persistence.EntityManager;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * calendar_event 동기화. 원본을 쓴 트랜잭션 안에서 호출하며, 대상 행을 지운 뒤 원본 테이블에서 INSERT ... SELECT로 다시 만든다.
+ * 원본이 삭제됐으면 SELECT 결과가 없으므로 같은 호출로 삭제까지 반영된다.
+ * JDBC로 원본을 읽으므로 호출 전에 영속성 컨텍스트를 flush한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CalendarEventJdbcRepository {
+
+    private static final String DELETE_BY_SOURCE_SQL = "DELETE FROM calendar_event WHERE source_id = ?";
+
+    private static final String DELETE_BY_CLINIC_SESSION_SQL =
+            "DELETE FROM calendar_event WHERE clinic_session_id = ?";
+
+    private static final String DELETE_CLINIC_BY_RECORD_SQL = """
+            DELETE FROM calendar_event
+            WHERE event_type = 'CLINIC'
+              AND student_course_record_id = ?
+              AND event_date >= ?
+            """;
+
+    private static final String INSERT_COLUMNS = """
+            INSERT INTO calendar_event (
+                source_id, event_type, course_id, student_course_record_id, event_date,
+                title, content, writer_id, source_created_at,
+                clinic_session_id, slot_id, start_time, end_time, is_canceled,
+                clinic_record_id, record_title, record_content, record_homework_progress,
+                record_writer_id, record_created_at
+            )
+            """;
+
+    private static final String INSERT_COURSE_PROGRESS_SQL = INSERT_COLUMNS + """
+            SELECT sl.id, 'COURSE_PROGRESS', sl.course_id, NULL, sl.lesson_date,
+                   sl.title, sl.content, sl.writer_id, sl.created_at,
+                   NULL, NULL, NULL, NULL, FALSE,
+                   NULL, NULL, NULL, NULL, NULL, NULL
+            FROM shared_lesson sl
+            WHERE sl.id = ?
+            """;
+
+    private static final String INSERT_PERSONAL_PROGRESS_SQL = INSERT_COLUMNS + """
+            SELECT pl.id, 'PERSONAL_PROGRESS', scr.course_id, pl.student_course_record_id, pl.lesson_date,
+                   pl.title, pl.content, pl.writer_id, pl.created_at,
+                   NULL, NULL, NULL, NULL, FALSE,
+                   NULL, NULL, NULL, NULL, NULL, NULL
+            FROM personal_lesson pl
+            JOIN student_course_record scr ON scr.id = pl.student_course_record_id
+            WHERE pl.id = ?
+            """;
+
+    private static final String SELECT_CLINIC = """
+            SELECT ca.id, 'CLINIC', scr.course_id, ca.student_course_record_id, cs.session_date,
+                   NULL, NULL, NULL, ca.created_at,
+                   cs.id, cs.slot_id, cs.start_time, cs.end_time, cs.is_canceled,
+                   cr.id, cr.title, cr.content, cr.homework_progress, cr.writer_id, cr.created_at
+            FROM clinic_attendance ca
+            JOIN student_course_record scr ON scr.id = ca.student_course_record_id
+            JOIN clinic_session cs ON cs.id = ca.clinic_session_id
+            LEFT JOIN clinic_record cr ON cr.clinic_attendance_id = ca.id
+            """;
+
+    private static final String INSERT_CLINIC_ATTENDANCE_SQL = INSERT_COLUMNS + SELECT_CLINIC + """
+            WHERE ca.id = ?
+            """;
+
+    private static final String INSERT_CLINIC_SESSION_SQL = INSERT_COLUMNS + SELECT_CLINIC + """
+            WHERE cs.id = ?
+            """;
+
+    private static final String INSERT_CLINIC_BY_RECORD_SQL = INSERT_COLUMNS + SELECT_CLINIC + """
+            WHERE ca.student_course_record_id = ?
+              AND cs.session_date >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public void syncCourseProgress(UUID progressId) {
+        syncBySource(List.of(progressId), INSERT_COURSE_PROGRESS_SQL);
+    }
+
+    public void syncCourseProgresses(Collection<UUID> progressIds) {
+        syncBySource(progressIds, INSERT_COURSE_PROGRESS_SQL);
+    }
+
+    public void syncPersonalProgress(UUID progressId) {
+        syncBySource(List.of(progressId), INSERT_PERSONAL_PROGRESS_SQL);
+    }
+
+    public void syncPersonalProgresses(Collection<UUID> progressIds) {
+        syncBySource(progressIds, INSERT_PERSONAL_PROGRESS_SQL);
+    }
+
+    public void syncClinicAttendance(UUID attendanceId) {
+        syncBySource(List.of(attendanceId), INSERT_CLINIC_ATTENDANCE_SQL);
+    }
+
+    public void syncClinicAttendances(Collection<UUID> attendanceIds) {
+        syncBySource(attendanceIds, INSERT_CLINIC_ATTENDANCE_SQL);
+    }
+
+    /**
+     * 세션 단위 동기화. 세션 취소나 배치처럼 세션의 출석 여러 건이 한꺼번에 바뀐 경우에 쓴다.
+     */
+    public void syncClinicSessions(Collection<UUID> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        List<Object[]> args = sessionIds.stream()
+                .distinct()
+                .map(id -> new Object[]{UuidBytes.toBytes(id)})
+                .toList();
+        jdbcTemplate.batchUpdate(DELETE_BY_CLINIC_SESSION_SQL, args);
+        jdbcTemplate.batchUpdate(INSERT_CLINIC_SESSION_SQL, args);
+    }
+
+    /**
+     * 학생 기록의 fromDate 이후 클리닉 일정을 다시 만든다. 수강 해제로 예정 출석이 일괄 삭제될 때 쓴다.
+     */
+    public void syncClinicByRecord(UUID recordId, LocalDate fromDate) {
+        entityManager.flush();
+        byte[] id = UuidBytes.toBytes(recordId);
+        Date from = Date.valueOf(fromDate);
+        jdbcTemplate.update(DELETE_CLINIC_BY_RECORD_SQL, id, from);
+        jdbcTemplate.update(INSERT_CLINIC_BY_RECORD_SQL, id, from);
+    }
+
+    private void syncBySource(Collection<UUID> sourceIds, String insertSql) {
+        if (sourceIds.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        List<Object[]> args = sourceIds.stream()
+                .distinct()
+                .map(id -> new Object[]{UuidBytes.toBytes(id)})
+                .toList();
+        jdbcTemplate.batchUpdate(DELETE_BY_SOURCE_SQL, args);
+        jdbcTemplate.batchUpdate(insertSql, args);
+    }
+}
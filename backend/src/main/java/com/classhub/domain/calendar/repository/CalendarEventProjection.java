@@ -0,0 +1,61 @@
+package com.classhub.domain.calendar.repository;
+
+import com.classhub.domain.calendar.model.CalendarEventType;
+import com.classhub.domain.member.model.MemberRole;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public interface CalendarEventProjection {
+
+    UUID getSourceId();
+
+    CalendarEventType getEventType();
+
+    UUID getCourseId();
+
+    String getCourseName();
+
+    UUID getStudentCourseRecordId();
+
+    LocalDate getEventDate();
+
+    String getTitle();
+
+    String getContent();
+
+    UUID getWriterId();
+
+    String getWriterName();
+
+    MemberRole getWriterRole();
+
+    LocalDateTime getSourceCreatedAt();
+
+    UUID getClinicSessionId();
+
+    UUID getSlotId();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+
+    boolean isCanceled();
+
+    UUID getClinicRecordId();
+
+    String getRecordTitle();
+
+    String getRecordContent();
+
+    String getRecordHomeworkProgress();
+
+    UUID getRecordWriterId();
+
+    String getRecordWriterName();
+
+    MemberRole getRecordWriterRole();
+
+    LocalDateTime getRecordCreatedAt();
+}
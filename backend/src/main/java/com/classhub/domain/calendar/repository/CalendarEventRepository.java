@@ -0,0 +1,59 @@
+package com.classhub.domain.calendar.repository;
+
+import com.classhub.domain.calendar.model.CalendarEvent;
+import com.classhub.domain.calendar.model.CalendarEventType;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CalendarEventRepository extends JpaRepository<CalendarEvent, UUID> {
+
+    /**
+     * 학생 월간 캘린더 한 달치. 수업 진도는 강좌 기준, 개인 진도/클리닉은 학생 기록 기준으로 (키, 날짜) 인덱스 범위를 읽고
+     * 강좌명/작성자는 기본키 조인으로 붙인다.
+     */
+    @Query("""
+            SELECT ce.sourceId AS sourceId,
+                   ce.eventType AS eventType,
+                   ce.courseId AS courseId,
+                   c.name AS courseName,
+                   ce.studentCourseRecordId AS studentCourseRecordId,
+                   ce.eventDate AS eventDate,
+                   ce.title AS title,
+                   ce.content AS content,
+                   ce.writerId AS writerId,
+                   w.name AS writerName,
+                   w.role AS writerRole,
+                   ce.sourceCreatedAt AS sourceCreatedAt,
+                   ce.clinicSessionId AS clinicSessionId,
+                   ce.slotId AS slotId,
+                   ce.startTime AS startTime,
+                   ce.endTime AS endTime,
+                   ce.canceled AS canceled,
+                   ce.clinicRecordId AS clinicRecordId,
+                   ce.recordTitle AS recordTitle,
+                   ce.recordContent AS recordContent,
+                   ce.recordHomeworkProgress AS recordHomeworkProgress,
+                   ce.recordWriterId AS recordWriterId,
+                   rw.name AS recordWriterName,
+                   rw.role AS recordWriterRole,
+                   ce.recordCreatedAt AS recordCreatedAt
+            FROM CalendarEvent ce
+            JOIN Course c ON c.id = ce.courseId
+            LEFT JOIN Member w ON w.id = ce.writerId
+            LEFT JOIN Member rw ON rw.id = ce.recordWriterId
+            WHERE ce.eventDate BETWEEN :startDate AND :endDate
+              AND ((ce.eventType = :sharedType AND ce.courseId IN :courseIds)
+                   OR ce.studentCourseRecordId IN :recordIds)
+            ORDER BY ce.eventDate ASC, ce.sourceId ASC
+            """)
+    List<CalendarEventProjection> findMonthEvents(@Param("courseIds") Collection<UUID> courseIds,
+                                                  @Param("recordIds") Collection<UUID> recordIds,
+                                                  @Param("sharedType") CalendarEventType sharedType,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,73 @@
+package com.classhub.domain.clinic.attendance.application;
+
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
+import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
+import com.classhub.domain.clinic.session.repository.ClinicSessionRepository;
+import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.RsCode;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 클리닉 좌석 예약/반납. 세션 행의 reserved_count를 조건부 UPDATE로 증감하고, 중복 출석은 유니크 제약으로 막는다.
+ * 세션 버전 충돌이 없어서 재시도 없이 한 번에 성공(예약) 또는 마감/중복으로 끝난다.
+ */
+@Component
+@Transactional
+@RequiredArgsConstructor
+public class ClinicAttendanceBooking {
+
+    private final ClinicSessionRepository clinicSessionRepository;
+    private final ClinicAttendanceRepository clinicAttendanceRepository;
+    private final CalendarEventJdbcRepository calendarEventJdbcRepository;
+
+    public ClinicAttendance book(UUID sessionId, UUID recordId) {
+        return bookIfAvailable(sessionId, recordId)
+                .orElseThrow(RsCode.CLINIC_SESSION_FULL::toException);
+    }
+
+    /**
+     * 자리가 없으면 예외 대신 빈 값을 돌려준다. 대기열 승격처럼 마감이 정상 흐름인 호출에서
+     * 바깥 트랜잭션을 rollback-only로 만들지 않기 위해 쓴다.
+     */
+    public Optional<ClinicAttendance> bookIfAvailable(UUID sessionId, UUID recordId) {
+        if (clinicSessionRepository.tryReserveSeat(sessionId) == 0) {
+            return Optional.empty();
+        }
+        ClinicAttendance attendance = ClinicAttendance.builder()
+                .clinicSessionId(sessionId)
+                .studentCourseRecordId(recordId)
+                .build();
+        ClinicAttendance saved;
+        try {
+            saved = clinicAttendanceRepository.saveAndFlush(attendance);
+        } catch (DataIntegrityViolationException ex) {
+            throw new BusinessException(RsCode.CLINIC_ATTENDANCE_DUPLICATED);
+        }
+        calendarEventJdbcRepository.syncClinicAttendance(saved.getId());
+        return Optional.of(saved);
+    }
+
+    public void cancel(ClinicAttendance attendance) {
+        clinicAttendanceRepository.delete(attendance);
+        clinicSessionRepository.releaseSeat(attendance.getClinicSessionId());
+        calendarEventJdbcRepository.syncClinicAttendance(attendance.getId());
+    }
+
+    public int cancelUpcoming(UUID recordId, LocalDateTime now) {
+        clinicSessionRepository.releaseUpcomingSeats(recordId, now.toLocalDate(), now.toLocalTime());
+        int deleted = clinicAttendanceRepository.deleteUpcomingAttendances(
+                recordId,
+                now.toLocalDate(),
+                now.toLocalTime()
+        );
+        calendarEventJdbcRepository.syncClinicByRecord(recordId, now.toLocalDate());
+        return deleted;
+    }
+}
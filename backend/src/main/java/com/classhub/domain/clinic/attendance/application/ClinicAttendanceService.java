@@ -1,33 +1,46 @@
 package com.classhub.domain.clinic.attendance.application;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.clinic.permission.application.ClinicPermissionValidator;
 import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceDetailProjection;
+import com.classhub.domain.clinic.attendance.support.ClinicAttendanceBulkPlan;
 import com.classhub.domain.clinic.attendance.support.ClinicAttendancePolicy;
+import com.classhub.domain.clinic.attendance.support.StudentWeeklyOccupancy;
+import com.classhub.domain.clinic.attendance.dto.request.ClinicAttendanceBulkRequest;
+import com.classhub.domain.clinic.attendance.dto.response.ClinicAttendanceBulkResponse;
 import com.classhub.domain.clinic.attendance.dto.response.ClinicAttendanceResponse;
 import com.classhub.domain.clinic.attendance.dto.response.StudentClinicAttendanceListResponse;
 import com.classhub.domain.clinic.attendance.dto.response.StudentClinicAttendanceResponse;
 import com.classhub.domain.clinic.attendance.dto.response.ClinicAttendanceDetailResponse;
 import com.classhub.domain.clinic.session.model.ClinicSession;
 import com.classhub.domain.clinic.session.repository.ClinicSessionRepository;
+import com.classhub.domain.clinic.waitlist.application.ClinicWaitlistService;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.domain.member.model.MemberRole;
 import com.classhub.domain.studentcourse.model.StudentCourseRecord;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
+import com.classhub.global.entity.BulkInserter;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
 import com.classhub.global.util.KstTime;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -42,6 +55,10 @@ public class ClinicAttendanceService {
     private final StudentCourseRecordRepository studentCourseRecordRepository;
     private final CourseRepository courseRepository;
     private final ClinicPermissionValidator clinicPermissionValidator;
+    private final ClinicAttendanceBooking clinicAttendanceBooking;
+    private final ClinicWaitlistService clinicWaitlistService;
+    private final CalendarEventJdbcRepository calendarEventJdbcRepository;
+    private final BulkInserter bulkInserter;
 
     @Transactional(readOnly = true)
     public List<ClinicAttendanceDetailResponse> getAttendanceDetails(MemberPrincipal principal, UUID sessionId) {
@@ -66,14 +83,14 @@ public class ClinicAttendanceService {
     }
 
     public ClinicAttendance addAttendance(MemberPrincipal principal, UUID sessionId, UUID recordId) {
-        ClinicSession session = loadSessionForUpdate(sessionId);
+        ClinicSession session = loadSession(sessionId);
         ensureStaffAccess(principal, session);
         ensureSessionWritable(session);
         StudentCourseRecord record = loadActiveRecord(recordId);
         Course course = loadCourse(record.getCourseId());
         ensureRecordMatchesSession(course, session);
-        ensureAttendanceCreatable(session, record.getId());
-        return saveAttendance(sessionId, record.getId());
+        ensureAttendanceCreatable(session, record, null);
+        return clinicAttendanceBooking.book(sessionId, record.getId());
     }
 
     public void deleteAttendance(MemberPrincipal principal, UUID attendanceId) {
@@ -85,7 +102,100 @@ public class ClinicAttendanceService {
         ClinicSession session = loadSession(attendance.getClinicSessionId());
         ensureStaffAccess(principal, session);
         ensureSessionWritable(session);
-        clinicAttendanceRepository.delete(attendance);
+        clinicAttendanceBooking.cancel(attendance);
+        clinicWaitlistService.promoteNext(session);
+    }
+
+    /**
+     * 스태프 일괄 출석 추가/삭제/이동. 세션(잠금)/기록/수업/기존 출석/학생별 출석 시간을 집합 조회로 한 번씩 읽고
+     * 메모리에서 요청 순서대로 판정한 뒤 일괄 삭제/삽입과 세션별 reserved_count 증감으로 반영한다.
+     * 항목별 실패는 전체를 롤백하지 않고 결과에 RsCode로 담는다.
+     */
+    public ClinicAttendanceBulkResponse bulkUpdateAttendances(MemberPrincipal principal,
+                                                              List<ClinicAttendanceBulkRequest.Operation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new BusinessException(RsCode.BAD_REQUEST);
+        }
+        Set<UUID> sessionIds = new HashSet<>();
+        Set<UUID> recordIds = new HashSet<>();
+        for (ClinicAttendanceBulkRequest.Operation operation : operations) {
+            sessionIds.add(operation.sessionId());
+            if (operation.toSessionId() != null) {
+                sessionIds.add(operation.toSessionId());
+            }
+            recordIds.add(operation.studentCourseRecordId());
+        }
+        Map<UUID, ClinicSession> sessionMap = clinicSessionRepository.findAllByIdInForUpdate(sessionIds).stream()
+                .collect(Collectors.toMap(ClinicSession::getId, session -> session));
+        Map<UUID, RsCode> accessByTeacher = resolveStaffAccess(principal, sessionMap.values());
+        Map<UUID, StudentCourseRecord> recordMap = studentCourseRecordRepository.findAllById(recordIds).stream()
+                .filter(record -> !record.isDeleted())
+                .collect(Collectors.toMap(StudentCourseRecord::getId, record -> record));
+        Map<UUID, Course> courseMap = courseRepository.findAllById(
+                        recordMap.values().stream().map(StudentCourseRecord::getCourseId).distinct().toList()
+                ).stream()
+                .collect(Collectors.toMap(Course::getId, course -> course));
+        ClinicAttendanceBulkPlan plan = new ClinicAttendanceBulkPlan(
+                sessionMap,
+                clinicAttendanceRepository.findByClinicSessionIdInAndStudentCourseRecordIdIn(sessionIds, recordIds),
+                loadOccupancy(sessionMap.values(), recordMap.values())
+        );
+
+        LocalDateTime now = LocalDateTime.now(KstTime.clock());
+        List<ClinicAttendance> planned = new ArrayList<>(operations.size());
+        List<RsCode> failures = new ArrayList<>(operations.size());
+        for (ClinicAttendanceBulkRequest.Operation operation : operations) {
+            try {
+                planned.add(planBulkOperation(plan, operation, sessionMap, accessByTeacher, recordMap, courseMap, now));
+                failures.add(null);
+            } catch (BusinessException ex) {
+                planned.add(null);
+                failures.add(ex.getRsCode());
+            }
+        }
+
+        if (!plan.removedAttendances().isEmpty()) {
+            clinicAttendanceRepository.deleteAllInBatch(plan.removedAttendances());
+        }
+        List<ClinicAttendance> added = plan.addedAttendances();
+        if (!added.isEmpty()) {
+            bulkInserter.insertAll(added);
+        }
+        Map<UUID, Integer> deltas = plan.reservedDeltas();
+        deltas.forEach(clinicSessionRepository::addReservedCount);
+        calendarEventJdbcRepository.syncClinicAttendances(
+                Stream.concat(plan.removedAttendances().stream(), added.stream())
+                        .map(ClinicAttendance::getId)
+                        .toList()
+        );
+        deltas.forEach((sessionId, delta) -> {
+            for (int freed = 0; freed < -delta; freed++) {
+                if (clinicWaitlistService.promoteNext(sessionMap.get(sessionId)).isEmpty()) {
+                    break;
+                }
+            }
+        });
+
+        List<ClinicAttendanceBulkResponse.Result> results = new ArrayList<>(operations.size());
+        for (int index = 0; index < operations.size(); index++) {
+            ClinicAttendanceBulkRequest.Operation operation = operations.get(index);
+            RsCode failure = failures.get(index);
+            ClinicAttendance attendance = planned.get(index);
+            // 같은 요청 안에서 나중 항목이 지운 출석은 저장되지 않았으므로 id가 없다.
+            UUID attendanceId = attendance == null ? null : attendance.getId();
+            results.add(new ClinicAttendanceBulkResponse.Result(
+                    index,
+                    operation.type(),
+                    operation.sessionId(),
+                    operation.toSessionId(),
+                    operation.studentCourseRecordId(),
+                    failure == null,
+                    failure == null ? RsCode.SUCCESS.name() : failure.name(),
+                    failure == null ? RsCode.SUCCESS.getMessage() : failure.getMessage(),
+                    attendanceId
+            ));
+        }
+        return ClinicAttendanceBulkResponse.from(results);
     }
 
     public ClinicAttendance requestAttendance(MemberPrincipal principal, UUID sessionId, UUID courseId) {
@@ -93,7 +203,7 @@ public class ClinicAttendanceService {
         if (courseId == null) {
             throw new BusinessException(RsCode.BAD_REQUEST);
         }
-        ClinicSession session = loadSessionForUpdate(sessionId);
+        ClinicSession session = loadSession(sessionId);
         ensureSessionActive(session);
         ensureSessionNotLocked(session);
         StudentCourseRecord record = studentCourseRecordRepository
@@ -101,8 +211,8 @@ public class ClinicAttendanceService {
                 .orElseThrow(RsCode.STUDENT_COURSE_RECORD_NOT_FOUND::toException);
         Course course = loadCourse(record.getCourseId());
         ensureRecordMatchesSession(course, session);
-        ensureAttendanceCreatable(session, record.getId());
-        return saveAttendance(sessionId, record.getId());
+        ensureAttendanceCreatable(session, record, null);
+        return clinicAttendanceBooking.book(sessionId, record.getId());
     }
 
     public ClinicAttendance moveAttendance(MemberPrincipal principal, UUID fromSessionId, UUID toSessionId) {
@@ -111,7 +221,7 @@ public class ClinicAttendanceService {
             throw new BusinessException(RsCode.BAD_REQUEST);
         }
         ClinicSession fromSession = loadSession(fromSessionId);
-        ClinicSession toSession = loadSessionForUpdate(toSessionId);
+        ClinicSession toSession = loadSession(toSessionId);
         ensureSessionActive(fromSession);
         ensureSessionActive(toSession);
 
@@ -135,9 +245,11 @@ public class ClinicAttendanceService {
         Course course = loadCourse(record.getCourseId());
         ensureRecordMatchesSession(course, toSession);
 
-        ensureAttendanceCreatable(toSession, record.getId());
-        clinicAttendanceRepository.delete(attendance);
-        return saveAttendance(toSessionId, record.getId());
+        ensureAttendanceCreatable(toSession, record, fromSessionId);
+        clinicAttendanceBooking.cancel(attendance);
+        ClinicAttendance moved = clinicAttendanceBooking.book(toSessionId, record.getId());
+        clinicWaitlistService.promoteNext(fromSession);
+        return moved;
     }
 
     public void cancelStudentAttendance(MemberPrincipal principal, UUID attendanceId) {
@@ -159,7 +271,8 @@ public class ClinicAttendanceService {
         if (!ClinicAttendancePolicy.isMoveAllowed(session, LocalDateTime.now(KstTime.clock()))) {
             throw new BusinessException(RsCode.CLINIC_ATTENDANCE_LOCKED);
         }
-        clinicAttendanceRepository.delete(attendance);
+        clinicAttendanceBooking.cancel(attendance);
+        clinicWaitlistService.promoteNext(session);
     }
 
     @Transactional(readOnly = true)
@@ -199,14 +312,6 @@ public class ClinicAttendanceService {
                 .orElseThrow(RsCode.CLINIC_SESSION_NOT_FOUND::toException);
     }
 
-    private ClinicSession loadSessionForUpdate(UUID sessionId) {
-        if (sessionId == null) {
-            throw new BusinessException(RsCode.BAD_REQUEST);
-        }
-        return clinicSessionRepository.findByIdAndDeletedAtIsNullForUpdate(sessionId)
-                .orElseThrow(RsCode.CLINIC_SESSION_NOT_FOUND::toException);
-    }
-
     private StudentCourseRecord loadActiveRecord(UUID recordId) {
         if (recordId == null) {
             throw new BusinessException(RsCode.BAD_REQUEST);
@@ -240,6 +345,109 @@ public class ClinicAttendanceService {
         return clinicAttendanceRepository.findByStudentCourseRecordIdInAndDateRange(recordIds, startDate, endDate);
     }
 
+    private ClinicAttendance planBulkOperation(ClinicAttendanceBulkPlan plan,
+                                               ClinicAttendanceBulkRequest.Operation operation,
+                                               Map<UUID, ClinicSession> sessionMap,
+                                               Map<UUID, RsCode> accessByTeacher,
+                                               Map<UUID, StudentCourseRecord> recordMap,
+                                               Map<UUID, Course> courseMap,
+                                               LocalDateTime now) {
+        ClinicSession session = ensureBulkSessionWritable(operation.sessionId(), sessionMap, accessByTeacher, now);
+        UUID recordId = operation.studentCourseRecordId();
+        return switch (operation.type()) {
+            case ADD -> {
+                ensureBulkRecordMatches(recordId, session, recordMap, courseMap);
+                yield plan.add(session.getId(), recordId);
+            }
+            case REMOVE -> {
+                plan.remove(session.getId(), recordId);
+                yield null;
+            }
+            case MOVE -> {
+                if (operation.toSessionId() == null) {
+                    throw new BusinessException(RsCode.BAD_REQUEST);
+                }
+                ClinicSession toSession =
+                        ensureBulkSessionWritable(operation.toSessionId(), sessionMap, accessByTeacher, now);
+                ensureBulkRecordMatches(recordId, toSession, recordMap, courseMap);
+                yield plan.move(session.getId(), toSession.getId(), recordId);
+            }
+        };
+    }
+
+    private ClinicSession ensureBulkSessionWritable(UUID sessionId,
+                                                    Map<UUID, ClinicSession> sessionMap,
+                                                    Map<UUID, RsCode> accessByTeacher,
+                                                    LocalDateTime now) {
+        ClinicSession session = sessionMap.get(sessionId);
+        if (session == null) {
+            throw new BusinessException(RsCode.CLINIC_SESSION_NOT_FOUND);
+        }
+        RsCode denied = accessByTeacher.get(session.getTeacherMemberId());
+        if (denied != null) {
+            throw new BusinessException(denied);
+        }
+        ensureSessionActive(session);
+        if (ClinicAttendancePolicy.isLocked(session, now)) {
+            throw new BusinessException(RsCode.CLINIC_ATTENDANCE_LOCKED);
+        }
+        return session;
+    }
+
+    private void ensureBulkRecordMatches(UUID recordId,
+                                         ClinicSession session,
+                                         Map<UUID, StudentCourseRecord> recordMap,
+                                         Map<UUID, Course> courseMap) {
+        StudentCourseRecord record = recordMap.get(recordId);
+        if (record == null) {
+            throw new BusinessException(RsCode.STUDENT_COURSE_RECORD_NOT_FOUND);
+        }
+        Course course = courseMap.get(record.getCourseId());
+        if (course == null) {
+            throw new BusinessException(RsCode.COURSE_NOT_FOUND);
+        }
+        ensureRecordMatchesSession(course, session);
+    }
+
+    /**
+     * 세션 담당 선생님별로 권한을 한 번만 확인한다. 값이 null이면 접근 가능, 아니면 실패 코드다.
+     */
+    private Map<UUID, RsCode> resolveStaffAccess(MemberPrincipal principal, Collection<ClinicSession> sessions) {
+        Map<UUID, RsCode> accessByTeacher = new HashMap<>();
+        sessions.stream()
+                .map(ClinicSession::getTeacherMemberId)
+                .distinct()
+                .forEach(teacherId -> {
+                    try {
+                        clinicPermissionValidator.ensureStaffAccess(principal, teacherId);
+                        accessByTeacher.put(teacherId, null);
+                    } catch (BusinessException ex) {
+                        accessByTeacher.put(teacherId, ex.getRsCode());
+                    }
+                });
+        return accessByTeacher;
+    }
+
+    /**
+     * 기록들의 학생이 세션 날짜 범위에 가진 모든 출석 시간을 한 번에 읽는다. 다른 수업의 출석도 포함한다.
+     */
+    private StudentWeeklyOccupancy loadOccupancy(Collection<ClinicSession> sessions,
+                                                 Collection<StudentCourseRecord> records) {
+        if (sessions.isEmpty() || records.isEmpty()) {
+            return new StudentWeeklyOccupancy(records, List.of());
+        }
+        LocalDate startDate = sessions.stream().map(ClinicSession::getDate).min(LocalDate::compareTo).orElseThrow();
+        LocalDate endDate = sessions.stream().map(ClinicSession::getDate).max(LocalDate::compareTo).orElseThrow();
+        List<UUID> studentIds = records.stream()
+                .map(StudentCourseRecord::getStudentMemberId)
+                .distinct()
+                .toList();
+        return new StudentWeeklyOccupancy(
+                records,
+                clinicAttendanceRepository.findOccupancyByStudentIdsAndDateRange(studentIds, startDate, endDate)
+        );
+    }
+
     private void ensureStaffAccess(MemberPrincipal principal, ClinicSession session) {
         clinicPermissionValidator.ensureStaffAccess(principal, session.getTeacherMemberId());
     }
@@ -257,23 +465,13 @@ public class ClinicAttendanceService {
         }
     }
 
-    private void ensureAttendanceCreatable(ClinicSession session, UUID recordId) {
+    private void ensureAttendanceCreatable(ClinicSession session,
+                                           StudentCourseRecord record,
+                                           UUID ignoredSessionId) {
         ensureSessionActive(session);
         ensureSessionNotLocked(session);
-        if (clinicAttendanceRepository.existsByClinicSessionIdAndStudentCourseRecordId(session.getId(), recordId)) {
-            throw new BusinessException(RsCode.CLINIC_ATTENDANCE_DUPLICATED);
-        }
-        long currentCount = clinicAttendanceRepository.countByClinicSessionId(session.getId());
-        if (currentCount >= session.getCapacity()) {
-            throw new BusinessException(RsCode.CLINIC_SESSION_FULL);
-        }
-        long overlap = clinicAttendanceRepository.countOverlappingAttendances(
-                recordId,
-                session.getDate(),
-                session.getStartTime(),
-                session.getEndTime()
-        );
-        if (overlap > 0) {
+        StudentWeeklyOccupancy occupancy = loadOccupancy(List.of(session), List.of(record));
+        if (occupancy.overlaps(record.getId(), session, ignoredSessionId)) {
             throw new BusinessException(RsCode.CLINIC_ATTENDANCE_TIME_OVERLAP);
         }
     }
@@ -301,14 +499,6 @@ public class ClinicAttendanceService {
                 && !toSession.getDate().isAfter(week.endDate());
     }
 
-    private ClinicAttendance saveAttendance(UUID sessionId, UUID recordId) {
-        ClinicAttendance attendance = ClinicAttendance.builder()
-                .clinicSessionId(sessionId)
-                .studentCourseRecordId(recordId)
-                .build();
-        return clinicAttendanceRepository.save(attendance);
-    }
-
     private boolean isDefaultAttendance(StudentCourseRecord record, ClinicSession session) {
         UUID defaultSlotId = record.getDefaultClinicSlotId();
         return defaultSlotId != null && Objects.equals(defaultSlotId, session.getSlotId());
@@ -0,0 +1,24 @@
+package com.classhub.domain.clinic.attendance.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record ClinicAttendanceBulkRequest(
+        @NotEmpty @Size(max = 200) List<@Valid @NotNull Operation> operations
+) {
+
+    /**
+     * MOVE는 sessionId에서 toSessionId로 옮긴다. ADD/REMOVE에서는 toSessionId를 쓰지 않는다.
+     */
+    public record Operation(
+            @NotNull ClinicAttendanceBulkType type,
+            @NotNull UUID sessionId,
+            @NotNull UUID studentCourseRecordId,
+            UUID toSessionId
+    ) {
+    }
+}
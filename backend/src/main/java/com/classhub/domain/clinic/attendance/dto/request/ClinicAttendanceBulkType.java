@@ -0,0 +1,7 @@
+package com.classhub.domain.clinic.attendance.dto.request;
+
+public enum ClinicAttendanceBulkType {
+    ADD,
+    REMOVE,
+    MOVE
+}
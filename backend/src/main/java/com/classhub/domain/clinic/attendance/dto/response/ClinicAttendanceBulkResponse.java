@@ -0,0 +1,33 @@
+package com.classhub.domain.clinic.attendance.dto.response;
+
+import com.classhub.domain.clinic.attendance.dto.request.ClinicAttendanceBulkType;
+import java.util.List;
+import java.util.UUID;
+
+public record ClinicAttendanceBulkResponse(
+        int successCount,
+        int failureCount,
+        List<Result> results
+) {
+
+    public static ClinicAttendanceBulkResponse from(List<Result> results) {
+        int successCount = (int) results.stream().filter(Result::success).count();
+        return new ClinicAttendanceBulkResponse(successCount, results.size() - successCount, results);
+    }
+
+    /**
+     * 요청 순서(index)별 처리 결과. 실패한 항목은 code에 RsCode 이름이 담기고 attendanceId는 null이다.
+     */
+    public record Result(
+            int index,
+            ClinicAttendanceBulkType type,
+            UUID sessionId,
+            UUID toSessionId,
+            UUID studentCourseRecordId,
+            boolean success,
+            String code,
+            String message,
+            UUID attendanceId
+    ) {
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -16,6 +17,12 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(
         name = "clinic_attendance",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_clinic_attendance_session_record",
+                        columnNames = {"clinic_session_id", "student_course_record_id"}
+                )
+        },
         indexes = {
                 @Index(name = "idx_clinic_attendance_session", columnList = "clinic_session_id"),
                 @Index(name = "idx_clinic_attendance_student", columnList = "student_course_record_id")
@@ -0,0 +1,20 @@
+package com.classhub.domain.clinic.attendance.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public interface ClinicAttendanceOccupancyProjection {
+
+    UUID getClinicSessionId();
+
+    UUID getStudentCourseRecordId();
+
+    UUID getStudentMemberId();
+
+    LocalDate getDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
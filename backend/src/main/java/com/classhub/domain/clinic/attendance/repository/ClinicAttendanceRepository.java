@@ -3,6 +3,7 @@ package com.classhub.domain.clinic.attendance.repository;
 import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +20,9 @@ public interface ClinicAttendanceRepository extends JpaRepository<ClinicAttendan
 
     List<ClinicAttendance> findByClinicSessionId(UUID clinicSessionId);
 
+    List<ClinicAttendance> findByClinicSessionIdInAndStudentCourseRecordIdIn(Collection<UUID> clinicSessionIds,
+                                                                            Collection<UUID> recordIds);
+
     Optional<ClinicAttendance> findByClinicSessionIdAndStudentCourseRecordIdIn(UUID clinicSessionId,
                                                                                List<UUID> recordIds);
 
@@ -33,6 +37,28 @@ public interface ClinicAttendanceRepository extends JpaRepository<ClinicAttendan
             @Param("sessionIds") List<UUID> sessionIds
     );
 
+    /**
+     * 학생들의 모든 수강 기록에 걸친 기간 내 출석 시간. 시간 겹침 판정은 학생 단위로 한다.
+     */
+    @Query("""
+            SELECT ca.clinicSessionId AS clinicSessionId,
+                   ca.studentCourseRecordId AS studentCourseRecordId,
+                   scr.studentMemberId AS studentMemberId,
+                   cs.date AS date,
+                   cs.startTime AS startTime,
+                   cs.endTime AS endTime
+            FROM ClinicAttendance ca
+            JOIN ClinicSession cs ON cs.id = ca.clinicSessionId
+            JOIN StudentCourseRecord scr ON scr.id = ca.studentCourseRecordId
+            WHERE scr.studentMemberId IN :studentIds
+              AND cs.date BETWEEN :startDate AND :endDate
+            """)
+    List<ClinicAttendanceOccupancyProjection> findOccupancyByStudentIdsAndDateRange(
+            @Param("studentIds") List<UUID> studentIds,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     @Query("""
             SELECT ca
             FROM ClinicAttendance ca
@@ -111,18 +137,4 @@ public interface ClinicAttendanceRepository extends JpaRepository<ClinicAttendan
     int deleteUpcomingAttendances(@Param("recordId") UUID recordId,
                                   @Param("date") LocalDate date,
                                   @Param("time") LocalTime time);
-
-    @Query("""
-            SELECT COUNT(ca)
-            FROM ClinicAttendance ca
-            JOIN ClinicSession cs ON cs.id = ca.clinicSessionId
-            WHERE ca.studentCourseRecordId = :recordId
-              AND cs.date = :date
-              AND cs.startTime < :endTime
-              AND cs.endTime > :startTime
-            """)
-    long countOverlappingAttendances(@Param("recordId") UUID recordId,
-                                     @Param("date") LocalDate date,
-                                     @Param("startTime") LocalTime startTime,
-                                     @Param("endTime") LocalTime endTime);
 }
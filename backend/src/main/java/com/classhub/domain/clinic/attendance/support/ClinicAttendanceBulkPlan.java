@@ -0,0 +1,129 @@
+package com.classhub.domain.clinic.attendance.support;
+
+import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
+import com.classhub.domain.clinic.session.model.ClinicSession;
+import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.RsCode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 스태프 일괄 출석 변경을 메모리에서 판정한다. 미리 읽어 둔 세션(잠금 조회)/출석/{@link StudentWeeklyOccupancy}를 상태로 두고,
+ * 요청 순서대로 적용하므로 앞 항목의 삭제가 뒤 항목의 정원이나 시간 겹침 판정에 바로 반영된다.
+ * 실제 DB 반영(일괄 삭제/삽입, reserved_count 증감)은 {@link #removedAttendances()}, {@link #addedAttendances()},
+ * {@link #reservedDeltas()} 결과로 호출하는 쪽에서 한 번에 수행한다.
+ */
+public class ClinicAttendanceBulkPlan {
+
+    private final Map<UUID, ClinicSession> sessions;
+    private final Map<UUID, Integer> reservedCounts = new HashMap<>();
+    private final Map<SessionRecord, ClinicAttendance> attendances = new HashMap<>();
+    private final StudentWeeklyOccupancy occupancy;
+    private final Set<ClinicAttendance> added = new LinkedHashSet<>();
+    private final List<ClinicAttendance> removed = new ArrayList<>();
+
+    public ClinicAttendanceBulkPlan(Map<UUID, ClinicSession> sessions,
+                                    List<ClinicAttendance> existingAttendances,
+                                    StudentWeeklyOccupancy occupancy) {
+        this.sessions = sessions;
+        sessions.values().forEach(session -> reservedCounts.put(session.getId(), session.getReservedCount()));
+        existingAttendances.forEach(attendance -> attendances.put(
+                new SessionRecord(attendance.getClinicSessionId(), attendance.getStudentCourseRecordId()),
+                attendance
+        ));
+        this.occupancy = occupancy;
+    }
+
+    public ClinicAttendance add(UUID sessionId, UUID recordId) {
+        ensureAddable(sessionId, recordId, null);
+        return apply(sessionId, recordId);
+    }
+
+    public void remove(UUID sessionId, UUID recordId) {
+        ClinicAttendance attendance = attendances.get(new SessionRecord(sessionId, recordId));
+        if (attendance == null) {
+            throw new BusinessException(RsCode.CLINIC_ATTENDANCE_NOT_FOUND);
+        }
+        release(attendance);
+    }
+
+    public ClinicAttendance move(UUID fromSessionId, UUID toSessionId, UUID recordId) {
+        if (Objects.equals(fromSessionId, toSessionId)) {
+            throw new BusinessException(RsCode.BAD_REQUEST);
+        }
+        ClinicAttendance attendance = attendances.get(new SessionRecord(fromSessionId, recordId));
+        if (attendance == null) {
+            throw new BusinessException(RsCode.CLINIC_ATTENDANCE_NOT_FOUND);
+        }
+        ensureAddable(toSessionId, recordId, fromSessionId);
+        release(attendance);
+        return apply(toSessionId, recordId);
+    }
+
+    public List<ClinicAttendance> removedAttendances() {
+        return removed;
+    }
+
+    public List<ClinicAttendance> addedAttendances() {
+        return List.copyOf(added);
+    }
+
+    /**
+     * 세션별 reserved_count 증감량. 변화가 없는 세션은 포함하지 않는다.
+     */
+    public Map<UUID, Integer> reservedDeltas() {
+        Map<UUID, Integer> deltas = new HashMap<>();
+        reservedCounts.forEach((sessionId, count) -> {
+            int delta = count - sessions.get(sessionId).getReservedCount();
+            if (delta != 0) {
+                deltas.put(sessionId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    private void ensureAddable(UUID sessionId, UUID recordId, UUID ignoredSessionId) {
+        ClinicSession session = sessions.get(sessionId);
+        if (attendances.containsKey(new SessionRecord(sessionId, recordId))) {
+            throw new BusinessException(RsCode.CLINIC_ATTENDANCE_DUPLICATED);
+        }
+        if (occupancy.overlaps(recordId, session, ignoredSessionId)) {
+            throw new BusinessException(RsCode.CLINIC_ATTENDANCE_TIME_OVERLAP);
+        }
+        if (reservedCounts.get(sessionId) >= session.getCapacity()) {
+            throw new BusinessException(RsCode.CLINIC_SESSION_FULL);
+        }
+    }
+
+    private ClinicAttendance apply(UUID sessionId, UUID recordId) {
+        ClinicAttendance attendance = ClinicAttendance.builder()
+                .clinicSessionId(sessionId)
+                .studentCourseRecordId(recordId)
+                .build();
+        attendances.put(new SessionRecord(sessionId, recordId), attendance);
+        added.add(attendance);
+        occupancy.occupy(recordId, sessions.get(sessionId));
+        reservedCounts.merge(sessionId, 1, Integer::sum);
+        return attendance;
+    }
+
+    private void release(ClinicAttendance attendance) {
+        UUID sessionId = attendance.getClinicSessionId();
+        UUID recordId = attendance.getStudentCourseRecordId();
+        attendances.remove(new SessionRecord(sessionId, recordId));
+        if (!added.remove(attendance)) {
+            removed.add(attendance);
+        }
+        occupancy.release(recordId, sessionId);
+        reservedCounts.merge(sessionId, -1, Integer::sum);
+    }
+
+    private record SessionRecord(UUID sessionId, UUID recordId) {
+    }
+}
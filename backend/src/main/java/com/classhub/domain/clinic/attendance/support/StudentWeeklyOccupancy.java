@@ -0,0 +1,103 @@
+package com.classhub.domain.clinic.attendance.support;
+
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceOccupancyProjection;
+import com.classhub.domain.clinic.session.model.ClinicSession;
+import com.classhub.domain.studentcourse.model.StudentCourseRecord;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 학생별 한 주 클리닉 출석 시간. 학생의 모든 수강 기록 출석을 한 번에 읽어 두고,
+ * 요청이나 배치 파티션 안의 중복/시간 겹침 판정을 추가 조회 없이 메모리에서 처리한다.
+ * - 시간 겹침은 수강 기록이 아니라 학생 단위로 본다 (다른 수업의 클리닉과 겹쳐도 겹침)
+ * - 중복 출석은 지금처럼 (세션, 수강 기록) 단위로 본다
+ * - {@link #occupy}/{@link #release}로 판정 결과를 바로 반영하므로 같은 요청 안의 뒤 항목이 앞 항목을 본다
+ */
+public class StudentWeeklyOccupancy {
+
+    private final Map<UUID, UUID> studentByRecord = new HashMap<>();
+    private final Map<UUID, List<Occupancy>> occupancyByStudent = new HashMap<>();
+
+    /**
+     * occupancies는 records 학생들의 출석 시간이어야 한다. records에 없는 수강 기록의 출석도
+     * 조회 결과의 studentMemberId로 학생에 묶는다.
+     */
+    public StudentWeeklyOccupancy(Collection<StudentCourseRecord> records,
+                                  List<ClinicAttendanceOccupancyProjection> occupancies) {
+        records.forEach(record -> studentByRecord.put(record.getId(), record.getStudentMemberId()));
+        occupancies.forEach(occupancy -> {
+            studentByRecord.putIfAbsent(occupancy.getStudentCourseRecordId(), occupancy.getStudentMemberId());
+            occupancyByStudent.computeIfAbsent(occupancy.getStudentMemberId(), id -> new ArrayList<>())
+                    .add(new Occupancy(
+                            occupancy.getClinicSessionId(),
+                            occupancy.getStudentCourseRecordId(),
+                            occupancy.getDate(),
+                            occupancy.getStartTime(),
+                            occupancy.getEndTime()
+                    ));
+        });
+    }
+
+    public boolean isBooked(UUID recordId, UUID sessionId) {
+        return occupied(recordId).stream()
+                .anyMatch(occupancy -> occupancy.recordId().equals(recordId)
+                        && occupancy.sessionId().equals(sessionId));
+    }
+
+    /**
+     * 같은 학생의 다른 출석 중 session과 같은 날 시간이 겹치는 것이 있는지 본다.
+     * ignoredSessionId 출석은 제외한다 (이동 전 세션).
+     */
+    public boolean overlaps(UUID recordId, ClinicSession session, UUID ignoredSessionId) {
+        return occupied(recordId).stream()
+                .filter(occupancy -> !occupancy.sessionId().equals(ignoredSessionId))
+                .anyMatch(occupancy -> occupancy.overlaps(session));
+    }
+
+    public void occupy(UUID recordId, ClinicSession session) {
+        UUID studentId = studentByRecord.get(recordId);
+        if (studentId == null) {
+            return;
+        }
+        occupancyByStudent.computeIfAbsent(studentId, id -> new ArrayList<>())
+                .add(new Occupancy(
+                        session.getId(),
+                        recordId,
+                        session.getDate(),
+                        session.getStartTime(),
+                        session.getEndTime()
+                ));
+    }
+
+    public void release(UUID recordId, UUID sessionId) {
+        UUID studentId = studentByRecord.get(recordId);
+        List<Occupancy> occupied = studentId == null ? null : occupancyByStudent.get(studentId);
+        if (occupied != null) {
+            occupied.removeIf(occupancy -> occupancy.recordId().equals(recordId)
+                    && occupancy.sessionId().equals(sessionId));
+        }
+    }
+
+    private List<Occupancy> occupied(UUID recordId) {
+        UUID studentId = studentByRecord.get(recordId);
+        if (studentId == null) {
+            return List.of();
+        }
+        return occupancyByStudent.getOrDefault(studentId, List.of());
+    }
+
+    private record Occupancy(UUID sessionId, UUID recordId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+
+        boolean overlaps(ClinicSession session) {
+            return date.equals(session.getDate())
+                    && startTime.isBefore(session.getEndTime())
+                    && endTime.isAfter(session.getStartTime());
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.classhub.domain.clinic.attendance.web;
 
 import com.classhub.domain.clinic.attendance.application.ClinicAttendanceService;
+import com.classhub.domain.clinic.attendance.dto.request.ClinicAttendanceBulkRequest;
 import com.classhub.domain.clinic.attendance.dto.request.ClinicAttendanceCreateRequest;
 import com.classhub.domain.clinic.attendance.dto.request.ClinicAttendanceMoveRequest;
 import com.classhub.domain.clinic.attendance.dto.request.StudentClinicAttendanceRequest;
+import com.classhub.domain.clinic.attendance.dto.response.ClinicAttendanceBulkResponse;
 import com.classhub.domain.clinic.attendance.dto.response.ClinicAttendanceDetailResponse;
 import com.classhub.domain.clinic.attendance.dto.response.ClinicAttendanceResponse;
 import com.classhub.domain.clinic.attendance.dto.response.StudentClinicAttendanceListResponse;
@@ -64,6 +66,18 @@ public class ClinicAttendanceController {
         return RsData.from(RsCode.CREATED, ClinicAttendanceResponse.from(attendance));
     }
 
+    @PostMapping("/clinic-attendances/bulk")
+    @PreAuthorize("hasAnyAuthority('TEACHER', 'ASSISTANT')")
+    @Operation(summary = "클리닉 출석 일괄 추가/삭제/이동")
+    public RsData<ClinicAttendanceBulkResponse> bulkUpdateAttendances(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            @Valid @RequestBody ClinicAttendanceBulkRequest request
+    ) {
+        ClinicAttendanceBulkResponse response = clinicAttendanceService
+                .bulkUpdateAttendances(principal, request.operations());
+        return RsData.from(RsCode.SUCCESS, response);
+    }
+
     @DeleteMapping("/clinic-attendances/{attendanceId}")
     @PreAuthorize("hasAnyAuthority('TEACHER', 'ASSISTANT')")
     @Operation(summary = "클리닉 출석 삭제")
@@ -1,8 +1,18 @@
 package com.classhub.domain.clinic.batch.application;
 
-import com.classhub.domain.clinic.attendance.support.ClinicAttendancePolicy;
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceOccupancyProjection;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
+import com.classhub.domain.clinic.attendance.support.ClinicAttendancePolicy;
+import com.classhub.domain.clinic.attendance.support.StudentWeeklyOccupancy;
+import com.classhub.domain.clinic.batch.dto.ClinicBatchReport;
+import com.classhub.domain.clinic.batch.repository.ClinicBatchJdbcRepository;
+import com.classhub.domain.clinic.batch.repository.ClinicBatchJdbcRepository.AttendanceRow;
+import com.classhub.domain.clinic.batch.repository.ClinicBatchJdbcRepository.SessionRow;
+import com.classhub.domain.clinic.batch.support.ClinicAttendanceAllocator;
+import com.classhub.domain.clinic.batch.support.ClinicBatchPartition;
+import com.classhub.domain.clinic.batch.support.ClinicBatchPartitionRunner;
 import com.classhub.domain.clinic.session.model.ClinicSession;
 import com.classhub.domain.clinic.session.model.ClinicSessionType;
 import com.classhub.domain.clinic.session.repository.ClinicSessionRepository;
@@ -10,6 +20,7 @@ import com.classhub.domain.clinic.slot.model.ClinicSlot;
 import com.classhub.domain.clinic.slot.repository.ClinicSlotRepository;
 import com.classhub.domain.studentcourse.model.StudentCourseRecord;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
+import com.classhub.global.entity.BulkInserter;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
 import java.time.DayOfWeek;
@@ -18,13 +29,21 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -33,78 +52,111 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ClinicBatchService {
 
+    static final String SESSION_STEP = "clinic-session";
+    static final String ATTENDANCE_STEP = "clinic-attendance";
+    private static final int IN_CLAUSE_LIMIT = 1000;
+
     private final ClinicSlotRepository clinicSlotRepository;
     private final ClinicSessionRepository clinicSessionRepository;
     private final StudentCourseRecordRepository studentCourseRecordRepository;
     private final ClinicAttendanceRepository clinicAttendanceRepository;
+    private final ClinicBatchJdbcRepository clinicBatchJdbcRepository;
+    private final ClinicBatchPartitionRunner clinicBatchPartitionRunner;
+    private final CalendarEventJdbcRepository calendarEventJdbcRepository;
+    private final BulkInserter bulkInserter;
 
-    public List<ClinicSession> generateWeeklySessions(LocalDate baseDate) {
+    @Value("${custom.clinic.batch.chunk-size:500}")
+    private int chunkSize = 500;
+
+    /**
+     * 주간 정규 세션 생성: 주간 세션을 한 번에 읽고, 지점·선생님 파티션마다 없는 (슬롯, 날짜)만 batch insert 한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ClinicBatchReport generateWeeklySessions(LocalDate baseDate) {
         if (baseDate == null) {
             throw new BusinessException(RsCode.BAD_REQUEST);
         }
         ClinicAttendancePolicy.WeekRange weekRange = ClinicAttendancePolicy.resolveWeek(baseDate);
-        List<ClinicSession> created = new ArrayList<>();
-        for (ClinicSlot slot : clinicSlotRepository.findByDeletedAtIsNull()) {
-            if (!isSlotValid(slot)) {
-                continue;
-            }
-            LocalDate sessionDate = resolveSessionDate(weekRange, slot.getDayOfWeek());
-            if (sessionDate == null) {
-                continue;
-            }
-            boolean exists = clinicSessionRepository
-                    .findBySlotIdAndDateAndDeletedAtIsNull(slot.getId(), sessionDate)
-                    .isPresent();
-            if (exists) {
-                continue;
-            }
-            ClinicSession session = ClinicSession.builder()
-                    .slotId(slot.getId())
-                    .teacherMemberId(slot.getTeacherMemberId())
-                    .branchId(slot.getBranchId())
-                    .sessionType(ClinicSessionType.REGULAR)
-                    .creatorMemberId(null)
-                    .date(sessionDate)
-                    .startTime(slot.getStartTime())
-                    .endTime(slot.getEndTime())
-                    .capacity(slot.getDefaultCapacity())
-                    .canceled(false)
-                    .build();
-            try {
-                created.add(clinicSessionRepository.save(session));
-            } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException ex) {
-                log.warn("Clinic batch session skip: slotId={}, date={}, reason={}",
-                        slot.getId(),
-                        sessionDate,
-                        ex.getClass().getSimpleName());
-            }
-        }
-        return created;
+        Set<SlotDateKey> existing = clinicSessionRepository
+                .findSlotSessionsByDateRange(weekRange.startDate(), weekRange.endDate())
+                .stream()
+                .map(session -> new SlotDateKey(session.getSlotId(), session.getDate()))
+                .collect(Collectors.toUnmodifiableSet());
+        List<ClinicSlot> slots = clinicSlotRepository.findByDeletedAtIsNull().stream()
+                .filter(this::isSlotValid)
+                .toList();
+
+        return clinicBatchPartitionRunner.run(
+                SESSION_STEP,
+                weekRange.startDate(),
+                ClinicBatchPartition.of(slots),
+                partition -> {
+                    List<SessionRow> planned = new ArrayList<>();
+                    for (ClinicSlot slot : partition.slots()) {
+                        LocalDate sessionDate = resolveSessionDate(weekRange, slot.getDayOfWeek());
+                        if (sessionDate == null || existing.contains(new SlotDateKey(slot.getId(), sessionDate))) {
+                            continue;
+                        }
+                        planned.add(SessionRow.regular(slot, sessionDate));
+                    }
+                    return clinicBatchJdbcRepository.insertSessions(planned, chunkSize);
+                }
+        );
     }
 
-    public List<ClinicAttendance> generateWeeklyAttendances(LocalDate baseDate) {
+    /**
+     * 주간 기본 슬롯 출석 생성: 파티션마다 학생/기존 출석을 미리 읽고 정원·중복·시간 겹침을 메모리에서 판정한다.
+     * 미리 읽은 reserved_count는 그 사이 바뀔 수 있으므로, 정원 조건을 건 UPDATE로 좌석을 먼저 잡고 잡은 세션의 출석만 넣는다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ClinicBatchReport generateWeeklyAttendances(LocalDate baseDate) {
         if (baseDate == null) {
             throw new BusinessException(RsCode.BAD_REQUEST);
         }
         ClinicAttendancePolicy.WeekRange weekRange = ClinicAttendancePolicy.resolveWeek(baseDate);
-        List<ClinicAttendance> created = new ArrayList<>();
-        for (ClinicSlot slot : clinicSlotRepository.findByDeletedAtIsNull()) {
-            if (!isSlotValid(slot)) {
-                continue;
-            }
-            LocalDate sessionDate = resolveSessionDate(weekRange, slot.getDayOfWeek());
-            if (sessionDate == null) {
-                continue;
-            }
-            ClinicSession session = clinicSessionRepository
-                    .findBySlotIdAndDateAndDeletedAtIsNull(slot.getId(), sessionDate)
-                    .orElse(null);
-            if (session == null || session.isCanceled()) {
-                continue;
-            }
-            created.addAll(createAttendancesForSession(session, slot.getId()));
-        }
-        return created;
+        List<ClinicSlot> slots = clinicSlotRepository.findByDeletedAtIsNull().stream()
+                .filter(this::isSlotValid)
+                .toList();
+        Map<UUID, ClinicSlot> slotsById = slots.stream()
+                .collect(Collectors.toMap(ClinicSlot::getId, Function.identity(), (left, right) -> left));
+        Map<UUID, List<ClinicSession>> sessionsBySlot = clinicSessionRepository
+                .findSlotSessionsByDateRange(weekRange.startDate(), weekRange.endDate())
+                .stream()
+                .filter(session -> !session.isCanceled())
+                .filter(session -> {
+                    ClinicSlot slot = slotsById.get(session.getSlotId());
+                    return slot != null && session.getDate().equals(resolveSessionDate(weekRange, slot.getDayOfWeek()));
+                })
+                .collect(Collectors.groupingBy(ClinicSession::getSlotId));
+        List<ClinicBatchPartition> partitions = ClinicBatchPartition.of(slots.stream()
+                .filter(slot -> sessionsBySlot.containsKey(slot.getId()))
+                .toList());
+
+        return clinicBatchPartitionRunner.run(
+                ATTENDANCE_STEP,
+                weekRange.startDate(),
+                partitions,
+                partition -> {
+                    List<ClinicSession> sessions = partition.slots().stream()
+                            .flatMap(slot -> sessionsBySlot.getOrDefault(slot.getId(), List.of()).stream())
+                            .toList();
+                    List<AttendanceRow> planned = planAttendances(sessions, weekRange).stream()
+                            .map(pair -> AttendanceRow.of(pair.sessionId(), pair.recordId()))
+                            .toList();
+                    Set<UUID> reserved = clinicBatchJdbcRepository.reserveSeats(planned);
+                    List<AttendanceRow> accepted = planned.stream()
+                            .filter(row -> reserved.contains(row.clinicSessionId()))
+                            .toList();
+                    if (accepted.size() < planned.size()) {
+                        log.warn("Clinic batch capacity race: partition={}, dropped={}",
+                                partition.key(),
+                                planned.size() - accepted.size());
+                    }
+                    int written = clinicBatchJdbcRepository.insertAttendances(accepted, chunkSize);
+                    calendarEventJdbcRepository.syncClinicSessions(List.copyOf(reserved));
+                    return written;
+                }
+        );
     }
 
     public List<ClinicSession> generateRemainingSessionsForSlot(ClinicSlot slot, LocalDateTime now) {
@@ -142,15 +194,79 @@ public class ClinicBatchService {
                 .build();
         try {
             ClinicSession saved = clinicSessionRepository.save(session);
-            createAttendancesForSession(saved, slot.getId());
+            List<ClinicAttendance> attendances = planAttendances(List.of(saved), weekRange).stream()
+                    .map(pair -> ClinicAttendance.builder()
+                            .clinicSessionId(pair.sessionId())
+                            .studentCourseRecordId(pair.recordId())
+                            .build())
+                    .toList();
+            if (!attendances.isEmpty()) {
+                bulkInserter.insertAll(attendances);
+                saved.addReservedCount(attendances.size());
+                calendarEventJdbcRepository.syncClinicSessions(List.of(saved.getId()));
+            }
             return List.of(saved);
         } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException ex) {
-            log.warn("Clinic batch session skip: slotId={}, date={}, reason={}",
+            log.warn("Clinic batch session skip: slotId={}, date={}",
                     slot.getId(),
                     sessionDate,
-                    ex.getClass().getSimpleName());
+                    ex);
+            return List.of();
+        }
+    }
+
+    private List<PlannedAttendance> planAttendances(List<ClinicSession> sessions,
+                                                    ClinicAttendancePolicy.WeekRange weekRange) {
+        List<UUID> slotIds = sessions.stream()
+                .map(ClinicSession::getSlotId)
+                .distinct()
+                .toList();
+        Map<UUID, List<StudentCourseRecord>> recordsBySlot = new LinkedHashMap<>();
+        for (List<UUID> ids : partition(slotIds, IN_CLAUSE_LIMIT)) {
+            studentCourseRecordRepository.findActiveByDefaultClinicSlotIdIn(ids)
+                    .forEach(record -> recordsBySlot
+                            .computeIfAbsent(record.getDefaultClinicSlotId(), key -> new ArrayList<>())
+                            .add(record));
+        }
+        if (recordsBySlot.isEmpty()) {
             return List.of();
         }
+        List<StudentCourseRecord> records = recordsBySlot.values().stream()
+                .flatMap(List::stream)
+                .toList();
+        List<UUID> studentIds = records.stream()
+                .map(StudentCourseRecord::getStudentMemberId)
+                .distinct()
+                .toList();
+
+        List<ClinicAttendanceOccupancyProjection> occupancies = new ArrayList<>();
+        for (List<UUID> ids : partition(studentIds, IN_CLAUSE_LIMIT)) {
+            occupancies.addAll(clinicAttendanceRepository.findOccupancyByStudentIdsAndDateRange(
+                    ids,
+                    weekRange.startDate(),
+                    weekRange.endDate()
+            ));
+        }
+
+        ClinicAttendanceAllocator allocator =
+                new ClinicAttendanceAllocator(new StudentWeeklyOccupancy(records, occupancies));
+        List<PlannedAttendance> planned = new ArrayList<>();
+        sessions.stream()
+                .sorted(Comparator.comparing(ClinicSession::getDate)
+                        .thenComparing(ClinicSession::getStartTime)
+                        .thenComparing(ClinicSession::getId))
+                .forEach(session -> allocator
+                        .allocate(session, recordsBySlot.getOrDefault(session.getSlotId(), List.of()))
+                        .forEach(recordId -> planned.add(new PlannedAttendance(session.getId(), recordId))));
+        return planned;
+    }
+
+    private static <T> List<List<T>> partition(List<T> source, int size) {
+        List<List<T>> partitions = new ArrayList<>();
+        for (int from = 0; from < source.size(); from += size) {
+            partitions.add(source.subList(from, Math.min(source.size(), from + size)));
+        }
+        return partitions;
     }
 
     private boolean isSlotValid(ClinicSlot slot) {
@@ -177,47 +293,6 @@ public class ClinicBatchService {
         return !startTime.isAfter(now.toLocalTime());
     }
 
-    private List<ClinicAttendance> createAttendancesForSession(ClinicSession session, UUID slotId) {
-        List<ClinicAttendance> created = new ArrayList<>();
-        List<StudentCourseRecord> records = studentCourseRecordRepository
-                .findActiveByDefaultClinicSlotId(slotId);
-        long currentCount = clinicAttendanceRepository.countByClinicSessionId(session.getId());
-        for (StudentCourseRecord record : records) {
-            if (currentCount >= session.getCapacity()) {
-                break;
-            }
-            if (clinicAttendanceRepository.existsByClinicSessionIdAndStudentCourseRecordId(
-                    session.getId(),
-                    record.getId()
-            )) {
-                continue;
-            }
-            long overlap = clinicAttendanceRepository.countOverlappingAttendances(
-                    record.getId(),
-                    session.getDate(),
-                    session.getStartTime(),
-                    session.getEndTime()
-            );
-            if (overlap > 0) {
-                continue;
-            }
-            ClinicAttendance attendance = ClinicAttendance.builder()
-                    .clinicSessionId(session.getId())
-                    .studentCourseRecordId(record.getId())
-                    .build();
-            try {
-                created.add(clinicAttendanceRepository.save(attendance));
-                currentCount++;
-            } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException ex) {
-                log.warn("Clinic batch attendance skip: sessionId={}, recordId={}, reason={}",
-                        session.getId(),
-                        record.getId(),
-                        ex.getClass().getSimpleName());
-            }
-        }
-        return created;
-    }
-
     private LocalDate resolveSessionDate(ClinicAttendancePolicy.WeekRange weekRange, DayOfWeek dayOfWeek) {
         if (weekRange == null || dayOfWeek == null) {
             return null;
@@ -228,4 +303,10 @@ public class ClinicBatchService {
         }
         return sessionDate;
     }
+
+    private record SlotDateKey(UUID slotId, LocalDate date) {
+    }
+
+    private record PlannedAttendance(UUID sessionId, UUID recordId) {
+    }
 }
@@ -0,0 +1,28 @@
+package com.classhub.domain.clinic.batch.dto;
+
+import java.util.List;
+
+/**
+ * 클리닉 배치 단계별 결과 (파티션 단위 트랜잭션의 처리 건수와 소요 시간 포함)
+ */
+public record ClinicBatchReport(
+        String step,
+        int partitions,
+        int resumed,
+        int written,
+        int failed,
+        List<PartitionMetrics> partitionMetrics
+) {
+
+    public static ClinicBatchReport empty(String step) {
+        return new ClinicBatchReport(step, 0, 0, 0, 0, List.of());
+    }
+
+    public record PartitionMetrics(
+            String partition,
+            int written,
+            boolean succeeded,
+            long elapsedMillis
+    ) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.classhub.domain.clinic.batch.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주간 클리닉 배치의 완료된 파티션(지점·선생님) 기록. 파티션 쓰기와 같은 트랜잭션에서 남기므로 재시작 시 완료분을 건너뛴다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "clinic_batch_checkpoint",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_clinic_batch_checkpoint_partition",
+                        columnNames = {"step", "week_start_date", "branch_id", "teacher_member_id"}
+                )
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClinicBatchCheckpoint {
+
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(nullable = false, length = 30)
+    private String step;
+
+    @Column(name = "week_start_date", nullable = false)
+    private LocalDate weekStartDate;
+
+    @Column(name = "branch_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID branchId;
+
+    @Column(name = "teacher_member_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID teacherMemberId;
+
+    @Column(name = "written_count", nullable = false)
+    private int writtenCount;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,189 @@
+package com.classhub.domain.clinic.batch.repository;
+
+import com.classhub.domain.clinic.batch.support.ClinicBatchPartition;
+import com.classhub.domain.clinic.session.model.ClinicSessionType;
+import com.classhub.domain.clinic.slot.model.ClinicSlot;
+import com.classhub.global.util.KstTime;
+import com.classhub.global.util.TimeOrderedUuid;
+import com.classhub.global.util.UuidBytes;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 주간 클리닉 배치 전용 JDBC batch insert (엔티티 merge/select 없이 한 번에 기록)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClinicBatchJdbcRepository {
+
+    private static final String INSERT_SESSION_SQL = """
+            INSERT INTO clinic_session (
+                id, slot_id, teacher_member_id, branch_id, session_type, creator_member_id,
+                session_date, start_time, end_time, capacity, is_canceled, reserved_count, version,
+                created_at, updated_at, deleted_at
+            )
+            VALUES (?, ?, ?, ?, ?, NULL, ?, ?, ?, ?, FALSE, 0, 0, ?, ?, NULL)
+            """;
+
+    private static final String INSERT_ATTENDANCE_SQL = """
+            INSERT INTO clinic_attendance (
+                id, clinic_session_id, student_course_record_id,
+                created_at, updated_at, deleted_at
+            )
+            VALUES (?, ?, ?, ?, ?, NULL)
+            """;
+
+    private static final String RESERVE_SEATS_SQL = """
+            UPDATE clinic_session
+            SET reserved_count = reserved_count + ?
+            WHERE id = ?
+              AND reserved_count + ? <= capacity
+            """;
+
+    private static final String INSERT_CHECKPOINT_SQL = """
+            INSERT INTO clinic_batch_checkpoint (
+                id, step, week_start_date, branch_id, teacher_member_id, written_count, completed_at
+            )
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_CHECKPOINT_SQL = """
+            SELECT branch_id, teacher_member_id
+            FROM clinic_batch_checkpoint
+            WHERE step = ?
+              AND week_start_date = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int insertSessions(List<SessionRow> rows, int batchSize) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(KstTime.nowDateTime());
+        jdbcTemplate.batchUpdate(INSERT_SESSION_SQL, rows, batchSize, (ps, row) -> {
+            ps.setBytes(1, UuidBytes.toBytes(row.id()));
+            ps.setBytes(2, UuidBytes.toBytes(row.slotId()));
+            ps.setBytes(3, UuidBytes.toBytes(row.teacherMemberId()));
+            ps.setBytes(4, UuidBytes.toBytes(row.branchId()));
+            ps.setString(5, ClinicSessionType.REGULAR.name());
+            ps.setDate(6, Date.valueOf(row.date()));
+            ps.setTime(7, Time.valueOf(row.startTime()));
+            ps.setTime(8, Time.valueOf(row.endTime()));
+            ps.setInt(9, row.capacity());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+        return rows.size();
+    }
+
+    public int insertAttendances(List<AttendanceRow> rows, int batchSize) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(KstTime.nowDateTime());
+        jdbcTemplate.batchUpdate(INSERT_ATTENDANCE_SQL, rows, batchSize, (ps, row) -> {
+            ps.setBytes(1, UuidBytes.toBytes(row.id()));
+            ps.setBytes(2, UuidBytes.toBytes(row.clinicSessionId()));
+            ps.setBytes(3, UuidBytes.toBytes(row.studentCourseRecordId()));
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+        return rows.size();
+    }
+
+    /**
+     * 출석을 넣기 전에 세션별로 출석 수만큼 reserved_count를 올린다 (세션당 UPDATE 1건).
+     * 계획 이후 다른 요청이 좌석을 가져가 정원을 넘게 되는 세션은 올리지 않으며, 올린 세션 id만 돌려준다.
+     */
+    public Set<UUID> reserveSeats(List<AttendanceRow> rows) {
+        if (rows.isEmpty()) {
+            return Set.of();
+        }
+        Map<UUID, Long> counts = rows.stream()
+                .collect(Collectors.groupingBy(AttendanceRow::clinicSessionId, Collectors.counting()));
+        Set<UUID> reserved = new HashSet<>();
+        counts.forEach((sessionId, count) -> {
+            if (jdbcTemplate.update(RESERVE_SEATS_SQL, count, UuidBytes.toBytes(sessionId), count) == 1) {
+                reserved.add(sessionId);
+            }
+        });
+        return reserved;
+    }
+
+    /**
+     * 파티션 완료 기록. (step, 주, 파티션) 유니크 제약에 걸리면 예외가 나며 파티션 트랜잭션 전체가 롤백된다.
+     */
+    public void insertCheckpoint(String step, LocalDate weekStartDate, ClinicBatchPartition.Key key, int writtenCount) {
+        jdbcTemplate.update(
+                INSERT_CHECKPOINT_SQL,
+                UuidBytes.toBytes(TimeOrderedUuid.next()),
+                step,
+                Date.valueOf(weekStartDate),
+                UuidBytes.toBytes(key.branchId()),
+                UuidBytes.toBytes(key.teacherMemberId()),
+                writtenCount,
+                Timestamp.valueOf(KstTime.nowDateTime())
+        );
+    }
+
+    public Set<ClinicBatchPartition.Key> findCompletedPartitions(String step, LocalDate weekStartDate) {
+        return new HashSet<>(jdbcTemplate.query(
+                SELECT_CHECKPOINT_SQL,
+                (rs, rowNum) -> new ClinicBatchPartition.Key(
+                        UuidBytes.fromBytes(rs.getBytes("branch_id")),
+                        UuidBytes.fromBytes(rs.getBytes("teacher_member_id"))
+                ),
+                step,
+                Date.valueOf(weekStartDate)
+        ));
+    }
+
+    public record SessionRow(
+            UUID id,
+            UUID slotId,
+            UUID teacherMemberId,
+            UUID branchId,
+            LocalDate date,
+            LocalTime startTime,
+            LocalTime endTime,
+            int capacity
+    ) {
+
+        public static SessionRow regular(ClinicSlot slot, LocalDate date) {
+            return new SessionRow(
+                    TimeOrderedUuid.next(),
+                    slot.getId(),
+                    slot.getTeacherMemberId(),
+                    slot.getBranchId(),
+                    date,
+                    slot.getStartTime(),
+                    slot.getEndTime(),
+                    slot.getDefaultCapacity()
+            );
+        }
+    }
+
+    public record AttendanceRow(
+            UUID id,
+            UUID clinicSessionId,
+            UUID studentCourseRecordId
+    ) {
+
+        public static AttendanceRow of(UUID clinicSessionId, UUID studentCourseRecordId) {
+            return new AttendanceRow(TimeOrderedUuid.next(), clinicSessionId, studentCourseRecordId);
+        }
+    }
+}
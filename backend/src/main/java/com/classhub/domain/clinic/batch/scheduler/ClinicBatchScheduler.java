@@ -1,24 +1,88 @@
 package com.classhub.domain.clinic.batch.scheduler;
 
+import com.classhub.domain.clinic.attendance.support.ClinicAttendancePolicy;
 import com.classhub.domain.clinic.batch.application.ClinicBatchService;
+import com.classhub.domain.clinic.batch.dto.ClinicBatchReport;
+import com.classhub.global.lock.SchedulerLeaseManager;
+import com.classhub.global.metrics.BatchJobMetrics;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 주간 클리닉 배치. 일요일 0시 회차를 기본으로 돌고, 그 회차가 끝나지 못했으면(노드 중단, 실패한 파티션)
+ * 기동 직후와 주기적인 재시도에서 같은 회차를 다시 돈다. 끝난 파티션은 체크포인트로 건너뛰므로 남은 파티션만 처리하고,
+ * 실패한 파티션이 없어야 회차가 완료로 기록되어 재시도가 멈춘다.
+ */
 @Component
 @RequiredArgsConstructor
 public class ClinicBatchScheduler {
 
+    static final String LEASE_NAME = "clinic-weekly-batch";
+    static final String SESSION_JOB = "clinic-weekly-sessions";
+    static final String ATTENDANCE_JOB = "clinic-weekly-attendances";
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     private final ClinicBatchService clinicBatchService;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final BatchJobMetrics batchJobMetrics;
+
+    @Value("${custom.clinic.batch.catch-up-enabled:true}")
+    private boolean catchUpEnabled = true;
 
     @Scheduled(cron = "0 0 0 ? * SUN", zone = "Asia/Seoul")
     public void runWeeklyBatch() {
-        LocalDate today = LocalDate.now(KST);
-        clinicBatchService.generateWeeklySessions(today);
-        clinicBatchService.generateWeeklyAttendances(today);
+        runLatestSlot();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUpOnStartup() {
+        if (catchUpEnabled) {
+            runLatestSlot();
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${custom.clinic.batch.retry-millis:900000}",
+            initialDelayString = "${custom.clinic.batch.retry-millis:900000}"
+    )
+    public void retryUnfinished() {
+        if (catchUpEnabled) {
+            runLatestSlot();
+        }
+    }
+
+    /**
+     * 가장 최근에 도래한 일요일 회차를 돈다. 이미 완료된 회차면 임대 획득 단계에서 건너뛴다.
+     */
+    boolean runLatestSlot() {
+        LocalDate runDate = LocalDate.now(KST).with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+        String runKey = ClinicAttendancePolicy.resolveWeek(runDate).startDate().toString();
+        return schedulerLeaseManager.runExclusivelyUntilComplete(LEASE_NAME, runKey, () -> {
+            ClinicBatchReport sessions = batchJobMetrics.record(
+                    SESSION_JOB,
+                    () -> clinicBatchService.generateWeeklySessions(runDate),
+                    ClinicBatchReport::written,
+                    ClinicBatchReport::failed
+            );
+            ClinicBatchReport attendances = batchJobMetrics.record(
+                    ATTENDANCE_JOB,
+                    () -> clinicBatchService.generateWeeklyAttendances(runDate),
+                    ClinicBatchReport::written,
+                    ClinicBatchReport::failed
+            );
+            return isComplete(sessions) && isComplete(attendances);
+        });
+    }
+
+    private boolean isComplete(ClinicBatchReport report) {
+        return report != null && report.failed() == 0;
     }
 }
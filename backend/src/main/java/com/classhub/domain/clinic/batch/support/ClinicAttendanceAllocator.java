@@ -0,0 +1,45 @@
+package com.classhub.domain.clinic.batch.support;
+
+import com.classhub.domain.clinic.attendance.support.StudentWeeklyOccupancy;
+import com.classhub.domain.clinic.session.model.ClinicSession;
+import com.classhub.domain.studentcourse.model.StudentCourseRecord;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 세션의 reserved_count와 미리 읽어 둔 {@link StudentWeeklyOccupancy}로 기본 슬롯 출석 배정을 메모리에서 판정한다.
+ * 배정한 결과는 즉시 상태에 반영하므로 같은 배치 안에서 정원 초과나 시간 겹침이 생기지 않는다.
+ */
+public class ClinicAttendanceAllocator {
+
+    private final Map<UUID, Long> reservedCounts = new HashMap<>();
+    private final StudentWeeklyOccupancy occupancy;
+
+    public ClinicAttendanceAllocator(StudentWeeklyOccupancy occupancy) {
+        this.occupancy = occupancy;
+    }
+
+    public List<UUID> allocate(ClinicSession session, List<StudentCourseRecord> records) {
+        long currentCount = reservedCounts.getOrDefault(session.getId(), (long) session.getReservedCount());
+        List<UUID> allocated = new ArrayList<>();
+        for (StudentCourseRecord record : records) {
+            if (currentCount >= session.getCapacity()) {
+                break;
+            }
+            if (occupancy.isBooked(record.getId(), session.getId())) {
+                continue;
+            }
+            if (occupancy.overlaps(record.getId(), session, null)) {
+                continue;
+            }
+            allocated.add(record.getId());
+            occupancy.occupy(record.getId(), session);
+            currentCount++;
+        }
+        reservedCounts.put(session.getId(), currentCount);
+        return allocated;
+    }
+}
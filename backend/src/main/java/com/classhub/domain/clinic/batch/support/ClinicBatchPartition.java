@@ -0,0 +1,43 @@
+package com.classhub.domain.clinic.batch.support;
+
+import com.classhub.domain.clinic.slot.model.ClinicSlot;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 지점·선생님 단위 배치 파티션. 한 수강 기록의 기본 슬롯은 하나의 파티션에만 속하지만, 한 학생의 여러 수강 기록은
+ * 서로 다른 파티션에 나뉘어 병렬로 처리될 수 있다. 파티션은 학생 단위 시간 겹침을 자기가 읽은 출석으로만 판정하므로,
+ * 병렬 파티션끼리 겹치는 출석을 만들지 않는 것은 한 학생의 기본 슬롯끼리 시간이 겹치지 않는다는 불변식
+ * (기본 슬롯 지정 시 검사)에 기대고 있다.
+ */
+public record ClinicBatchPartition(Key key, List<ClinicSlot> slots) {
+
+    public static List<ClinicBatchPartition> of(Collection<ClinicSlot> slots) {
+        Map<Key, List<ClinicSlot>> grouped = new LinkedHashMap<>();
+        for (ClinicSlot slot : slots) {
+            grouped.computeIfAbsent(new Key(slot.getBranchId(), slot.getTeacherMemberId()), key -> new ArrayList<>())
+                    .add(slot);
+        }
+        return grouped.entrySet().stream()
+                .map(entry -> new ClinicBatchPartition(entry.getKey(), List.copyOf(entry.getValue())))
+                .toList();
+    }
+
+    public Set<UUID> slotIds() {
+        return slots.stream().map(ClinicSlot::getId).collect(Collectors.toSet());
+    }
+
+    public record Key(UUID branchId, UUID teacherMemberId) {
+
+        @Override
+        public String toString() {
+            return branchId + "/" + teacherMemberId;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.classhub.domain.clinic.batch.support;
+
+import com.classhub.domain.clinic.batch.dto.ClinicBatchReport;
+import com.classhub.domain.clinic.batch.repository.ClinicBatchJdbcRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToIntFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 파티션별 배치 작업을 고정 크기 executor에서 병렬 실행한다.
+ * 파티션마다 독립 트랜잭션으로 쓰고 같은 트랜잭션에서 체크포인트를 남기며, 이미 체크포인트가 있는 파티션은 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClinicBatchPartitionRunner {
+
+    private final ClinicBatchJdbcRepository clinicBatchJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.clinic.batch.parallelism:4}")
+    private int parallelism = 4;
+
+    public ClinicBatchReport run(String step,
+                                 LocalDate weekStartDate,
+                                 List<ClinicBatchPartition> partitions,
+                                 ToIntFunction<ClinicBatchPartition> worker) {
+        if (partitions.isEmpty()) {
+            return ClinicBatchReport.empty(step);
+        }
+        Set<ClinicBatchPartition.Key> completed = clinicBatchJdbcRepository.findCompletedPartitions(step, weekStartDate);
+        List<ClinicBatchPartition> pending = partitions.stream()
+                .filter(partition -> !completed.contains(partition.key()))
+                .toList();
+        int resumed = partitions.size() - pending.size();
+
+        List<ClinicBatchReport.PartitionMetrics> metrics = new ArrayList<>();
+        int threads = Math.max(1, Math.min(parallelism, pending.size()));
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                threads,
+                Thread.ofPlatform().name("clinic-batch-", 0).factory()
+        )) {
+            List<Future<ClinicBatchReport.PartitionMetrics>> futures = pending.stream()
+                    .map(partition -> executor.submit(() -> runPartition(step, weekStartDate, partition, worker)))
+                    .toList();
+            for (Future<ClinicBatchReport.PartitionMetrics> future : futures) {
+                metrics.add(await(future));
+            }
+        }
+
+        int written = metrics.stream().mapToInt(ClinicBatchReport.PartitionMetrics::written).sum();
+        int failed = (int) metrics.stream().filter(metric -> !metric.succeeded()).count();
+        log.info("Clinic batch done: step={}, week={}, partitions={}, resumed={}, written={}, failed={}",
+                step,
+                weekStartDate,
+                partitions.size(),
+                resumed,
+                written,
+                failed);
+        return new ClinicBatchReport(step, partitions.size(), resumed, written, failed, List.copyOf(metrics));
+    }
+
+    private ClinicBatchReport.PartitionMetrics runPartition(String step,
+                                                            LocalDate weekStartDate,
+                                                            ClinicBatchPartition partition,
+                                                            ToIntFunction<ClinicBatchPartition> worker) {
+        long startedAt = System.nanoTime();
+        int written = 0;
+        boolean succeeded = true;
+        try {
+            Integer result = transactionTemplate.execute(status -> {
+                int count = worker.applyAsInt(partition);
+                clinicBatchJdbcRepository.insertCheckpoint(step, weekStartDate, partition.key(), count);
+                return count;
+            });
+            written = result == null ? 0 : result;
+        } catch (RuntimeException ex) {
+            succeeded = false;
+            log.warn("Clinic batch partition failed: step={}, partition={}",
+                    step,
+                    partition.key(),
+                    ex);
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("Clinic batch partition: step={}, partition={}, slots={}, written={}, elapsedMs={}",
+                step,
+                partition.key(),
+                partition.slots().size(),
+                written,
+                elapsedMillis);
+        return new ClinicBatchReport.PartitionMetrics(partition.key().toString(), written, succeeded, elapsedMillis);
+    }
+
+    private ClinicBatchReport.PartitionMetrics await(Future<ClinicBatchReport.PartitionMetrics> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Clinic batch interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Clinic batch partition crashed", ex.getCause());
+        }
+    }
+}
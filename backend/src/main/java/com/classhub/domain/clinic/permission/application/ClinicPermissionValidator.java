@@ -1,11 +1,10 @@
 package com.classhub.domain.clinic.permission.application;
 
-import com.classhub.domain.assignment.model.TeacherBranchAssignment;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
-import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.domain.member.model.MemberRole;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
+import com.classhub.global.authorization.AuthorizationContext;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
 import java.util.UUID;
@@ -16,23 +15,23 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ClinicPermissionValidator {
 
-    private final TeacherBranchAssignmentRepository teacherBranchAssignmentRepository;
-    private final TeacherAssistantAssignmentRepository teacherAssistantAssignmentRepository;
+    private final MembershipGraph membershipGraph;
     private final StudentCourseRecordRepository studentCourseRecordRepository;
 
+    /**
+     * 배정 여부는 트랜잭션 동안 {@link AuthorizationContext}에 기억되어, 같은 요청에서 반복 호출해도 조회는 한 번이다.
+     */
     public void ensureTeacherAssignment(UUID teacherId, UUID branchId) {
-        TeacherBranchAssignment assignment = teacherBranchAssignmentRepository
-                .findByTeacherMemberIdAndBranchId(teacherId, branchId)
-                .orElseThrow(() -> new BusinessException(RsCode.FORBIDDEN));
-        if (!assignment.isActive()) {
+        boolean assigned = AuthorizationContext.current().isTeacherAssigned(teacherId, branchId, () ->
+                membershipGraph.isAssignedToBranch(teacherId, branchId));
+        if (!assigned) {
             throw new BusinessException(RsCode.FORBIDDEN);
         }
     }
 
     public void ensureAssistantAssignment(UUID assistantId, UUID teacherId) {
-        boolean assigned = teacherAssistantAssignmentRepository
-                .findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(teacherId, assistantId)
-                .isPresent();
+        boolean assigned = AuthorizationContext.current().isAssistantAssigned(assistantId, teacherId, () ->
+                membershipGraph.isAssistantOf(teacherId, assistantId));
         if (!assigned) {
             throw new BusinessException(RsCode.FORBIDDEN);
         }
@@ -1,5 +1,6 @@
 package com.classhub.domain.clinic.record.application;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.clinic.permission.application.ClinicPermissionValidator;
 import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
@@ -30,6 +31,7 @@ public class ClinicRecordService {
     private final StudentCourseRecordRepository studentCourseRecordRepository;
     private final CourseRepository courseRepository;
     private final ClinicPermissionValidator clinicPermissionValidator;
+    private final CalendarEventJdbcRepository calendarEventJdbcRepository;
 
     public ClinicRecord createRecord(MemberPrincipal principal, ClinicRecordCreateRequest request) {
         if (request == null || request.clinicAttendanceId() == null
@@ -50,7 +52,9 @@ public class ClinicRecordService {
                 .content(request.content())
                 .homeworkProgress(request.homeworkProgress())
                 .build();
-        return clinicRecordRepository.save(record);
+        ClinicRecord saved = clinicRecordRepository.save(record);
+        calendarEventJdbcRepository.syncClinicAttendance(attendance.getId());
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -76,7 +80,9 @@ public class ClinicRecordService {
         ensureWriterPermission(principal, course);
         ensureWriterAccess(principal, record);
         record.update(request.title(), request.content(), request.homeworkProgress());
-        return clinicRecordRepository.save(record);
+        ClinicRecord saved = clinicRecordRepository.save(record);
+        calendarEventJdbcRepository.syncClinicAttendance(record.getClinicAttendanceId());
+        return saved;
     }
 
     public void deleteRecord(MemberPrincipal principal, UUID recordId) {
@@ -89,6 +95,7 @@ public class ClinicRecordService {
         ensureWriterPermission(principal, course);
         ensureWriterAccess(principal, record);
         clinicRecordRepository.delete(record);
+        calendarEventJdbcRepository.syncClinicAttendance(record.getClinicAttendanceId());
     }
 
     private ClinicAttendance loadAttendance(UUID attendanceId) {
@@ -1,5 +1,6 @@
 package com.classhub.domain.clinic.session.application;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceCountProjection;
 import com.classhub.domain.clinic.permission.application.ClinicPermissionValidator;
@@ -41,6 +42,7 @@ public class ClinicSessionService {
     private final BranchRepository branchRepository;
     private final ClinicPermissionValidator clinicPermissionValidator;
     private final ClinicAttendanceRepository clinicAttendanceRepository;
+    private final CalendarEventJdbcRepository calendarEventJdbcRepository;
 
     public ClinicSession createRegularSession(UUID teacherId, UUID slotId, LocalDate date) {
         if (slotId == null || date == null) {
@@ -204,6 +206,7 @@ public class ClinicSessionService {
         }
         session.cancel();
         clinicSessionRepository.save(session);
+        calendarEventJdbcRepository.syncClinicSessions(List.of(session.getId()));
     }
 
     private void validateEmergencyRequest(ClinicSessionEmergencyCreateRequest request) {
@@ -16,9 +16,15 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
+/**
+ * reserved_count는 ClinicSessionRepository의 조건부 UPDATE로 바뀌므로 영속성 컨텍스트의 값이 낡을 수 있다.
+ * 취소 등 엔티티 변경을 flush할 때 바뀐 컬럼만 쓰도록 @DynamicUpdate를 두어, 로드 시점의 reserved_count로 되돌리지 않는다.
+ */
 @Getter
 @Entity
+@DynamicUpdate
 @Table(
         name = "clinic_session",
         indexes = {
@@ -64,6 +70,9 @@ public class ClinicSession extends BaseEntity {
     @Column(name = "is_canceled", nullable = false)
     private boolean canceled;
 
+    @Column(name = "reserved_count", nullable = false)
+    private int reservedCount;
+
     @Version
     @Column(nullable = false)
     private Long version;
@@ -94,4 +103,11 @@ public class ClinicSession extends BaseEntity {
     public void cancel() {
         this.canceled = true;
     }
+
+    /**
+     * 아직 저장 전이거나 같은 트랜잭션에서 만든 세션에만 사용한다. 기존 세션의 좌석 증감은 ClinicSessionRepository의 조건부 UPDATE로 처리한다.
+     */
+    public void addReservedCount(int count) {
+        this.reservedCount += count;
+    }
 }
@@ -1,13 +1,16 @@
 package com.classhub.domain.clinic.session.repository;
 
 import com.classhub.domain.clinic.session.model.ClinicSession;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,14 +18,80 @@ public interface ClinicSessionRepository extends JpaRepository<ClinicSession, UU
 
     Optional<ClinicSession> findByIdAndDeletedAtIsNull(UUID id);
 
-    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    /**
+     * 일괄 출석 변경 대상 세션을 한 번에 잠금 조회한다. 같은 세션의 좌석 예약 UPDATE는 커밋까지 대기하므로
+     * 읽어 온 reserved_count로 메모리에서 정원을 판정해도 초과 예약이 생기지 않는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
             SELECT cs
             FROM ClinicSession cs
+            WHERE cs.id IN :ids
+              AND cs.deletedAt IS NULL
+            ORDER BY cs.id ASC
+            """)
+    List<ClinicSession> findAllByIdInForUpdate(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 정원이 남아 있을 때만 좌석 1개를 예약한다. 영향 행 수가 0이면 마감(또는 취소/삭제)이다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ClinicSession cs
+            SET cs.reservedCount = cs.reservedCount + 1
             WHERE cs.id = :id
               AND cs.deletedAt IS NULL
+              AND cs.canceled = false
+              AND cs.reservedCount < cs.capacity
             """)
-    Optional<ClinicSession> findByIdAndDeletedAtIsNullForUpdate(@Param("id") UUID id);
+    int tryReserveSeat(@Param("id") UUID id);
+
+    /**
+     * 정원이 count개 이상 남아 있을 때만 좌석을 한꺼번에 예약한다. 영향 행 수가 0이면 좌석이 모자란다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ClinicSession cs
+            SET cs.reservedCount = cs.reservedCount + :count
+            WHERE cs.id = :id
+              AND cs.deletedAt IS NULL
+              AND cs.canceled = false
+              AND cs.reservedCount + :count <= cs.capacity
+            """)
+    int tryReserveSeats(@Param("id") UUID id, @Param("count") int count);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ClinicSession cs
+            SET cs.reservedCount = cs.reservedCount + :count
+            WHERE cs.id = :id
+            """)
+    int addReservedCount(@Param("id") UUID id, @Param("count") int count);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ClinicSession cs
+            SET cs.reservedCount = cs.reservedCount - 1
+            WHERE cs.id = :id
+              AND cs.reservedCount > 0
+            """)
+    int releaseSeat(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ClinicSession cs
+            SET cs.reservedCount = cs.reservedCount - 1
+            WHERE cs.reservedCount > 0
+              AND (cs.date > :date OR (cs.date = :date AND cs.startTime >= :time))
+              AND cs.id IN (
+                SELECT ca.clinicSessionId
+                FROM ClinicAttendance ca
+                WHERE ca.studentCourseRecordId = :recordId
+              )
+            """)
+    int releaseUpcomingSeats(@Param("recordId") UUID recordId,
+                             @Param("date") LocalDate date,
+                             @Param("time") LocalTime time);
 
     Optional<ClinicSession> findBySlotIdAndDateAndDeletedAtIsNull(UUID slotId, LocalDate date);
 
@@ -40,6 +109,19 @@ public interface ClinicSessionRepository extends JpaRepository<ClinicSession, UU
             @Param("endDate") LocalDate endDate
     );
 
+    @Query("""
+            SELECT cs
+            FROM ClinicSession cs
+            WHERE cs.slotId IS NOT NULL
+              AND cs.date BETWEEN :startDate AND :endDate
+              AND cs.deletedAt IS NULL
+            ORDER BY cs.date ASC, cs.startTime ASC, cs.id ASC
+            """)
+    List<ClinicSession> findSlotSessionsByDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     @Query("""
             SELECT cs
             FROM ClinicSession cs
@@ -1,5 +1,6 @@
 package com.classhub.domain.clinic.slot.application;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
 import com.classhub.domain.clinic.attendance.support.ClinicAttendancePolicy;
@@ -7,20 +8,25 @@ import com.classhub.domain.clinic.session.model.ClinicSession;
 import com.classhub.domain.clinic.session.repository.ClinicSessionRepository;
 import com.classhub.domain.clinic.slot.model.ClinicSlot;
 import com.classhub.domain.clinic.slot.repository.ClinicSlotRepository;
+import com.classhub.domain.clinic.slot.repository.StudentDefaultSlotProjection;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.domain.studentcourse.model.StudentCourseRecord;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
+import com.classhub.global.entity.BulkInserter;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.timetable.WeeklyTimetable;
 import com.classhub.global.util.KstTime;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -36,6 +42,8 @@ public class ClinicDefaultSlotService {
     private final ClinicSlotRepository clinicSlotRepository;
     private final ClinicSessionRepository clinicSessionRepository;
     private final ClinicAttendanceRepository clinicAttendanceRepository;
+    private final CalendarEventJdbcRepository calendarEventJdbcRepository;
+    private final BulkInserter bulkInserter;
 
     public StudentCourseRecord updateDefaultSlotForStudent(UUID studentId, UUID courseId, UUID defaultSlotId) {
         if (defaultSlotId == null) {
@@ -61,10 +69,10 @@ public class ClinicDefaultSlotService {
                 .orElseThrow(RsCode.CLINIC_SLOT_NOT_FOUND::toException);
         ensureSlotMatchesCourse(slot, course);
 
-        List<StudentCourseRecord> studentRecords = recordRepository
-                .findByStudentMemberIdAndDeletedAtIsNull(record.getStudentMemberId());
-        ensureSlotNotDuplicated(record, defaultSlotId, studentRecords);
-        ensureSlotNotOverlapping(slot, record, studentRecords);
+        List<StudentDefaultSlotProjection> otherSlots = clinicSlotRepository
+                .findDefaultSlotsOfStudent(record.getStudentMemberId(), record.getId());
+        ensureSlotNotDuplicated(defaultSlotId, otherSlots);
+        ensureSlotNotOverlapping(slot, otherSlots);
         ensureSlotCapacity(slot, defaultSlotId);
 
         boolean wasUnset = record.getDefaultClinicSlotId() == null;
@@ -104,36 +112,20 @@ public class ClinicDefaultSlotService {
         }
     }
 
-    private void ensureSlotNotDuplicated(StudentCourseRecord record,
-                                         UUID slotId,
-                                         List<StudentCourseRecord> studentRecords) {
-        boolean duplicated = studentRecords.stream()
-                .filter(other -> !other.getId().equals(record.getId()))
-                .anyMatch(other -> slotId.equals(other.getDefaultClinicSlotId()));
+    private void ensureSlotNotDuplicated(UUID slotId, List<StudentDefaultSlotProjection> otherSlots) {
+        boolean duplicated = otherSlots.stream()
+                .anyMatch(other -> slotId.equals(other.getSlotId()));
         if (duplicated) {
             throw new BusinessException(RsCode.CLINIC_SLOT_DUPLICATED);
         }
     }
 
-    private void ensureSlotNotOverlapping(ClinicSlot slot,
-                                          StudentCourseRecord record,
-                                          List<StudentCourseRecord> studentRecords) {
-        List<UUID> slotIds = studentRecords.stream()
-                .filter(other -> !other.getId().equals(record.getId()))
-                .map(StudentCourseRecord::getDefaultClinicSlotId)
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-        if (slotIds.isEmpty()) {
+    private void ensureSlotNotOverlapping(ClinicSlot slot, List<StudentDefaultSlotProjection> otherSlots) {
+        if (otherSlots.isEmpty()) {
             return;
         }
-        Map<UUID, ClinicSlot> slotMap = clinicSlotRepository.findByIdInAndDeletedAtIsNull(slotIds).stream()
-                .collect(Collectors.toMap(ClinicSlot::getId, Function.identity()));
-        boolean overlapped = slotIds.stream()
-                .map(slotMap::get)
-                .filter(Objects::nonNull)
-                .anyMatch(existing -> isOverlapping(slot, existing));
-        if (overlapped) {
+        WeeklyTimetable occupied = WeeklyTimetable.of(otherSlots);
+        if (occupied.intersects(slot.getDayOfWeek(), slot.getStartTime(), slot.getEndTime())) {
             throw new BusinessException(RsCode.CLINIC_SLOT_TIME_OVERLAP);
         }
     }
@@ -145,14 +137,9 @@ public class ClinicDefaultSlotService {
         }
     }
 
-    private boolean isOverlapping(ClinicSlot slot, ClinicSlot other) {
-        if (slot.getDayOfWeek() != other.getDayOfWeek()) {
-            return false;
-        }
-        return slot.getStartTime().isBefore(other.getEndTime())
-                && other.getStartTime().isBefore(slot.getEndTime());
-    }
-
+    /**
+     * 이번 주 남은 세션에 출석을 만든다. 좌석은 세션별 정원 조건 UPDATE로 먼저 잡고, 이미 찬 세션의 출석은 만들지 않는다.
+     */
     private void createAttendancesForCurrentWeek(StudentCourseRecord record, ClinicSlot slot) {
         LocalDate today = LocalDate.now(KstTime.clock());
         ClinicAttendancePolicy.WeekRange weekRange = ClinicAttendancePolicy.resolveWeek(today);
@@ -162,6 +149,7 @@ public class ClinicDefaultSlotService {
                 weekRange.endDate()
         );
         LocalDateTime now = LocalDateTime.now(KstTime.clock());
+        List<ClinicAttendance> created = new ArrayList<>();
         for (ClinicSession session : sessions) {
             if (session.isCanceled()) {
                 continue;
@@ -176,11 +164,31 @@ public class ClinicDefaultSlotService {
             )) {
                 continue;
             }
-            ClinicAttendance attendance = ClinicAttendance.builder()
+            created.add(ClinicAttendance.builder()
                     .clinicSessionId(session.getId())
                     .studentCourseRecordId(record.getId())
-                    .build();
-            clinicAttendanceRepository.save(attendance);
+                    .build());
+        }
+        if (created.isEmpty()) {
+            return;
         }
+        Map<UUID, Integer> counts = created.stream()
+                .collect(Collectors.groupingBy(ClinicAttendance::getClinicSessionId, Collectors.summingInt(a -> 1)));
+        Set<UUID> reserved = new HashSet<>();
+        counts.forEach((sessionId, count) -> {
+            if (clinicSessionRepository.tryReserveSeats(sessionId, count) == 1) {
+                reserved.add(sessionId);
+            }
+        });
+        List<ClinicAttendance> accepted = created.stream()
+                .filter(attendance -> reserved.contains(attendance.getClinicSessionId()))
+                .toList();
+        if (accepted.isEmpty()) {
+            return;
+        }
+        bulkInserter.insertAll(accepted);
+        calendarEventJdbcRepository.syncClinicAttendances(
+                accepted.stream().map(ClinicAttendance::getId).toList()
+        );
     }
 }
@@ -6,9 +6,8 @@ import com.classhub.domain.clinic.slot.dto.request.ClinicSlotCreateRequest;
 import com.classhub.domain.clinic.slot.dto.request.ClinicSlotUpdateRequest;
 import com.classhub.domain.clinic.slot.model.ClinicSlot;
 import com.classhub.domain.clinic.slot.repository.ClinicSlotRepository;
-import com.classhub.domain.company.branch.model.Branch;
-import com.classhub.domain.company.branch.repository.BranchRepository;
-import com.classhub.domain.company.company.model.VerifiedStatus;
+import com.classhub.domain.company.cache.BranchSnapshot;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.domain.member.dto.MemberPrincipal;
@@ -17,6 +16,7 @@ import com.classhub.domain.studentcourse.model.StudentCourseRecord;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.timetable.WeeklyTimetable;
 import com.classhub.global.util.KstTime;
 import com.classhub.global.validator.ScheduleTimeRangeValidator;
 import java.time.DayOfWeek;
@@ -38,18 +38,18 @@ public class ClinicSlotService {
 
     private final ClinicSlotRepository clinicSlotRepository;
     private final StudentCourseRecordRepository studentCourseRecordRepository;
-    private final BranchRepository branchRepository;
+    private final CompanyReferenceCache companyReferenceCache;
     private final CourseRepository courseRepository;
     private final ClinicBatchService clinicBatchService;
     private final ClinicPermissionValidator clinicPermissionValidator;
 
     public ClinicSlot createSlot(UUID teacherId, ClinicSlotCreateRequest request) {
         validateCreateRequest(request);
-        Branch branch = requireVerifiedBranch(request.branchId());
-        clinicPermissionValidator.ensureTeacherAssignment(teacherId, branch.getId());
+        BranchSnapshot branch = requireVerifiedBranch(request.branchId());
+        clinicPermissionValidator.ensureTeacherAssignment(teacherId, branch.id());
         ensureSlotNotOverlapping(
                 teacherId,
-                branch.getId(),
+                branch.id(),
                 request.dayOfWeek(),
                 request.startTime(),
                 request.endTime(),
@@ -59,7 +59,7 @@ public class ClinicSlotService {
         ClinicSlot slot = ClinicSlot.builder()
                 .teacherMemberId(teacherId)
                 .creatorMemberId(teacherId)
-                .branchId(branch.getId())
+                .branchId(branch.id())
                 .dayOfWeek(request.dayOfWeek())
                 .startTime(request.startTime())
                 .endTime(request.endTime())
@@ -123,8 +123,8 @@ public class ClinicSlotService {
         if (branchId == null) {
             throw new BusinessException(RsCode.BAD_REQUEST);
         }
-        Branch branch = requireVerifiedBranch(branchId);
-        clinicPermissionValidator.ensureTeacherAssignment(teacherId, branch.getId());
+        BranchSnapshot branch = requireVerifiedBranch(branchId);
+        clinicPermissionValidator.ensureTeacherAssignment(teacherId, branch.id());
         return clinicSlotRepository.findByTeacherMemberIdAndBranchIdAndDeletedAtIsNull(teacherId, branchId);
     }
 
@@ -246,10 +246,10 @@ public class ClinicSlotService {
         }
     }
 
-    private Branch requireVerifiedBranch(UUID branchId) {
-        Branch branch = branchRepository.findById(branchId)
+    private BranchSnapshot requireVerifiedBranch(UUID branchId) {
+        BranchSnapshot branch = companyReferenceCache.findBranch(branchId)
                 .orElseThrow(() -> new BusinessException(RsCode.BRANCH_NOT_FOUND));
-        if (branch.isDeleted() || branch.getVerifiedStatus() != VerifiedStatus.VERIFIED) {
+        if (!branch.isActiveAndVerified()) {
             throw new BusinessException(RsCode.FORBIDDEN);
         }
         return branch;
@@ -272,24 +272,11 @@ public class ClinicSlotService {
                                           LocalTime startTime,
                                           LocalTime endTime,
                                           UUID excludeId) {
-        List<ClinicSlot> slots = clinicSlotRepository
-                .findByTeacherMemberIdAndBranchIdAndDeletedAtIsNull(teacherId, branchId);
-        boolean overlapped = slots.stream()
-                .filter(slot -> excludeId == null || !slot.getId().equals(excludeId))
-                .anyMatch(slot -> isOverlapping(slot, dayOfWeek, startTime, endTime));
-        if (overlapped) {
+        WeeklyTimetable timetable = WeeklyTimetable.of(
+                clinicSlotRepository.findSchedulesByTeacherAndBranch(teacherId, branchId, excludeId)
+        );
+        if (timetable.intersects(dayOfWeek, startTime, endTime)) {
             throw new BusinessException(RsCode.CLINIC_SLOT_CONFLICT);
         }
     }
-
-    private boolean isOverlapping(ClinicSlot slot,
-                                  DayOfWeek dayOfWeek,
-                                  LocalTime startTime,
-                                  LocalTime endTime) {
-        if (slot.getDayOfWeek() != dayOfWeek) {
-            return false;
-        }
-        return slot.getStartTime().isBefore(endTime)
-                && startTime.isBefore(slot.getEndTime());
-    }
 }
@@ -1,6 +1,7 @@
 package com.classhub.domain.clinic.slot.repository;
 
 import com.classhub.domain.clinic.slot.model.ClinicSlot;
+import com.classhub.global.timetable.WeeklySchedule;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,6 +15,52 @@ public interface ClinicSlotRepository extends JpaRepository<ClinicSlot, UUID> {
 
     List<ClinicSlot> findByTeacherMemberIdAndBranchIdAndDeletedAtIsNull(UUID teacherMemberId, UUID branchId);
 
+    @Query("""
+            SELECT cs.dayOfWeek AS dayOfWeek,
+                   cs.startTime AS startTime,
+                   cs.endTime AS endTime
+            FROM ClinicSlot cs
+            WHERE cs.teacherMemberId = :teacherId
+              AND cs.branchId = :branchId
+              AND cs.deletedAt IS NULL
+              AND (:excludeId IS NULL OR cs.id <> :excludeId)
+            """)
+    List<WeeklySchedule> findSchedulesByTeacherAndBranch(
+            @Param("teacherId") UUID teacherId,
+            @Param("branchId") UUID branchId,
+            @Param("excludeId") UUID excludeId
+    );
+
+    @Query("""
+            SELECT cs.dayOfWeek AS dayOfWeek,
+                   cs.startTime AS startTime,
+                   cs.endTime AS endTime
+            FROM ClinicSlot cs
+            WHERE cs.teacherMemberId = :teacherId
+              AND cs.deletedAt IS NULL
+            """)
+    List<WeeklySchedule> findSchedulesByTeacher(@Param("teacherId") UUID teacherId);
+
+    /**
+     * 학생의 다른 수강 기록들이 기본 슬롯으로 잡은 클리닉 슬롯. 기본 슬롯 중복/시간 겹침 판정용이다.
+     */
+    @Query("""
+            SELECT cs.id AS slotId,
+                   cs.dayOfWeek AS dayOfWeek,
+                   cs.startTime AS startTime,
+                   cs.endTime AS endTime
+            FROM StudentCourseRecord scr
+            JOIN ClinicSlot cs ON cs.id = scr.defaultClinicSlotId
+            WHERE scr.studentMemberId = :studentId
+              AND scr.id <> :excludeRecordId
+              AND scr.deletedAt IS NULL
+              AND cs.deletedAt IS NULL
+            """)
+    List<StudentDefaultSlotProjection> findDefaultSlotsOfStudent(
+            @Param("studentId") UUID studentId,
+            @Param("excludeRecordId") UUID excludeRecordId
+    );
+
     List<ClinicSlot> findByDeletedAtIsNull();
 
     List<ClinicSlot> findByIdInAndDeletedAtIsNull(List<UUID> slotIds);
@@ -0,0 +1,9 @@
+package com.classhub.domain.clinic.slot.repository;
+
+import com.classhub.global.timetable.WeeklySchedule;
+import java.util.UUID;
+
+public interface StudentDefaultSlotProjection extends WeeklySchedule {
+
+    UUID getSlotId();
+}
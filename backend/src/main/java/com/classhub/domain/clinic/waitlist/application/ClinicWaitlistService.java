@@ -0,0 +1,183 @@
+package com.classhub.domain.clinic.waitlist.application;
+
+import com.classhub.domain.clinic.attendance.application.ClinicAttendanceBooking;
+import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
+import com.classhub.domain.clinic.attendance.support.ClinicAttendancePolicy;
+import com.classhub.domain.clinic.attendance.support.StudentWeeklyOccupancy;
+import com.classhub.domain.clinic.session.model.ClinicSession;
+import com.classhub.domain.clinic.session.repository.ClinicSessionRepository;
+import com.classhub.domain.clinic.waitlist.dto.response.ClinicWaitlistResponse;
+import com.classhub.domain.clinic.waitlist.model.ClinicWaitlist;
+import com.classhub.domain.clinic.waitlist.model.ClinicWaitlistStatus;
+import com.classhub.domain.clinic.waitlist.repository.ClinicWaitlistRepository;
+import com.classhub.domain.course.model.Course;
+import com.classhub.domain.course.repository.CourseRepository;
+import com.classhub.domain.member.dto.MemberPrincipal;
+import com.classhub.domain.member.model.MemberRole;
+import com.classhub.domain.studentcourse.model.StudentCourseRecord;
+import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
+import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.RsCode;
+import com.classhub.global.util.KstTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 정원이 찬 클리닉 세션의 FIFO 대기열. 출석 취소/삭제/이동으로 자리가 나면 같은 트랜잭션에서 맨 앞 학생을 승격한다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ClinicWaitlistService {
+
+    private final ClinicWaitlistRepository clinicWaitlistRepository;
+    private final ClinicSessionRepository clinicSessionRepository;
+    private final ClinicAttendanceRepository clinicAttendanceRepository;
+    private final StudentCourseRecordRepository studentCourseRecordRepository;
+    private final CourseRepository courseRepository;
+    private final ClinicAttendanceBooking clinicAttendanceBooking;
+
+    public ClinicWaitlistResponse joinWaitlist(MemberPrincipal principal, UUID sessionId, UUID courseId) {
+        ensureStudentRole(principal);
+        if (sessionId == null || courseId == null) {
+            throw new BusinessException(RsCode.BAD_REQUEST);
+        }
+        ClinicSession session = clinicSessionRepository.findByIdAndDeletedAtIsNull(sessionId)
+                .orElseThrow(RsCode.CLINIC_SESSION_NOT_FOUND::toException);
+        if (session.isCanceled()) {
+            throw new BusinessException(RsCode.CLINIC_SESSION_CANCELED);
+        }
+        if (ClinicAttendancePolicy.isLocked(session, LocalDateTime.now(KstTime.clock()))) {
+            throw new BusinessException(RsCode.CLINIC_ATTENDANCE_LOCKED);
+        }
+        StudentCourseRecord record = studentCourseRecordRepository
+                .findByStudentMemberIdAndCourseIdAndDeletedAtIsNull(principal.id(), courseId)
+                .orElseThrow(RsCode.STUDENT_COURSE_RECORD_NOT_FOUND::toException);
+        Course course = courseRepository.findById(record.getCourseId())
+                .orElseThrow(RsCode.COURSE_NOT_FOUND::toException);
+        if (!Objects.equals(course.getTeacherMemberId(), session.getTeacherMemberId())
+                || !Objects.equals(course.getBranchId(), session.getBranchId())) {
+            throw new BusinessException(RsCode.FORBIDDEN);
+        }
+        if (clinicAttendanceRepository.existsByClinicSessionIdAndStudentCourseRecordId(sessionId, record.getId())) {
+            throw new BusinessException(RsCode.CLINIC_ATTENDANCE_DUPLICATED);
+        }
+        if (session.getReservedCount() < session.getCapacity()) {
+            throw new BusinessException(RsCode.CLINIC_WAITLIST_SEAT_AVAILABLE);
+        }
+        // 승격 후 다시 취소한 학생은 이전 PROMOTED 항목을 지우고 맨 뒤로 다시 줄을 선다.
+        clinicWaitlistRepository.deleteBySessionAndRecordAndStatus(
+                sessionId, record.getId(), ClinicWaitlistStatus.PROMOTED
+        );
+        ClinicWaitlist waitlist = ClinicWaitlist.builder()
+                .clinicSessionId(sessionId)
+                .studentCourseRecordId(record.getId())
+                .studentMemberId(principal.id())
+                .build();
+        try {
+            waitlist = clinicWaitlistRepository.saveAndFlush(waitlist);
+        } catch (DataIntegrityViolationException ex) {
+            throw new BusinessException(RsCode.CLINIC_WAITLIST_DUPLICATED);
+        }
+        return ClinicWaitlistResponse.of(waitlist, countPosition(waitlist));
+    }
+
+    /**
+     * 폴링용 순번 조회. 기본키 조회 한 번과 (session, status, created_at) 인덱스 범위 COUNT 한 번으로 끝난다.
+     */
+    @Transactional(readOnly = true)
+    public ClinicWaitlistResponse getWaitlist(MemberPrincipal principal, UUID waitlistId) {
+        ClinicWaitlist waitlist = loadOwnWaitlist(principal, waitlistId);
+        Long position = waitlist.isWaiting() ? countPosition(waitlist) : null;
+        return ClinicWaitlistResponse.of(waitlist, position);
+    }
+
+    public void leaveWaitlist(MemberPrincipal principal, UUID waitlistId) {
+        ClinicWaitlist waitlist = loadOwnWaitlist(principal, waitlistId);
+        clinicWaitlistRepository.delete(waitlist);
+    }
+
+    /**
+     * 방금 자리가 난 세션에 대기열 맨 앞 학생을 출석으로 승격한다. 세션이 취소됐거나 잠금 시간에 들어섰으면 승격하지 않는다.
+     * 기록이 삭제됐거나 이미 출석 중이거나 시간이 겹치는 항목은 대기열에서 빼고 다음 학생으로 넘어간다.
+     */
+    public Optional<ClinicAttendance> promoteNext(ClinicSession session) {
+        if (session.isCanceled()
+                || ClinicAttendancePolicy.isLocked(session, LocalDateTime.now(KstTime.clock()))) {
+            return Optional.empty();
+        }
+        while (true) {
+            Optional<ClinicWaitlist> head = clinicWaitlistRepository
+                    .findFirstByClinicSessionIdAndStatusOrderByCreatedAtAscIdAsc(
+                            session.getId(), ClinicWaitlistStatus.WAITING
+                    );
+            if (head.isEmpty()) {
+                return Optional.empty();
+            }
+            ClinicWaitlist waitlist = head.get();
+            if (!isPromotable(waitlist, session)) {
+                clinicWaitlistRepository.delete(waitlist);
+                continue;
+            }
+            Optional<ClinicAttendance> attendance = clinicAttendanceBooking
+                    .bookIfAvailable(session.getId(), waitlist.getStudentCourseRecordId());
+            attendance.ifPresent(ignored -> waitlist.promote());
+            return attendance;
+        }
+    }
+
+    private boolean isPromotable(ClinicWaitlist waitlist, ClinicSession session) {
+        UUID recordId = waitlist.getStudentCourseRecordId();
+        Optional<StudentCourseRecord> record = studentCourseRecordRepository.findById(recordId)
+                .filter(found -> !found.isDeleted());
+        if (record.isEmpty()) {
+            return false;
+        }
+        StudentWeeklyOccupancy occupancy = new StudentWeeklyOccupancy(
+                List.of(record.get()),
+                clinicAttendanceRepository.findOccupancyByStudentIdsAndDateRange(
+                        List.of(record.get().getStudentMemberId()),
+                        session.getDate(),
+                        session.getDate()
+                )
+        );
+        return !occupancy.isBooked(recordId, session.getId())
+                && !occupancy.overlaps(recordId, session, null);
+    }
+
+    private long countPosition(ClinicWaitlist waitlist) {
+        return clinicWaitlistRepository.countAhead(
+                waitlist.getClinicSessionId(),
+                ClinicWaitlistStatus.WAITING,
+                waitlist.getCreatedAt(),
+                waitlist.getId()
+        ) + 1;
+    }
+
+    private ClinicWaitlist loadOwnWaitlist(MemberPrincipal principal, UUID waitlistId) {
+        ensureStudentRole(principal);
+        if (waitlistId == null) {
+            throw new BusinessException(RsCode.BAD_REQUEST);
+        }
+        ClinicWaitlist waitlist = clinicWaitlistRepository.findById(waitlistId)
+                .orElseThrow(RsCode.CLINIC_WAITLIST_NOT_FOUND::toException);
+        if (!Objects.equals(waitlist.getStudentMemberId(), principal.id())) {
+            throw new BusinessException(RsCode.FORBIDDEN);
+        }
+        return waitlist;
+    }
+
+    private void ensureStudentRole(MemberPrincipal principal) {
+        if (principal.role() != MemberRole.STUDENT) {
+            throw new BusinessException(RsCode.FORBIDDEN);
+        }
+    }
+}
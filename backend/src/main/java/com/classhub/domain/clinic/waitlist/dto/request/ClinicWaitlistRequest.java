@@ -0,0 +1,10 @@
+package com.classhub.domain.clinic.waitlist.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+public record ClinicWaitlistRequest(
+        @NotNull UUID clinicSessionId,
+        @NotNull UUID courseId
+) {
+}
@@ -0,0 +1,25 @@
+package com.classhub.domain.clinic.waitlist.dto.response;
+
+import com.classhub.domain.clinic.waitlist.model.ClinicWaitlist;
+import com.classhub.domain.clinic.waitlist.model.ClinicWaitlistStatus;
+import java.util.UUID;
+
+/**
+ * 대기 순번 응답. position은 1부터 시작하며, 승격된 항목은 null이다.
+ */
+public record ClinicWaitlistResponse(
+        UUID waitlistId,
+        UUID clinicSessionId,
+        ClinicWaitlistStatus status,
+        Long position
+) {
+
+    public static ClinicWaitlistResponse of(ClinicWaitlist waitlist, Long position) {
+        return new ClinicWaitlistResponse(
+                waitlist.getId(),
+                waitlist.getClinicSessionId(),
+                waitlist.getStatus(),
+                position
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.classhub.domain.clinic.waitlist.model;
+
+import com.classhub.global.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정원이 찬 클리닉 세션의 대기열 항목. 세션별로 created_at, id 순서가 곧 FIFO 순번이다.
+ * 승격된 항목은 PROMOTED로 남겨 두어 폴링 중인 학생이 결과를 확인할 수 있게 한다.
+ */
+@Getter
+@Entity
+@Table(
+        name = "clinic_waitlist",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_clinic_waitlist_session_record",
+                        columnNames = {"clinic_session_id", "student_course_record_id"}
+                )
+        },
+        indexes = {
+                @Index(name = "idx_clinic_waitlist_queue", columnList = "clinic_session_id, status, created_at"),
+                @Index(name = "idx_clinic_waitlist_student", columnList = "student_member_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ClinicWaitlist extends BaseEntity {
+
+    @Column(name = "clinic_session_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID clinicSessionId;
+
+    @Column(name = "student_course_record_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID studentCourseRecordId;
+
+    @Column(name = "student_member_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID studentMemberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ClinicWaitlistStatus status;
+
+    @Builder
+    private ClinicWaitlist(UUID clinicSessionId,
+                           UUID studentCourseRecordId,
+                           UUID studentMemberId) {
+        this.clinicSessionId = Objects.requireNonNull(clinicSessionId, "clinicSessionId must not be null");
+        this.studentCourseRecordId = Objects.requireNonNull(studentCourseRecordId, "studentCourseRecordId must not be null");
+        this.studentMemberId = Objects.requireNonNull(studentMemberId, "studentMemberId must not be null");
+        this.status = ClinicWaitlistStatus.WAITING;
+    }
+
+    public boolean isWaiting() {
+        return status == ClinicWaitlistStatus.WAITING;
+    }
+
+    public void promote() {
+        this.status = ClinicWaitlistStatus.PROMOTED;
+    }
+}
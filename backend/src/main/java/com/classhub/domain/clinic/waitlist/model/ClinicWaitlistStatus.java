@@ -0,0 +1,6 @@
+package com.classhub.domain.clinic.waitlist.model;
+
+public enum ClinicWaitlistStatus {
+    WAITING,
+    PROMOTED
+}
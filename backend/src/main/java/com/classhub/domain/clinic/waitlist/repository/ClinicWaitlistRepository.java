@@ -0,0 +1,46 @@
+package com.classhub.domain.clinic.waitlist.repository;
+
+import com.classhub.domain.clinic.waitlist.model.ClinicWaitlist;
+import com.classhub.domain.clinic.waitlist.model.ClinicWaitlistStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ClinicWaitlistRepository extends JpaRepository<ClinicWaitlist, UUID> {
+
+    /**
+     * 대기열 맨 앞 항목을 잠금 조회한다. 같은 세션의 동시 취소가 같은 학생을 두 번 승격하지 않도록 최신 커밋 기준으로 읽는다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ClinicWaitlist> findFirstByClinicSessionIdAndStatusOrderByCreatedAtAscIdAsc(UUID clinicSessionId,
+                                                                                        ClinicWaitlistStatus status);
+
+    @Query("""
+            SELECT COUNT(cw)
+            FROM ClinicWaitlist cw
+            WHERE cw.clinicSessionId = :sessionId
+              AND cw.status = :status
+              AND (cw.createdAt < :createdAt OR (cw.createdAt = :createdAt AND cw.id < :id))
+            """)
+    long countAhead(@Param("sessionId") UUID sessionId,
+                    @Param("status") ClinicWaitlistStatus status,
+                    @Param("createdAt") LocalDateTime createdAt,
+                    @Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            DELETE FROM ClinicWaitlist cw
+            WHERE cw.clinicSessionId = :sessionId
+              AND cw.studentCourseRecordId = :recordId
+              AND cw.status = :status
+            """)
+    int deleteBySessionAndRecordAndStatus(@Param("sessionId") UUID sessionId,
+                                          @Param("recordId") UUID recordId,
+                                          @Param("status") ClinicWaitlistStatus status);
+}
@@ -0,0 +1,64 @@
+package com.classhub.domain.clinic.waitlist.web;
+
+import com.classhub.domain.clinic.waitlist.application.ClinicWaitlistService;
+import com.classhub.domain.clinic.waitlist.dto.request.ClinicWaitlistRequest;
+import com.classhub.domain.clinic.waitlist.dto.response.ClinicWaitlistResponse;
+import com.classhub.domain.member.dto.MemberPrincipal;
+import com.classhub.global.response.RsCode;
+import com.classhub.global.response.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/students/me/clinic-waitlists")
+@RequiredArgsConstructor
+@Tag(name = "ClinicWaitlist API", description = "클리닉 대기열 API")
+public class ClinicWaitlistController {
+
+    private final ClinicWaitlistService clinicWaitlistService;
+
+    @PostMapping
+    @PreAuthorize("hasAuthority('STUDENT')")
+    @Operation(summary = "클리닉 대기 신청")
+    public RsData<ClinicWaitlistResponse> joinWaitlist(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            @Valid @RequestBody ClinicWaitlistRequest request
+    ) {
+        ClinicWaitlistResponse response = clinicWaitlistService
+                .joinWaitlist(principal, request.clinicSessionId(), request.courseId());
+        return RsData.from(RsCode.CREATED, response);
+    }
+
+    @GetMapping("/{waitlistId}")
+    @PreAuthorize("hasAuthority('STUDENT')")
+    @Operation(summary = "클리닉 대기 순번 조회")
+    public RsData<ClinicWaitlistResponse> getWaitlist(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            @PathVariable UUID waitlistId
+    ) {
+        return RsData.from(RsCode.SUCCESS, clinicWaitlistService.getWaitlist(principal, waitlistId));
+    }
+
+    @DeleteMapping("/{waitlistId}")
+    @PreAuthorize("hasAuthority('STUDENT')")
+    @Operation(summary = "클리닉 대기 취소")
+    public RsData<Void> leaveWaitlist(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            @PathVariable UUID waitlistId
+    ) {
+        clinicWaitlistService.leaveWaitlist(principal, waitlistId);
+        return RsData.from(RsCode.SUCCESS, null);
+    }
+}
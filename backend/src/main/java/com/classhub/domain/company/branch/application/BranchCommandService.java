@@ -6,6 +6,7 @@ import com.classhub.domain.company.branch.dto.request.BranchVerifiedStatusReques
 import com.classhub.domain.company.branch.dto.response.BranchResponse;
 import com.classhub.domain.company.branch.model.Branch;
 import com.classhub.domain.company.branch.repository.BranchRepository;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
 import com.classhub.domain.company.company.model.Company;
 import com.classhub.domain.company.company.model.CompanyType;
 import com.classhub.domain.company.company.model.VerifiedStatus;
@@ -26,6 +27,7 @@ public class BranchCommandService {
 
     private final BranchRepository branchRepository;
     private final CompanyRepository companyRepository;
+    private final CompanyReferenceCache companyReferenceCache;
 
     public BranchResponse createBranch(UUID teacherId, BranchCreateRequest request) {
         Objects.requireNonNull(teacherId, "teacherId must not be null");
@@ -80,6 +82,7 @@ public class BranchCommandService {
 
         Company company = loadCompany(branch.getCompanyId());
         Branch saved = branchRepository.save(branch);
+        companyReferenceCache.evictBranch(saved.getId());
         return BranchResponse.from(saved, company.getName());
     }
 
@@ -101,6 +104,7 @@ public class BranchCommandService {
 
         Company company = loadCompany(branch.getCompanyId());
         Branch saved = branchRepository.save(branch);
+        companyReferenceCache.evictBranch(saved.getId());
         return BranchResponse.from(saved, company.getName());
     }
 
@@ -0,0 +1,31 @@
+package com.classhub.domain.company.cache;
+
+import com.classhub.domain.company.branch.model.Branch;
+import com.classhub.domain.company.company.model.VerifiedStatus;
+import java.util.UUID;
+
+/**
+ * 캐시에 담는 Branch 조회 전용 사본. 영속성 컨텍스트와 무관하게 여러 요청이 공유한다.
+ */
+public record BranchSnapshot(
+        UUID id,
+        UUID companyId,
+        String name,
+        VerifiedStatus verifiedStatus,
+        boolean deleted
+) {
+
+    public static BranchSnapshot from(Branch branch) {
+        return new BranchSnapshot(
+                branch.getId(),
+                branch.getCompanyId(),
+                branch.getName(),
+                branch.getVerifiedStatus(),
+                branch.isDeleted()
+        );
+    }
+
+    public boolean isActiveAndVerified() {
+        return !deleted && verifiedStatus == VerifiedStatus.VERIFIED;
+    }
+}
@@ -0,0 +1,100 @@
+package com.classhub.domain.company.cache;
+
+import com.classhub.domain.company.branch.repository.BranchRepository;
+import com.classhub.domain.company.company.repository.CompanyRepository;
+import com.classhub.global.cache.CacheVersionTracker;
+import com.classhub.global.cache.NearCache;
+import com.classhub.global.datasource.PrimaryReads;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거의 바뀌지 않는 Branch/Company 행을 목록 조립·권한 확인용으로 캐시한다.
+ * - BranchCommandService/CompanyCommandService가 쓰기 트랜잭션 안에서 evict를 호출한다
+ * - 쓴 노드는 해당 key만 바로(트랜잭션 종료 시 한 번 더), 다른 노드는 cache_version 폴링으로 전체를 비운다
+ * - 빈 항목은 호출한 트랜잭션과 별도로 primary에서 읽어 채운다 (PrimaryReads). replica에서 채우면
+ *   검증 해제·삭제 직후 지연된 이전 상태가 다시 들어가 TTL 동안 남는다
+ * - 존재하지 않는 id는 캐시하지 않으므로 새로 만든 지점·회사는 바로 보인다
+ */
+@Component
+public class CompanyReferenceCache {
+
+    static final String CACHE_NAME = "company-reference";
+
+    private final BranchRepository branchRepository;
+    private final CompanyRepository companyRepository;
+    private final CacheVersionTracker cacheVersionTracker;
+    private final PrimaryReads primaryReads;
+    private final NearCache<UUID, BranchSnapshot> branches;
+    private final NearCache<UUID, CompanySnapshot> companies;
+
+    public CompanyReferenceCache(BranchRepository branchRepository,
+                                 CompanyRepository companyRepository,
+                                 CacheVersionTracker cacheVersionTracker,
+                                 PrimaryReads primaryReads,
+                                 Clock clock,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${custom.cache.reference.ttl-millis:600000}") long ttlMillis,
+                                 @Value("${custom.cache.reference.max-size:10000}") int maxSize) {
+        this.branchRepository = branchRepository;
+        this.companyRepository = companyRepository;
+        this.cacheVersionTracker = cacheVersionTracker;
+        this.primaryReads = primaryReads;
+        Duration ttl = Duration.ofMillis(ttlMillis);
+        this.branches = new NearCache<>("branch", clock, ttl, maxSize, meterRegistry);
+        this.companies = new NearCache<>("company", clock, ttl, maxSize, meterRegistry);
+        cacheVersionTracker.register(CACHE_NAME, this::invalidateAll);
+    }
+
+    public Map<UUID, BranchSnapshot> getBranches(Collection<UUID> branchIds) {
+        if (branchIds.isEmpty()) {
+            return Map.of();
+        }
+        return branches.getAll(branchIds, missing -> primaryReads.load(() -> {
+            Map<UUID, BranchSnapshot> loaded = new HashMap<>();
+            branchRepository.findAllById(missing)
+                    .forEach(branch -> loaded.put(branch.getId(), BranchSnapshot.from(branch)));
+            return loaded;
+        }));
+    }
+
+    public Optional<BranchSnapshot> findBranch(UUID branchId) {
+        return branches.get(branchId, id -> primaryReads.load(
+                () -> branchRepository.findById(id).map(BranchSnapshot::from)
+        ));
+    }
+
+    public Map<UUID, CompanySnapshot> getCompanies(Collection<UUID> companyIds) {
+        if (companyIds.isEmpty()) {
+            return Map.of();
+        }
+        return companies.getAll(companyIds, missing -> primaryReads.load(() -> {
+            Map<UUID, CompanySnapshot> loaded = new HashMap<>();
+            companyRepository.findAllById(missing)
+                    .forEach(company -> loaded.put(company.getId(), CompanySnapshot.from(company)));
+            return loaded;
+        }));
+    }
+
+    public void evictBranch(UUID branchId) {
+        cacheVersionTracker.bump(CACHE_NAME, () -> branches.invalidate(List.of(branchId)));
+    }
+
+    public void evictCompany(UUID companyId) {
+        cacheVersionTracker.bump(CACHE_NAME, () -> companies.invalidate(List.of(companyId)));
+    }
+
+    public void invalidateAll() {
+        branches.invalidateAll();
+        companies.invalidateAll();
+    }
+}
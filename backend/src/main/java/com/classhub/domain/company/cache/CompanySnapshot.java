@@ -0,0 +1,32 @@
+package com.classhub.domain.company.cache;
+
+import com.classhub.domain.company.company.model.Company;
+import com.classhub.domain.company.company.model.CompanyType;
+import com.classhub.domain.company.company.model.VerifiedStatus;
+import java.util.UUID;
+
+/**
+ * 캐시에 담는 Company 조회 전용 사본. 설명(TEXT)처럼 목록 조립에 쓰지 않는 컬럼은 담지 않는다.
+ */
+public record CompanySnapshot(
+        UUID id,
+        String name,
+        CompanyType type,
+        VerifiedStatus verifiedStatus,
+        boolean deleted
+) {
+
+    public static CompanySnapshot from(Company company) {
+        return new CompanySnapshot(
+                company.getId(),
+                company.getName(),
+                company.getType(),
+                company.getVerifiedStatus(),
+                company.isDeleted()
+        );
+    }
+
+    public boolean isActiveAndVerified() {
+        return !deleted && verifiedStatus == VerifiedStatus.VERIFIED;
+    }
+}
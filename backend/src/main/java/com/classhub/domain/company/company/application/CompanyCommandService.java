@@ -2,6 +2,7 @@ package com.classhub.domain.company.company.application;
 
 import com.classhub.domain.company.branch.model.Branch;
 import com.classhub.domain.company.branch.repository.BranchRepository;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
 import com.classhub.domain.company.company.dto.request.CompanyCreateRequest;
 import com.classhub.domain.company.company.dto.request.CompanyVerifiedStatusRequest;
 import com.classhub.domain.company.company.dto.response.CompanyResponse;
@@ -24,6 +25,7 @@ public class CompanyCommandService {
 
     private final CompanyRepository companyRepository;
     private final BranchRepository branchRepository;
+    private final CompanyReferenceCache companyReferenceCache;
 
     public CompanyResponse createCompany(UUID teacherId, CompanyCreateRequest request) {
         Objects.requireNonNull(teacherId, "teacherId must not be null");
@@ -73,6 +75,7 @@ public class CompanyCommandService {
         }
 
         Company saved = companyRepository.save(company);
+        companyReferenceCache.evictCompany(saved.getId());
         return CompanyResponse.from(saved);
     }
 }
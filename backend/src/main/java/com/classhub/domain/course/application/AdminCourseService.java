@@ -7,6 +7,7 @@ import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.search.KeywordSearchIndex;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -21,6 +22,7 @@ public class AdminCourseService {
 
     private final CourseRepository courseRepository;
     private final CourseViewAssembler courseViewAssembler;
+    private final KeywordSearchIndex keywordSearchIndex;
 
     @Transactional(readOnly = true)
     public PageResponse<CourseResponse> searchCourses(UUID teacherId,
@@ -35,7 +37,7 @@ public class AdminCourseService {
                 branchId,
                 companyId,
                 status,
-                normalizeKeyword(keyword),
+                keywordSearchIndex.courses(normalizeKeyword(keyword)),
                 PageRequest.of(page, size)
         );
         CourseViewAssembler.CourseContext context = courseViewAssembler.buildContext(result.getContent());
@@ -1,7 +1,6 @@
 package com.classhub.domain.course.application;
 
-import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.course.dto.CourseStatusFilter;
 import com.classhub.domain.course.dto.response.CourseResponse;
 import com.classhub.domain.course.dto.response.CourseWithTeacherResponse;
@@ -12,6 +11,7 @@ import com.classhub.domain.member.repository.MemberRepository;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.search.KeywordSearchIndex;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -29,10 +29,11 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AssistantCourseService {
 
-    private final TeacherAssistantAssignmentRepository assignmentRepository;
+    private final MembershipGraph membershipGraph;
     private final CourseRepository courseRepository;
     private final MemberRepository memberRepository;
     private final CourseViewAssembler courseViewAssembler;
+    private final KeywordSearchIndex keywordSearchIndex;
 
     @Transactional(readOnly = true)
     public PageResponse<CourseWithTeacherResponse> getCourses(UUID assistantId,
@@ -41,16 +42,13 @@ public class AssistantCourseService {
                                                               String keyword,
                                                               int page,
                                                               int size) {
-        List<TeacherAssistantAssignment> assignments = assignmentRepository
-                .findByAssistantMemberIdAndDeletedAtIsNull(assistantId);
-        if (assignments.isEmpty()) {
+        List<UUID> assignedTeacherIds = membershipGraph.getTeacherIdsOfAssistant(assistantId);
+        if (assignedTeacherIds.isEmpty()) {
             Page<CourseWithTeacherResponse> emptyPage = Page.empty(PageRequest.of(page, size));
             return PageResponse.from(emptyPage);
         }
 
-        Set<UUID> teacherIds = assignments.stream()
-                .map(TeacherAssistantAssignment::getTeacherMemberId)
-                .collect(Collectors.toSet());
+        Set<UUID> teacherIds = Set.copyOf(assignedTeacherIds);
 
         if (teacherFilter != null) {
             if (!teacherIds.contains(teacherFilter)) {
@@ -62,7 +60,7 @@ public class AssistantCourseService {
         Page<Course> courses = courseRepository.searchCoursesForAssistant(
                 teacherIds,
                 status,
-                normalizeKeyword(keyword),
+                keywordSearchIndex.courses(normalizeKeyword(keyword)),
                 PageRequest.of(page, size)
         );
         CourseViewAssembler.CourseContext context = courseViewAssembler.buildContext(courses.getContent());
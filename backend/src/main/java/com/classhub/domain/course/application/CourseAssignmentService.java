@@ -1,10 +1,9 @@
 package com.classhub.domain.course.application;
 
-import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.assignment.model.TeacherStudentAssignment;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
 import com.classhub.domain.assignment.repository.TeacherStudentAssignmentRepository;
-import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
+import com.classhub.domain.clinic.attendance.application.ClinicAttendanceBooking;
 import com.classhub.domain.clinic.slot.application.ClinicDefaultSlotService;
 import com.classhub.domain.course.dto.response.CourseResponse;
 import com.classhub.domain.course.dto.response.CourseStudentResponse;
@@ -26,6 +25,8 @@ import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepositor
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.search.KeywordCandidates;
+import com.classhub.global.search.KeywordSearchIndex;
 import com.classhub.global.util.KstTime;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -48,15 +49,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class CourseAssignmentService {
 
     private final CourseRepository courseRepository;
-    private final TeacherAssistantAssignmentRepository assistantAssignmentRepository;
+    private final MembershipGraph membershipGraph;
     private final TeacherStudentAssignmentRepository teacherStudentAssignmentRepository;
     private final StudentCourseAssignmentRepository studentCourseAssignmentRepository;
     private final StudentCourseRecordRepository studentCourseRecordRepository;
     private final MemberRepository memberRepository;
     private final StudentInfoRepository studentInfoRepository;
     private final CourseViewAssembler courseViewAssembler;
-    private final ClinicAttendanceRepository clinicAttendanceRepository;
+    private final ClinicAttendanceBooking clinicAttendanceBooking;
     private final ClinicDefaultSlotService clinicDefaultSlotService;
+    private final KeywordSearchIndex keywordSearchIndex;
 
     public PageResponse<CourseResponse> getAssignableCourses(MemberPrincipal principal,
                                                              UUID branchId,
@@ -64,30 +66,25 @@ public class CourseAssignmentService {
                                                              int page,
                                                              int size) {
         PageRequest pageable = PageRequest.of(page, size);
-        String normalizedKeyword = normalizeKeyword(keyword);
+        KeywordCandidates candidates = keywordSearchIndex.courses(normalizeKeyword(keyword));
         LocalDate today = LocalDate.now(KstTime.clock());
         Page<Course> coursePage;
         if (principal.role() == MemberRole.TEACHER) {
             coursePage = courseRepository.searchAssignableCoursesForTeacher(
                     principal.id(),
                     branchId,
-                    normalizedKeyword,
+                    candidates,
                     today,
                     pageable);
         } else if (principal.role() == MemberRole.ASSISTANT) {
-            List<TeacherAssistantAssignment> assignments = assistantAssignmentRepository
-                    .findByAssistantMemberIdAndDeletedAtIsNull(principal.id());
-            if (assignments.isEmpty()) {
+            List<UUID> teacherIds = membershipGraph.getTeacherIdsOfAssistant(principal.id());
+            if (teacherIds.isEmpty()) {
                 return PageResponse.from(new PageImpl<>(List.of(), pageable, 0));
             }
-            List<UUID> teacherIds = assignments.stream()
-                    .map(TeacherAssistantAssignment::getTeacherMemberId)
-                    .distinct()
-                    .toList();
             coursePage = courseRepository.searchAssignableCoursesForTeachers(
                     teacherIds,
                     branchId,
-                    normalizedKeyword,
+                    candidates,
                     today,
                     pageable);
         } else {
@@ -114,7 +111,12 @@ public class CourseAssignmentService {
         List<UUID> excludeIds = studentCourseAssignmentRepository.findStudentMemberIdsByCourseId(courseId);
         List<UUID> effectiveExcludes = excludeIds.isEmpty() ? null : excludeIds;
         Page<TeacherStudentAssignment> assignmentPage = teacherStudentAssignmentRepository
-                .searchAssignmentsForTeacher(course.getTeacherMemberId(), normalizeKeyword(keyword), effectiveExcludes, pageable);
+                .searchAssignmentsForTeacher(
+                        course.getTeacherMemberId(),
+                        keywordSearchIndex.students(normalizeKeyword(keyword)),
+                        effectiveExcludes,
+                        pageable
+                );
 
         if (assignmentPage.isEmpty()) {
             return PageResponse.from(new PageImpl<>(List.of(), pageable, 0));
@@ -198,9 +200,7 @@ public class CourseAssignmentService {
                                                             StudentCourseAssignmentCreateRequest request) {
         Course course = loadCourse(request.courseId());
         ensurePermission(principal, course.getTeacherMemberId());
-        boolean linked = teacherStudentAssignmentRepository
-                .existsByTeacherMemberIdAndStudentMemberIdAndDeletedAtIsNull(course.getTeacherMemberId(), request.studentId());
-        if (!linked) {
+        if (!membershipGraph.isStudentOf(course.getTeacherMemberId(), request.studentId())) {
             throw new BusinessException(RsCode.FORBIDDEN);
         }
         boolean exists = studentCourseAssignmentRepository
@@ -258,7 +258,7 @@ public class CourseAssignmentService {
             }
             studentCourseRecordRepository.save(record);
             LocalDateTime now = LocalDateTime.now(KstTime.clock());
-            clinicAttendanceRepository.deleteUpcomingAttendances(record.getId(), now.toLocalDate(), now.toLocalTime());
+            clinicAttendanceBooking.cancelUpcoming(record.getId(), now);
         }
         return StudentCourseAssignmentResponse.from(assignment);
     }
@@ -297,10 +297,7 @@ public class CourseAssignmentService {
             return;
         }
         if (principal.role() == MemberRole.ASSISTANT) {
-            boolean allowed = assistantAssignmentRepository
-                    .findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(teacherId, principal.id())
-                    .isPresent();
-            if (!allowed) {
+            if (!membershipGraph.isAssistantOf(teacherId, principal.id())) {
                 throw new BusinessException(RsCode.FORBIDDEN);
             }
             return;
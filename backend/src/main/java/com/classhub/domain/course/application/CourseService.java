@@ -1,9 +1,10 @@
 package com.classhub.domain.course.application;
 
-import com.classhub.domain.assignment.model.TeacherBranchAssignment;
-import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.company.branch.model.Branch;
 import com.classhub.domain.company.branch.repository.BranchRepository;
+import com.classhub.domain.company.cache.BranchSnapshot;
+import com.classhub.domain.company.cache.CompanySnapshot;
 import com.classhub.domain.company.company.model.Company;
 import com.classhub.domain.company.company.model.VerifiedStatus;
 import com.classhub.domain.company.company.repository.CompanyRepository;
@@ -18,8 +19,14 @@ import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.domain.course.validator.CoursePeriodValidator;
 import com.classhub.domain.course.validator.CourseScheduleValidator;
 import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.CursorSliceResponse;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.search.KeywordCandidates;
+import com.classhub.global.search.KeywordSearchIndex;
+import com.classhub.global.timetable.WeeklyTimetable;
+import com.classhub.global.util.ListingCountCache;
+import com.classhub.global.util.SeekCursor;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -39,18 +46,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class CourseService {
 
     private final CourseRepository courseRepository;
-    private final TeacherBranchAssignmentRepository teacherBranchAssignmentRepository;
+    private final MembershipGraph membershipGraph;
     private final BranchRepository branchRepository;
     private final CompanyRepository companyRepository;
     private final CourseViewAssembler courseViewAssembler;
+    private final ListingCountCache listingCountCache;
+    private final KeywordSearchIndex keywordSearchIndex;
 
     public CourseResponse createCourse(UUID teacherId, CourseCreateRequest request) {
         Branch branch = requireActiveBranch(request.branchId());
         Company company = requireCompany(branch.getCompanyId());
-        teacherBranchAssignmentRepository
-                .findByTeacherMemberIdAndBranchId(teacherId, request.branchId())
-                .filter(TeacherBranchAssignment::isActive)
-                .orElseThrow(() -> new BusinessException(RsCode.COURSE_FORBIDDEN));
+        if (!membershipGraph.isAssignedToBranch(teacherId, request.branchId())) {
+            throw new BusinessException(RsCode.COURSE_FORBIDDEN);
+        }
 
         CoursePeriodValidator.validate(request.startDate(), request.endDate());
         Set<Course.CourseSchedule> schedules = toSchedules(request.schedules());
@@ -86,7 +94,7 @@ public class CourseService {
                 teacherId,
                 branchId,
                 status,
-                normalizeKeyword(keyword),
+                keywordSearchIndex.courses(normalizeKeyword(keyword)),
                 PageRequest.of(page, size)
         );
         CourseViewAssembler.CourseContext context = courseViewAssembler.buildContext(result.getContent());
@@ -94,6 +102,49 @@ public class CourseService {
         return PageResponse.from(mapped);
     }
 
+    /**
+     * Course 목록의 커서 모드. OFFSET/COUNT 없이 (createdAt, id) 키로 이어 읽고, 전체 건수는 요청할 때만 캐시를 거쳐 센다.
+     */
+    @Transactional(readOnly = true)
+    public CursorSliceResponse<CourseResponse> getCoursesByCursor(UUID teacherId,
+                                                                  CourseStatusFilter status,
+                                                                  UUID branchId,
+                                                                  String keyword,
+                                                                  String cursor,
+                                                                  int size,
+                                                                  boolean includeTotal) {
+        CursorSliceResponse.validateSize(size);
+        SeekCursor seek = SeekCursor.decode(cursor);
+        String normalizedKeyword = normalizeKeyword(keyword);
+        KeywordCandidates candidates = keywordSearchIndex.courses(normalizedKeyword);
+        List<Course> rows = courseRepository.searchCoursesAfter(
+                teacherId,
+                branchId,
+                status,
+                candidates,
+                SeekCursor.createdAtOf(seek),
+                SeekCursor.idOf(seek),
+                CursorSliceResponse.fetchLimit(size)
+        );
+        Long total = includeTotal
+                ? listingCountCache.get(
+                        ListingCountCache.key("courses", teacherId, branchId, status, normalizedKeyword),
+                        () -> courseRepository.countCourses(teacherId, branchId, status, candidates))
+                : null;
+        return CursorSliceResponse.of(
+                rows,
+                size,
+                course -> new SeekCursor(course.getCreatedAt(), course.getId()),
+                courses -> {
+                    CourseViewAssembler.CourseContext context = courseViewAssembler.buildContext(courses);
+                    return courses.stream()
+                            .map(course -> courseViewAssembler.toCourseResponse(course, context))
+                            .toList();
+                },
+                total
+        );
+    }
+
     @Transactional(readOnly = true)
     public List<CourseResponse> getCoursesWithinPeriod(UUID teacherId,
                                                        LocalDate startDate,
@@ -218,8 +269,8 @@ public class CourseService {
 
     private CourseResponse toCourseResponse(Course course, Branch branch, Company company) {
         CourseViewAssembler.CourseContext context = new CourseViewAssembler.CourseContext(
-                Map.of(branch.getId(), branch),
-                Map.of(company.getId(), company),
+                Map.of(branch.getId(), BranchSnapshot.from(branch)),
+                Map.of(company.getId(), CompanySnapshot.from(company)),
                 Map.of(branch.getId(), company.getId())
         );
         return courseViewAssembler.toCourseResponse(course, context);
@@ -233,28 +284,14 @@ public class CourseService {
         if (schedules == null || schedules.isEmpty()) {
             return;
         }
-        List<Course> overlaps = courseRepository.findOverlappingCourses(
+        WeeklyTimetable existing = WeeklyTimetable.of(courseRepository.findOverlappingSchedules(
                 teacherId,
                 startDate,
                 endDate,
                 excludeId
-        );
-        for (Course course : overlaps) {
-            for (Course.CourseSchedule existing : course.getSchedules()) {
-                for (Course.CourseSchedule candidate : schedules) {
-                    if (isScheduleOverlapping(existing, candidate)) {
-                        throw new BusinessException(RsCode.COURSE_SCHEDULE_OVERLAP);
-                    }
-                }
-            }
-        }
-    }
-
-    private boolean isScheduleOverlapping(Course.CourseSchedule existing, Course.CourseSchedule candidate) {
-        if (existing.getDayOfWeek() != candidate.getDayOfWeek()) {
-            return false;
+        ));
+        if (existing.intersects(WeeklyTimetable.of(schedules))) {
+            throw new BusinessException(RsCode.COURSE_SCHEDULE_OVERLAP);
         }
-        return existing.getStartTime().isBefore(candidate.getEndTime())
-                && candidate.getStartTime().isBefore(existing.getEndTime());
     }
 }
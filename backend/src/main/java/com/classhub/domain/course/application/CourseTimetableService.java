@@ -0,0 +1,54 @@
+package com.classhub.domain.course.application;
+
+import com.classhub.domain.clinic.slot.repository.ClinicSlotRepository;
+import com.classhub.domain.course.dto.response.CourseScheduleResponse;
+import com.classhub.domain.course.repository.CourseRepository;
+import com.classhub.domain.course.validator.CoursePeriodValidator;
+import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.RsCode;
+import com.classhub.global.timetable.WeeklySchedule;
+import com.classhub.global.timetable.WeeklyTimetable;
+import com.classhub.global.validator.ScheduleTimeRangeValidator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 선생님의 주간 빈 시간 추천.
+ * 기간이 겹치는 수업 일정과 모든 지점의 클리닉 슬롯을 한 주 시간표에 겹쳐 찍고,
+ * 수업 가능 시간대(06:00~22:00) 중 minMinutes 이상 비어 있는 구간을 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CourseTimetableService {
+
+    private final CourseRepository courseRepository;
+    private final ClinicSlotRepository clinicSlotRepository;
+
+    public List<CourseScheduleResponse> getFreeWindows(UUID teacherId,
+                                                       LocalDate startDate,
+                                                       LocalDate endDate,
+                                                       int minMinutes) {
+        CoursePeriodValidator.validate(startDate, endDate);
+        if (minMinutes <= 0) {
+            throw new BusinessException(RsCode.BAD_REQUEST);
+        }
+        List<WeeklySchedule> occupied = new ArrayList<>(
+                courseRepository.findOverlappingSchedules(teacherId, startDate, endDate, null)
+        );
+        occupied.addAll(clinicSlotRepository.findSchedulesByTeacher(teacherId));
+        WeeklyTimetable busy = WeeklyTimetable.of(occupied);
+        return busy.freeWindows(
+                        ScheduleTimeRangeValidator.EARLIEST_START,
+                        ScheduleTimeRangeValidator.LATEST_END,
+                        minMinutes
+                ).stream()
+                .map(window -> new CourseScheduleResponse(window.dayOfWeek(), window.startTime(), window.endTime()))
+                .toList();
+    }
+}
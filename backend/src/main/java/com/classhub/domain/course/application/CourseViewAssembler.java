@@ -1,9 +1,8 @@
 package com.classhub.domain.course.application;
 
-import com.classhub.domain.company.branch.model.Branch;
-import com.classhub.domain.company.branch.repository.BranchRepository;
-import com.classhub.domain.company.company.model.Company;
-import com.classhub.domain.company.company.repository.CompanyRepository;
+import com.classhub.domain.company.cache.BranchSnapshot;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
+import com.classhub.domain.company.cache.CompanySnapshot;
 import com.classhub.domain.course.dto.response.CourseResponse;
 import com.classhub.domain.course.dto.response.CourseScheduleResponse;
 import com.classhub.domain.course.model.Course;
@@ -22,33 +21,32 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CourseViewAssembler {
 
-    private final BranchRepository branchRepository;
-    private final CompanyRepository companyRepository;
+    private final CompanyReferenceCache companyReferenceCache;
 
     public CourseContext buildContext(Collection<Course> courses) {
-        Map<UUID, Branch> branchMap = loadBranchMap(courses);
-        Map<UUID, Company> companyMap = loadCompanyMap(branchMap);
+        Map<UUID, BranchSnapshot> branchMap = loadBranchMap(courses);
+        Map<UUID, CompanySnapshot> companyMap = loadCompanyMap(branchMap);
         Map<UUID, UUID> branchCompanyMap = branchMap.values().stream()
-                .collect(Collectors.toMap(Branch::getId, Branch::getCompanyId));
+                .collect(Collectors.toMap(BranchSnapshot::id, BranchSnapshot::companyId));
         return new CourseContext(branchMap, companyMap, branchCompanyMap);
     }
 
     public CourseResponse toCourseResponse(Course course, CourseContext context) {
-        Branch branch = context.branches().get(course.getBranchId());
-        if (branch == null || branch.isDeleted()) {
+        BranchSnapshot branch = context.branches().get(course.getBranchId());
+        if (branch == null || branch.deleted()) {
             throw new BusinessException(RsCode.BRANCH_NOT_FOUND);
         }
-        UUID companyId = context.branchCompanyMap().get(branch.getId());
-        Company company = context.companies().get(companyId);
-        if (company == null || company.isDeleted()) {
+        UUID companyId = context.branchCompanyMap().get(branch.id());
+        CompanySnapshot company = context.companies().get(companyId);
+        if (company == null || company.deleted()) {
             throw new BusinessException(RsCode.COMPANY_NOT_FOUND);
         }
         return new CourseResponse(
                 course.getId(),
-                branch.getId(),
-                branch.getName(),
-                company.getId(),
-                company.getName(),
+                branch.id(),
+                branch.name(),
+                company.id(),
+                company.name(),
                 course.getName(),
                 course.getDescription(),
                 course.getStartDate(),
@@ -58,30 +56,28 @@ public class CourseViewAssembler {
         );
     }
 
-    private Map<UUID, Branch> loadBranchMap(Collection<Course> courses) {
+    private Map<UUID, BranchSnapshot> loadBranchMap(Collection<Course> courses) {
         List<UUID> branchIds = courses.stream()
                 .map(Course::getBranchId)
                 .distinct()
                 .toList();
-        List<Branch> branches = branchRepository.findAllById(branchIds);
+        Map<UUID, BranchSnapshot> branches = companyReferenceCache.getBranches(branchIds);
         if (branches.size() < branchIds.size()) {
             throw new BusinessException(RsCode.BRANCH_NOT_FOUND);
         }
-        return branches.stream()
-                .collect(Collectors.toMap(Branch::getId, branch -> branch));
+        return branches;
     }
 
-    private Map<UUID, Company> loadCompanyMap(Map<UUID, Branch> branchMap) {
+    private Map<UUID, CompanySnapshot> loadCompanyMap(Map<UUID, BranchSnapshot> branchMap) {
         List<UUID> companyIds = branchMap.values().stream()
-                .map(Branch::getCompanyId)
+                .map(BranchSnapshot::companyId)
                 .distinct()
                 .toList();
-        List<Company> companies = companyRepository.findAllById(companyIds);
+        Map<UUID, CompanySnapshot> companies = companyReferenceCache.getCompanies(companyIds);
         if (companies.size() < companyIds.size()) {
             throw new BusinessException(RsCode.COMPANY_NOT_FOUND);
         }
-        return companies.stream()
-                .collect(Collectors.toMap(Company::getId, company -> company));
+        return companies;
     }
 
     private List<CourseScheduleResponse> toScheduleResponses(Collection<Course.CourseSchedule> schedules) {
@@ -98,8 +94,8 @@ public class CourseViewAssembler {
     }
 
     public record CourseContext(
-            Map<UUID, Branch> branches,
-            Map<UUID, Company> companies,
+            Map<UUID, BranchSnapshot> branches,
+            Map<UUID, CompanySnapshot> companies,
             Map<UUID, UUID> branchCompanyMap
     ) {
     }
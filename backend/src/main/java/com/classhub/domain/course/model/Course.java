@@ -1,11 +1,14 @@
 package com.classhub.domain.course.model;
 
 import com.classhub.global.entity.BaseEntity;
+import com.classhub.global.search.SearchIndexEntityListener;
+import com.classhub.global.timetable.WeeklySchedule;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -25,11 +28,13 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @Entity
+@EntityListeners(SearchIndexEntityListener.class)
 @Table(
         name = "course",
         indexes = {
                 @Index(name = "idx_course_branch", columnList = "branch_id"),
-                @Index(name = "idx_course_teacher", columnList = "teacher_member_id")
+                @Index(name = "idx_course_teacher", columnList = "teacher_member_id"),
+                @Index(name = "idx_course_teacher_created", columnList = "teacher_member_id, created_at, id")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -137,7 +142,7 @@ public class Course extends BaseEntity {
     @Embeddable
     @Getter
     @NoArgsConstructor(access = AccessLevel.PROTECTED)
-    public static class CourseSchedule {
+    public static class CourseSchedule implements WeeklySchedule {
 
         @Column(name = "day_of_week", nullable = false, length = 10)
         private DayOfWeek dayOfWeek;
@@ -3,7 +3,10 @@ package com.classhub.domain.course.repository;
 import com.classhub.domain.company.branch.model.Branch;
 import com.classhub.domain.course.dto.CourseStatusFilter;
 import com.classhub.domain.course.model.Course;
+import com.classhub.global.search.KeywordCandidates;
+import com.classhub.global.timetable.WeeklySchedule;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -19,13 +22,22 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
             UUID teacherId,
             UUID branchId,
             CourseStatusFilter status,
-            String keyword,
+            KeywordCandidates keyword,
             Pageable pageable
     ) {
         CourseStatusFilter effective = status == null ? CourseStatusFilter.ALL : status;
         boolean activeOnly = effective == CourseStatusFilter.ACTIVE;
         boolean inactiveOnly = effective == CourseStatusFilter.INACTIVE;
-        return searchCoursesInternal(teacherId, branchId, activeOnly, inactiveOnly, keyword, pageable);
+        return searchCoursesInternal(
+                teacherId,
+                branchId,
+                activeOnly,
+                inactiveOnly,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                pageable
+        );
     }
 
     @Query("""
@@ -34,6 +46,7 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
             WHERE c.teacherMemberId = :teacherId
               AND (:branchId IS NULL OR c.branchId = :branchId)
               AND (:keyword IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR c.id IN :keywordIds)
               AND (:activeOnly = false OR c.deletedAt IS NULL)
               AND (:inactiveOnly = false OR c.deletedAt IS NOT NULL)
             """)
@@ -43,9 +56,98 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
             @Param("activeOnly") boolean activeOnly,
             @Param("inactiveOnly") boolean inactiveOnly,
             @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
             Pageable pageable
     );
 
+    /**
+     * searchCourses의 커서 모드. (createdAt DESC, id DESC) 순으로 커서 다음 행부터 읽고 COUNT는 하지 않는다.
+     */
+    default List<Course> searchCoursesAfter(UUID teacherId,
+                                            UUID branchId,
+                                            CourseStatusFilter status,
+                                            KeywordCandidates keyword,
+                                            LocalDateTime cursorCreatedAt,
+                                            UUID cursorId,
+                                            Pageable pageable) {
+        CourseStatusFilter effective = status == null ? CourseStatusFilter.ALL : status;
+        return searchCoursesAfterInternal(
+                teacherId,
+                branchId,
+                effective == CourseStatusFilter.ACTIVE,
+                effective == CourseStatusFilter.INACTIVE,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                cursorCreatedAt,
+                cursorId,
+                pageable
+        );
+    }
+
+    @Query("""
+            SELECT c
+            FROM Course c
+            WHERE c.teacherMemberId = :teacherId
+              AND (:branchId IS NULL OR c.branchId = :branchId)
+              AND (:keyword IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR c.id IN :keywordIds)
+              AND (:activeOnly = false OR c.deletedAt IS NULL)
+              AND (:inactiveOnly = false OR c.deletedAt IS NOT NULL)
+              AND (
+                :cursorCreatedAt IS NULL
+                OR c.createdAt < :cursorCreatedAt
+                OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)
+              )
+            ORDER BY c.createdAt DESC, c.id DESC
+            """)
+    List<Course> searchCoursesAfterInternal(
+            @Param("teacherId") UUID teacherId,
+            @Param("branchId") UUID branchId,
+            @Param("activeOnly") boolean activeOnly,
+            @Param("inactiveOnly") boolean inactiveOnly,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable
+    );
+
+    default long countCourses(UUID teacherId, UUID branchId, CourseStatusFilter status, KeywordCandidates keyword) {
+        CourseStatusFilter effective = status == null ? CourseStatusFilter.ALL : status;
+        return countCoursesInternal(
+                teacherId,
+                branchId,
+                effective == CourseStatusFilter.ACTIVE,
+                effective == CourseStatusFilter.INACTIVE,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids()
+        );
+    }
+
+    @Query("""
+            SELECT COUNT(c)
+            FROM Course c
+            WHERE c.teacherMemberId = :teacherId
+              AND (:branchId IS NULL OR c.branchId = :branchId)
+              AND (:keyword IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR c.id IN :keywordIds)
+              AND (:activeOnly = false OR c.deletedAt IS NULL)
+              AND (:inactiveOnly = false OR c.deletedAt IS NOT NULL)
+            """)
+    long countCoursesInternal(
+            @Param("teacherId") UUID teacherId,
+            @Param("branchId") UUID branchId,
+            @Param("activeOnly") boolean activeOnly,
+            @Param("inactiveOnly") boolean inactiveOnly,
+            @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds
+    );
+
     @Query("""
             SELECT c
             FROM Course c
@@ -60,17 +162,22 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
             @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * 기간이 겹치는 선생님의 활성 수업 일정(요일·시간)만 읽는다. 겹침 검사·빈 시간 계산용으로 Course는 만들지 않는다.
+     */
     @Query("""
-            SELECT DISTINCT c
+            SELECT s.dayOfWeek AS dayOfWeek,
+                   s.startTime AS startTime,
+                   s.endTime AS endTime
             FROM Course c
-            LEFT JOIN FETCH c.schedules s
+            JOIN c.schedules s
             WHERE c.teacherMemberId = :teacherId
               AND c.deletedAt IS NULL
               AND c.startDate <= :endDate
               AND c.endDate >= :startDate
               AND (:excludeId IS NULL OR c.id <> :excludeId)
             """)
-    List<Course> findOverlappingCourses(
+    List<WeeklySchedule> findOverlappingSchedules(
             @Param("teacherId") UUID teacherId,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
@@ -81,7 +188,7 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
                                                UUID branchId,
                                                UUID companyId,
                                                CourseStatusFilter status,
-                                               String keyword,
+                                               KeywordCandidates keyword,
                                                Pageable pageable) {
         CourseStatusFilter effective = status == null ? CourseStatusFilter.ALL : status;
         boolean activeOnly = effective == CourseStatusFilter.ACTIVE;
@@ -92,7 +199,9 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
                 companyId,
                 activeOnly,
                 inactiveOnly,
-                keyword,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
                 pageable
         );
     }
@@ -105,6 +214,7 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
               AND (:branchId IS NULL OR c.branchId = :branchId)
               AND (:companyId IS NULL OR b.companyId = :companyId)
               AND (:keyword IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR c.id IN :keywordIds)
               AND (:activeOnly = false OR c.deletedAt IS NULL)
               AND (:inactiveOnly = false OR c.deletedAt IS NOT NULL)
             """)
@@ -115,12 +225,14 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
             @Param("activeOnly") boolean activeOnly,
             @Param("inactiveOnly") boolean inactiveOnly,
             @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
             Pageable pageable
     );
 
     default Page<Course> searchCoursesForAssistant(Collection<UUID> teacherIds,
                                                    CourseStatusFilter status,
-                                                   String keyword,
+                                                   KeywordCandidates keyword,
                                                    Pageable pageable) {
         if (teacherIds == null || teacherIds.isEmpty()) {
             return Page.empty(pageable);
@@ -132,7 +244,9 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
                 teacherIds,
                 activeOnly,
                 inactiveOnly,
-                keyword,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
                 pageable
         );
     }
@@ -142,6 +256,7 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
             FROM Course c
             WHERE c.teacherMemberId IN :teacherIds
               AND (:keyword IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR c.id IN :keywordIds)
               AND (:activeOnly = false OR c.deletedAt IS NULL)
               AND (:inactiveOnly = false OR c.deletedAt IS NOT NULL)
             """)
@@ -150,6 +265,8 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
             @Param("activeOnly") boolean activeOnly,
             @Param("inactiveOnly") boolean inactiveOnly,
             @Param("keyword") String keyword,
+            @Param("keywordFiltered") boolean keywordFiltered,
+            @Param("keywordIds") Collection<UUID> keywordIds,
             Pageable pageable
     );
 
@@ -196,6 +313,22 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
             Pageable pageable
     );
 
+    default Page<Course> searchAssignableCoursesForTeacher(UUID teacherId,
+                                                           UUID branchId,
+                                                           KeywordCandidates keyword,
+                                                           LocalDate today,
+                                                           Pageable pageable) {
+        return searchAssignableCoursesForTeacherInternal(
+                teacherId,
+                branchId,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                today,
+                pageable
+        );
+    }
+
     @Query("""
             SELECT c
             FROM Course c
@@ -204,22 +337,33 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
               AND c.endDate >= :today
               AND (:branchId IS NULL OR c.branchId = :branchId)
               AND (:keyword IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR c.id IN :keywordIds)
             """)
-    Page<Course> searchAssignableCoursesForTeacher(@Param("teacherId") UUID teacherId,
-                                                   @Param("branchId") UUID branchId,
-                                                   @Param("keyword") String keyword,
-                                                   @Param("today") LocalDate today,
-                                                   Pageable pageable);
+    Page<Course> searchAssignableCoursesForTeacherInternal(@Param("teacherId") UUID teacherId,
+                                                           @Param("branchId") UUID branchId,
+                                                           @Param("keyword") String keyword,
+                                                           @Param("keywordFiltered") boolean keywordFiltered,
+                                                           @Param("keywordIds") Collection<UUID> keywordIds,
+                                                           @Param("today") LocalDate today,
+                                                           Pageable pageable);
 
     default Page<Course> searchAssignableCoursesForTeachers(Collection<UUID> teacherIds,
                                                             UUID branchId,
-                                                            String keyword,
+                                                            KeywordCandidates keyword,
                                                             LocalDate today,
                                                             Pageable pageable) {
         if (teacherIds == null || teacherIds.isEmpty()) {
             return Page.empty(pageable);
         }
-        return searchAssignableCoursesForTeachersInternal(teacherIds, branchId, keyword, today, pageable);
+        return searchAssignableCoursesForTeachersInternal(
+                teacherIds,
+                branchId,
+                keyword.likeKeyword(),
+                keyword.filtered(),
+                keyword.ids(),
+                today,
+                pageable
+        );
     }
 
     @Query("""
@@ -230,10 +374,13 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
               AND c.endDate >= :today
               AND (:branchId IS NULL OR c.branchId = :branchId)
               AND (:keyword IS NULL OR LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:keywordFiltered = false OR c.id IN :keywordIds)
             """)
     Page<Course> searchAssignableCoursesForTeachersInternal(@Param("teacherIds") Collection<UUID> teacherIds,
                                                             @Param("branchId") UUID branchId,
                                                             @Param("keyword") String keyword,
+                                                            @Param("keywordFiltered") boolean keywordFiltered,
+                                                            @Param("keywordIds") Collection<UUID> keywordIds,
                                                             @Param("today") LocalDate today,
                                                             Pageable pageable);
 
@@ -1,6 +1,8 @@
 package com.classhub.domain.course.scheduler;
 
 import com.classhub.domain.course.application.CourseArchiveService;
+import com.classhub.global.lock.SchedulerLeaseManager;
+import com.classhub.global.metrics.BatchJobMetrics;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import lombok.RequiredArgsConstructor;
@@ -11,13 +13,21 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CourseArchiveScheduler {
 
+    static final String LEASE_NAME = "course-archive";
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     private final CourseArchiveService courseArchiveService;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final BatchJobMetrics batchJobMetrics;
 
     @Scheduled(cron = "0 10 0 * * *", zone = "Asia/Seoul")
     public void archiveExpiredCourses() {
         LocalDate today = LocalDate.now(KST);
-        courseArchiveService.archiveExpiredCourses(today);
+        schedulerLeaseManager.runExclusively(LEASE_NAME, today.toString(), () -> batchJobMetrics.record(
+                LEASE_NAME,
+                () -> courseArchiveService.archiveExpiredCourses(today),
+                Integer::intValue,
+                archived -> 0
+        ));
     }
 }
@@ -1,16 +1,20 @@
 package com.classhub.domain.course.web;
 
 import com.classhub.domain.course.application.CourseService;
+import com.classhub.domain.course.application.CourseTimetableService;
 import com.classhub.domain.course.dto.CourseStatusFilter;
 import com.classhub.domain.course.dto.request.CourseCreateRequest;
 import com.classhub.domain.course.dto.request.CourseStatusUpdateRequest;
 import com.classhub.domain.course.dto.request.CourseUpdateRequest;
 import com.classhub.domain.course.dto.response.CourseResponse;
+import com.classhub.domain.course.dto.response.CourseScheduleResponse;
 import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.CursorSliceResponse;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
 import com.classhub.global.response.RsData;
+import com.classhub.global.sql.SqlBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -38,9 +42,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class CourseController {
 
     private final CourseService courseService;
+    private final CourseTimetableService courseTimetableService;
 
     @GetMapping
     @PreAuthorize("hasAuthority('TEACHER')")
+    @SqlBudget(statements = 10, repeats = 1)
     @Operation(summary = "Course 목록 조회", description = "선생님이 생성한 Course를 목록 뷰로 조회한다.")
     public RsData<PageResponse<CourseResponse>> getCourses(
             @AuthenticationPrincipal MemberPrincipal principal,
@@ -62,8 +68,34 @@ public class CourseController {
         return RsData.from(RsCode.SUCCESS, response);
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('TEACHER')")
+    @SqlBudget(statements = 10, repeats = 1)
+    @Operation(summary = "Course 목록 커서 조회", description = "OFFSET/COUNT 없이 nextCursor로 이어서 조회한다. 전체 건수는 includeTotal=true일 때만 포함한다.")
+    public RsData<CursorSliceResponse<CourseResponse>> getCoursesByCursor(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            @RequestParam(name = "status", defaultValue = "ACTIVE") String status,
+            @RequestParam(name = "branchId", required = false) UUID branchId,
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "includeTotal", defaultValue = "false") boolean includeTotal
+    ) {
+        CursorSliceResponse<CourseResponse> response = courseService.getCoursesByCursor(
+                principal.id(),
+                parseStatus(status),
+                branchId,
+                keyword,
+                cursor,
+                size,
+                includeTotal
+        );
+        return RsData.from(RsCode.SUCCESS, response);
+    }
+
     @GetMapping("/schedule")
     @PreAuthorize("hasAuthority('TEACHER')")
+    @SqlBudget(statements = 10)
     @Operation(summary = "Course 캘린더 조회", description = "기간 내 Course 스케줄 목록을 조회한다.")
     public RsData<List<CourseResponse>> getCourseSchedules(
             @AuthenticationPrincipal MemberPrincipal principal,
@@ -74,6 +106,25 @@ public class CourseController {
         return RsData.from(RsCode.SUCCESS, responses);
     }
 
+    @GetMapping("/free-windows")
+    @PreAuthorize("hasAuthority('TEACHER')")
+    @SqlBudget(statements = 5)
+    @Operation(summary = "빈 시간 추천", description = "기간 내 수업·클리닉 슬롯과 겹치지 않는 요일별 빈 시간대를 조회한다.")
+    public RsData<List<CourseScheduleResponse>> getFreeWindows(
+            @AuthenticationPrincipal MemberPrincipal principal,
+            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(name = "minMinutes", defaultValue = "60") int minMinutes
+    ) {
+        List<CourseScheduleResponse> responses = courseTimetableService.getFreeWindows(
+                principal.id(),
+                startDate,
+                endDate,
+                minMinutes
+        );
+        return RsData.from(RsCode.SUCCESS, responses);
+    }
+
     @PostMapping
     @PreAuthorize("hasAuthority('TEACHER')")
     @Operation(summary = "Course 생성", description = "선생님이 Course를 생성한다.")
@@ -1,25 +1,19 @@
 package com.classhub.domain.member.application;
 
 import com.classhub.domain.assignment.model.TeacherBranchAssignment;
-import com.classhub.domain.assignment.model.TeacherStudentAssignment;
 import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
-import com.classhub.domain.assignment.repository.TeacherStudentAssignmentRepository;
-import com.classhub.domain.company.branch.model.Branch;
-import com.classhub.domain.company.branch.repository.BranchRepository;
-import com.classhub.domain.company.company.model.Company;
+import com.classhub.domain.company.cache.BranchSnapshot;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
+import com.classhub.domain.company.cache.CompanySnapshot;
 import com.classhub.domain.company.company.model.VerifiedStatus;
-import com.classhub.domain.company.company.repository.CompanyRepository;
 import com.classhub.domain.assignment.model.TeacherStudentRequestStatus;
-import com.classhub.domain.assignment.repository.StudentTeacherRequestRepository;
 import com.classhub.domain.member.dto.response.TeacherSearchResponse;
 import com.classhub.domain.member.dto.response.TeacherSearchResponse.TeacherBranchSummary;
 import com.classhub.domain.member.model.Member;
 import com.classhub.domain.member.model.MemberRole;
 import com.classhub.domain.member.repository.MemberRepository;
 import com.classhub.global.response.PageResponse;
-import java.util.ArrayList;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -41,14 +35,17 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class TeacherSearchService {
 
-    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.ASC, "name");
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.ASC, "name")
+            .and(Sort.by(Sort.Direction.ASC, "id"));
+    private static final Set<TeacherStudentRequestStatus> EXCLUDED_REQUEST_STATUSES = EnumSet.of(
+            TeacherStudentRequestStatus.PENDING,
+            TeacherStudentRequestStatus.APPROVED,
+            TeacherStudentRequestStatus.REJECTED
+    );
 
     private final MemberRepository memberRepository;
     private final TeacherBranchAssignmentRepository teacherBranchAssignmentRepository;
-    private final BranchRepository branchRepository;
-    private final CompanyRepository companyRepository;
-    private final StudentTeacherRequestRepository studentTeacherRequestRepository;
-    private final TeacherStudentAssignmentRepository teacherStudentAssignmentRepository;
+    private final CompanyReferenceCache companyReferenceCache;
 
     public PageResponse<TeacherSearchResponse> searchTeachers(UUID studentId,
                                                               String keyword,
@@ -62,66 +59,32 @@ public class TeacherSearchService {
             return PageResponse.from(new PageImpl<>(List.of(), pageable, 0));
         }
 
-        Page<Member> teacherPage = memberRepository.findByRoleAndDeletedAtIsNullAndNameContainingIgnoreCase(
+        Page<Member> teacherPage = memberRepository.searchTeachersForStudent(
                 MemberRole.TEACHER,
                 trimmedKeyword,
+                studentId,
+                EXCLUDED_REQUEST_STATUSES,
+                VerifiedStatus.VERIFIED,
+                companyId,
+                branchId,
                 pageable
         );
         if (teacherPage.isEmpty()) {
-            return PageResponse.from(new PageImpl<>(List.of(), pageable, 0));
+            return PageResponse.from(new PageImpl<>(List.of(), pageable, teacherPage.getTotalElements()));
         }
 
-        List<Member> candidates = teacherPage.getContent();
-        Set<UUID> excludedTeacherIds = resolveExcludedTeacherIds(studentId);
-        List<Member> filteredTeachers = candidates.stream()
-                .filter(teacher -> !excludedTeacherIds.contains(teacher.getId()))
-                .toList();
-        if (filteredTeachers.isEmpty()) {
-            return PageResponse.from(new PageImpl<>(List.of(), pageable, 0));
-        }
+        List<Member> teachers = teacherPage.getContent();
+        Map<UUID, List<TeacherBranchAssignment>> assignmentMap = loadBranchAssignments(teachers);
+        Map<UUID, BranchSnapshot> branchMap = loadBranchMap(assignmentMap.values());
+        Map<UUID, CompanySnapshot> companyMap = loadCompanyMap(branchMap.values());
 
-        Map<UUID, List<TeacherBranchAssignment>> assignmentMap = loadBranchAssignments(filteredTeachers);
-        if (assignmentMap.isEmpty()) {
-            return PageResponse.from(new PageImpl<>(List.of(), pageable, 0));
-        }
-
-        Map<UUID, Branch> branchMap = loadBranchMap(assignmentMap.values());
-        Map<UUID, Company> companyMap = loadCompanyMap(branchMap.values());
-
-        List<TeacherSearchResponse> responses = new ArrayList<>();
-        for (Member teacher : filteredTeachers) {
-            List<TeacherBranchAssignment> assignments = assignmentMap.get(teacher.getId());
-            if (assignments == null || assignments.isEmpty()) {
-                continue;
-            }
-            List<TeacherBranchSummary> summaries = assignments.stream()
+        return PageResponse.from(teacherPage.map(teacher -> {
+            List<TeacherBranchSummary> summaries = assignmentMap.getOrDefault(teacher.getId(), List.of()).stream()
                     .map(assignment -> toBranchSummary(assignment, branchMap, companyMap, companyId, branchId))
                     .filter(Objects::nonNull)
                     .toList();
-            if (!summaries.isEmpty()) {
-                responses.add(TeacherSearchResponse.from(teacher, summaries));
-            }
-        }
-
-        return PageResponse.from(new PageImpl<>(responses, pageable, responses.size()));
-    }
-
-    private Set<UUID> resolveExcludedTeacherIds(UUID studentId) {
-        Set<UUID> excluded = new HashSet<>();
-        Set<TeacherStudentRequestStatus> statuses = EnumSet.of(
-                TeacherStudentRequestStatus.PENDING,
-                TeacherStudentRequestStatus.APPROVED,
-                TeacherStudentRequestStatus.REJECTED
-        );
-        excluded.addAll(studentTeacherRequestRepository.findTeacherMemberIdsByStudentMemberIdAndStatusIn(
-                studentId,
-                statuses
-        ));
-        excluded.addAll(teacherStudentAssignmentRepository.findByStudentMemberIdAndDeletedAtIsNull(studentId)
-                .stream()
-                .map(TeacherStudentAssignment::getTeacherMemberId)
-                .toList());
-        return excluded;
+            return TeacherSearchResponse.from(teacher, summaries);
+        }));
     }
 
     private Map<UUID, List<TeacherBranchAssignment>> loadBranchAssignments(List<Member> teachers) {
@@ -134,64 +97,48 @@ public class TeacherSearchService {
                 .collect(Collectors.groupingBy(TeacherBranchAssignment::getTeacherMemberId));
     }
 
-    private Map<UUID, Branch> loadBranchMap(Iterable<List<TeacherBranchAssignment>> assignments) {
+    private Map<UUID, BranchSnapshot> loadBranchMap(Iterable<List<TeacherBranchAssignment>> assignments) {
         Set<UUID> branchIds = new HashSet<>();
         for (List<TeacherBranchAssignment> teacherAssignments : assignments) {
             for (TeacherBranchAssignment assignment : teacherAssignments) {
                 branchIds.add(assignment.getBranchId());
             }
         }
-        if (branchIds.isEmpty()) {
-            return Map.of();
-        }
-        List<Branch> branches = branchRepository.findAllById(branchIds);
-        Map<UUID, Branch> branchMap = new HashMap<>();
-        for (Branch branch : branches) {
-            branchMap.put(branch.getId(), branch);
-        }
-        return branchMap;
+        return companyReferenceCache.getBranches(branchIds);
     }
 
-    private Map<UUID, Company> loadCompanyMap(Iterable<Branch> branches) {
+    private Map<UUID, CompanySnapshot> loadCompanyMap(Iterable<BranchSnapshot> branches) {
         Set<UUID> companyIds = new HashSet<>();
-        for (Branch branch : branches) {
-            companyIds.add(branch.getCompanyId());
-        }
-        if (companyIds.isEmpty()) {
-            return Map.of();
-        }
-        List<Company> companies = companyRepository.findAllById(companyIds);
-        Map<UUID, Company> companyMap = new HashMap<>();
-        for (Company company : companies) {
-            companyMap.put(company.getId(), company);
+        for (BranchSnapshot branch : branches) {
+            companyIds.add(branch.companyId());
         }
-        return companyMap;
+        return companyReferenceCache.getCompanies(companyIds);
     }
 
     private TeacherBranchSummary toBranchSummary(TeacherBranchAssignment assignment,
-                                                 Map<UUID, Branch> branchMap,
-                                                 Map<UUID, Company> companyMap,
+                                                 Map<UUID, BranchSnapshot> branchMap,
+                                                 Map<UUID, CompanySnapshot> companyMap,
                                                  UUID companyId,
                                                  UUID branchId) {
-        Branch branch = branchMap.get(assignment.getBranchId());
-        if (branch == null || branch.isDeleted() || branch.getVerifiedStatus() != VerifiedStatus.VERIFIED) {
+        BranchSnapshot branch = branchMap.get(assignment.getBranchId());
+        if (branch == null || !branch.isActiveAndVerified()) {
             return null;
         }
-        if (branchId != null && !branchId.equals(branch.getId())) {
+        if (branchId != null && !branchId.equals(branch.id())) {
             return null;
         }
-        if (companyId != null && !companyId.equals(branch.getCompanyId())) {
+        if (companyId != null && !companyId.equals(branch.companyId())) {
             return null;
         }
-        Company company = companyMap.get(branch.getCompanyId());
-        if (company == null || company.isDeleted() || company.getVerifiedStatus() != VerifiedStatus.VERIFIED) {
+        CompanySnapshot company = companyMap.get(branch.companyId());
+        if (company == null || !company.isActiveAndVerified()) {
             return null;
         }
         return new TeacherBranchSummary(
-                company.getId(),
-                company.getName(),
-                branch.getId(),
-                branch.getName()
+                company.id(),
+                company.name(),
+                branch.id(),
+                branch.name()
         );
     }
 
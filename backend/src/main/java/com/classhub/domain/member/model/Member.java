@@ -1,8 +1,10 @@
 package com.classhub.domain.member.model;
 
 import com.classhub.global.entity.BaseEntity;
+import com.classhub.global.search.SearchIndexEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
@@ -15,6 +17,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "member")
+@EntityListeners(SearchIndexEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
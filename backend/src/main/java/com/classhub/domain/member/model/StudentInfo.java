@@ -1,8 +1,10 @@
 package com.classhub.domain.member.model;
 
 import com.classhub.global.entity.BaseEntity;
+import com.classhub.global.search.SearchIndexEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
@@ -16,6 +18,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "student_info")
+@EntityListeners(SearchIndexEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
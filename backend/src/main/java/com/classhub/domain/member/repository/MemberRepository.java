@@ -1,13 +1,18 @@
 package com.classhub.domain.member.repository;
 
+import com.classhub.domain.assignment.model.TeacherStudentRequestStatus;
+import com.classhub.domain.company.company.model.VerifiedStatus;
 import com.classhub.domain.member.model.Member;
 import com.classhub.domain.member.model.MemberRole;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, UUID> {
 
@@ -32,4 +37,89 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
             String nameFragment,
             Pageable pageable
     );
+
+    /**
+     * 학생이 신청할 수 있는 선생님을 이름으로 검색한다.
+     * 이미 요청/배정된 선생님 제외와 검증된 지점·회사 필터를 모두 DB에서 적용해 페이지 크기와 전체 건수가 정확하다.
+     */
+    @Query(value = """
+            SELECT m
+            FROM Member m
+            WHERE m.role = :role
+              AND m.deletedAt IS NULL
+              AND LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
+              AND EXISTS (
+                    SELECT 1
+                    FROM TeacherBranchAssignment tba
+                    JOIN Branch b ON b.id = tba.branchId
+                    JOIN Company c ON c.id = b.companyId
+                    WHERE tba.teacherMemberId = m.id
+                      AND tba.deletedAt IS NULL
+                      AND b.deletedAt IS NULL
+                      AND b.verifiedStatus = :verifiedStatus
+                      AND c.deletedAt IS NULL
+                      AND c.verifiedStatus = :verifiedStatus
+                      AND (:branchId IS NULL OR b.id = :branchId)
+                      AND (:companyId IS NULL OR c.id = :companyId)
+              )
+              AND NOT EXISTS (
+                    SELECT 1
+                    FROM StudentTeacherRequest req
+                    WHERE req.studentMemberId = :studentId
+                      AND req.teacherMemberId = m.id
+                      AND req.status IN :excludedStatuses
+              )
+              AND NOT EXISTS (
+                    SELECT 1
+                    FROM TeacherStudentAssignment tsa
+                    WHERE tsa.studentMemberId = :studentId
+                      AND tsa.teacherMemberId = m.id
+                      AND tsa.deletedAt IS NULL
+              )
+            """,
+            countQuery = """
+            SELECT COUNT(m)
+            FROM Member m
+            WHERE m.role = :role
+              AND m.deletedAt IS NULL
+              AND LOWER(m.name) LIKE LOWER(CONCAT('%', :keyword, '%'))
+              AND EXISTS (
+                    SELECT 1
+                    FROM TeacherBranchAssignment tba
+                    JOIN Branch b ON b.id = tba.branchId
+                    JOIN Company c ON c.id = b.companyId
+                    WHERE tba.teacherMemberId = m.id
+                      AND tba.deletedAt IS NULL
+                      AND b.deletedAt IS NULL
+                      AND b.verifiedStatus = :verifiedStatus
+                      AND c.deletedAt IS NULL
+                      AND c.verifiedStatus = :verifiedStatus
+                      AND (:branchId IS NULL OR b.id = :branchId)
+                      AND (:companyId IS NULL OR c.id = :companyId)
+              )
+              AND NOT EXISTS (
+                    SELECT 1
+                    FROM StudentTeacherRequest req
+                    WHERE req.studentMemberId = :studentId
+                      AND req.teacherMemberId = m.id
+                      AND req.status IN :excludedStatuses
+              )
+              AND NOT EXISTS (
+                    SELECT 1
+                    FROM TeacherStudentAssignment tsa
+                    WHERE tsa.studentMemberId = :studentId
+                      AND tsa.teacherMemberId = m.id
+                      AND tsa.deletedAt IS NULL
+              )
+            """)
+    Page<Member> searchTeachersForStudent(
+            @Param("role") MemberRole role,
+            @Param("keyword") String keyword,
+            @Param("studentId") UUID studentId,
+            @Param("excludedStatuses") Collection<TeacherStudentRequestStatus> excludedStatuses,
+            @Param("verifiedStatus") VerifiedStatus verifiedStatus,
+            @Param("companyId") UUID companyId,
+            @Param("branchId") UUID branchId,
+            Pageable pageable
+    );
 }
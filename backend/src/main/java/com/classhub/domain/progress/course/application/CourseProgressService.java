@@ -1,5 +1,6 @@
 package com.classhub.domain.progress.course.application;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.domain.member.model.MemberRole;
@@ -14,14 +15,15 @@ import com.classhub.domain.progress.dto.ProgressSliceResponse;
 import com.classhub.domain.progress.dto.ProgressSliceResponse.ProgressCursor;
 import com.classhub.domain.progress.personal.dto.request.PersonalProgressComposeRequest;
 import com.classhub.domain.progress.personal.model.PersonalProgress;
-import com.classhub.domain.progress.personal.repository.PersonalProgressRepository;
 import com.classhub.domain.progress.support.ProgressPermissionValidator;
 import com.classhub.domain.progress.support.ProgressPermissionValidator.ProgressAccessMode;
 import com.classhub.domain.studentcourse.model.StudentCourseRecord;
+import com.classhub.global.entity.BulkInserter;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
@@ -37,9 +39,10 @@ public class CourseProgressService {
     private static final int MAX_LIMIT = 50;
 
     private final CourseProgressRepository courseProgressRepository;
-    private final PersonalProgressRepository personalProgressRepository;
+    private final BulkInserter bulkInserter;
     private final ProgressPermissionValidator permissionValidator;
     private final CourseProgressMapper courseProgressMapper;
+    private final CalendarEventJdbcRepository calendarEventJdbcRepository;
 
     public CourseProgressResponse createCourseProgress(MemberPrincipal principal,
                                                        UUID courseId,
@@ -53,6 +56,7 @@ public class CourseProgressService {
                 .content(request.content())
                 .build();
         CourseProgress saved = courseProgressRepository.save(progress);
+        calendarEventJdbcRepository.syncCourseProgress(saved.getId());
         return courseProgressMapper.toResponse(saved);
     }
 
@@ -60,8 +64,20 @@ public class CourseProgressService {
                                                         UUID courseId,
                                                         CourseProgressComposeRequest request) {
         Course course = permissionValidator.ensureCourseAccess(principal, courseId, ProgressAccessMode.WRITE);
+        Map<UUID, StudentCourseRecord> records = permissionValidator.ensureRecordsAccess(
+                principal,
+                request.personalProgressList().stream()
+                        .map(PersonalProgressComposeRequest::studentCourseRecordId)
+                        .toList(),
+                ProgressAccessMode.WRITE
+        );
         List<PersonalProgress> personalProgresses = request.personalProgressList().stream()
-                .map(personalRequest -> toPersonalProgress(principal, course.getId(), personalRequest))
+                .map(personalRequest -> toPersonalProgress(
+                        principal,
+                        course.getId(),
+                        records.get(personalRequest.studentCourseRecordId()),
+                        personalRequest
+                ))
                 .toList();
         CourseProgress courseProgress = CourseProgress.builder()
                 .courseId(course.getId())
@@ -71,8 +87,12 @@ public class CourseProgressService {
                 .content(request.courseProgress().content())
                 .build();
         CourseProgress saved = courseProgressRepository.save(courseProgress);
+        calendarEventJdbcRepository.syncCourseProgress(saved.getId());
         if (!personalProgresses.isEmpty()) {
-            personalProgressRepository.saveAll(personalProgresses);
+            bulkInserter.insertAll(personalProgresses);
+            calendarEventJdbcRepository.syncPersonalProgresses(
+                    personalProgresses.stream().map(PersonalProgress::getId).toList()
+            );
         }
         return courseProgressMapper.toResponse(saved);
     }
@@ -107,6 +127,7 @@ public class CourseProgressService {
         ensureWriterAccess(principal, progress.getWriterId());
         progress.update(request.date(), request.title(), request.content());
         CourseProgress saved = courseProgressRepository.save(progress);
+        calendarEventJdbcRepository.syncCourseProgress(saved.getId());
         return courseProgressMapper.toResponse(saved);
     }
 
@@ -115,6 +136,7 @@ public class CourseProgressService {
         permissionValidator.ensureCourseAccess(principal, progress.getCourseId(), ProgressAccessMode.WRITE);
         ensureWriterAccess(principal, progress.getWriterId());
         courseProgressRepository.delete(progress);
+        calendarEventJdbcRepository.syncCourseProgress(progress.getId());
     }
 
     private CourseProgress loadProgress(UUID progressId) {
@@ -124,12 +146,8 @@ public class CourseProgressService {
 
     private PersonalProgress toPersonalProgress(MemberPrincipal principal,
                                                 UUID courseId,
+                                                StudentCourseRecord record,
                                                 PersonalProgressComposeRequest request) {
-        StudentCourseRecord record = permissionValidator.ensureRecordAccess(
-                principal,
-                request.studentCourseRecordId(),
-                ProgressAccessMode.WRITE
-        );
         if (!record.getCourseId().equals(courseId)) {
             throw new BusinessException(RsCode.BAD_REQUEST);
         }
@@ -1,5 +1,6 @@
 package com.classhub.domain.progress.personal.application;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.domain.member.model.MemberRole;
 import com.classhub.domain.progress.dto.ProgressSliceResponse;
@@ -34,6 +35,7 @@ public class PersonalProgressService {
     private final PersonalProgressRepository personalProgressRepository;
     private final ProgressPermissionValidator permissionValidator;
     private final PersonalProgressMapper personalProgressMapper;
+    private final CalendarEventJdbcRepository calendarEventJdbcRepository;
 
     public PersonalProgressResponse createPersonalProgress(MemberPrincipal principal,
                                                            UUID recordId,
@@ -51,6 +53,7 @@ public class PersonalProgressService {
                 .content(request.content())
                 .build();
         PersonalProgress saved = personalProgressRepository.save(progress);
+        calendarEventJdbcRepository.syncPersonalProgress(saved.getId());
         return personalProgressMapper.toResponse(saved, record.getCourseId());
     }
 
@@ -92,6 +95,7 @@ public class PersonalProgressService {
         ensureWriterAccess(principal, progress.getWriterId());
         progress.update(request.date(), request.title(), request.content());
         PersonalProgress saved = personalProgressRepository.save(progress);
+        calendarEventJdbcRepository.syncPersonalProgress(saved.getId());
         return personalProgressMapper.toResponse(saved, record.getCourseId());
     }
 
@@ -104,6 +108,7 @@ public class PersonalProgressService {
         );
         ensureWriterAccess(principal, progress.getWriterId());
         personalProgressRepository.delete(progress);
+        calendarEventJdbcRepository.syncPersonalProgress(progress.getId());
     }
 
     private PersonalProgress loadProgress(UUID progressId) {
@@ -1,7 +1,6 @@
 package com.classhub.domain.progress.support;
 
-import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.domain.member.dto.MemberPrincipal;
@@ -9,9 +8,14 @@ import com.classhub.domain.member.model.MemberRole;
 import com.classhub.domain.studentcourse.model.StudentCourseRecord;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
 import com.classhub.global.exception.BusinessException;
+import com.classhub.global.authorization.AuthorizationContext;
 import com.classhub.global.response.RsCode;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -21,7 +25,7 @@ public class ProgressPermissionValidator {
 
     private final CourseRepository courseRepository;
     private final StudentCourseRecordRepository studentCourseRecordRepository;
-    private final TeacherAssistantAssignmentRepository assistantAssignmentRepository;
+    private final MembershipGraph membershipGraph;
 
     public Course ensureCourseAccess(MemberPrincipal principal,
                                      UUID courseId,
@@ -43,6 +47,36 @@ public class ProgressPermissionValidator {
         };
     }
 
+    /**
+     * 여러 학생 기록의 권한을 한 번에 확인한다. 기록과 강의는 각각 IN 조회 한 번으로 읽고,
+     * 조교 배정은 강의의 선생님별로 한 번만 확인한다. 하나라도 없거나 권한이 없으면 예외를 던진다.
+     */
+    public Map<UUID, StudentCourseRecord> ensureRecordsAccess(MemberPrincipal principal,
+                                                             Collection<UUID> recordIds,
+                                                             ProgressAccessMode accessMode) {
+        if (principal.role() != MemberRole.TEACHER && principal.role() != MemberRole.ASSISTANT) {
+            throw new BusinessException(RsCode.FORBIDDEN);
+        }
+        Map<UUID, StudentCourseRecord> records = loadRecords(recordIds);
+        Set<UUID> courseIds = records.values().stream()
+                .map(StudentCourseRecord::getCourseId)
+                .collect(Collectors.toSet());
+        Map<UUID, Course> courses = loadCourses(courseIds);
+        Set<UUID> teacherIds = courses.values().stream()
+                .map(Course::getTeacherMemberId)
+                .collect(Collectors.toSet());
+        for (UUID teacherId : teacherIds) {
+            if (principal.role() == MemberRole.TEACHER) {
+                if (!teacherId.equals(principal.id())) {
+                    throw new BusinessException(RsCode.COURSE_FORBIDDEN);
+                }
+            } else {
+                ensureAssistantAssignment(principal.id(), teacherId);
+            }
+        }
+        return records;
+    }
+
     public List<StudentCourseRecord> ensureCalendarAccess(MemberPrincipal principal, UUID studentId) {
         return switch (principal.role()) {
             case TEACHER -> ensureCalendarForTeacher(principal.id(), studentId);
@@ -90,15 +124,7 @@ public class ProgressPermissionValidator {
     }
 
     private List<StudentCourseRecord> ensureCalendarForAssistant(UUID assistantId, UUID studentId) {
-        List<TeacherAssistantAssignment> assignments = assistantAssignmentRepository
-                .findByAssistantMemberIdAndDeletedAtIsNull(assistantId);
-        if (assignments.isEmpty()) {
-            throw new BusinessException(RsCode.FORBIDDEN);
-        }
-        List<UUID> teacherIds = assignments.stream()
-                .map(TeacherAssistantAssignment::getTeacherMemberId)
-                .distinct()
-                .toList();
+        List<UUID> teacherIds = membershipGraph.getTeacherIdsOfAssistant(assistantId);
         if (teacherIds.isEmpty()) {
             throw new BusinessException(RsCode.FORBIDDEN);
         }
@@ -111,7 +137,8 @@ public class ProgressPermissionValidator {
     }
 
     private Course loadCourse(UUID courseId) {
-        Course course = courseRepository.findById(courseId)
+        Course course = AuthorizationContext.current()
+                .findCourse(courseId, courseRepository::findById)
                 .orElseThrow(() -> new BusinessException(RsCode.COURSE_NOT_FOUND));
         if (course.isDeleted()) {
             throw new BusinessException(RsCode.COURSE_NOT_FOUND);
@@ -120,7 +147,8 @@ public class ProgressPermissionValidator {
     }
 
     private StudentCourseRecord loadRecord(UUID recordId) {
-        StudentCourseRecord record = studentCourseRecordRepository.findById(recordId)
+        StudentCourseRecord record = AuthorizationContext.current()
+                .findRecord(recordId, studentCourseRecordRepository::findById)
                 .orElseThrow(() -> new BusinessException(RsCode.STUDENT_COURSE_RECORD_NOT_FOUND));
         if (record.isDeleted()) {
             throw new BusinessException(RsCode.STUDENT_COURSE_RECORD_NOT_FOUND);
@@ -128,10 +156,33 @@ public class ProgressPermissionValidator {
         return record;
     }
 
+    private Map<UUID, StudentCourseRecord> loadRecords(Collection<UUID> recordIds) {
+        Map<UUID, StudentCourseRecord> records = AuthorizationContext.current()
+                .findRecords(recordIds, studentCourseRecordRepository::findAllById);
+        boolean missing = recordIds.stream()
+                .map(records::get)
+                .anyMatch(record -> record == null || record.isDeleted());
+        if (missing) {
+            throw new BusinessException(RsCode.STUDENT_COURSE_RECORD_NOT_FOUND);
+        }
+        return records;
+    }
+
+    private Map<UUID, Course> loadCourses(Collection<UUID> courseIds) {
+        Map<UUID, Course> courses = AuthorizationContext.current()
+                .findCourses(courseIds, courseRepository::findAllById);
+        boolean missing = courseIds.stream()
+                .map(courses::get)
+                .anyMatch(course -> course == null || course.isDeleted());
+        if (missing) {
+            throw new BusinessException(RsCode.COURSE_NOT_FOUND);
+        }
+        return courses;
+    }
+
     private void ensureAssistantAssignment(UUID assistantId, UUID teacherId) {
-        boolean active = assistantAssignmentRepository
-                .findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(teacherId, assistantId)
-                .isPresent();
+        boolean active = AuthorizationContext.current().isAssistantAssigned(assistantId, teacherId, () ->
+                membershipGraph.isAssistantOf(teacherId, assistantId));
         if (!active) {
             throw new BusinessException(RsCode.FORBIDDEN);
         }
@@ -1,7 +1,6 @@
 package com.classhub.domain.studentcourse.application;
 
-import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.clinic.slot.application.ClinicDefaultSlotService;
 import com.classhub.domain.course.application.CourseViewAssembler;
 import com.classhub.domain.course.dto.response.CourseResponse;
@@ -36,7 +35,7 @@ public class StudentCourseManagementService {
     private final CourseRepository courseRepository;
     private final MemberRepository memberRepository;
     private final StudentInfoRepository studentInfoRepository;
-    private final TeacherAssistantAssignmentRepository assignmentRepository;
+    private final MembershipGraph membershipGraph;
     private final CourseViewAssembler courseViewAssembler;
     private final ClinicDefaultSlotService clinicDefaultSlotService;
 
@@ -59,10 +58,7 @@ public class StudentCourseManagementService {
                 .orElseThrow(() -> new BusinessException(RsCode.COURSE_NOT_FOUND));
         ensureTeacher(course, teacherId);
         if (request.assistantMemberId() != null) {
-            boolean assigned = assignmentRepository
-                    .findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(teacherId, request.assistantMemberId())
-                    .isPresent();
-            if (!assigned) {
+            if (!membershipGraph.isAssistantOf(teacherId, request.assistantMemberId())) {
                 throw new BusinessException(RsCode.FORBIDDEN);
             }
             record.updateAssistant(request.assistantMemberId());
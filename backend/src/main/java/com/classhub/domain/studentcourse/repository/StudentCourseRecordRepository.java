@@ -32,6 +32,17 @@ public interface StudentCourseRecordRepository extends JpaRepository<StudentCour
             """)
     List<StudentCourseRecord> findActiveByDefaultClinicSlotId(@Param("slotId") UUID slotId);
 
+    @Query("""
+            SELECT scr
+            FROM StudentCourseRecord scr
+            JOIN Course c ON c.id = scr.courseId
+            WHERE scr.defaultClinicSlotId IN :slotIds
+              AND scr.deletedAt IS NULL
+              AND c.deletedAt IS NULL
+            ORDER BY scr.createdAt ASC, scr.id ASC
+            """)
+    List<StudentCourseRecord> findActiveByDefaultClinicSlotIdIn(@Param("slotIds") List<UUID> slotIds);
+
     @Query("""
             SELECT scr.defaultClinicSlotId AS slotId,
                    COUNT(scr) AS count
@@ -0,0 +1,90 @@
+package com.classhub.global.aspect;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 리포지토리 호출마다 classhub.repository 타이머와 classhub.repository.rows 분포를 남긴다 (repository, method).
+ * Spring Data 리포지토리는 JDK 프록시라 선언 타입 대신 프록시가 구현한 애플리케이션 인터페이스 이름을 태그로 쓴다.
+ * 행 수는 Collection, Slice, Optional 결과에만 기록한다. 숫자 결과는 count인지 변경 건수인지 구분할 수 없어 제외한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+    static final String METRIC_NAME = "classhub.repository";
+    static final String ROWS_METRIC_NAME = "classhub.repository.rows";
+    private static final String APPLICATION_PACKAGE = "com.classhub.";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("""
+        this(org.springframework.data.repository.Repository)
+        || within(com.classhub..repository..*)
+        """)
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = resolveRepositoryName(joinPoint.getThis());
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            Object result = joinPoint.proceed();
+            int rows = rowCount(result);
+            if (rows >= 0) {
+                DistributionSummary.builder(ROWS_METRIC_NAME)
+                        .tag("repository", repository)
+                        .tag("method", method)
+                        .register(meterRegistry)
+                        .record(rows);
+            }
+            return result;
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    static int rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+
+    private String resolveRepositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> Arrays
+                .stream(ClassUtils.getAllInterfacesForClass(type))
+                .filter(candidate -> candidate.getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElseGet(() -> AopProxyUtils.ultimateTargetClass(proxy).getSimpleName()));
+    }
+}
@@ -0,0 +1,55 @@
+package com.classhub.global.aspect;
+
+import com.classhub.global.sql.SqlBudget;
+import com.classhub.global.sql.SqlStatementMonitor;
+import com.classhub.global.sql.SqlStatementScope;
+import com.classhub.global.sql.SqlStatementTracker;
+import java.lang.reflect.Method;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @Transactional 메서드와 @SqlBudget 메서드를 SqlStatementScope로 감싼다.
+ * 트랜잭션 advice보다 바깥에서 돌아야 커밋 시 flush되는 SQL까지 같은 범위에 들어간다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlStatementAspect {
+
+    private final SqlStatementMonitor sqlStatementMonitor;
+
+    @Around("""
+        within(com.classhub..*)
+        && !within(org.springframework.data.repository.Repository+)
+        && (
+            @annotation(org.springframework.transaction.annotation.Transactional)
+            || @within(org.springframework.transaction.annotation.Transactional)
+            || @annotation(com.classhub.global.sql.SqlBudget)
+        )
+        """)
+    public Object trackStatements(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!sqlStatementMonitor.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Method method = signature.getMethod();
+        String name = signature.getDeclaringType().getSimpleName() + "." + method.getName();
+        Object result;
+        SqlStatementScope scope = SqlStatementTracker.open(name);
+        try {
+            result = joinPoint.proceed();
+        } finally {
+            scope.close();
+        }
+        sqlStatementMonitor.complete(scope, SqlStatementMonitor.METHOD_SCOPE, method.getAnnotation(SqlBudget.class));
+        return result;
+    }
+}
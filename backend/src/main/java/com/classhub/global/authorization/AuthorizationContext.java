@@ -0,0 +1,135 @@
+package com.classhub.global.authorization;
+
+import com.classhub.domain.course.model.Course;
+import com.classhub.domain.studentcourse.model.StudentCourseRecord;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 단위 권한 조회 캐시. 한 요청(서비스 트랜잭션) 안에서 반복되는
+ * 선생님→지점 배정, 조교→선생님 배정, 학생 기록/강의 조회 결과를 기억해 같은 조회를 다시 보내지 않는다.
+ * 스케줄러/배치처럼 HTTP 요청이 없는 경로도 같은 방식으로 동작하도록 요청이 아니라 트랜잭션에 묶는다.
+ * 트랜잭션 동기화가 없으면 캐시 없이 매번 loader를 호출한다.
+ */
+public final class AuthorizationContext {
+
+    private static final Object RESOURCE_KEY = AuthorizationContext.class;
+
+    private final Map<Object, Object> cache = new HashMap<>();
+
+    private AuthorizationContext() {
+    }
+
+    public static AuthorizationContext current() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new AuthorizationContext();
+        }
+        AuthorizationContext context = (AuthorizationContext) TransactionSynchronizationManager.getResource(RESOURCE_KEY);
+        if (context == null) {
+            context = new AuthorizationContext();
+            TransactionSynchronizationManager.bindResource(RESOURCE_KEY, context);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RESOURCE_KEY);
+                }
+            });
+        }
+        return context;
+    }
+
+    public boolean isTeacherAssigned(UUID teacherId, UUID branchId, BooleanSupplier loader) {
+        return memoize(new TeacherBranchKey(teacherId, branchId), loader::getAsBoolean);
+    }
+
+    public boolean isAssistantAssigned(UUID assistantId, UUID teacherId, BooleanSupplier loader) {
+        return memoize(new AssistantTeacherKey(assistantId, teacherId), loader::getAsBoolean);
+    }
+
+    public Optional<Course> findCourse(UUID courseId, Function<UUID, Optional<Course>> loader) {
+        return memoize(new CourseKey(courseId), () -> loader.apply(courseId));
+    }
+
+    public Optional<StudentCourseRecord> findRecord(UUID recordId,
+                                                    Function<UUID, Optional<StudentCourseRecord>> loader) {
+        return memoize(new RecordKey(recordId), () -> loader.apply(recordId));
+    }
+
+    /**
+     * 캐시에 없는 id만 모아 loader를 한 번 호출한다. 찾지 못한 id는 결과 Map에서 빠진다.
+     */
+    public Map<UUID, Course> findCourses(Collection<UUID> courseIds,
+                                         Function<Collection<UUID>, List<Course>> loader) {
+        return findAll(courseIds, CourseKey::new, loader, Course::getId);
+    }
+
+    public Map<UUID, StudentCourseRecord> findRecords(Collection<UUID> recordIds,
+                                                      Function<Collection<UUID>, List<StudentCourseRecord>> loader) {
+        return findAll(recordIds, RecordKey::new, loader, StudentCourseRecord::getId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T memoize(Object key, Supplier<T> loader) {
+        Object cached = cache.get(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        T loaded = loader.get();
+        cache.put(key, loaded);
+        return loaded;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Map<UUID, T> findAll(Collection<UUID> ids,
+                                     Function<UUID, Object> keyFactory,
+                                     Function<Collection<UUID>, List<T>> loader,
+                                     Function<T, UUID> idExtractor) {
+        Map<UUID, T> found = new LinkedHashMap<>();
+        List<UUID> missing = ids.stream()
+                .distinct()
+                .filter(id -> {
+                    Optional<T> cached = (Optional<T>) cache.get(keyFactory.apply(id));
+                    if (cached == null) {
+                        return true;
+                    }
+                    cached.ifPresent(value -> found.put(id, value));
+                    return false;
+                })
+                .toList();
+        if (missing.isEmpty()) {
+            return found;
+        }
+        Map<UUID, T> loaded = new HashMap<>();
+        loader.apply(missing).forEach(value -> loaded.put(idExtractor.apply(value), value));
+        missing.forEach(id -> {
+            T value = loaded.get(id);
+            cache.put(keyFactory.apply(id), Optional.ofNullable(value));
+            if (value != null) {
+                found.put(id, value);
+            }
+        });
+        return found;
+    }
+
+    private record TeacherBranchKey(UUID teacherId, UUID branchId) {
+    }
+
+    private record AssistantTeacherKey(UUID assistantId, UUID teacherId) {
+    }
+
+    private record CourseKey(UUID courseId) {
+    }
+
+    private record RecordKey(UUID recordId) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.classhub.global.cache;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 로컬 캐시의 변경 버전 테이블. 쓰기 트랜잭션이 version을 올리면 다른 노드가 폴링으로 감지해 캐시를 비운다.
+ */
+@Getter
+@Entity
+@Table(name = "cache_version")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheVersion {
+
+    @Id
+    @Column(name = "cache_name", length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private long version;
+}
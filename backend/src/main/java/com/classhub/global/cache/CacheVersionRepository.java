@@ -0,0 +1,36 @@
+package com.classhub.global.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * cache_version 행을 JDBC로 올리고 읽는다. 폴링은 행 수가 캐시 개수뿐이라 전체 조회 한 번으로 끝난다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CacheVersionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 버전을 1 올리고 올린 값을 돌려준다. 같은 트랜잭션이 행 잠금을 쥐고 있으므로 다시 읽은 값이 이 bump의 값이다.
+     */
+    public long bump(String name) {
+        jdbcTemplate.update("INSERT IGNORE INTO cache_version (cache_name, version) VALUES (?, 0)", name);
+        jdbcTemplate.update("UPDATE cache_version SET version = version + 1 WHERE cache_name = ?", name);
+        Long version = jdbcTemplate.queryForObject(
+                "SELECT version FROM cache_version WHERE cache_name = ?", Long.class, name);
+        return version == null ? 0L : version;
+    }
+
+    public Map<String, Long> findAll() {
+        Map<String, Long> versions = new HashMap<>();
+        jdbcTemplate.query("SELECT cache_name, version FROM cache_version", rs -> {
+            versions.put(rs.getString(1), rs.getLong(2));
+        });
+        return versions;
+    }
+}
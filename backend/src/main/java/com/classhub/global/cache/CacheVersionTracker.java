@@ -0,0 +1,145 @@
+package com.classhub.global.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 노드 로컬 캐시의 노드 간 무효화. 쓰기 쪽은 bump()로 같은 트랜잭션 안에서 cache_version을 올리고,
+ * 각 노드는 주기적으로 버전을 읽어 마지막으로 본 값과 다르면 등록된 캐시를 통째로 비운다.
+ * 다른 노드의 변경은 최대 폴링 주기만큼 늦게 반영되고, 쓴 노드는 바로 반영한다.
+ * 이 노드가 커밋한 버전은 기억해 두고, 폴링에서 본 변경이 모두 자기 버전이면 다시 비우지 않는다.
+ */
+@Slf4j
+@Component
+public class CacheVersionTracker {
+
+    private final CacheVersionRepository cacheVersionRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Map<String, Runnable> invalidators = new ConcurrentHashMap<>();
+    private final Map<String, Long> knownVersions = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> ownVersions = new ConcurrentHashMap<>();
+
+    public CacheVersionTracker(CacheVersionRepository cacheVersionRepository,
+                               PlatformTransactionManager transactionManager) {
+        this.cacheVersionRepository = cacheVersionRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void register(String name, Runnable invalidateAll) {
+        invalidators.put(name, invalidateAll);
+        knownVersions.putIfAbsent(name, 0L);
+    }
+
+    /**
+     * 현재 트랜잭션에서 버전을 올리고 이 노드의 캐시를 localInvalidation으로 바로 정리한다.
+     * 커밋 전 사이에 다른 요청이 이전 값을 다시 채우거나, 같은 트랜잭션이 커밋되지 않은 값을 채울 수 있으므로
+     * 트랜잭션이 끝나면(커밋·롤백 모두) 한 번 더 정리한다.
+     */
+    public void bump(String name, Runnable localInvalidation) {
+        long version = cacheVersionRepository.bump(name);
+        localInvalidation.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordOwnVersion(name, version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    recordOwnVersion(name, version);
+                }
+                localInvalidation.run();
+            }
+        });
+    }
+
+    /**
+     * 쓰기가 잦은 경로용. 현재 트랜잭션이 커밋된 뒤 별도의 짧은 트랜잭션에서 한 번만 버전을 올리므로,
+     * 쓰기 트랜잭션이 cache_version 행 잠금을 커밋까지 쥐고 있지 않는다. 로컬 캐시는 호출한 쪽이 이미 반영했다고 본다.
+     */
+    public void bumpAfterCommit(String name) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(name);
+            return;
+        }
+        PendingBump pending = new PendingBump(name);
+        if (TransactionSynchronizationManager.hasResource(pending)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(pending, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(name);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(pending);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${custom.cache.version.poll-millis:2000}")
+    public void poll() {
+        Map<String, Long> versions;
+        try {
+            versions = cacheVersionRepository.findAll();
+        } catch (DataAccessException e) {
+            log.warn("Cache version poll failed: {}", e.getMessage());
+            return;
+        }
+        invalidators.forEach((name, invalidateAll) -> {
+            long version = versions.getOrDefault(name, 0L);
+            Long known = knownVersions.put(name, version);
+            if (known != null && known != version && !onlyOwnVersions(name, known, version)) {
+                invalidateAll.run();
+            }
+        });
+    }
+
+    private void publish(String name) {
+        try {
+            Long version = requiresNewTransaction.execute(status -> cacheVersionRepository.bump(name));
+            if (version != null) {
+                recordOwnVersion(name, version);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Cache version bump failed: name={}", name, e);
+        }
+    }
+
+    private void recordOwnVersion(String name, long version) {
+        ownVersions.computeIfAbsent(name, key -> ConcurrentHashMap.newKeySet()).add(version);
+    }
+
+    /**
+     * known 다음부터 version까지의 버전이 모두 이 노드가 올린 것인지. 확인한 기록은 지운다.
+     */
+    private boolean onlyOwnVersions(String name, long known, long version) {
+        Set<Long> own = ownVersions.get(name);
+        if (own == null || version < known) {
+            return false;
+        }
+        boolean onlyOwn = version - known <= own.size();
+        for (long v = known + 1; onlyOwn && v <= version; v++) {
+            onlyOwn = own.contains(v);
+        }
+        own.removeIf(v -> v <= version);
+        return onlyOwn;
+    }
+
+    private record PendingBump(String name) {
+    }
+}
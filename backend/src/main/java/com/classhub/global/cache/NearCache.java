@@ -0,0 +1,177 @@
+package com.classhub.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 노드 로컬 조회 캐시. 크기 상한과 TTL을 두고, 저장 시 삽입 순서대로 만료/초과 항목을 정리한다.
+ * - 조회는 lock 없이 처리하고, 없는 key만 모아 loader 한 번으로 읽는다. 없는 행은 캐시하지 않는다
+ * - 읽는 동안 무효화가 끼어들면 읽은 값을 저장하지 않아, 무효화 직전 값이 다시 들어가는 것을 막는다
+ * - 값은 여러 스레드가 공유하므로 불변 객체만 담는다
+ * - classhub.cache.gets(result=hit|miss), classhub.cache.evictions(reason=size|expired|invalidated), classhub.cache.size
+ */
+public class NearCache<K, V> {
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Deque<Node<K, V>> insertionOrder = new ArrayDeque<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+
+    public NearCache(String name, Clock clock, Duration ttl, int maxSize, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+        this.hits = counter(meterRegistry, "classhub.cache.gets", name, "result", "hit");
+        this.misses = counter(meterRegistry, "classhub.cache.gets", name, "result", "miss");
+        this.sizeEvictions = counter(meterRegistry, "classhub.cache.evictions", name, "reason", "size");
+        this.expiredEvictions = counter(meterRegistry, "classhub.cache.evictions", name, "reason", "expired");
+        this.invalidations = counter(meterRegistry, "classhub.cache.evictions", name, "reason", "invalidated");
+        Gauge.builder("classhub.cache.size", entries, Map::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        Map<K, V> found = getAll(List.of(key), missing -> {
+            Map<K, V> loaded = new HashMap<>();
+            loader.apply(key).ifPresent(value -> loaded.put(key, value));
+            return loaded;
+        });
+        return Optional.ofNullable(found.get(key));
+    }
+
+    public Map<K, V> getAll(Collection<K> keys, Function<Collection<K>, Map<K, V>> loader) {
+        long now = clock.millis();
+        Map<K, V> found = new HashMap<>();
+        List<K> missing = new ArrayList<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            Entry<V> cached = maxSize > 0 ? entries.get(key) : null;
+            if (cached != null && !cached.isExpiredAt(now)) {
+                found.put(key, cached.value());
+            } else {
+                missing.add(key);
+            }
+        }
+        hits.increment(found.size());
+        misses.increment(missing.size());
+        if (missing.isEmpty()) {
+            return found;
+        }
+        long loadGeneration = generation.get();
+        Map<K, V> loaded = loader.apply(missing);
+        found.putAll(loaded);
+        if (maxSize > 0 && !loaded.isEmpty()) {
+            store(loaded, loadGeneration);
+        }
+        return found;
+    }
+
+    public void invalidate(Collection<K> keys) {
+        evictionLock.lock();
+        try {
+            generation.incrementAndGet();
+            for (K key : keys) {
+                if (entries.remove(key) != null) {
+                    invalidations.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            generation.incrementAndGet();
+            invalidations.increment(entries.size());
+            entries.clear();
+            insertionOrder.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void store(Map<K, V> loaded, long loadGeneration) {
+        long now = clock.millis();
+        evictionLock.lock();
+        try {
+            if (generation.get() != loadGeneration) {
+                return;
+            }
+            for (Map.Entry<K, V> value : loaded.entrySet()) {
+                Entry<V> entry = new Entry<>(value.getValue(), now + ttlMillis);
+                entries.put(value.getKey(), entry);
+                insertionOrder.addLast(new Node<>(value.getKey(), entry));
+            }
+            evict(now);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void evict(long now) {
+        Node<K, V> eldest;
+        while ((eldest = insertionOrder.peekFirst()) != null) {
+            Entry<V> current = entries.get(eldest.key());
+            if (current != eldest.entry()) {
+                // 무효화되었거나 다시 읽어 새 항목으로 바뀐 key
+                insertionOrder.pollFirst();
+                continue;
+            }
+            boolean expired = current.isExpiredAt(now);
+            if (!expired && entries.size() <= maxSize) {
+                return;
+            }
+            insertionOrder.pollFirst();
+            if (entries.remove(eldest.key(), current)) {
+                (expired ? expiredEvictions : sizeEvictions).increment();
+            }
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String metric, String cache, String tag, String value) {
+        return Counter.builder(metric)
+                .tag("cache", cache)
+                .tag(tag, value)
+                .register(meterRegistry);
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+
+        boolean isExpiredAt(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private record Node<K, V>(K key, Entry<V> entry) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.classhub.global.config;
+
+import com.classhub.global.datasource.ReadWriteRoutingDataSource;
+import com.classhub.global.datasource.ReadYourWritesFilter;
+import com.classhub.global.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+/**
+ * custom.datasource.replica.enabled=true일 때 primary/replica 두 풀을 만들고 라우팅 DataSource를 기본 DataSource로 등록한다.
+ * JPA, JdbcTemplate 모두 라우팅 DataSource를 쓰며, 풀 설정은 각각 spring.datasource.hikari / custom.datasource.replica.hikari를 따른다.
+ * 꺼져 있으면 Spring Boot 기본 DataSource 하나만 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "custom.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final String PRIMARY_PREFIX = "spring.datasource";
+    private static final String REPLICA_PREFIX = "custom.datasource.replica";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(Environment environment) {
+        return hikari(environment, PRIMARY_PREFIX, "classhub-pool");
+    }
+
+    @Bean
+    @ConfigurationProperties("custom.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(Environment environment) {
+        return hikari(environment, REPLICA_PREFIX, "classhub-replica-pool");
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               Clock clock,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${custom.datasource.replica.max-lag-millis:3000}") long maxLagMillis) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, clock, meterRegistry, maxLagMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        return ReadWriteRoutingDataSource.lazy(primaryDataSource, replicaDataSource, replicaLagMonitor::isUsable);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            Clock clock,
+            @Value("${custom.datasource.replica.read-your-writes-millis:5000}") long stickinessMillis,
+            @Value("${security.cookie.refresh.secure:false}") boolean secure,
+            @Value("${security.cookie.refresh.same-site:Lax}") String sameSite) {
+        return new ReadYourWritesFilter(clock, Duration.ofMillis(stickinessMillis), secure, sameSite);
+    }
+
+    private static HikariDataSource hikari(Environment environment, String prefix, String poolName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(environment.getRequiredProperty(prefix + ".url"));
+        dataSource.setUsername(environment.getProperty(prefix + ".username"));
+        dataSource.setPassword(environment.getProperty(prefix + ".password"));
+        String driverClassName = environment.getProperty(prefix + ".driver-class-name");
+        if (driverClassName != null && !driverClassName.isBlank()) {
+            dataSource.setDriverClassName(driverClassName);
+        }
+        return dataSource;
+    }
+}
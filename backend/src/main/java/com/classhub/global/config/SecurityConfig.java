@@ -47,12 +47,14 @@ public class SecurityConfig {
                                 "/api/v1/members/register/**",
                                 "/api/v1/courses/public/**",
                                 "/actuator/health",
+                                "/actuator/prometheus", // 내부 management 포트에서만 열리므로 Prometheus가 토큰 없이 수집한다
                                 "/v3/api-docs/**",
                                 "/swagger-ui.html",
                                 "/swagger-ui/**",
                                 "/.well-known/**"
                         ).permitAll()
                         .requestMatchers("/api/v1/admin/**").hasAuthority(MemberRole.SUPER_ADMIN.name())
+                        .requestMatchers("/actuator/**").hasAuthority(MemberRole.SUPER_ADMIN.name())
                         .anyRequest().authenticated())
                 .exceptionHandling(handler -> handler
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
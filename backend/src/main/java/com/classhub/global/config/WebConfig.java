@@ -1,16 +1,21 @@
 package com.classhub.global.config;
 
+import com.classhub.global.sql.SqlStatementInterceptor;
 import java.time.ZoneId;
 import java.util.Locale;
 import java.util.TimeZone;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    public WebConfig() {
+    private final SqlStatementInterceptor sqlStatementInterceptor;
+
+    public WebConfig(SqlStatementInterceptor sqlStatementInterceptor) {
+        this.sqlStatementInterceptor = sqlStatementInterceptor;
         Locale.setDefault(Locale.KOREA);
         TimeZone.setDefault(TimeZone.getTimeZone(ZoneId.of("Asia/Seoul")));
     }
@@ -22,4 +27,10 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedMethods("GET", "POST", "PATCH", "PUT", "DELETE", "OPTIONS")
                 .allowCredentials(true);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlStatementInterceptor)
+                .addPathPatterns("/api/**");
+    }
 }
@@ -0,0 +1,6 @@
+package com.classhub.global.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,44 @@
+package com.classhub.global.datasource;
+
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 노드 로컬 캐시를 채우는 조회처럼 replica의 지연된 값을 TTL 동안 붙잡으면 안 되는 읽기를 primary에서 수행한다.
+ * 호출한 트랜잭션(이미 replica 커넥션을 잡았을 수 있다)은 잠시 멈추고, 새 readOnly 트랜잭션을 열어 primary로 읽는다.
+ * 쓰기 트랜잭션이 아니므로 ReadYourWrites 고정은 걸지 않는다. replica를 쓰지 않는 설정에서는 새 트랜잭션만 연다.
+ */
+@Component
+public class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> FORCED = new ThreadLocal<>();
+
+    private final TransactionTemplate transactionTemplate;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public <T> T load(Supplier<T> loader) {
+        Boolean previous = FORCED.get();
+        FORCED.set(Boolean.TRUE);
+        try {
+            return transactionTemplate.execute(status -> loader.get());
+        } finally {
+            if (previous == null) {
+                FORCED.remove();
+            } else {
+                FORCED.set(previous);
+            }
+        }
+    }
+
+    static boolean isForced() {
+        return FORCED.get() != null;
+    }
+}
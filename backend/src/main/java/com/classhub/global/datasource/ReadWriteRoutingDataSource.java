@@ -0,0 +1,44 @@
+package com.classhub.global.datasource;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션을 replica로, 그 외(읽기·쓰기 트랜잭션, 트랜잭션 밖 JDBC)를 primary로 보낸다.
+ * 다음 경우에는 readOnly여도 primary를 쓴다.
+ * - replica 지연이 허용치를 넘었거나 측정에 실패한 경우 (ReplicaLagMonitor)
+ * - 같은 요청 또는 직전 요청에서 쓰기가 커밋된 경우 (ReadYourWrites)
+ * - 캐시 적재처럼 primary에서 읽도록 지정된 경우 (PrimaryReads)
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로 반드시 lazy()로 감싸 첫 SQL 시점에 대상을 고른다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final BooleanSupplier replicaUsable;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaUsable) {
+        this.replicaUsable = replicaUsable;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public static DataSource lazy(DataSource primary, DataSource replica, BooleanSupplier replicaUsable) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, replicaUsable));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWrites.registerWrite();
+            return DataSourceRole.PRIMARY;
+        }
+        if (ReadYourWrites.isPinned() || PrimaryReads.isForced() || !replicaUsable.getAsBoolean()) {
+            return DataSourceRole.PRIMARY;
+        }
+        return DataSourceRole.REPLICA;
+    }
+}
@@ -0,0 +1,66 @@
+package com.classhub.global.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 요청 단위 read-your-writes 상태. 쓰기 트랜잭션이 커밋되면 같은 요청의 이후 readOnly 트랜잭션도 primary로 보내고,
+ * 첫 커밋 시 onFirstWrite(ReadYourWritesFilter의 쿠키 발급)를 한 번 호출해 다음 요청까지 고정이 이어지게 한다.
+ * 요청 밖(스케줄러, 배치)에서는 범위가 없으므로 아무 일도 하지 않는다.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void begin(boolean pinned, Runnable onFirstWrite) {
+        CURRENT.set(new Scope(pinned, onFirstWrite));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static boolean isPinned() {
+        Scope scope = CURRENT.get();
+        return scope != null && scope.pinned;
+    }
+
+    /**
+     * 읽기·쓰기 트랜잭션이 primary 커넥션을 얻을 때 호출된다. 롤백되면 고정하지 않는다.
+     */
+    static void registerWrite() {
+        Scope scope = CURRENT.get();
+        if (scope == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scope.committed();
+            }
+        });
+    }
+
+    private static final class Scope {
+
+        private final Runnable onFirstWrite;
+        private boolean pinned;
+        private boolean marked;
+
+        private Scope(boolean pinned, Runnable onFirstWrite) {
+            this.pinned = pinned;
+            this.onFirstWrite = onFirstWrite;
+        }
+
+        private void committed() {
+            pinned = true;
+            if (!marked) {
+                marked = true;
+                onFirstWrite.run();
+            }
+        }
+    }
+}
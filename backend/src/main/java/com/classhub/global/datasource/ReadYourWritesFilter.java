@@ -0,0 +1,78 @@
+package com.classhub.global.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 쓰기가 커밋된 응답에 짧은 수명의 primaryReadUntil 쿠키(epoch millis)를 붙이고, 이 쿠키가 유효한 요청은 readOnly 조회도 primary로 보낸다.
+ * 노드 간 상태 공유 없이 "방금 저장한 내용이 목록에 안 보이는" 현상을 막는다. 유효 기간은 허용 복제 지연보다 길게 둔다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "primaryReadUntil";
+
+    private final Clock clock;
+    private final Duration stickiness;
+    private final boolean secure;
+    private final String sameSite;
+
+    public ReadYourWritesFilter(Clock clock, Duration stickiness, boolean secure, String sameSite) {
+        this.clock = clock;
+        this.stickiness = stickiness;
+        this.secure = secure;
+        this.sameSite = sameSite;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean pinned = primaryReadUntil(request) > clock.millis();
+        ReadYourWrites.begin(pinned, () -> response.addHeader(HttpHeaders.SET_COOKIE, marker().toString()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    private ResponseCookie marker() {
+        return ResponseCookie.from(COOKIE_NAME, String.valueOf(clock.millis() + stickiness.toMillis()))
+                .httpOnly(true)
+                .secure(secure)
+                .path("/")
+                .sameSite(sameSite)
+                .maxAge(Duration.ofSeconds(Math.max(1, stickiness.toSeconds())))
+                .build();
+    }
+
+    private static long primaryReadUntil(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0;
+        }
+        return Arrays.stream(request.getCookies())
+                .filter(cookie -> COOKIE_NAME.equals(cookie.getName()))
+                .map(Cookie::getValue)
+                .mapToLong(ReadYourWritesFilter::parseMillis)
+                .max()
+                .orElse(0);
+    }
+
+    private static long parseMillis(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
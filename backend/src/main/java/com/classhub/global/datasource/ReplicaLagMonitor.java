@@ -0,0 +1,88 @@
+package com.classhub.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * primary에 하트비트를 쓰고 replica에서 읽어 복제 지연을 잰다. 지연이 max-lag를 넘거나 측정에 실패하면
+ * replica 읽기를 끄고, 다음 측정에서 회복되면 다시 켠다. 기동 직후 첫 측정 전까지는 primary만 쓴다.
+ * 측정값은 하트비트 주기만큼의 오차를 포함하므로 max-lag는 주기보다 넉넉하게 둔다.
+ * - classhub.datasource.replica.lag: 마지막 측정 지연(ms), 실패 시 -1
+ * - classhub.datasource.replica.usable: replica 읽기 사용 여부(1/0)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int HEARTBEAT_ID = 1;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Clock clock;
+    private final long maxLagMillis;
+
+    private volatile long lagMillis = -1;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource primary,
+                             DataSource replica,
+                             Clock clock,
+                             MeterRegistry meterRegistry,
+                             long maxLagMillis) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.clock = clock;
+        this.maxLagMillis = maxLagMillis;
+        Gauge.builder("classhub.datasource.replica.lag", this, ReplicaLagMonitor::getLagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("classhub.datasource.replica.usable", this, monitor -> monitor.isUsable() ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${custom.datasource.replica.heartbeat-millis:1000}")
+    public void check() {
+        long now = clock.millis();
+        long lag;
+        String failure = null;
+        try {
+            primary.update("INSERT IGNORE INTO replication_heartbeat (id, beat_at) VALUES (?, ?)", HEARTBEAT_ID, now);
+            primary.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = ? AND beat_at < ?", now, HEARTBEAT_ID, now);
+            Long beatAt = replica.query(
+                    "SELECT beat_at FROM replication_heartbeat WHERE id = ?",
+                    rs -> rs.next() ? rs.getLong(1) : null,
+                    HEARTBEAT_ID
+            );
+            lag = beatAt == null ? -1 : Math.max(0, now - beatAt);
+        } catch (DataAccessException e) {
+            lag = -1;
+            failure = e.getMessage();
+        }
+        boolean nextUsable = lag >= 0 && lag <= maxLagMillis;
+        if (nextUsable != usable) {
+            if (nextUsable) {
+                log.info("Replica reads enabled: lag={}ms", lag);
+            } else {
+                log.warn("Replica reads disabled, falling back to primary: lag={}ms, maxLag={}ms, error={}",
+                        lag,
+                        maxLagMillis,
+                        failure);
+            }
+        }
+        lagMillis = lag;
+        usable = nextUsable;
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
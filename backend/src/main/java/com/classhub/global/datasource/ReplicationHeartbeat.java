@@ -0,0 +1,26 @@
+package com.classhub.global.datasource;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 복제 지연 측정용 하트비트 테이블. primary에 쓴 beat_at(epoch millis)이 replica에 보이기까지의 차이를 지연으로 본다.
+ * 복제 방식(MySQL binlog, 관리형 DB 등)과 무관하게 같은 쿼리로 측정하기 위해 SHOW REPLICA STATUS 대신 사용한다.
+ */
+@Getter
+@Entity
+@Table(name = "replication_heartbeat")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReplicationHeartbeat {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "beat_at", nullable = false)
+    private long beatAt;
+}
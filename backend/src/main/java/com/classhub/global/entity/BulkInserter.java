@@ -0,0 +1,57 @@
+package com.classhub.global.entity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 새로 만든 엔티티(출석, 진도, 학생 수강 기록 등 추가만 하는 행)를 여러 건 저장한다.
+ * saveAll과 달리 merge 판단 없이 persist만 하고, chunk-size 건마다 flush 후 방금 넣은 엔티티만 detach한다.
+ * flush는 hibernate.jdbc.batch_size 단위의 JDBC batch로 나가므로 INSERT 왕복이 건수가 아니라 batch 수에 비례한다.
+ * 호출자가 이미 관리 중인 엔티티는 detach하지 않으므로 같은 트랜잭션의 다른 변경에는 영향이 없다.
+ * 제약 조건 위반은 리포지토리와 같이 DataIntegrityViolationException으로 변환된다.
+ */
+@Repository
+public class BulkInserter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int chunkSize;
+
+    public BulkInserter(@Value("${custom.jpa.bulk-insert.chunk-size:500}") int chunkSize) {
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T extends BaseEntity> List<T> insertAll(Collection<T> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return List.of();
+        }
+        List<T> inserted = List.copyOf(entities);
+        int from = 0;
+        for (int i = 0; i < inserted.size(); i++) {
+            entityManager.persist(inserted.get(i));
+            if (i + 1 - from == chunkSize) {
+                flushAndDetach(inserted, from, i + 1);
+                from = i + 1;
+            }
+        }
+        if (from < inserted.size()) {
+            flushAndDetach(inserted, from, inserted.size());
+        }
+        return inserted;
+    }
+
+    private void flushAndDetach(List<? extends BaseEntity> entities, int from, int to) {
+        entityManager.flush();
+        for (int i = from; i < to; i++) {
+            entityManager.detach(entities.get(i));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.classhub.global.entity;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * UUID 식별자를 {@link TimeOrderedUuidGenerator}로 생성한다.
+ * 기존 랜덤(v4) 식별자는 같은 BINARY(16) 컬럼에 그대로 남으므로 별도 마이그레이션이 필요 없다.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
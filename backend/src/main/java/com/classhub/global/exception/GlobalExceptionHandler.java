@@ -7,11 +7,14 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 import static com.classhub.global.response.RsCode.BAD_REQUEST;
 import static com.classhub.global.response.RsCode.CONCURRENT_UPDATE;
 import static com.classhub.global.response.RsCode.INTERNAL_SERVER;
 import static com.classhub.global.response.RsCode.FORBIDDEN;
+import static com.classhub.global.response.RsCode.SERVICE_UNAVAILABLE;
 
 @RestControllerAdvice
 @Slf4j
@@ -46,6 +49,15 @@ public class GlobalExceptionHandler {
         return RsData.from(CONCURRENT_UPDATE);
     }
 
+    /**
+     * HikariCP connection-timeout 안에 커넥션을 얻지 못한 경우. 요청을 쌓아 두지 않고 503으로 바로 돌려준다.
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+    public RsData<?> handleConnectionUnavailable(Exception ex) {
+        logWarn(ex);
+        return RsData.from(SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(Exception.class)
     public RsData<?> handleAllExceptions(Exception e) {
         logError(e);
@@ -13,7 +13,7 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 @Component
-@Profile({"local", "dev", "test", "prod"})
+@Profile({"local", "dev", "test", "prod", "loadtest"})
 public class BootstrapDataRunner implements ApplicationRunner {
 
     private static final Logger log = LoggerFactory.getLogger(BootstrapDataRunner.class);
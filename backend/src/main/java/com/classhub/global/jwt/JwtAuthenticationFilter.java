@@ -1,5 +1,6 @@
 package com.classhub.global.jwt;
 
+import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.exception.jwt.JwtAuthenticationEntryPoint;
 import jakarta.servlet.FilterChain;
@@ -42,6 +43,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
     private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
 
@@ -58,16 +60,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String accessToken = jwtProvider.getTokenFromHeader(authorizationHeader);
 
         if (StringUtils.hasText(accessToken)) {
-            if (!jwtProvider.isValidToken(accessToken)) {
+            Authentication authentication = resolveAuthentication(accessToken);
+            if (authentication == null) {
                 jwtAuthenticationEntryPoint.commence(request, response, new BusinessException(UNAUTHENTICATED));
                 return;
             }
-            Authentication authentication = jwtProvider.getAuthentication(accessToken);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 캐시에 검증 결과가 있으면 재사용하고, 없으면 한 번만 검증·파싱한 뒤 캐시에 저장
+     **/
+    Authentication resolveAuthentication(String accessToken) {
+        MemberPrincipal principal = verifiedTokenCache.get(accessToken)
+                .or(() -> jwtProvider.verifyAccessToken(accessToken)
+                        .map(verified -> {
+                            verifiedTokenCache.put(accessToken, verified);
+                            return verified.principal();
+                        }))
+                .orElse(null);
+        return principal == null ? null : jwtProvider.createAuthentication(principal);
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String path = request.getRequestURI();
@@ -14,4 +14,5 @@ public class JwtProperties {
     private String secretKey;
     private long accessTokenExpirationMillis;
     private long refreshTokenExpirationMillis;
+    private int verifiedCacheMaxSize = 10_000; // 검증된 Access 토큰 캐시 최대 개수 (0이면 비활성화)
 }
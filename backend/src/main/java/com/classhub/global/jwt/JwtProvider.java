@@ -5,6 +5,8 @@ import com.classhub.domain.member.model.MemberRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Header;
 import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +23,7 @@ import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import com.classhub.global.util.KstTime;
 
@@ -34,6 +37,10 @@ public class JwtProvider {
     private static final String TOKEN_TYPE_REFRESH = "REFRESH";
     private final JwtProperties jwtProperties;
 
+    // 서명 키와 파서는 불변이므로 최초 사용 시 한 번만 생성해서 재사용한다
+    private volatile SecretKey secretKey;
+    private volatile JwtParser jwtParser;
+
     public String generateAccessToken(UUID memberId, MemberRole role) {
         return generateToken(
                 memberId.toString(),
@@ -93,35 +100,59 @@ public class JwtProvider {
     public boolean isValidToken(String token) { // 검증하려면 token에서 "Bearer " 없어야 됨
         try {
             // 토큰의 서명이 올바른지, 만료되지 않았는지 확인
-            Jwts.parser()
-                .verifyWith(getSecretKey()) // secret_key를 사용해서 토큰 복호화
-                .build()
-                .parseSignedClaims(token);
+            getParser().parseSignedClaims(token);
             return true;
         } catch (Exception e) {
             return false;
         }
     }
 
+    /**
+     * Access 토큰을 한 번만 검증·파싱해서 인증 주체와 만료 시각을 획득 (유효하지 않으면 empty)
+     **/
+    public Optional<VerifiedAccessToken> verifyAccessToken(String token) {
+        try {
+            Claims claims = getParser().parseSignedClaims(token).getPayload();
+            if (TOKEN_TYPE_REFRESH.equals(claims.get(CLAIM_TOKEN_TYPE, String.class))) {
+                return Optional.empty();
+            }
+            MemberRole role = resolveRole(claims);
+            String id = claims.get("id", String.class);
+            if (role == null || id == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new VerifiedAccessToken(
+                    new MemberPrincipal(UUID.fromString(id), role),
+                    claims.getExpiration().toInstant()
+            ));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * 토큰으로부터 인증 정보 획득
      **/
     public Authentication getAuthentication(String token) {
         Claims claims = getClaims(token);
 
-        String roleClaim = claims.get("role", String.class);
-        if (roleClaim == null) {
-            roleClaim = claims.get("authority", String.class); // Backward compatibility
-        }
-        MemberRole role = roleClaim != null ? MemberRole.valueOf(roleClaim) : null;
+        MemberRole role = resolveRole(claims);
         if (role == null) {
             throw new IllegalArgumentException("Missing role claim in access token");
         }
-        GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(role.name());
+        UUID memberId = UUID.fromString(claims.get("id", String.class));
+        return createAuthentication(new MemberPrincipal(memberId, role));
+    }
+
+    /**
+     * 검증된 인증 주체로 Authentication 생성
+     **/
+    public Authentication createAuthentication(MemberPrincipal principal) {
+        GrantedAuthority grantedAuthority = new SimpleGrantedAuthority(principal.role().name());
 
         // Authentication 생성
         return new UsernamePasswordAuthenticationToken(
-            new MemberPrincipal(getUserId(token), role), // principal (id, role)
+            principal, // principal (id, role)
             null, // JWT는 credentials가 필요 없음
             List.of(grantedAuthority) // 권한 리스트
         );
@@ -163,14 +194,36 @@ public class JwtProvider {
      * 토큰으로부터 Claims(토큰 내용) 획득
      **/
     public Claims getClaims(String token) {
-        return Jwts.parser() // claim 조회
-            .verifyWith(getSecretKey()) // secret_key를 사용해서 토큰 복호화
-            .build()
+        return getParser() // claim 조회
             .parseSignedClaims(token)
             .getPayload();
     }
 
+    private MemberRole resolveRole(Claims claims) {
+        String roleClaim = claims.get("role", String.class);
+        if (roleClaim == null) {
+            roleClaim = claims.get("authority", String.class); // Backward compatibility
+        }
+        return roleClaim != null ? MemberRole.valueOf(roleClaim) : null;
+    }
+
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parser()
+                    .verifyWith(getSecretKey()) // secret_key를 사용해서 토큰 복호화
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
+    }
+
     private SecretKey getSecretKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+        SecretKey key = secretKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+            secretKey = key;
+        }
+        return key;
     }
 }
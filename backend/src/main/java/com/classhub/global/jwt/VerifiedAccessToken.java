@@ -0,0 +1,17 @@
+package com.classhub.global.jwt;
+
+import com.classhub.domain.member.dto.MemberPrincipal;
+import java.time.Instant;
+
+/**
+ * 서명 검증을 통과한 Access 토큰의 인증 주체와 만료 시각
+ */
+public record VerifiedAccessToken(
+        MemberPrincipal principal,
+        Instant expiresAt
+) {
+
+    public boolean isExpiredAt(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
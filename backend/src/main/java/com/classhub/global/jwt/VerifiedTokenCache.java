@@ -0,0 +1,91 @@
+package com.classhub.global.jwt;
+
+import com.classhub.domain.member.dto.MemberPrincipal;
+import com.classhub.global.util.TokenDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증이 끝난 Access 토큰을 만료 시각까지 보관하는 캐시
+ * - 원본 토큰 대신 SHA-256 digest를 key로 사용한다
+ * - 조회는 lock 없이 처리하고, 저장 시 삽입 순서대로 만료/초과 항목을 정리한다
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<String, VerifiedAccessToken> entries = new ConcurrentHashMap<>();
+    private final Deque<String> insertionOrder = new ArrayDeque<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public VerifiedTokenCache(JwtProperties jwtProperties, Clock clock) {
+        this.maxSize = jwtProperties.getVerifiedCacheMaxSize();
+        this.clock = clock;
+    }
+
+    public Optional<MemberPrincipal> get(String token) {
+        if (maxSize <= 0) {
+            return Optional.empty();
+        }
+        VerifiedAccessToken cached = entries.get(digest(token));
+        if (cached == null || cached.isExpiredAt(clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.principal());
+    }
+
+    public void put(String token, VerifiedAccessToken verified) {
+        Instant now = clock.instant();
+        if (maxSize <= 0 || verified.isExpiredAt(now)) {
+            return;
+        }
+        String key = digest(token);
+        evictionLock.lock();
+        try {
+            if (entries.putIfAbsent(key, verified) == null) {
+                insertionOrder.addLast(key);
+            }
+            evict(now);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        evictionLock.lock();
+        try {
+            entries.clear();
+            insertionOrder.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void evict(Instant now) {
+        String eldest;
+        while ((eldest = insertionOrder.peekFirst()) != null) {
+            VerifiedAccessToken entry = entries.get(eldest);
+            if (entry != null && !entry.isExpiredAt(now) && entries.size() <= maxSize) {
+                return;
+            }
+            insertionOrder.pollFirst();
+            entries.remove(eldest);
+        }
+    }
+
+    private static String digest(String token) {
+        return TokenDigest.sha256Hex(token);
+    }
+}
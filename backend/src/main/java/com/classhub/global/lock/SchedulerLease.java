@@ -0,0 +1,54 @@
+package com.classhub.global.lock;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄 작업별 리더 임대(lease) 테이블. lease_until이 지나면 다른 노드가 가져갈 수 있다.
+ */
+@Getter
+@Entity
+@Table(name = "scheduler_lease")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "lease_name", length = 64)
+    private String name;
+
+    @Column(length = 128)
+    private String holder;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "acquired_at")
+    private LocalDateTime acquiredAt;
+
+    @Column(name = "last_run_holder", length = 128)
+    private String lastRunHolder;
+
+    @Column(name = "last_run_started_at")
+    private LocalDateTime lastRunStartedAt;
+
+    @Column(name = "last_run_finished_at")
+    private LocalDateTime lastRunFinishedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "last_run_status", length = 20)
+    private SchedulerRunStatus lastRunStatus;
+
+    @Column(name = "last_completed_key", length = 64)
+    private String lastCompletedKey;
+
+    @Column(name = "run_count", nullable = false)
+    private long runCount;
+}
@@ -0,0 +1,27 @@
+package com.classhub.global.lock;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/schedulerlease : 작업별 현재 임대 보유 노드와 마지막 실행 결과
+ */
+@Component
+@Endpoint(id = "schedulerlease")
+@RequiredArgsConstructor
+public class SchedulerLeaseEndpoint {
+
+    private final SchedulerLeaseManager schedulerLeaseManager;
+
+    @ReadOperation
+    public Map<String, Object> leases() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("localHolder", schedulerLeaseManager.getHolderId());
+        body.put("leases", schedulerLeaseManager.findStatuses());
+        return body;
+    }
+}
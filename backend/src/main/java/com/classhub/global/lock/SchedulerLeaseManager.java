@@ -0,0 +1,123 @@
+package com.classhub.global.lock;
+
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * DB 임대 기반 스케줄 리더 선출. 여러 인스턴스에서 같은 작업이 동시에 돌지 않도록 임대를 얻은 노드만 실행한다.
+ * - 실행 중에는 임대 기간의 1/3마다 연장하고, 연장에 실패하면 LEASE_LOST로 기록한다
+ * - 노드가 죽어 반납하지 못한 임대는 lease_until이 지난 뒤 다른 노드가 가져간다
+ * - 실행마다 회차를 나타내는 run key(작업 날짜 등)를 받아, 이미 성공한 회차는 다른 노드의 cron이 조금 늦게 떠도 다시 돌지 않는다
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final Clock clock;
+    private final Duration leaseDuration;
+    private final String holderId;
+    private final ScheduledExecutorService renewer;
+
+    public SchedulerLeaseManager(SchedulerLeaseRepository schedulerLeaseRepository,
+                                 Clock clock,
+                                 @Value("${custom.scheduler.lease.duration-millis:300000}") long leaseMillis,
+                                 @Value("${custom.scheduler.lease.holder-id:}") String holderId) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.clock = clock;
+        this.leaseDuration = Duration.ofMillis(leaseMillis);
+        this.holderId = StringUtils.hasText(holderId) ? holderId : defaultHolderId();
+        this.renewer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("scheduler-lease-renewer").daemon(true).factory()
+        );
+    }
+
+    /**
+     * 임대를 얻으면 작업을 실행하고 true, 다른 노드가 보유 중이거나 runKey 회차가 이미 성공했으면 실행하지 않고 false를 반환한다.
+     */
+    public boolean runExclusively(String name, String runKey, Runnable task) {
+        return runExclusivelyUntilComplete(name, runKey, () -> {
+            task.run();
+            return true;
+        });
+    }
+
+    /**
+     * runExclusively와 같지만 task가 false를 돌려주면 PARTIAL로 기록하고 회차를 완료로 남기지 않는다.
+     * 일부 파티션이 실패한 배치처럼 같은 회차를 나중에 다시 이어서 돌아야 하는 작업에 쓴다.
+     */
+    public boolean runExclusivelyUntilComplete(String name, String runKey, BooleanSupplier task) {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        if (!schedulerLeaseRepository.tryAcquire(name, holderId, runKey, startedAt, startedAt.plus(leaseDuration))) {
+            log.info("Scheduler lease busy or run completed, skip run: name={}, runKey={}, holder={}",
+                    name, runKey, holderId);
+            return false;
+        }
+        AtomicBoolean lost = new AtomicBoolean(false);
+        long renewMillis = Math.max(1, leaseDuration.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(
+                () -> renew(name, lost),
+                renewMillis,
+                renewMillis,
+                TimeUnit.MILLISECONDS
+        );
+        SchedulerRunStatus status = SchedulerRunStatus.FAILED;
+        try {
+            boolean complete = task.getAsBoolean();
+            if (lost.get()) {
+                status = SchedulerRunStatus.LEASE_LOST;
+            } else {
+                status = complete ? SchedulerRunStatus.SUCCEEDED : SchedulerRunStatus.PARTIAL;
+            }
+            return true;
+        } finally {
+            renewal.cancel(false);
+            schedulerLeaseRepository.release(name, holderId, runKey, startedAt, LocalDateTime.now(clock), status);
+            log.info("Scheduler run finished: name={}, runKey={}, holder={}, status={}", name, runKey, holderId, status);
+        }
+    }
+
+    public List<SchedulerLeaseStatus> findStatuses() {
+        return schedulerLeaseRepository.findAll(LocalDateTime.now(clock));
+    }
+
+    public String getHolderId() {
+        return holderId;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renewer.shutdownNow();
+    }
+
+    private void renew(String name, AtomicBoolean lost) {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            boolean renewed = schedulerLeaseRepository.renew(name, holderId, now, now.plus(leaseDuration));
+            if (!renewed && lost.compareAndSet(false, true)) {
+                log.warn("Scheduler lease lost: name={}, holder={}", name, holderId);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Scheduler lease renew failed: name={}, reason={}", name, ex.getClass().getSimpleName());
+        }
+    }
+
+    private static String defaultHolderId() {
+        return ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,131 @@
+package com.classhub.global.lock;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * scheduler_lease 조건부 UPDATE로 임대를 획득/연장/반납한다. 영향 행 수가 1이면 성공이다.
+ * 성공한 실행의 run key를 last_completed_key에 남겨, 같은 회차는 임대가 비어 있어도 다시 획득하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLeaseRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean tryAcquire(String name,
+                              String holder,
+                              String runKey,
+                              LocalDateTime now,
+                              LocalDateTime leaseUntil) {
+        jdbcTemplate.update("""
+                        INSERT IGNORE INTO scheduler_lease (lease_name, holder, lease_until, run_count)
+                        VALUES (?, NULL, ?, 0)
+                        """,
+                name,
+                now
+        );
+        int updated = jdbcTemplate.update("""
+                        UPDATE scheduler_lease
+                        SET holder = ?, lease_until = ?, acquired_at = ?
+                        WHERE lease_name = ?
+                          AND (holder IS NULL OR holder = ? OR lease_until <= ?)
+                          AND (last_completed_key IS NULL OR last_completed_key <> ?)
+                        """,
+                holder,
+                leaseUntil,
+                now,
+                name,
+                holder,
+                now,
+                runKey
+        );
+        return updated == 1;
+    }
+
+    public boolean renew(String name, String holder, LocalDateTime now, LocalDateTime leaseUntil) {
+        int updated = jdbcTemplate.update("""
+                        UPDATE scheduler_lease
+                        SET lease_until = ?
+                        WHERE lease_name = ?
+                          AND holder = ?
+                          AND lease_until > ?
+                        """,
+                leaseUntil,
+                name,
+                holder,
+                now
+        );
+        return updated == 1;
+    }
+
+    /**
+     * 임대를 반납하고 실행 결과를 남긴다. SUCCEEDED일 때만 runKey를 완료로 기록하므로 실패한 회차는 다시 실행할 수 있다.
+     */
+    public void release(String name,
+                        String holder,
+                        String runKey,
+                        LocalDateTime startedAt,
+                        LocalDateTime finishedAt,
+                        SchedulerRunStatus status) {
+        jdbcTemplate.update("""
+                        UPDATE scheduler_lease
+                        SET lease_until = ?,
+                            last_run_holder = holder,
+                            last_run_started_at = ?,
+                            last_run_finished_at = ?,
+                            last_run_status = ?,
+                            last_completed_key = COALESCE(?, last_completed_key),
+                            run_count = run_count + 1
+                        WHERE lease_name = ?
+                          AND holder = ?
+                        """,
+                finishedAt,
+                startedAt,
+                finishedAt,
+                status.name(),
+                status == SchedulerRunStatus.SUCCEEDED ? runKey : null,
+                name,
+                holder
+        );
+    }
+
+    public List<SchedulerLeaseStatus> findAll(LocalDateTime now) {
+        return jdbcTemplate.query("""
+                        SELECT lease_name, holder, lease_until, acquired_at,
+                               last_run_holder, last_run_started_at, last_run_finished_at,
+                               last_run_status, last_completed_key, run_count
+                        FROM scheduler_lease
+                        ORDER BY lease_name
+                        """,
+                (rs, rowNum) -> {
+                    LocalDateTime leaseUntil = toLocalDateTime(rs, "lease_until");
+                    String status = rs.getString("last_run_status");
+                    return new SchedulerLeaseStatus(
+                            rs.getString("lease_name"),
+                            rs.getString("holder"),
+                            leaseUntil,
+                            leaseUntil != null && leaseUntil.isAfter(now),
+                            toLocalDateTime(rs, "acquired_at"),
+                            rs.getString("last_run_holder"),
+                            toLocalDateTime(rs, "last_run_started_at"),
+                            toLocalDateTime(rs, "last_run_finished_at"),
+                            status == null ? null : SchedulerRunStatus.valueOf(status),
+                            rs.getString("last_completed_key"),
+                            rs.getLong("run_count")
+                    );
+                }
+        );
+    }
+
+    private LocalDateTime toLocalDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
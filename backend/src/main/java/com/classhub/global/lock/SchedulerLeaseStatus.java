@@ -0,0 +1,18 @@
+package com.classhub.global.lock;
+
+import java.time.LocalDateTime;
+
+public record SchedulerLeaseStatus(
+        String name,
+        String holder,
+        LocalDateTime leaseUntil,
+        boolean active,
+        LocalDateTime acquiredAt,
+        String lastRunHolder,
+        LocalDateTime lastRunStartedAt,
+        LocalDateTime lastRunFinishedAt,
+        SchedulerRunStatus lastRunStatus,
+        String lastCompletedKey,
+        long runCount
+) {
+}
@@ -0,0 +1,8 @@
+package com.classhub.global.lock;
+
+public enum SchedulerRunStatus {
+    SUCCEEDED,
+    PARTIAL,
+    FAILED,
+    LEASE_LOST
+}
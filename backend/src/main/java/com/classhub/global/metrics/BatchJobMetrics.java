@@ -0,0 +1,76 @@
+package com.classhub.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스케줄러 배치 작업 한 번의 실행을 메트릭으로 남긴다.
+ * - classhub.batch.duration: 작업 소요 시간 (job, outcome=success|partial|failure)
+ * - classhub.batch.items: 작업이 쓴 행 수
+ * - classhub.batch.failures: 실패한 파티션 수
+ * - classhub.batch.last.success: 마지막으로 성공한 시각(epoch 초), 배치가 멈춘 것을 경보하는 데 쓴다
+ */
+@Component
+public class BatchJobMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String PARTIAL = "partial";
+    public static final String FAILURE = "failure";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> lastSuccessSeconds = new ConcurrentHashMap<>();
+
+    public BatchJobMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T record(String job, Supplier<T> task, ToIntFunction<T> written, ToIntFunction<T> failed) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = FAILURE;
+        try {
+            T result = task.get();
+            int failedCount = result == null ? 0 : failed.applyAsInt(result);
+            if (result != null) {
+                counter("classhub.batch.items", job).increment(written.applyAsInt(result));
+                counter("classhub.batch.failures", job).increment(failedCount);
+            }
+            outcome = failedCount > 0 ? PARTIAL : SUCCESS;
+            if (failedCount == 0) {
+                markSuccess(job);
+            }
+            return result;
+        } finally {
+            sample.stop(Timer.builder("classhub.batch.duration")
+                    .tag("job", job)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private Counter counter(String name, String job) {
+        return Counter.builder(name)
+                .tag("job", job)
+                .register(meterRegistry);
+    }
+
+    private void markSuccess(String job) {
+        AtomicLong holder = lastSuccessSeconds.computeIfAbsent(job, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("classhub.batch.last.success", value, AtomicLong::get)
+                    .tag("job", key)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            return value;
+        });
+        holder.set(TimeUnit.MILLISECONDS.toSeconds(meterRegistry.config().clock().wallTime()));
+    }
+}
@@ -0,0 +1,129 @@
+package com.classhub.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)된 채 블로킹한 구간을 JFR jdk.VirtualThreadPinned 이벤트로 받아 보고한다.
+ * synchronized 안의 I/O(드라이버·라이브러리 포함)가 대표적인 원인이며, 고정이 잦으면 캐리어 수만큼만 요청이 진행된다.
+ * - classhub.vthread.pinned: 고정 시간 분포 (site=고정을 일으킨 첫 애플리케이션 프레임, 없으면 첫 비 JDK 프레임)
+ * - site별 첫 발생은 스택과 함께 WARN으로 남긴다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String OTHER_SITE = "other";
+    static final String UNKNOWN_SITE = "unknown";
+
+    private static final String APPLICATION_PACKAGE = "com.classhub.";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+    private static final int MAX_LOGGED_FRAMES = 15;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration threshold;
+    private final int maxSites;
+    private final Set<String> sites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${custom.vthread.pinning.enabled:true}") boolean enabled,
+                                       @Value("${custom.vthread.pinning.threshold-millis:20}") long thresholdMillis,
+                                       @Value("${custom.vthread.pinning.max-sites:50}") int maxSites) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.maxSites = maxSites;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || stream != null) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        stream = recording;
+        log.info("Virtual thread pinning monitor started: threshold={}ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<String> frames = stackTrace == null
+                ? List.of()
+                : stackTrace.getFrames().stream().map(VirtualThreadPinningMonitor::frameName).toList();
+        record(frames, event.getDuration());
+    }
+
+    void record(List<String> frames, Duration duration) {
+        String site = site(frames);
+        boolean first = false;
+        if (!sites.contains(site)) {
+            if (sites.size() < maxSites) {
+                first = sites.add(site);
+            } else {
+                site = OTHER_SITE;
+            }
+        }
+        Timer.builder("classhub.vthread.pinned")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(duration);
+        if (first) {
+            log.warn("Virtual thread pinned for {}ms at {}\n\tat {}",
+                    duration.toMillis(),
+                    site,
+                    String.join("\n\tat ", frames.subList(0, Math.min(frames.size(), MAX_LOGGED_FRAMES))));
+        }
+    }
+
+    /**
+     * 고정 지점으로 가장 위의 애플리케이션 프레임을, 없으면 가장 위의 비 JDK 프레임(드라이버·라이브러리)을 고른다.
+     */
+    static String site(List<String> frames) {
+        return frames.stream()
+                .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .or(() -> frames.stream()
+                        .filter(frame -> JDK_PACKAGES.stream().noneMatch(frame::startsWith))
+                        .findFirst())
+                .orElse(UNKNOWN_SITE);
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
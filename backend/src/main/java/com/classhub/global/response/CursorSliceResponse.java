@@ -0,0 +1,47 @@
+package com.classhub.global.response;
+
+import com.classhub.global.exception.BusinessException;
+import com.classhub.global.util.SeekCursor;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 커서 모드 목록 응답. COUNT 쿼리 없이 size + 1건을 읽어 다음 페이지 유무를 판단한다.
+ * totalElements는 includeTotal 요청 시에만 채운다.
+ */
+public record CursorSliceResponse<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor,
+        Long totalElements
+) {
+
+    public static final int MAX_SIZE = 100;
+
+    public static int validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new BusinessException(RsCode.BAD_REQUEST);
+        }
+        return size;
+    }
+
+    /**
+     * 다음 페이지 유무 판단을 위해 한 건 더 읽는다.
+     */
+    public static PageRequest fetchLimit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    public static <E, T> CursorSliceResponse<T> of(List<E> rows,
+                                                   int size,
+                                                   Function<E, SeekCursor> cursorOf,
+                                                   Function<List<E>, List<T>> mapper,
+                                                   Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new CursorSliceResponse<>(mapper.apply(page), size, hasNext, nextCursor, totalElements);
+    }
+}
@@ -16,6 +16,7 @@ public enum RsCode {
     INTERNAL_SERVER(RsConstant.INTERNAL_SERVER_ERROR, "서버 내부 오류입니다."),
     FORBIDDEN(RsConstant.FORBIDDEN, "접근 권한이 없습니다."),
     TOO_MANY_REQUESTS(RsConstant.TOO_MANY_REQUESTS, "너무 많은 요청입니다."),
+    SERVICE_UNAVAILABLE(RsConstant.SERVICE_UNAVAILABLE, "요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
     // ===== Auth / Member =====
     UNAUTHENTICATED(RsConstant.UNAUTHORIZED, "인증이 실패했습니다."),
@@ -72,6 +73,9 @@ public enum RsCode {
     CLINIC_ATTENDANCE_CANCEL_FORBIDDEN(RsConstant.CONFLICT, "기본 클리닉 출석은 취소할 수 없습니다."),
     CLINIC_RECORD_NOT_FOUND(RsConstant.NOT_FOUND, "클리닉 기록을 찾을 수 없습니다."),
     CLINIC_RECORD_ALREADY_EXISTS(RsConstant.CONFLICT, "클리닉 기록이 이미 존재합니다."),
+    CLINIC_WAITLIST_NOT_FOUND(RsConstant.NOT_FOUND, "클리닉 대기 정보를 찾을 수 없습니다."),
+    CLINIC_WAITLIST_DUPLICATED(RsConstant.CONFLICT, "이미 대기 중인 클리닉입니다."),
+    CLINIC_WAITLIST_SEAT_AVAILABLE(RsConstant.CONFLICT, "빈 자리가 있어 바로 신청할 수 있습니다."),
 
     // ===== Enrollment =====
     STUDENT_ENROLLMENT_REQUEST_NOT_FOUND(RsConstant.NOT_FOUND, "수업 신청을 찾을 수 없습니다."),
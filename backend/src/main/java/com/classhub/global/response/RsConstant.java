@@ -44,5 +44,10 @@ public class RsConstant {
      */
     public static Integer TOO_MANY_REQUESTS = HttpStatus.TOO_MANY_REQUESTS.value();
 
+    /**
+     * DB 커넥션 풀 고갈처럼 일시적으로 처리할 수 없는 경우 사용합니다.
+     */
+    public static Integer SERVICE_UNAVAILABLE = HttpStatus.SERVICE_UNAVAILABLE.value();
+
     public static Integer CONFLICT = HttpStatus.CONFLICT.value();
 }
@@ -0,0 +1,29 @@
+package com.classhub.global.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 목록 검색어 조건. 색인이 후보 id를 만들었으면 id IN 조건으로, 색인을 쓸 수 없으면 기존 LIKE 조건으로 거른다.
+ * IN 파라미터가 비지 않도록 후보가 없거나 색인을 쓰지 않을 때는 어떤 행과도 맞지 않는 id 하나를 넣어 둔다.
+ */
+public record KeywordCandidates(String likeKeyword, boolean filtered, Collection<UUID> ids) {
+
+    private static final List<UUID> NO_MATCH = List.of(new UUID(0L, 0L));
+
+    public static KeywordCandidates none() {
+        return new KeywordCandidates(null, false, NO_MATCH);
+    }
+
+    /**
+     * 색인 없이 LIKE로 거른다. keyword가 null이면 조건이 없다.
+     */
+    public static KeywordCandidates like(String keyword) {
+        return new KeywordCandidates(keyword, false, NO_MATCH);
+    }
+
+    public static KeywordCandidates of(Collection<UUID> ids) {
+        return new KeywordCandidates(null, true, ids.isEmpty() ? NO_MATCH : List.copyOf(ids));
+    }
+}
@@ -0,0 +1,205 @@
+package com.classhub.global.search;
+
+import com.classhub.domain.course.model.Course;
+import com.classhub.domain.member.model.Member;
+import com.classhub.domain.member.model.StudentInfo;
+import com.classhub.global.cache.CacheVersionTracker;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 학생(이름, 학교, 전화번호)과 강의명 검색어를 후보 id로 바꿔 주는 프로세스 내 색인.
+ * - 이 노드의 쓰기는 엔티티 리스너가 바로 반영하고, 커밋 뒤 트랜잭션마다 한 번 cache_version을 올려 다른 노드에 알린다
+ * - 다른 노드의 쓰기가 폴링으로 보이면 색인을 낡은 것으로 표시하고, 다음 재구성이 끝날 때까지 LIKE 조건으로 돌려준다
+ * - 첫 재구성 전이거나 후보가 너무 많을 때도 LIKE 조건으로 돌려준다
+ */
+@Slf4j
+@Component
+public class KeywordSearchIndex {
+
+    private static final String CACHE_NAME = "keyword-search";
+    private static final Pattern PHONE_KEYWORD = Pattern.compile("[0-9\\-\\s]*[0-9][0-9\\-\\s]*");
+
+    private final SearchIndexJdbcRepository searchIndexJdbcRepository;
+    private final CacheVersionTracker cacheVersionTracker;
+    private final int maxCandidates;
+    private final Map<SearchTarget, NgramIndex> indexes = new EnumMap<>(SearchTarget.class);
+    private final AtomicLong changeGeneration = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile long builtGeneration = -1;
+    private volatile boolean ready;
+
+    public KeywordSearchIndex(SearchIndexJdbcRepository searchIndexJdbcRepository,
+                              CacheVersionTracker cacheVersionTracker,
+                              @Value("${custom.search.index.max-candidates:1000}") int maxCandidates) {
+        this.searchIndexJdbcRepository = searchIndexJdbcRepository;
+        this.cacheVersionTracker = cacheVersionTracker;
+        this.maxCandidates = maxCandidates;
+        for (SearchTarget target : SearchTarget.values()) {
+            indexes.put(target, new NgramIndex(target.digitsOnly()));
+        }
+        cacheVersionTracker.register(CACHE_NAME, this::markStale);
+    }
+
+    /**
+     * 학생 이름, 학교명, 전화번호 중 하나라도 keyword를 포함하는 학생 member id.
+     */
+    public KeywordCandidates students(String keyword) {
+        if (keyword == null) {
+            return KeywordCandidates.none();
+        }
+        if (!isCurrent()) {
+            return KeywordCandidates.like(keyword);
+        }
+        Set<UUID> ids = new LinkedHashSet<>(indexes.get(SearchTarget.MEMBER_NAME).search(keyword));
+        ids.addAll(indexes.get(SearchTarget.SCHOOL_NAME).search(keyword));
+        if (PHONE_KEYWORD.matcher(keyword).matches()) {
+            ids.addAll(indexes.get(SearchTarget.MEMBER_PHONE).search(keyword));
+        }
+        return toCandidates(keyword, ids);
+    }
+
+    public KeywordCandidates courses(String keyword) {
+        if (keyword == null) {
+            return KeywordCandidates.none();
+        }
+        if (!isCurrent()) {
+            return KeywordCandidates.like(keyword);
+        }
+        return toCandidates(keyword, indexes.get(SearchTarget.COURSE_NAME).search(keyword));
+    }
+
+    public void index(Object entity) {
+        if (entity instanceof Member member) {
+            indexes.get(SearchTarget.MEMBER_NAME).put(member.getId(), member.getName());
+            indexes.get(SearchTarget.MEMBER_PHONE).put(member.getId(), member.getPhoneNumber());
+        } else if (entity instanceof StudentInfo studentInfo) {
+            indexes.get(SearchTarget.SCHOOL_NAME).put(studentInfo.getMemberId(), studentInfo.getSchoolName());
+        } else if (entity instanceof Course course) {
+            indexes.get(SearchTarget.COURSE_NAME).put(course.getId(), course.getName());
+        }
+    }
+
+    public void evict(Object entity) {
+        if (entity instanceof Member member) {
+            indexes.get(SearchTarget.MEMBER_NAME).remove(member.getId());
+            indexes.get(SearchTarget.MEMBER_PHONE).remove(member.getId());
+        } else if (entity instanceof StudentInfo studentInfo) {
+            indexes.get(SearchTarget.SCHOOL_NAME).remove(studentInfo.getMemberId());
+        } else if (entity instanceof Course course) {
+            indexes.get(SearchTarget.COURSE_NAME).remove(course.getId());
+        }
+    }
+
+    /**
+     * 롤백 등으로 색인이 DB와 어긋났을 수 있는 엔티티를 DB 값으로 다시 맞춘다.
+     */
+    public void reload(Object entity) {
+        if (entity instanceof Member member) {
+            reload(SearchTarget.MEMBER_NAME, member.getId());
+            reload(SearchTarget.MEMBER_PHONE, member.getId());
+        } else if (entity instanceof StudentInfo studentInfo) {
+            reload(SearchTarget.SCHOOL_NAME, studentInfo.getMemberId());
+        } else if (entity instanceof Course course) {
+            reload(SearchTarget.COURSE_NAME, course.getId());
+        }
+    }
+
+    /**
+     * 리스너가 이 노드의 색인에 반영한 쓰기를 다른 노드에 알린다. 쓰기가 잦은 경로라 커밋 뒤 트랜잭션마다 한 번만
+     * 버전을 올리고, 이 노드가 올린 버전은 폴링에서 무시되므로 자기 색인을 낡은 것으로 표시하지 않는다.
+     */
+    public void publishChange() {
+        cacheVersionTracker.bumpAfterCommit(CACHE_NAME);
+    }
+
+    /**
+     * 다른 노드의 쓰기를 본 뒤 부른다. 이후 시작한 재구성이 끝날 때까지 검색은 LIKE로 돌아간다.
+     */
+    public void markStale() {
+        changeGeneration.incrementAndGet();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${custom.search.index.stale-check-millis:2000}")
+    public void refreshIfStale() {
+        if (!isCurrent()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 스냅샷을 읽기 전의 변경 세대를 기록해 두고, 재구성 중 다른 노드의 쓰기가 보이면 끝난 뒤에도 낡은 상태로 남긴다.
+     * 이 노드의 리스너 변경은 NgramIndex가 교체 직후 다시 적용한다.
+     * 재구성은 전체 테이블 조회를 포함하므로 가상 스레드(@Scheduled)에서 캐리어를 고정하지 않도록 ReentrantLock으로 직렬화한다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long generation = changeGeneration.get();
+            indexes.forEach(this::rebuild);
+            builtGeneration = generation;
+            ready = true;
+            log.info("Keyword search index rebuilt: members={}, courses={}",
+                    indexes.get(SearchTarget.MEMBER_NAME).size(),
+                    indexes.get(SearchTarget.COURSE_NAME).size());
+        } catch (RuntimeException ex) {
+            log.warn("Keyword search index rebuild failed, keeping previous state (ready={})", ready, ex);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 후보 집합을 믿을 수 있는지. 재구성을 마쳤고 그 뒤로 다른 노드의 쓰기가 보이지 않았을 때만 참이다.
+     */
+    public boolean isCurrent() {
+        return ready && builtGeneration == changeGeneration.get();
+    }
+
+    private void rebuild(SearchTarget target, NgramIndex index) {
+        index.beginRebuild();
+        try {
+            index.replaceAll(searchIndexJdbcRepository.findAll(target));
+        } catch (RuntimeException ex) {
+            index.abortRebuild();
+            throw ex;
+        }
+    }
+
+    private void reload(SearchTarget target, UUID id) {
+        if (id == null) {
+            return;
+        }
+        NgramIndex index = indexes.get(target);
+        searchIndexJdbcRepository.findById(target, id)
+                .ifPresentOrElse(text -> index.put(id, text), () -> index.remove(id));
+    }
+
+    private KeywordCandidates toCandidates(String keyword, Set<UUID> ids) {
+        if (ids.size() > maxCandidates) {
+            return KeywordCandidates.like(keyword);
+        }
+        return KeywordCandidates.of(ids);
+    }
+}
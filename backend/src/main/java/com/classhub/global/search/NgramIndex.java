@@ -0,0 +1,222 @@
+package com.classhub.global.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 부분 문자열 검색용 n-gram 역색인. 글자 단위 bigram과 unigram을 색인해 한글 이름처럼 공백 없는 짧은 문자열도
+ * 한 글자 검색어부터 찾을 수 있다. gram 교집합으로 후보를 좁힌 뒤 원문 contains로 다시 확인하므로
+ * 결과는 LIKE '%keyword%'와 같다. digitsOnly면 숫자만 남겨 색인해 전화번호의 하이픈 유무와 상관없이 찾는다.
+ */
+public final class NgramIndex {
+
+    private final boolean digitsOnly;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<UUID, String> texts = new HashMap<>();
+    private Map<String, Set<UUID>> postings = new HashMap<>();
+    private Map<UUID, String> pendingDuringRebuild;
+
+    public NgramIndex(boolean digitsOnly) {
+        this.digitsOnly = digitsOnly;
+    }
+
+    public String normalize(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        if (digitsOnly) {
+            return raw.replaceAll("\\D", "");
+        }
+        return raw.toLowerCase(Locale.ROOT);
+    }
+
+    public void put(UUID id, String raw) {
+        String text = normalize(raw);
+        lock.writeLock().lock();
+        try {
+            removeInternal(texts, postings, id);
+            addInternal(texts, postings, id, text);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(id, text);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(texts, postings, id);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.put(id, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재색인용 스냅샷을 읽기 전에 부른다. 이후 replaceAll까지 들어온 put/remove를 기록해 두었다가
+     * 교체 직후 다시 적용하므로, 스냅샷을 읽는 동안 반영된 변경이 이전 스냅샷으로 덮이지 않는다.
+     */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷을 읽지 못했을 때 기록을 멈춘다. 현재 색인은 그대로 둔다.
+     */
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재색인. 새 색인을 잠금 밖에서 만든 뒤 교체하므로 재색인 중에도 검색은 이전 색인으로 계속된다.
+     * beginRebuild 이후 기록된 변경은 교체와 같은 잠금 안에서 새 색인에 다시 적용한다 (null 값은 삭제).
+     */
+    public void replaceAll(Map<UUID, String> raws) {
+        Map<UUID, String> nextTexts = new HashMap<>(raws.size() * 2);
+        Map<String, Set<UUID>> nextPostings = new HashMap<>();
+        raws.forEach((id, raw) -> addInternal(nextTexts, nextPostings, id, normalize(raw)));
+        lock.writeLock().lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.forEach((id, text) -> {
+                    removeInternal(nextTexts, nextPostings, id);
+                    if (text != null) {
+                        addInternal(nextTexts, nextPostings, id, text);
+                    }
+                });
+                pendingDuringRebuild = null;
+            }
+            texts = nextTexts;
+            postings = nextPostings;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * keyword를 부분 문자열로 포함하는 id. 정규화 후 빈 검색어는 아무것도 찾지 않는다.
+     */
+    public Set<UUID> search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return Set.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Set<UUID>> lists = new ArrayList<>();
+            for (String gram : grams(query)) {
+                Set<UUID> posting = postings.get(gram);
+                if (posting == null) {
+                    return Set.of();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            Set<UUID> result = new LinkedHashSet<>();
+            for (UUID id : lists.getFirst()) {
+                if (containsInAll(lists, id) && texts.get(id).contains(query)) {
+                    result.add(id);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return texts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean containsInAll(List<Set<UUID>> lists, UUID id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addInternal(Map<UUID, String> texts,
+                                    Map<String, Set<UUID>> postings,
+                                    UUID id,
+                                    String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+        texts.put(id, text);
+        for (String gram : indexGrams(text)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private static void removeInternal(Map<UUID, String> texts, Map<String, Set<UUID>> postings, UUID id) {
+        String previous = texts.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : indexGrams(previous)) {
+            Set<UUID> posting = postings.get(gram);
+            if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * 색인할 gram: 모든 unigram과 bigram.
+     */
+    private static Set<String> indexGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색할 gram: 한 글자면 unigram, 그 외에는 bigram만 본다.
+     */
+    private static Set<String> grams(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,55 @@
+package com.classhub.global.search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Member, StudentInfo, Course의 쓰기를 검색 색인에 반영한다. flush 시점에 바로 반영하고 다른 노드에 변경을 알리며,
+ * 트랜잭션이 커밋되지 않으면 해당 행을 DB에서 다시 읽어 색인을 되돌린다.
+ * 색인 빈이 없는 컨텍스트(@DataJpaTest 등)에서는 아무것도 하지 않는다.
+ */
+public class SearchIndexEntityListener {
+
+    private final ObjectProvider<KeywordSearchIndex> keywordSearchIndexProvider;
+
+    public SearchIndexEntityListener(ObjectProvider<KeywordSearchIndex> keywordSearchIndexProvider) {
+        this.keywordSearchIndexProvider = keywordSearchIndexProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        keywordSearchIndexProvider.ifAvailable(index -> {
+            index.index(entity);
+            index.publishChange();
+            reloadOnRollback(index, entity);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        keywordSearchIndexProvider.ifAvailable(index -> {
+            index.evict(entity);
+            index.publishChange();
+            reloadOnRollback(index, entity);
+        });
+    }
+
+    private void reloadOnRollback(KeywordSearchIndex index, Object entity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    index.reload(entity);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.classhub.global.search;
+
+import com.classhub.global.util.UuidBytes;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 색인 재구성용 조회. 엔티티를 만들지 않고 id와 텍스트 컬럼만 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<UUID, String> findAll(SearchTarget target) {
+        Map<UUID, String> rows = new HashMap<>();
+        jdbcTemplate.query(target.selectAllSql(), rs -> {
+            rows.put(UuidBytes.fromBytes(rs.getBytes(1)), rs.getString(2));
+        });
+        return rows;
+    }
+
+    public Optional<String> findById(SearchTarget target, UUID id) {
+        return jdbcTemplate.query(
+                target.selectByIdSql(),
+                (rs, rowNum) -> rs.getString(2),
+                UuidBytes.toBytes(id)
+        ).stream().findFirst();
+    }
+}
@@ -0,0 +1,36 @@
+package com.classhub.global.search;
+
+/**
+ * 검색 색인 대상 컬럼. id 컬럼 값 기준으로 텍스트 컬럼을 색인한다.
+ */
+public enum SearchTarget {
+
+    MEMBER_NAME("member", "id", "name", false),
+    MEMBER_PHONE("member", "id", "phone_number", true),
+    SCHOOL_NAME("student_info", "member_id", "school_name", false),
+    COURSE_NAME("course", "id", "name", false);
+
+    private final String table;
+    private final String idColumn;
+    private final String textColumn;
+    private final boolean digitsOnly;
+
+    SearchTarget(String table, String idColumn, String textColumn, boolean digitsOnly) {
+        this.table = table;
+        this.idColumn = idColumn;
+        this.textColumn = textColumn;
+        this.digitsOnly = digitsOnly;
+    }
+
+    String selectAllSql() {
+        return "SELECT " + idColumn + ", " + textColumn + " FROM " + table;
+    }
+
+    String selectByIdSql() {
+        return selectAllSql() + " WHERE " + idColumn + " = ?";
+    }
+
+    boolean digitsOnly() {
+        return digitsOnly;
+    }
+}
@@ -0,0 +1,27 @@
+package com.classhub.global.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 한 번 호출에서 허용하는 SQL 문장 수. 컨트롤러 메서드에 붙이면 엔드포인트별 예산이 된다.
+ * 초과하면 custom.sql.budget.fail-on-exceed가 true일 때(테스트) 예외를 던지고, 아니면 경고 로그와 메트릭만 남긴다.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SqlBudget {
+
+    /**
+     * 전체 SQL 문장 수 상한
+     */
+    int statements();
+
+    /**
+     * 같은 SELECT 문을 바인딩 값만 바꿔 반복할 수 있는 횟수 상한
+     */
+    int repeats() default Integer.MAX_VALUE;
+}
@@ -0,0 +1,15 @@
+package com.classhub.global.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * hibernate.session_factory.statement_inspector로 등록한다. SQL은 바꾸지 않고 현재 스레드의 범위에 기록만 한다.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementTracker.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,44 @@
+package com.classhub.global.sql;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * HTTP 요청 하나를 SqlStatementScope로 감싼다. 이름은 실제 URI 대신 매핑 패턴을 써서 메트릭 태그 수를 고정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlStatementInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = SqlStatementInterceptor.class.getName() + ".scope";
+
+    private final SqlStatementMonitor sqlStatementMonitor;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (sqlStatementMonitor.isEnabled() && handler instanceof HandlerMethod) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String name = request.getMethod() + " " + (pattern == null ? "UNMAPPED" : pattern);
+            request.setAttribute(SCOPE_ATTRIBUTE, SqlStatementTracker.open(name));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request,
+                                HttpServletResponse response,
+                                Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof SqlStatementScope scope)) {
+            return;
+        }
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        scope.close();
+        sqlStatementMonitor.complete(scope, SqlStatementMonitor.REQUEST_SCOPE, null);
+    }
+}
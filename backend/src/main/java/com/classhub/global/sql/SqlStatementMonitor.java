@@ -0,0 +1,107 @@
+package com.classhub.global.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 닫힌 SqlStatementScope를 메트릭으로 남기고, 반복 SELECT(N+1 의심)와 @SqlBudget 초과를 처리한다.
+ * - sql.statements: 범위별 SQL 문장 수 분포 (scope=request|method, name=URI 패턴 또는 클래스.메서드)
+ * - sql.statements.repeated: 같은 SELECT가 repeat-threshold번 이상 반복된 횟수
+ * - sql.budget.exceeded: @SqlBudget 초과 횟수
+ */
+@Slf4j
+@Component
+public class SqlStatementMonitor {
+
+    public static final String REQUEST_SCOPE = "request";
+    public static final String METHOD_SCOPE = "method";
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int repeatThreshold;
+    private final boolean failOnExceed;
+
+    public SqlStatementMonitor(MeterRegistry meterRegistry,
+                               @Value("${custom.sql.tracking.enabled:true}") boolean enabled,
+                               @Value("${custom.sql.tracking.repeat-threshold:10}") int repeatThreshold,
+                               @Value("${custom.sql.budget.fail-on-exceed:false}") boolean failOnExceed) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.repeatThreshold = Math.max(2, repeatThreshold);
+        this.failOnExceed = failOnExceed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 바깥 범위에서만 N+1 경고를 남겨 같은 반복이 요청·트랜잭션 범위에서 두 번 보고되지 않게 한다.
+     */
+    public void complete(SqlStatementScope scope, String scopeType, SqlBudget budget) {
+        DistributionSummary.builder("sql.statements")
+                .tag("scope", scopeType)
+                .tag("name", scope.name())
+                .register(meterRegistry)
+                .record(scope.statementCount());
+        if (scope.isOutermost()) {
+            reportRepeatedSelects(scope, scopeType);
+        }
+        if (budget != null) {
+            checkBudget(scope, scopeType, budget);
+        }
+    }
+
+    private void reportRepeatedSelects(SqlStatementScope scope, String scopeType) {
+        Map<String, Integer> repeated = scope.repeatedSelects(repeatThreshold);
+        if (repeated.isEmpty()) {
+            return;
+        }
+        Counter counter = Counter.builder("sql.statements.repeated")
+                .tag("scope", scopeType)
+                .tag("name", scope.name())
+                .register(meterRegistry);
+        repeated.forEach((sql, count) -> {
+            counter.increment();
+            log.warn("N+1 의심: {} 에서 같은 SELECT가 {}회 실행됨 - {}", scope.name(), count, abbreviate(sql));
+        });
+    }
+
+    private void checkBudget(SqlStatementScope scope, String scopeType, SqlBudget budget) {
+        int statements = scope.statementCount();
+        int maxRepeat = scope.maxSelectRepeat();
+        if (statements <= budget.statements() && maxRepeat <= budget.repeats()) {
+            return;
+        }
+        String message = "SQL 예산 초과: %s statements=%d/%d, repeats=%d/%s".formatted(
+                scope.name(),
+                statements,
+                budget.statements(),
+                maxRepeat,
+                budget.repeats() == Integer.MAX_VALUE ? "-" : String.valueOf(budget.repeats())
+        );
+        Counter.builder("sql.budget.exceeded")
+                .tag("scope", scopeType)
+                .tag("name", scope.name())
+                .register(meterRegistry)
+                .increment();
+        if (failOnExceed) {
+            throw new IllegalStateException(message);
+        }
+        log.warn(message);
+    }
+
+    private String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_LOGGED_SQL_LENGTH
+                ? singleLine
+                : singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
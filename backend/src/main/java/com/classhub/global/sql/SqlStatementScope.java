@@ -0,0 +1,86 @@
+package com.classhub.global.sql;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 하나의 HTTP 요청 또는 @Transactional 메서드 안에서 실행된 SQL을 센다.
+ * 같은 SQL 문자열은 바인딩 값만 다른 같은 문장이므로, 문자열별 횟수로 반복(N+1) 여부를 판단한다.
+ */
+public final class SqlStatementScope implements AutoCloseable {
+
+    private final String name;
+    private final boolean outermost;
+    private final Map<String, Integer> counts = new LinkedHashMap<>();
+    private int statementCount;
+    private boolean closed;
+
+    SqlStatementScope(String name, boolean outermost) {
+        this.name = name;
+        this.outermost = outermost;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 열릴 때 같은 스레드에 다른 범위가 없었는지 여부
+     */
+    public boolean isOutermost() {
+        return outermost;
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    /**
+     * threshold번 이상 반복된 SELECT 문과 횟수. INSERT/UPDATE는 JDBC batch로 묶이므로 반복으로 보지 않는다.
+     */
+    public Map<String, Integer> repeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        counts.forEach((sql, count) -> {
+            if (count >= threshold && isSelect(sql)) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    public int maxSelectRepeat() {
+        int max = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (isSelect(entry.getKey())) {
+                max = Math.max(max, entry.getValue());
+            }
+        }
+        return max;
+    }
+
+    void record(String sql) {
+        statementCount++;
+        counts.merge(sql, 1, Integer::sum);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            SqlStatementTracker.close(this);
+        }
+    }
+
+    private static boolean isSelect(String sql) {
+        int start = 0;
+        if (sql.startsWith("/*")) {
+            int end = sql.indexOf("*/");
+            start = end < 0 ? 0 : end + 2;
+        }
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        return sql.regionMatches(true, start, "select", 0, 6)
+                || sql.regionMatches(true, start, "with", 0, 4);
+    }
+}
@@ -0,0 +1,49 @@
+package com.classhub.global.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 현재 스레드에 열린 SqlStatementScope 스택. Hibernate가 SQL을 준비할 때마다 열린 모든 범위에 기록한다.
+ * 요청 범위 안에서 @Transactional 메서드 범위가 겹쳐 열리므로, 한 문장은 바깥 범위와 안쪽 범위에 모두 더해진다.
+ * JdbcTemplate으로 직접 실행한 SQL은 Hibernate를 거치지 않으므로 세지 않는다.
+ */
+public final class SqlStatementTracker {
+
+    private static final ThreadLocal<Deque<SqlStatementScope>> SCOPES = new ThreadLocal<>();
+
+    private SqlStatementTracker() {
+    }
+
+    public static SqlStatementScope open(String name) {
+        Deque<SqlStatementScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        SqlStatementScope scope = new SqlStatementScope(name, scopes.isEmpty());
+        scopes.push(scope);
+        return scope;
+    }
+
+    static void record(String sql) {
+        Deque<SqlStatementScope> scopes = SCOPES.get();
+        if (scopes == null || sql == null) {
+            return;
+        }
+        for (SqlStatementScope scope : scopes) {
+            scope.record(sql);
+        }
+    }
+
+    static void close(SqlStatementScope scope) {
+        Deque<SqlStatementScope> scopes = SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.remove(scope);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.classhub.global.timetable;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * 요일 + 시간대 한 칸. Course.CourseSchedule과 수업 일정·클리닉 슬롯 조회 projection이 구현한다.
+ */
+public interface WeeklySchedule {
+
+    DayOfWeek getDayOfWeek();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
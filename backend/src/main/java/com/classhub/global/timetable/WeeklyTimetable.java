@@ -0,0 +1,170 @@
+package com.classhub.global.timetable;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 한 주(월~일)의 점유 시간을 분 단위 비트로 표현한 시간표.
+ * - 7일 x 1440분 = 10080비트를 long[158]에 담고, 겹침 검사는 word 단위 AND로 끝난다
+ * - 시작은 분 내림, 종료는 분 올림으로 칸을 잡으므로 초 단위 값이 있어도 겹침을 놓치지 않는다
+ * - 구간은 [start, end) 반열린 구간이라 10:00에 끝나는 일정과 10:00에 시작하는 일정은 겹치지 않는다
+ */
+public final class WeeklyTimetable {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+    private static final int BITS = 7 * MINUTES_PER_DAY;
+    private static final int WORDS = (BITS + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[] words = new long[WORDS];
+
+    public static WeeklyTimetable of(Collection<? extends WeeklySchedule> schedules) {
+        WeeklyTimetable timetable = new WeeklyTimetable();
+        for (WeeklySchedule schedule : schedules) {
+            timetable.mark(schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime());
+        }
+        return timetable;
+    }
+
+    public WeeklyTimetable mark(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        int from = startBit(dayOfWeek, startTime);
+        int to = endBit(dayOfWeek, endTime);
+        if (from >= to) {
+            return this;
+        }
+        int fromWord = from >>> 6;
+        int toWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (fromWord == toWord) {
+            words[fromWord] |= firstMask & lastMask;
+            return this;
+        }
+        words[fromWord] |= firstMask;
+        for (int i = fromWord + 1; i < toWord; i++) {
+            words[i] = -1L;
+        }
+        words[toWord] |= lastMask;
+        return this;
+    }
+
+    public boolean intersects(WeeklyTimetable other) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean intersects(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        int from = startBit(dayOfWeek, startTime);
+        int to = endBit(dayOfWeek, endTime);
+        if (from >= to) {
+            return false;
+        }
+        int fromWord = from >>> 6;
+        int toWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (fromWord == toWord) {
+            return (words[fromWord] & firstMask & lastMask) != 0;
+        }
+        if ((words[fromWord] & firstMask) != 0 || (words[toWord] & lastMask) != 0) {
+            return true;
+        }
+        for (int i = fromWord + 1; i < toWord; i++) {
+            if (words[i] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요일마다 [dayStart, dayEnd) 안에서 비어 있는 구간 중 minMinutes 이상인 것을 월요일부터 시간 순으로 돌려준다.
+     */
+    public List<Window> freeWindows(LocalTime dayStart, LocalTime dayEnd, int minMinutes) {
+        List<Window> windows = new ArrayList<>();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            int base = dayBase(dayOfWeek);
+            int cursor = startBit(dayOfWeek, dayStart);
+            int limit = endBit(dayOfWeek, dayEnd);
+            while (cursor < limit) {
+                int freeStart = nextClearBit(cursor, limit);
+                if (freeStart >= limit) {
+                    break;
+                }
+                int freeEnd = nextSetBit(freeStart, limit);
+                if (freeEnd - freeStart >= minMinutes) {
+                    windows.add(new Window(dayOfWeek, toTime(freeStart - base), toTime(freeEnd - base)));
+                }
+                cursor = freeEnd;
+            }
+        }
+        return windows;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int nextSetBit(int from, int limit) {
+        int wordIndex = from >>> 6;
+        long word = words[wordIndex] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return Math.min(wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word), limit);
+            }
+            if (++wordIndex * Long.SIZE >= limit) {
+                return limit;
+            }
+            word = words[wordIndex];
+        }
+    }
+
+    private int nextClearBit(int from, int limit) {
+        int wordIndex = from >>> 6;
+        long word = ~words[wordIndex] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return Math.min(wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word), limit);
+            }
+            if (++wordIndex * Long.SIZE >= limit) {
+                return limit;
+            }
+            word = ~words[wordIndex];
+        }
+    }
+
+    private static int dayBase(DayOfWeek dayOfWeek) {
+        return (dayOfWeek.getValue() - 1) * MINUTES_PER_DAY;
+    }
+
+    private static int startBit(DayOfWeek dayOfWeek, LocalTime time) {
+        return dayBase(dayOfWeek) + time.toSecondOfDay() / 60;
+    }
+
+    private static int endBit(DayOfWeek dayOfWeek, LocalTime time) {
+        long minutes = (time.toNanoOfDay() + NANOS_PER_MINUTE - 1) / NANOS_PER_MINUTE;
+        return dayBase(dayOfWeek) + (int) Math.min(minutes, MINUTES_PER_DAY);
+    }
+
+    private static LocalTime toTime(int minuteOfDay) {
+        if (minuteOfDay >= MINUTES_PER_DAY) {
+            return LocalTime.MAX;
+        }
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    public record Window(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+    }
+}
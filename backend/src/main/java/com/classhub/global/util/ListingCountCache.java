@@ -0,0 +1,58 @@
+package com.classhub.global.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커서 모드 목록의 전체 건수 캐시. 같은 조건으로 스크롤하는 동안 페이지마다 COUNT를 다시 세지 않도록
+ * 짧은 TTL 동안 결과를 재사용한다. 건수는 표시용 근사치로 취급하며 쓰기 시 무효화하지 않는다.
+ */
+@Component
+public class ListingCountCache {
+
+    private final Clock clock;
+    private final Duration ttl;
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ListingCountCache(Clock clock,
+                             @Value("${custom.listing.count-cache.ttl-millis:30000}") long ttlMillis,
+                             @Value("${custom.listing.count-cache.max-size:10000}") int maxSize) {
+        this.clock = clock;
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.maxSize = maxSize;
+    }
+
+    public static String key(Object... parts) {
+        StringBuilder builder = new StringBuilder();
+        for (Object part : parts) {
+            builder.append(part).append(':');
+        }
+        return builder.toString();
+    }
+
+    public long get(String key, LongSupplier counter) {
+        Instant now = clock.instant();
+        Entry cached = entries.get(key);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return cached.count();
+        }
+        long count = counter.getAsLong();
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        }
+        if (entries.size() < maxSize) {
+            entries.put(key, new Entry(count, now.plus(ttl)));
+        }
+        return count;
+    }
+
+    private record Entry(long count, Instant expiresAt) {
+    }
+}
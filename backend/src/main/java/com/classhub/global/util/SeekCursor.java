@@ -0,0 +1,52 @@
+package com.classhub.global.util;
+
+import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.RsCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * keyset(seek) 페이지네이션 커서. (createdAt DESC, id DESC) 정렬 키를 Base64url 문자열로 감싸 클라이언트에는 불투명하게 노출한다.
+ */
+public record SeekCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final char DELIMITER = '|';
+
+    /**
+     * 커서가 없으면(첫 페이지) null을 돌려준다. 형식이 잘못되면 BAD_REQUEST.
+     */
+    public static SeekCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            if (index < 0) {
+                throw new BusinessException(RsCode.BAD_REQUEST);
+            }
+            return new SeekCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    UUID.fromString(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BusinessException(RsCode.BAD_REQUEST);
+        }
+    }
+
+    public static LocalDateTime createdAtOf(SeekCursor cursor) {
+        return cursor == null ? null : cursor.createdAt();
+    }
+
+    public static UUID idOf(SeekCursor cursor) {
+        return cursor == null ? null : cursor.id();
+    }
+
+    public String encode() {
+        String raw = createdAt + String.valueOf(DELIMITER) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,52 @@
+package com.classhub.global.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RFC 9562 UUID v7 형태의 시간순 UUID를 만든다.
+ * 상위 48비트가 밀리초 타임스탬프라 BINARY(16) PK에 순서대로 쌓이고, 같은 밀리초 안에서는
+ * rand_a 12비트를 카운터로 써서 한 JVM 안에서 단조 증가를 보장한다. (카운터가 넘치면 다음 밀리초로 넘어간다)
+ * 가상 스레드가 대기 중에 캐리어 스레드를 붙잡지 않도록 synchronized 대신 ReentrantLock을 쓴다.
+ */
+public final class TimeOrderedUuid {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+    private static final int MAX_COUNTER = (1 << COUNTER_BITS) - 1;
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private static long lastMillis = -1L;
+    private static int counter;
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        long millis;
+        int sequence;
+        LOCK.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                counter = RANDOM.nextInt(MAX_COUNTER / 2);
+            } else if (counter < MAX_COUNTER) {
+                counter++;
+            } else {
+                lastMillis++;
+                counter = 0;
+            }
+            millis = lastMillis;
+            sequence = counter;
+        } finally {
+            LOCK.unlock();
+        }
+        long msb = (millis & 0xFFFF_FFFF_FFFFL) << 16
+                | 0x7000L
+                | sequence;
+        long lsb = (RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+}
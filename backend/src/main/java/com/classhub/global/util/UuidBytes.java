@@ -0,0 +1,31 @@
+package com.classhub.global.util;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * BINARY(16) 컬럼에 JDBC로 직접 바인딩할 때 Hibernate와 같은 바이트 순서(msb, lsb)를 사용한다
+ */
+public final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
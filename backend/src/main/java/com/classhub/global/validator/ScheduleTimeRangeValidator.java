@@ -6,8 +6,8 @@ import java.time.LocalTime;
 
 public final class ScheduleTimeRangeValidator {
 
-    private static final LocalTime EARLIEST_START = LocalTime.of(6, 0);
-    private static final LocalTime LATEST_END = LocalTime.of(22, 0);
+    public static final LocalTime EARLIEST_START = LocalTime.of(6, 0);
+    public static final LocalTime LATEST_END = LocalTime.of(22, 0);
 
     private ScheduleTimeRangeValidator() {
     }
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.when;
 import com.classhub.domain.assignment.dto.AssistantAssignmentStatusFilter;
 import com.classhub.domain.assignment.dto.response.AssistantAssignmentResponse;
 import com.classhub.domain.assignment.dto.response.AssistantSearchResponse;
+import com.classhub.domain.assignment.membership.MembershipChangedEvent;
 import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
 import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
 import com.classhub.domain.member.model.Member;
@@ -33,6 +34,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -51,6 +53,9 @@ class AssistantManagementServiceTest {
     @Mock
     private StudentCourseRecordRepository studentCourseRecordRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AssistantManagementService assistantManagementService;
 
@@ -160,6 +165,7 @@ class AssistantManagementServiceTest {
 
         verify(assignmentRepository).save(assignmentCaptor.capture());
         verify(studentCourseRecordRepository).clearAssistantMemberId(teacherId, assistantId);
+        verify(eventPublisher).publishEvent(MembershipChangedEvent.ofAssistant(teacherId, assistantId));
         assertThat(assignmentCaptor.getValue().isActive()).isFalse();
         assertThat(response.isActive()).isFalse();
     }
@@ -7,15 +7,15 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
 import com.classhub.domain.assignment.dto.request.StudentTeacherRequestCreateRequest;
+import com.classhub.domain.assignment.membership.MembershipChangedEvent;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.assignment.dto.response.StudentTeacherRequestResponse;
 import com.classhub.domain.assignment.model.StudentTeacherRequest;
 import com.classhub.domain.assignment.model.TeacherStudentRequestStatus;
 import com.classhub.domain.assignment.repository.StudentTeacherRequestRepository;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
 import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
 import com.classhub.domain.assignment.repository.TeacherStudentAssignmentRepository;
-import com.classhub.domain.company.branch.repository.BranchRepository;
-import com.classhub.domain.company.company.repository.CompanyRepository;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
 import com.classhub.domain.member.model.Member;
 import com.classhub.domain.member.model.MemberRole;
 import com.classhub.domain.member.model.StudentGrade;
@@ -24,11 +24,14 @@ import com.classhub.domain.member.repository.MemberRepository;
 import com.classhub.domain.member.repository.StudentInfoRepository;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.search.KeywordCandidates;
+import com.classhub.global.search.KeywordSearchIndex;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import static org.mockito.Mockito.never;
@@ -55,11 +58,13 @@ class StudentTeacherRequestServiceTest {
     @Mock
     private TeacherBranchAssignmentRepository teacherBranchAssignmentRepository;
     @Mock
-    private BranchRepository branchRepository;
+    private CompanyReferenceCache companyReferenceCache;
     @Mock
-    private CompanyRepository companyRepository;
+    private MembershipGraph membershipGraph;
     @Mock
-    private TeacherAssistantAssignmentRepository assistantAssignmentRepository;
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private KeywordSearchIndex keywordSearchIndex;
 
     @InjectMocks
     private StudentTeacherRequestService studentTeacherRequestService;
@@ -171,10 +176,11 @@ class StudentTeacherRequestServiceTest {
                 .teacherMemberId(teacherId)
                 .status(TeacherStudentRequestStatus.PENDING)
                 .build();
+        given(keywordSearchIndex.students("홍")).willReturn(KeywordCandidates.like("홍"));
         given(requestRepository.searchRequestsForTeacher(
                 eq(teacherId),
                 any(),
-                eq("홍"),
+                eq(KeywordCandidates.like("홍")),
                 any()
         )).willReturn(new PageImpl<>(List.of(request), PageRequest.of(0, 10), 1));
         given(memberRepository.findAllById(List.of(teacherId))).willReturn(List.of(teacher));
@@ -219,6 +225,7 @@ class StudentTeacherRequestServiceTest {
 
         assertThat(response.status()).isEqualTo(TeacherStudentRequestStatus.APPROVED);
         verify(teacherStudentAssignmentRepository).save(any());
+        verify(eventPublisher).publishEvent(MembershipChangedEvent.ofTeacher(teacherId));
     }
 
     @Test
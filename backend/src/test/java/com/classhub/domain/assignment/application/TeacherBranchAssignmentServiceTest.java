@@ -15,6 +15,7 @@ import com.classhub.domain.assignment.dto.request.TeacherBranchAssignmentCreateR
 import com.classhub.domain.assignment.dto.request.TeacherBranchAssignmentCreateRequest.IndividualInput;
 import com.classhub.domain.assignment.dto.request.TeacherBranchAssignmentStatusUpdateRequest;
 import com.classhub.domain.assignment.dto.response.TeacherBranchAssignmentResponse;
+import com.classhub.domain.assignment.membership.MembershipChangedEvent;
 import com.classhub.domain.assignment.model.BranchRole;
 import com.classhub.domain.assignment.model.TeacherBranchAssignment;
 import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
@@ -42,6 +43,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -65,6 +67,9 @@ class TeacherBranchAssignmentServiceTest {
     @Mock
     private CompanyCommandService companyCommandService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TeacherBranchAssignmentService teacherBranchAssignmentService;
 
@@ -331,6 +336,7 @@ class TeacherBranchAssignmentServiceTest {
 
         assertThat(response.deletedAt()).isNotNull();
         verify(assignmentRepository).save(assignment);
+        verify(eventPublisher).publishEvent(MembershipChangedEvent.ofTeacher(teacherId));
     }
 
     @Test
@@ -10,9 +10,8 @@ import static org.mockito.Mockito.verify;
 
 import com.classhub.domain.assignment.dto.response.TeacherStudentDetailResponse;
 import com.classhub.domain.assignment.dto.response.TeacherStudentCourseResponse;
-import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.assignment.model.TeacherStudentAssignment;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
 import com.classhub.domain.assignment.repository.TeacherStudentAssignmentRepository;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
@@ -31,6 +30,8 @@ import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepositor
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.search.KeywordCandidates;
+import com.classhub.global.search.KeywordSearchIndex;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -52,7 +53,7 @@ class TeacherStudentServiceTest {
     @Mock
     private TeacherStudentAssignmentRepository teacherStudentAssignmentRepository;
     @Mock
-    private TeacherAssistantAssignmentRepository teacherAssistantAssignmentRepository;
+    private MembershipGraph membershipGraph;
     @Mock
     private StudentCourseAssignmentRepository studentCourseAssignmentRepository;
     @Mock
@@ -63,6 +64,8 @@ class TeacherStudentServiceTest {
     private MemberRepository memberRepository;
     @Mock
     private StudentInfoRepository studentInfoRepository;
+    @Mock
+    private KeywordSearchIndex keywordSearchIndex;
 
     @InjectMocks
     private TeacherStudentService teacherStudentService;
@@ -100,10 +103,11 @@ class TeacherStudentServiceTest {
         MemberPrincipal principal = new MemberPrincipal(teacherId, MemberRole.TEACHER);
         TeacherStudentAssignment assignment = TeacherStudentAssignment.create(teacherId, studentId);
         ReflectionTestUtils.setField(assignment, "id", UUID.randomUUID());
+        given(keywordSearchIndex.students("학생")).willReturn(KeywordCandidates.like("학생"));
         given(teacherStudentAssignmentRepository.searchAssignmentsForTeacherByCourse(
                 eq(teacherId),
                 eq(null),
-                eq("학생"),
+                eq(KeywordCandidates.like("학생")),
                 any(PageRequest.class)
         )).willReturn(new PageImpl<>(List.of(assignment), PageRequest.of(0, 10), 1));
         given(memberRepository.findAllById(List.of(studentId))).willReturn(List.of(student));
@@ -124,8 +128,7 @@ class TeacherStudentServiceTest {
     @Test
     void getTeacherStudents_shouldReturnEmpty_forAssistantWithoutAssignments() {
         MemberPrincipal principal = new MemberPrincipal(assistantId, MemberRole.ASSISTANT);
-        given(teacherAssistantAssignmentRepository.findByAssistantMemberIdAndDeletedAtIsNull(assistantId))
-                .willReturn(List.of());
+        given(membershipGraph.getTeacherIdsOfAssistant(assistantId)).willReturn(List.of());
 
         PageResponse<StudentSummaryResponse> response = teacherStudentService.getTeacherStudents(
                 principal,
@@ -143,9 +146,7 @@ class TeacherStudentServiceTest {
     @Test
     void getTeacherStudents_shouldReturnDistinctSummaries_forAssistant() {
         MemberPrincipal principal = new MemberPrincipal(assistantId, MemberRole.ASSISTANT);
-        TeacherAssistantAssignment assignment = TeacherAssistantAssignment.create(teacherId, assistantId);
-        given(teacherAssistantAssignmentRepository.findByAssistantMemberIdAndDeletedAtIsNull(assistantId))
-                .willReturn(List.of(assignment));
+        given(membershipGraph.getTeacherIdsOfAssistant(assistantId)).willReturn(List.of(teacherId));
         given(teacherStudentAssignmentRepository.searchDistinctStudentIdsForTeachers(
                 eq(List.of(teacherId)),
                 eq(null),
@@ -180,10 +181,7 @@ class TeacherStudentServiceTest {
         StudentCourseRecord record = StudentCourseRecord.create(studentId, courseId, null, null, null);
         ReflectionTestUtils.setField(record, "id", UUID.randomUUID());
 
-        given(teacherStudentAssignmentRepository.existsByTeacherMemberIdAndStudentMemberIdAndDeletedAtIsNull(
-                teacherId,
-                studentId
-        )).willReturn(true);
+        given(membershipGraph.isStudentOfAny(List.of(teacherId), studentId)).willReturn(true);
         given(memberRepository.findById(studentId)).willReturn(Optional.of(student));
         given(studentInfoRepository.findByMemberId(studentId)).willReturn(Optional.of(studentInfo));
         given(studentCourseAssignmentRepository.findByStudentMemberId(studentId))
@@ -207,10 +205,7 @@ class TeacherStudentServiceTest {
     @Test
     void getTeacherStudentDetail_shouldThrow_whenStudentNotAssigned() {
         MemberPrincipal principal = new MemberPrincipal(teacherId, MemberRole.TEACHER);
-        given(teacherStudentAssignmentRepository.existsByTeacherMemberIdAndStudentMemberIdAndDeletedAtIsNull(
-                teacherId,
-                studentId
-        )).willReturn(false);
+        given(membershipGraph.isStudentOfAny(List.of(teacherId), studentId)).willReturn(false);
 
         assertThatThrownBy(() -> teacherStudentService.getTeacherStudentDetail(principal, studentId))
                 .isInstanceOf(BusinessException.class)
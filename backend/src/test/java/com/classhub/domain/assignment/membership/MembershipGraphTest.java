@@ -0,0 +1,152 @@
+package com.classhub.domain.assignment.membership;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
+import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
+import com.classhub.domain.assignment.repository.TeacherStudentAssignmentRepository;
+import com.classhub.global.cache.CacheVersionTracker;
+import com.classhub.global.datasource.PrimaryReads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MembershipGraphTest {
+
+    @Mock
+    private TeacherAssistantAssignmentRepository teacherAssistantAssignmentRepository;
+
+    @Mock
+    private TeacherBranchAssignmentRepository teacherBranchAssignmentRepository;
+
+    @Mock
+    private TeacherStudentAssignmentRepository teacherStudentAssignmentRepository;
+
+    @Mock
+    private CacheVersionTracker cacheVersionTracker;
+
+    @Mock
+    private PrimaryReads primaryReads;
+
+    private MembershipGraph membershipGraph;
+
+    private final UUID teacherId = UUID.randomUUID();
+    private final UUID assistantId = UUID.randomUUID();
+    private final UUID branchId = UUID.randomUUID();
+    private final UUID studentId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(primaryReads.load(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        membershipGraph = new MembershipGraph(
+                teacherAssistantAssignmentRepository,
+                teacherBranchAssignmentRepository,
+                teacherStudentAssignmentRepository,
+                cacheVersionTracker,
+                primaryReads,
+                Clock.systemUTC(),
+                new SimpleMeterRegistry(),
+                600_000L,
+                100
+        );
+    }
+
+    @Test
+    void getTeacher_shouldLoadAllRelationsOnceAndAnswerFromMemory() {
+        givenTeacherRelations();
+
+        assertThat(membershipGraph.isAssistantOf(teacherId, assistantId)).isTrue();
+        assertThat(membershipGraph.isAssignedToBranch(teacherId, branchId)).isTrue();
+        assertThat(membershipGraph.isStudentOf(teacherId, studentId)).isTrue();
+        assertThat(membershipGraph.isStudentOf(teacherId, UUID.randomUUID())).isFalse();
+        assertThat(membershipGraph.isStudentOfAny(List.of(UUID.randomUUID(), teacherId), studentId)).isTrue();
+
+        verify(teacherAssistantAssignmentRepository, times(1)).findActiveAssistantIdsByTeacherMemberId(teacherId);
+        verify(teacherBranchAssignmentRepository, times(1)).findActiveBranchIdsByTeacherMemberId(teacherId);
+        verify(teacherStudentAssignmentRepository, times(1)).findActiveStudentIdsByTeacherMemberId(teacherId);
+    }
+
+    @Test
+    void getTeacherIdsOfAssistant_shouldKeepAssignmentOrderAndCache() {
+        UUID otherTeacherId = UUID.randomUUID();
+        given(teacherAssistantAssignmentRepository.findActiveTeacherIdsByAssistantMemberId(assistantId))
+                .willReturn(List.of(otherTeacherId, teacherId));
+
+        assertThat(membershipGraph.getTeacherIdsOfAssistant(assistantId)).containsExactly(otherTeacherId, teacherId);
+        assertThat(membershipGraph.getTeacherIdsOfAssistant(assistantId)).containsExactly(otherTeacherId, teacherId);
+
+        verify(teacherAssistantAssignmentRepository, times(1)).findActiveTeacherIdsByAssistantMemberId(assistantId);
+    }
+
+    @Test
+    void onMembershipChanged_shouldBumpVersionAndReloadChangedTeacherAndAssistant() {
+        givenTeacherRelations();
+        given(teacherAssistantAssignmentRepository.findActiveTeacherIdsByAssistantMemberId(assistantId))
+                .willReturn(List.of(teacherId), List.of());
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(cacheVersionTracker).bump(eq(MembershipGraph.CACHE_NAME), any());
+        membershipGraph.getTeacher(teacherId);
+        membershipGraph.getTeacherIdsOfAssistant(assistantId);
+
+        membershipGraph.onMembershipChanged(MembershipChangedEvent.ofAssistant(teacherId, assistantId));
+
+        assertThat(membershipGraph.getTeacherIdsOfAssistant(assistantId)).isEmpty();
+        membershipGraph.getTeacher(teacherId);
+        verify(teacherAssistantAssignmentRepository, times(2)).findActiveAssistantIdsByTeacherMemberId(teacherId);
+        verify(teacherAssistantAssignmentRepository, times(2)).findActiveTeacherIdsByAssistantMemberId(assistantId);
+    }
+
+    @Test
+    void getTeacher_shouldNotCacheRowsLoadedBeforeRacingInvalidation() {
+        given(teacherBranchAssignmentRepository.findActiveBranchIdsByTeacherMemberId(teacherId))
+                .willReturn(List.of(branchId));
+        given(teacherStudentAssignmentRepository.findActiveStudentIdsByTeacherMemberId(teacherId))
+                .willReturn(List.of(studentId));
+        given(teacherAssistantAssignmentRepository.findActiveAssistantIdsByTeacherMemberId(teacherId))
+                .willAnswer(invocation -> {
+                    // 해제 전 행을 읽는 사이에 다른 노드의 해제가 폴링으로 반영된다
+                    membershipGraph.invalidateAll();
+                    return List.of(assistantId);
+                })
+                .willReturn(List.of());
+
+        assertThat(membershipGraph.isAssistantOf(teacherId, assistantId)).isTrue();
+        assertThat(membershipGraph.isAssistantOf(teacherId, assistantId)).isFalse();
+        assertThat(membershipGraph.isAssistantOf(teacherId, assistantId)).isFalse();
+
+        verify(teacherAssistantAssignmentRepository, times(2)).findActiveAssistantIdsByTeacherMemberId(teacherId);
+        verify(primaryReads, times(2)).load(any());
+    }
+
+    @Test
+    void constructor_shouldRegisterFullInvalidationWithVersionTracker() {
+        verify(cacheVersionTracker).register(eq(MembershipGraph.CACHE_NAME), any());
+    }
+
+    private void givenTeacherRelations() {
+        given(teacherAssistantAssignmentRepository.findActiveAssistantIdsByTeacherMemberId(teacherId))
+                .willReturn(List.of(assistantId));
+        given(teacherBranchAssignmentRepository.findActiveBranchIdsByTeacherMemberId(teacherId))
+                .willReturn(List.of(branchId));
+        given(teacherStudentAssignmentRepository.findActiveStudentIdsByTeacherMemberId(teacherId))
+                .willReturn(List.of(studentId));
+    }
+}
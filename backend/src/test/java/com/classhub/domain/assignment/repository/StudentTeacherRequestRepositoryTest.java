@@ -11,6 +11,7 @@ import com.classhub.domain.member.model.StudentInfo;
 import com.classhub.domain.member.repository.MemberRepository;
 import com.classhub.domain.member.repository.StudentInfoRepository;
 import com.classhub.global.config.JpaConfig;
+import com.classhub.global.search.KeywordCandidates;
 import java.time.LocalDate;
 import java.util.EnumSet;
 import java.util.List;
@@ -120,7 +121,7 @@ class StudentTeacherRequestRepositoryTest {
         var page = repository.searchRequestsForTeacher(
                 teacherId,
                 EnumSet.of(TeacherStudentRequestStatus.PENDING),
-                "대치",
+                KeywordCandidates.like("대치"),
                 PageRequest.of(0, 10)
         );
 
@@ -162,7 +163,7 @@ class StudentTeacherRequestRepositoryTest {
         var page = repository.searchRequestsForTeachers(
                 List.of(teacherId),
                 EnumSet.of(TeacherStudentRequestStatus.PENDING),
-                "김",
+                KeywordCandidates.like("김"),
                 PageRequest.of(0, 10)
         );
 
@@ -12,6 +12,7 @@ import com.classhub.domain.member.repository.StudentInfoRepository;
 import com.classhub.domain.studentcourse.model.StudentCourseAssignment;
 import com.classhub.domain.studentcourse.repository.StudentCourseAssignmentRepository;
 import com.classhub.global.config.JpaConfig;
+import com.classhub.global.search.KeywordCandidates;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -80,7 +81,7 @@ class TeacherStudentAssignmentRepositoryTest {
 
         var page = repository.searchAssignmentsForTeacher(
                 teacherId,
-                "대치",
+                KeywordCandidates.like("대치"),
                 List.of(UUID.randomUUID()),
                 PageRequest.of(0, 10)
         );
@@ -90,7 +91,7 @@ class TeacherStudentAssignmentRepositoryTest {
 
         var excluded = repository.searchAssignmentsForTeacher(
                 teacherId,
-                "대치",
+                KeywordCandidates.like("대치"),
                 List.of(student.getId()),
                 PageRequest.of(0, 10)
         );
@@ -98,6 +99,49 @@ class TeacherStudentAssignmentRepositoryTest {
         assertThat(excluded.getContent()).isEmpty();
     }
 
+    @Test
+    void searchAssignmentsForTeacherByCourse_shouldFilterByIndexedCandidateIds() {
+        UUID teacherId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .email("indexed" + i + "@classhub.com")
+                    .password("encoded")
+                    .name("학생")
+                    .phoneNumber("01000000000")
+                    .role(MemberRole.STUDENT)
+                    .build());
+            studentInfoRepository.save(StudentInfo.builder()
+                    .memberId(member.getId())
+                    .schoolName("대치중학교")
+                    .grade(StudentGrade.MIDDLE_1)
+                    .birthDate(LocalDate.of(2012, 1, 1))
+                    .parentPhone("01000000000")
+                    .build());
+            repository.save(TeacherStudentAssignment.create(teacherId, member.getId()));
+        }
+        List<UUID> memberIds = repository.findAll().stream()
+                .map(TeacherStudentAssignment::getStudentMemberId)
+                .toList();
+
+        var page = repository.searchAssignmentsForTeacherByCourse(
+                teacherId,
+                null,
+                KeywordCandidates.of(List.of(memberIds.get(0), memberIds.get(2))),
+                PageRequest.of(0, 10)
+        );
+        var noMatch = repository.searchAssignmentsForTeacherByCourse(
+                teacherId,
+                null,
+                KeywordCandidates.of(List.of()),
+                PageRequest.of(0, 10)
+        );
+
+        assertThat(page.getContent())
+                .extracting(TeacherStudentAssignment::getStudentMemberId)
+                .containsExactlyInAnyOrder(memberIds.get(0), memberIds.get(2));
+        assertThat(noMatch.getContent()).isEmpty();
+    }
+
     @Test
     void searchAssignmentsForTeachers_shouldReturnAssignmentsForMultipleTeachers() {
         UUID teacherA = UUID.randomUUID();
@@ -123,7 +167,7 @@ class TeacherStudentAssignmentRepositoryTest {
 
         var page = repository.searchAssignmentsForTeachers(
                 List.of(teacherA),
-                "서초",
+                KeywordCandidates.like("서초"),
                 PageRequest.of(0, 10)
         );
 
@@ -161,7 +205,7 @@ class TeacherStudentAssignmentRepositoryTest {
         var match = repository.searchAssignmentsForTeacherByCourse(
                 teacherId,
                 courseId,
-                null,
+                KeywordCandidates.none(),
                 PageRequest.of(0, 10)
         );
 
@@ -171,7 +215,7 @@ class TeacherStudentAssignmentRepositoryTest {
         var empty = repository.searchAssignmentsForTeacherByCourse(
                 teacherId,
                 otherCourseId,
-                null,
+                KeywordCandidates.none(),
                 PageRequest.of(0, 10)
         );
 
@@ -206,7 +250,7 @@ class TeacherStudentAssignmentRepositoryTest {
         var page = repository.searchAssignmentsForTeachersByCourse(
                 List.of(teacherId),
                 courseId,
-                "윤",
+                KeywordCandidates.like("윤"),
                 PageRequest.of(0, 10)
         );
 
@@ -238,7 +282,7 @@ class TeacherStudentAssignmentRepositoryTest {
         var page = repository.searchDistinctStudentIdsForTeachers(
                 List.of(teacherA, teacherB),
                 null,
-                null,
+                KeywordCandidates.none(),
                 PageRequest.of(0, 10)
         );
 
@@ -89,6 +89,7 @@ class AuthServiceTest {
         assertThat(tokens.refreshToken()).isEqualTo(refreshToken);
         assertThat(tokens.accessTokenExpiresAt()).isEqualTo(accessExpiresAt);
         assertThat(tokens.refreshTokenExpiresAt()).isEqualTo(refreshExpiresAt);
+        verify(refreshTokenStore).register(teacherId, refreshToken, refreshExpiresAt);
     }
 
     @Test
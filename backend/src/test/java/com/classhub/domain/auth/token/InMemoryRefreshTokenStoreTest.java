@@ -0,0 +1,146 @@
+package com.classhub.domain.auth.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.classhub.global.support.MutableClock;
+import com.classhub.global.util.KstTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-04T00:00:00Z");
+
+    @Test
+    void isBlacklisted_shouldExpireEntriesAfterExpiration() {
+        MutableClock clock = new MutableClock(NOW, KstTime.ZONE_ID);
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(clock);
+
+        store.blacklist("token", at(clock).plusMinutes(5));
+
+        assertThat(store.isBlacklisted("token")).isTrue();
+        assertThat(store.isBlacklisted("other")).isFalse();
+
+        clock.advance(Duration.ofMinutes(10));
+
+        assertThat(store.isBlacklisted("token")).isFalse();
+    }
+
+    @Test
+    void blacklist_shouldEvictEntryExtendedToLaterExpiration() {
+        MutableClock clock = new MutableClock(NOW, KstTime.ZONE_ID);
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(clock);
+
+        store.blacklist("token", at(clock).plusMinutes(5));
+        store.blacklist("token", at(clock).plusMinutes(30));
+        store.blacklist("token", at(clock).plusMinutes(10));
+
+        clock.advance(Duration.ofMinutes(10));
+
+        assertThat(store.isBlacklisted("token")).isTrue();
+
+        clock.advance(Duration.ofMinutes(30));
+
+        assertThat(store.isBlacklisted("token")).isFalse();
+        assertThat(store.blacklistSize()).isZero();
+    }
+
+    @Test
+    void blacklistAllForMember_shouldBlacklistEveryRegisteredTokenOfMember() {
+        MutableClock clock = new MutableClock(NOW, KstTime.ZONE_ID);
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(clock);
+        UUID memberId = UUID.randomUUID();
+        UUID otherMemberId = UUID.randomUUID();
+        store.register(memberId, "laptop", at(clock).plusDays(14));
+        store.register(memberId, "phone", at(clock).plusDays(14));
+        store.register(otherMemberId, "other", at(clock).plusDays(14));
+
+        store.blacklistAllForMember(memberId);
+
+        assertThat(store.isBlacklisted("laptop")).isTrue();
+        assertThat(store.isBlacklisted("phone")).isTrue();
+        assertThat(store.isBlacklisted("other")).isFalse();
+    }
+
+    @Test
+    void blacklistAllForMember_shouldIgnoreExpiredFamilyTokens() {
+        MutableClock clock = new MutableClock(NOW, KstTime.ZONE_ID);
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(clock);
+        UUID memberId = UUID.randomUUID();
+        store.register(memberId, "expired", at(clock).plusMinutes(1));
+        store.register(memberId, "active", at(clock).plusDays(1));
+
+        clock.advance(Duration.ofMinutes(5));
+        store.blacklistAllForMember(memberId);
+
+        assertThat(store.isBlacklisted("expired")).isFalse();
+        assertThat(store.isBlacklisted("active")).isTrue();
+    }
+
+    @Test
+    void concurrentRegisterAndBlacklist_shouldNotLoseUpdates() throws Exception {
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(KstTime.clock());
+        UUID memberId = UUID.randomUUID();
+        LocalDateTime expiresAt = KstTime.nowDateTime().plusDays(1);
+        int threads = 16;
+        int tokensPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int threadIndex = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < tokensPerThread; i++) {
+                    store.register(memberId, "family-" + threadIndex + "-" + i, expiresAt);
+                    store.blacklist("single-" + threadIndex + "-" + i, expiresAt);
+                    if (i % 50 == 0) {
+                        store.blacklistAllForMember(memberId);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        int blacklistedFamilyTokens = 0;
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < tokensPerThread; i++) {
+                if (store.isBlacklisted("family-" + t + "-" + i)) {
+                    blacklistedFamilyTokens++;
+                }
+                assertThat(store.isBlacklisted("single-" + t + "-" + i)).isTrue();
+            }
+        }
+        // 등록된 토큰은 family에 남아 있거나 전체 로그아웃으로 블랙리스트에 옮겨졌어야 한다
+        assertThat(blacklistedFamilyTokens + store.familySize(memberId)).isEqualTo(threads * tokensPerThread);
+
+        store.blacklistAllForMember(memberId);
+
+        assertThat(store.familySize(memberId)).isZero();
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < tokensPerThread; i++) {
+                assertThat(store.isBlacklisted("family-" + t + "-" + i)).isTrue();
+            }
+        }
+    }
+
+    private LocalDateTime at(Clock clock) {
+        return LocalDateTime.ofInstant(clock.instant(), KstTime.ZONE_ID);
+    }
+}
@@ -0,0 +1,123 @@
+package com.classhub.domain.auth.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.classhub.global.util.KstTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "custom.auth.refresh-token-store=jdbc")
+@ActiveProfiles("test")
+class JdbcRefreshTokenStoreTest {
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_token_blacklist");
+        jdbcTemplate.update("DELETE FROM refresh_token_family");
+    }
+
+    @Test
+    void jdbcStoreShouldBeSelectedByProperty() {
+        assertThat(refreshTokenStore).isInstanceOf(JdbcRefreshTokenStore.class);
+    }
+
+    @Test
+    void blacklist_shouldBeIdempotentAndRespectExpiration() {
+        LocalDateTime now = KstTime.nowDateTime();
+        refreshTokenStore.blacklist("active", now.plusDays(1));
+        refreshTokenStore.blacklist("active", now.plusDays(1));
+        refreshTokenStore.blacklist("expired", now.minusMinutes(1));
+
+        assertThat(refreshTokenStore.isBlacklisted("active")).isTrue();
+        assertThat(refreshTokenStore.isBlacklisted("expired")).isFalse();
+        assertThat(refreshTokenStore.isBlacklisted("unknown")).isFalse();
+    }
+
+    @Test
+    void blacklistAllForMember_shouldBlacklistRegisteredTokensOnly() {
+        UUID memberId = UUID.randomUUID();
+        UUID otherMemberId = UUID.randomUUID();
+        LocalDateTime expiresAt = KstTime.nowDateTime().plusDays(14);
+        refreshTokenStore.register(memberId, "laptop", expiresAt);
+        refreshTokenStore.register(memberId, "phone", expiresAt);
+        refreshTokenStore.register(otherMemberId, "other", expiresAt);
+
+        refreshTokenStore.blacklistAllForMember(memberId);
+        refreshTokenStore.blacklistAllForMember(memberId);
+
+        assertThat(refreshTokenStore.isBlacklisted("laptop")).isTrue();
+        assertThat(refreshTokenStore.isBlacklisted("phone")).isTrue();
+        assertThat(refreshTokenStore.isBlacklisted("other")).isFalse();
+    }
+
+    @Test
+    void concurrentWriters_shouldNotLoseUpdates() throws Exception {
+        UUID memberId = UUID.randomUUID();
+        LocalDateTime expiresAt = KstTime.nowDateTime().plusDays(1);
+        int threads = 8;
+        int tokensPerThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int threadIndex = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < tokensPerThread; i++) {
+                    refreshTokenStore.register(memberId, "family-" + threadIndex + "-" + i, expiresAt);
+                    refreshTokenStore.blacklist("single-" + threadIndex + "-" + i, expiresAt);
+                    if (i % 10 == 0) {
+                        refreshTokenStore.blacklistAllForMember(memberId);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Integer registered = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_token_family", Integer.class);
+        assertThat(registered).isEqualTo(threads * tokensPerThread);
+        // 각 스레드의 첫 토큰은 자기 자신의 전체 로그아웃보다 먼저 등록되므로 반드시 블랙리스트에 있어야 한다
+        for (int t = 0; t < threads; t++) {
+            assertThat(refreshTokenStore.isBlacklisted("family-" + t + "-0")).isTrue();
+            for (int i = 0; i < tokensPerThread; i++) {
+                assertThat(refreshTokenStore.isBlacklisted("single-" + t + "-" + i)).isTrue();
+            }
+        }
+
+        refreshTokenStore.blacklistAllForMember(memberId);
+
+        Integer blacklisted = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_token_blacklist", Integer.class);
+        assertThat(blacklisted).isEqualTo(threads * tokensPerThread * 2);
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < tokensPerThread; i++) {
+                assertThat(refreshTokenStore.isBlacklisted("family-" + t + "-" + i)).isTrue();
+            }
+        }
+    }
+}
@@ -5,21 +5,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import com.classhub.domain.calendar.dto.StudentCalendarResponse;
 import com.classhub.domain.calendar.mapper.StudentCalendarMapper;
-import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceEventProjection;
-import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
-import com.classhub.domain.course.model.Course;
-import com.classhub.domain.course.repository.CourseRepository;
+import com.classhub.domain.calendar.model.CalendarEventType;
+import com.classhub.domain.calendar.repository.CalendarEventProjection;
+import com.classhub.domain.calendar.repository.CalendarEventRepository;
 import com.classhub.domain.member.dto.MemberPrincipal;
-import com.classhub.domain.member.model.Member;
 import com.classhub.domain.member.model.MemberRole;
-import com.classhub.domain.member.repository.MemberRepository;
-import com.classhub.domain.progress.course.model.CourseProgress;
-import com.classhub.domain.progress.course.repository.CourseProgressRepository;
-import com.classhub.domain.calendar.dto.StudentCalendarResponse;
-import com.classhub.domain.progress.personal.model.PersonalProgress;
-import com.classhub.domain.progress.personal.repository.PersonalProgressRepository;
 import com.classhub.domain.progress.support.ProgressPermissionValidator;
 import com.classhub.domain.studentcourse.model.StudentCourseRecord;
 import com.classhub.global.exception.BusinessException;
@@ -46,15 +41,7 @@ class StudentCalendarServiceTest {
     @Mock
     private ProgressPermissionValidator permissionValidator;
     @Mock
-    private CourseProgressRepository courseProgressRepository;
-    @Mock
-    private PersonalProgressRepository personalProgressRepository;
-    @Mock
-    private ClinicAttendanceRepository clinicAttendanceRepository;
-    @Mock
-    private CourseRepository courseRepository;
-    @Mock
-    private MemberRepository memberRepository;
+    private CalendarEventRepository calendarEventRepository;
 
     @Spy
     private StudentCalendarMapper studentCalendarMapper = new StudentCalendarMapper();
@@ -86,59 +73,49 @@ class StudentCalendarServiceTest {
         given(permissionValidator.ensureCalendarAccess(teacherPrincipal, studentId))
                 .willReturn(List.of(record));
 
-        CourseProgress courseProgress = CourseProgress.builder()
-                .courseId(courseId)
-                .writerId(teacherId)
-                .date(target.atDay(2))
-                .title("Course")
-                .content("memo")
-                .build();
-        ReflectionTestUtils.setField(courseProgress, "id", UUID.randomUUID());
         LocalDateTime courseCreatedAt = LocalDateTime.now().minusDays(1);
-        ReflectionTestUtils.setField(courseProgress, "createdAt", courseCreatedAt);
-
-        PersonalProgress personalProgress = PersonalProgress.builder()
-                .studentCourseRecordId(recordId)
-                .writerId(teacherId)
-                .date(target.atDay(3))
-                .title("Personal")
-                .content("memo")
-                .build();
-        ReflectionTestUtils.setField(personalProgress, "id", UUID.randomUUID());
         LocalDateTime personalCreatedAt = LocalDateTime.now();
-        ReflectionTestUtils.setField(personalProgress, "createdAt", personalCreatedAt);
-
         LocalDateTime recordCreatedAt = LocalDateTime.now().minusHours(3);
-        ClinicAttendanceEventProjection clinicEvent = new TestClinicEvent(
-                UUID.randomUUID(),
+        CalendarEventProjection courseEvent = progressEvent(
+                CalendarEventType.COURSE_PROGRESS, null, target.atDay(2), "Course", courseCreatedAt
+        );
+        CalendarEventProjection personalEvent = progressEvent(
+                CalendarEventType.PERSONAL_PROGRESS, recordId, target.atDay(3), "Personal", personalCreatedAt
+        );
+        CalendarEventProjection clinicEvent = new TestCalendarEvent(
                 UUID.randomUUID(),
+                CalendarEventType.CLINIC,
                 courseId,
-                UUID.randomUUID(),
+                "중3 수학",
+                recordId,
                 target.atDay(4),
+                null,
+                null,
+                null,
+                null,
+                null,
+                LocalDateTime.now().minusDays(2),
+                UUID.randomUUID(),
+                UUID.randomUUID(),
                 LocalTime.of(18, 0),
                 LocalTime.of(19, 0),
                 false,
                 UUID.randomUUID(),
                 "Clinic",
-                assistantId,
                 "clinic memo",
                 "homework",
+                assistantId,
+                "ASSISTANT",
+                MemberRole.ASSISTANT,
                 recordCreatedAt
         );
-
-        given(courseProgressRepository.findByCourseIdsAndDateRange(any(), any(), any()))
-                .willReturn(List.of(courseProgress));
-        given(personalProgressRepository.findByRecordIdsAndDateRange(any(), any(), any()))
-                .willReturn(List.of(personalProgress));
-        given(clinicAttendanceRepository.findEventsByRecordIdsAndDateRange(any(), any(), any()))
-                .willReturn(List.of(clinicEvent));
-
-        Course course = createCourse(courseId, teacherId, "중3 수학");
-        given(courseRepository.findAllById(any())).willReturn(List.of(course));
-
-        Member teacher = createMember(teacherId, MemberRole.TEACHER);
-        Member assistant = createMember(assistantId, MemberRole.ASSISTANT);
-        given(memberRepository.findAllById(any())).willReturn(List.of(teacher, assistant));
+        given(calendarEventRepository.findMonthEvents(
+                eq(Set.of(courseId)),
+                eq(Set.of(recordId)),
+                eq(CalendarEventType.COURSE_PROGRESS),
+                eq(target.atDay(1)),
+                eq(target.atEndOfMonth())
+        )).willReturn(List.of(courseEvent, personalEvent, clinicEvent));
 
         StudentCalendarResponse response = studentCalendarService.getStudentCalendar(
                 teacherPrincipal,
@@ -169,75 +146,129 @@ class StudentCalendarServiceTest {
     }
 
     @Test
-    void getStudentCalendar_shouldRejectOutOfRangeMonth() {
-        YearMonth target = YearMonth.now().plusMonths(4);
+    void getStudentCalendar_shouldAllowDistantMonth() {
+        YearMonth target = YearMonth.now().plusMonths(12);
+        StudentCourseRecord record = createRecord(recordId, studentId, courseId);
+        given(permissionValidator.ensureCalendarAccess(teacherPrincipal, studentId))
+                .willReturn(List.of(record));
+        given(calendarEventRepository.findMonthEvents(any(), any(), any(), any(), any()))
+                .willReturn(List.of());
 
-        assertThatThrownBy(() -> studentCalendarService.getStudentCalendar(
+        StudentCalendarResponse response = studentCalendarService.getStudentCalendar(
                 teacherPrincipal,
                 studentId,
                 target.getYear(),
                 target.getMonthValue()
+        );
+
+        assertThat(response.month()).isEqualTo(target.getMonthValue());
+        assertThat(response.clinicEvents()).isEmpty();
+    }
+
+    @Test
+    void getStudentCalendar_shouldSkipQueryWhenNoRecords() {
+        YearMonth target = YearMonth.now();
+        given(permissionValidator.ensureCalendarAccess(teacherPrincipal, studentId))
+                .willReturn(List.of());
+
+        StudentCalendarResponse response = studentCalendarService.getStudentCalendar(
+                teacherPrincipal,
+                studentId,
+                target.getYear(),
+                target.getMonthValue()
+        );
+
+        assertThat(response.courseProgress()).isEmpty();
+        verify(calendarEventRepository, never()).findMonthEvents(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getStudentCalendar_shouldRejectInvalidMonth() {
+        assertThatThrownBy(() -> studentCalendarService.getStudentCalendar(
+                teacherPrincipal,
+                studentId,
+                2024,
+                13
         ))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("rsCode", RsCode.BAD_REQUEST);
     }
 
-    private StudentCourseRecord createRecord(UUID recordId, UUID studentId, UUID courseId) {
-        StudentCourseRecord record = StudentCourseRecord.create(studentId, courseId, null, null, null);
-        ReflectionTestUtils.setField(record, "id", recordId);
-        return record;
-    }
-
-    private Course createCourse(UUID courseId, UUID teacherId, String name) {
-        Course course = Course.create(
+    private CalendarEventProjection progressEvent(CalendarEventType type,
+                                                  UUID studentCourseRecordId,
+                                                  LocalDate date,
+                                                  String title,
+                                                  LocalDateTime createdAt) {
+        return new TestCalendarEvent(
                 UUID.randomUUID(),
+                type,
+                courseId,
+                "중3 수학",
+                studentCourseRecordId,
+                date,
+                title,
+                "memo",
                 teacherId,
-                name,
-                "Desc",
-                LocalDate.now().minusDays(1),
-                LocalDate.now().plusDays(30),
-                Set.of()
+                "TEACHER",
+                MemberRole.TEACHER,
+                createdAt,
+                null,
+                null,
+                null,
+                null,
+                false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
-        ReflectionTestUtils.setField(course, "id", courseId);
-        return course;
     }
 
-    private Member createMember(UUID memberId, MemberRole role) {
-        Member member = Member.builder()
-                .email(role.name().toLowerCase() + "@classhub.dev")
-                .password("encoded")
-                .name(role.name())
-                .phoneNumber("01000000000")
-                .role(role)
-                .build();
-        ReflectionTestUtils.setField(member, "id", memberId);
-        return member;
+    private StudentCourseRecord createRecord(UUID recordId, UUID studentId, UUID courseId) {
+        StudentCourseRecord record = StudentCourseRecord.create(studentId, courseId, null, null, null);
+        ReflectionTestUtils.setField(record, "id", recordId);
+        return record;
     }
 
-    private record TestClinicEvent(
-            UUID clinicSessionId,
-            UUID clinicAttendanceId,
+    private record TestCalendarEvent(
+            UUID sourceId,
+            CalendarEventType eventType,
             UUID courseId,
+            String courseName,
+            UUID studentCourseRecordId,
+            LocalDate eventDate,
+            String title,
+            String content,
+            UUID writerId,
+            String writerName,
+            MemberRole writerRole,
+            LocalDateTime sourceCreatedAt,
+            UUID clinicSessionId,
             UUID slotId,
-            LocalDate date,
             LocalTime startTime,
             LocalTime endTime,
             boolean canceled,
-            UUID recordId,
+            UUID clinicRecordId,
             String recordTitle,
-            UUID recordWriterId,
             String recordContent,
             String recordHomeworkProgress,
+            UUID recordWriterId,
+            String recordWriterName,
+            MemberRole recordWriterRole,
             LocalDateTime recordCreatedAt
-    ) implements ClinicAttendanceEventProjection {
+    ) implements CalendarEventProjection {
         @Override
-        public UUID getClinicSessionId() {
-            return clinicSessionId;
+        public UUID getSourceId() {
+            return sourceId;
         }
 
         @Override
-        public UUID getClinicAttendanceId() {
-            return clinicAttendanceId;
+        public CalendarEventType getEventType() {
+            return eventType;
         }
 
         @Override
@@ -246,13 +277,58 @@ class StudentCalendarServiceTest {
         }
 
         @Override
-        public UUID getSlotId() {
-            return slotId;
+        public String getCourseName() {
+            return courseName;
+        }
+
+        @Override
+        public UUID getStudentCourseRecordId() {
+            return studentCourseRecordId;
+        }
+
+        @Override
+        public LocalDate getEventDate() {
+            return eventDate;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getContent() {
+            return content;
+        }
+
+        @Override
+        public UUID getWriterId() {
+            return writerId;
+        }
+
+        @Override
+        public String getWriterName() {
+            return writerName;
         }
 
         @Override
-        public LocalDate getDate() {
-            return date;
+        public MemberRole getWriterRole() {
+            return writerRole;
+        }
+
+        @Override
+        public LocalDateTime getSourceCreatedAt() {
+            return sourceCreatedAt;
+        }
+
+        @Override
+        public UUID getClinicSessionId() {
+            return clinicSessionId;
+        }
+
+        @Override
+        public UUID getSlotId() {
+            return slotId;
         }
 
         @Override
@@ -271,8 +347,8 @@ class StudentCalendarServiceTest {
         }
 
         @Override
-        public UUID getRecordId() {
-            return recordId;
+        public UUID getClinicRecordId() {
+            return clinicRecordId;
         }
 
         @Override
@@ -280,19 +356,29 @@ class StudentCalendarServiceTest {
             return recordTitle;
         }
 
+        @Override
+        public String getRecordContent() {
+            return recordContent;
+        }
+
+        @Override
+        public String getRecordHomeworkProgress() {
+            return recordHomeworkProgress;
+        }
+
         @Override
         public UUID getRecordWriterId() {
             return recordWriterId;
         }
 
         @Override
-        public String getRecordContent() {
-            return recordContent;
+        public String getRecordWriterName() {
+            return recordWriterName;
         }
 
         @Override
-        public String getRecordHomeworkProgress() {
-            return recordHomeworkProgress;
+        public MemberRole getRecordWriterRole() {
+            return recordWriterRole;
         }
 
         @Override
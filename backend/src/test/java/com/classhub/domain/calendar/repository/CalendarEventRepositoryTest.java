@@ -0,0 +1,164 @@
+package com.classhub.domain.calendar.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.classhub.domain.calendar.model.CalendarEventType;
+import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
+import com.classhub.domain.clinic.record.model.ClinicRecord;
+import com.classhub.domain.clinic.record.repository.ClinicRecordRepository;
+import com.classhub.domain.clinic.session.model.ClinicSession;
+import com.classhub.domain.clinic.session.model.ClinicSessionType;
+import com.classhub.domain.clinic.session.repository.ClinicSessionRepository;
+import com.classhub.domain.course.model.Course;
+import com.classhub.domain.course.repository.CourseRepository;
+import com.classhub.domain.member.model.Member;
+import com.classhub.domain.member.model.MemberRole;
+import com.classhub.domain.member.repository.MemberRepository;
+import com.classhub.domain.progress.course.model.CourseProgress;
+import com.classhub.domain.progress.course.repository.CourseProgressRepository;
+import com.classhub.domain.studentcourse.model.StudentCourseRecord;
+import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
+import com.classhub.global.config.JpaConfig;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, CalendarEventJdbcRepository.class})
+class CalendarEventRepositoryTest {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2024, Month.MARCH, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2024, Month.MARCH, 31);
+
+    @Autowired
+    private CalendarEventRepository calendarEventRepository;
+    @Autowired
+    private CalendarEventJdbcRepository calendarEventJdbcRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private StudentCourseRecordRepository studentCourseRecordRepository;
+    @Autowired
+    private CourseProgressRepository courseProgressRepository;
+    @Autowired
+    private ClinicSessionRepository clinicSessionRepository;
+    @Autowired
+    private ClinicAttendanceRepository clinicAttendanceRepository;
+    @Autowired
+    private ClinicRecordRepository clinicRecordRepository;
+
+    private Member teacher;
+    private Course course;
+    private StudentCourseRecord record;
+
+    @BeforeEach
+    void setUp() {
+        teacher = memberRepository.save(Member.builder()
+                .email("calendar-teacher@classhub.dev")
+                .password("encoded")
+                .name("선생님")
+                .phoneNumber("01000000000")
+                .role(MemberRole.TEACHER)
+                .build());
+        course = courseRepository.save(Course.create(
+                UUID.randomUUID(),
+                teacher.getId(),
+                "중3 수학",
+                "Desc",
+                LocalDate.of(2024, Month.JANUARY, 1),
+                LocalDate.of(2024, Month.DECEMBER, 31),
+                Set.of()
+        ));
+        record = studentCourseRecordRepository.save(
+                StudentCourseRecord.create(UUID.randomUUID(), course.getId(), null, null, null)
+        );
+    }
+
+    @Test
+    @DisplayName("동기화한 수업 진도와 클리닉 일정은 강의명/작성자 이름과 함께 한 번에 조회된다")
+    void findMonthEvents_shouldReturnSyncedEvents() {
+        CourseProgress progress = courseProgressRepository.save(CourseProgress.builder()
+                .courseId(course.getId())
+                .writerId(teacher.getId())
+                .date(LocalDate.of(2024, Month.MARCH, 4))
+                .title("진도")
+                .content("memo")
+                .build());
+        ClinicAttendance attendance = saveAttendance(LocalDate.of(2024, Month.MARCH, 5));
+        clinicRecordRepository.save(ClinicRecord.builder()
+                .clinicAttendanceId(attendance.getId())
+                .writerId(teacher.getId())
+                .title("클리닉")
+                .content("clinic memo")
+                .homeworkProgress("homework")
+                .build());
+
+        calendarEventJdbcRepository.syncCourseProgress(progress.getId());
+        calendarEventJdbcRepository.syncClinicAttendance(attendance.getId());
+
+        List<CalendarEventProjection> events = findMonthEvents();
+
+        assertThat(events).extracting(CalendarEventProjection::getEventType)
+                .containsExactly(CalendarEventType.COURSE_PROGRESS, CalendarEventType.CLINIC);
+        assertThat(events.get(0).getCourseName()).isEqualTo("중3 수학");
+        assertThat(events.get(0).getWriterName()).isEqualTo("선생님");
+        assertThat(events.get(1).getRecordContent()).isEqualTo("clinic memo");
+        assertThat(events.get(1).getRecordWriterRole()).isEqualTo(MemberRole.TEACHER);
+    }
+
+    @Test
+    @DisplayName("원본이 삭제된 뒤 동기화하면 일정도 함께 사라진다")
+    void syncClinicAttendance_shouldRemoveDeletedSource() {
+        ClinicAttendance attendance = saveAttendance(LocalDate.of(2024, Month.MARCH, 5));
+        calendarEventJdbcRepository.syncClinicAttendance(attendance.getId());
+        assertThat(findMonthEvents()).hasSize(1);
+
+        clinicAttendanceRepository.delete(attendance);
+        calendarEventJdbcRepository.syncClinicAttendance(attendance.getId());
+
+        assertThat(findMonthEvents()).isEmpty();
+    }
+
+    private List<CalendarEventProjection> findMonthEvents() {
+        return calendarEventRepository.findMonthEvents(
+                Set.of(course.getId()),
+                Set.of(record.getId()),
+                CalendarEventType.COURSE_PROGRESS,
+                MONTH_START,
+                MONTH_END
+        );
+    }
+
+    private ClinicAttendance saveAttendance(LocalDate date) {
+        ClinicSession session = clinicSessionRepository.save(ClinicSession.builder()
+                .slotId(UUID.randomUUID())
+                .teacherMemberId(teacher.getId())
+                .branchId(course.getBranchId())
+                .sessionType(ClinicSessionType.REGULAR)
+                .creatorMemberId(null)
+                .date(date)
+                .startTime(LocalTime.of(18, 0))
+                .endTime(LocalTime.of(19, 0))
+                .capacity(10)
+                .canceled(false)
+                .build());
+        return clinicAttendanceRepository.save(ClinicAttendance.builder()
+                .clinicSessionId(session.getId())
+                .studentCourseRecordId(record.getId())
+                .build());
+    }
+}
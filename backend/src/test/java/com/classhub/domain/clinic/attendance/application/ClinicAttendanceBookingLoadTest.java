@@ -0,0 +1,150 @@
+package com.classhub.domain.clinic.attendance.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
+import com.classhub.domain.clinic.session.model.ClinicSession;
+import com.classhub.domain.clinic.session.model.ClinicSessionType;
+import com.classhub.domain.clinic.session.repository.ClinicSessionRepository;
+import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.RsCode;
+import com.classhub.global.util.KstTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 동시 예약자가 커넥션 풀보다 많으므로 운영 설정(20개, 2초 대기) 대신
+ * 대기가 넉넉한 풀로 띄워 좌석 판정만 검증한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=50",
+        "spring.datasource.hikari.minimum-idle=10",
+        "spring.datasource.hikari.connection-timeout=30000"
+})
+@ActiveProfiles("test")
+class ClinicAttendanceBookingLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ClinicAttendanceBookingLoadTest.class);
+    private static final int BOOKERS = 200;
+    private static final int CAPACITY = 30;
+
+    @Autowired
+    private ClinicAttendanceBooking clinicAttendanceBooking;
+
+    @Autowired
+    private ClinicSessionRepository clinicSessionRepository;
+
+    @Autowired
+    private ClinicAttendanceRepository clinicAttendanceRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM clinic_attendance");
+        jdbcTemplate.update("DELETE FROM clinic_session");
+    }
+
+    @Test
+    void book_shouldFillCapacityExactlyUnderConcurrentBookers() throws Exception {
+        ClinicSession session = clinicSessionRepository.save(createSession(CAPACITY));
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Outcome>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(BOOKERS)) {
+            for (int i = 0; i < BOOKERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return bookOnce(session.getId(), UUID.randomUUID());
+                }));
+            }
+            start.countDown();
+        }
+
+        List<Outcome> outcomes = new ArrayList<>();
+        for (Future<Outcome> future : futures) {
+            outcomes.add(future.get());
+        }
+        long booked = outcomes.stream().filter(outcome -> outcome.code() == null).count();
+        long full = outcomes.stream().filter(outcome -> outcome.code() == RsCode.CLINIC_SESSION_FULL).count();
+        long[] latencies = outcomes.stream().mapToLong(Outcome::elapsedNanos).sorted().toArray();
+        long p99Millis = latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / 1_000_000;
+        log.info("Clinic booking load: bookers={}, capacity={}, booked={}, full={}, "
+                        + "successRate={}%, p50={}ms, p99={}ms, max={}ms",
+                BOOKERS,
+                CAPACITY,
+                booked,
+                full,
+                booked * 100 / BOOKERS,
+                latencies[latencies.length / 2] / 1_000_000,
+                p99Millis,
+                Arrays.stream(latencies).max().orElse(0) / 1_000_000);
+
+        assertThat(booked).isEqualTo(CAPACITY);
+        assertThat(full).isEqualTo(BOOKERS - CAPACITY);
+        assertThat(clinicSessionRepository.findById(session.getId()).orElseThrow().getReservedCount())
+                .isEqualTo(CAPACITY);
+        assertThat(clinicAttendanceRepository.countByClinicSessionId(session.getId())).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void book_shouldRejectDuplicateRecordWithoutLeakingSeat() {
+        ClinicSession session = clinicSessionRepository.save(createSession(CAPACITY));
+        UUID recordId = UUID.randomUUID();
+
+        Outcome first = bookOnce(session.getId(), recordId);
+        Outcome second = bookOnce(session.getId(), recordId);
+
+        assertThat(first.code()).isNull();
+        assertThat(second.code()).isEqualTo(RsCode.CLINIC_ATTENDANCE_DUPLICATED);
+        assertThat(clinicSessionRepository.findById(session.getId()).orElseThrow().getReservedCount()).isEqualTo(1);
+    }
+
+    private Outcome bookOnce(UUID sessionId, UUID recordId) {
+        long startedAt = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> clinicAttendanceBooking.book(sessionId, recordId));
+            return new Outcome(null, System.nanoTime() - startedAt);
+        } catch (BusinessException ex) {
+            return new Outcome(ex.getRsCode(), System.nanoTime() - startedAt);
+        }
+    }
+
+    private ClinicSession createSession(int capacity) {
+        return ClinicSession.builder()
+                .slotId(null)
+                .teacherMemberId(UUID.randomUUID())
+                .branchId(UUID.randomUUID())
+                .sessionType(ClinicSessionType.EMERGENCY)
+                .creatorMemberId(null)
+                .date(KstTime.nowDate().plusDays(1))
+                .startTime(LocalTime.of(18, 0))
+                .endTime(LocalTime.of(19, 0))
+                .capacity(capacity)
+                .canceled(false)
+                .build();
+    }
+
+    private record Outcome(RsCode code, long elapsedNanos) {
+    }
+}
@@ -3,24 +3,32 @@ package com.classhub.domain.clinic.attendance.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.clinic.permission.application.ClinicPermissionValidator;
+import com.classhub.domain.clinic.attendance.dto.request.ClinicAttendanceBulkRequest;
+import com.classhub.domain.clinic.attendance.dto.request.ClinicAttendanceBulkType;
+import com.classhub.domain.clinic.attendance.dto.response.ClinicAttendanceBulkResponse;
 import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceOccupancyProjection;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceDetailProjection;
 import com.classhub.domain.clinic.session.model.ClinicSession;
 import com.classhub.domain.clinic.session.model.ClinicSessionType;
 import com.classhub.domain.clinic.session.repository.ClinicSessionRepository;
+import com.classhub.domain.clinic.waitlist.application.ClinicWaitlistService;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.domain.member.model.MemberRole;
 import com.classhub.domain.studentcourse.model.StudentCourseRecord;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
+import com.classhub.global.entity.BulkInserter;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
 import java.time.LocalDate;
@@ -50,6 +58,16 @@ class ClinicAttendanceServiceTest {
     private CourseRepository courseRepository;
     @Mock
     private ClinicPermissionValidator clinicPermissionValidator;
+    @Mock
+    private ClinicAttendanceBooking clinicAttendanceBooking;
+    @Mock
+    private ClinicWaitlistService clinicWaitlistService;
+
+    @Mock
+    private CalendarEventJdbcRepository calendarEventJdbcRepository;
+
+    @Mock
+    private BulkInserter bulkInserter;
 
     @InjectMocks
     private ClinicAttendanceService clinicAttendanceService;
@@ -67,21 +85,19 @@ class ClinicAttendanceServiceTest {
         StudentCourseRecord record = createRecord(recordId, studentId, courseId);
         Course course = createCourse(courseId, teacherId, branchId);
 
-        given(clinicSessionRepository.findByIdAndDeletedAtIsNullForUpdate(sessionId))
+        given(clinicSessionRepository.findByIdAndDeletedAtIsNull(sessionId))
                 .willReturn(Optional.of(session));
         given(studentCourseRecordRepository.findById(recordId)).willReturn(Optional.of(record));
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(clinicAttendanceRepository.existsByClinicSessionIdAndStudentCourseRecordId(sessionId, recordId))
-                .willReturn(false);
-        given(clinicAttendanceRepository.countByClinicSessionId(sessionId)).willReturn(0L);
-        given(clinicAttendanceRepository.countOverlappingAttendances(
-                recordId,
+        given(clinicAttendanceRepository.findOccupancyByStudentIdsAndDateRange(
+                List.of(studentId),
                 session.getDate(),
-                session.getStartTime(),
-                session.getEndTime()
-        )).willReturn(0L);
-        given(clinicAttendanceRepository.save(any(ClinicAttendance.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
+                session.getDate()
+        )).willReturn(List.of());
+        given(clinicAttendanceBooking.book(sessionId, recordId)).willReturn(ClinicAttendance.builder()
+                .clinicSessionId(sessionId)
+                .studentCourseRecordId(recordId)
+                .build());
 
         ClinicAttendance attendance = clinicAttendanceService.addAttendance(principal, sessionId, recordId);
 
@@ -89,6 +105,43 @@ class ClinicAttendanceServiceTest {
         assertThat(attendance.getStudentCourseRecordId()).isEqualTo(recordId);
     }
 
+    @Test
+    void addAttendance_shouldThrow_whenStudentBusyInAnotherCourse() {
+        UUID teacherId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+        UUID recordId = UUID.randomUUID();
+        UUID courseId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+        MemberPrincipal principal = new MemberPrincipal(teacherId, MemberRole.TEACHER);
+        ClinicSession session = createSession(sessionId, teacherId, branchId, LocalDate.now().plusDays(1));
+        StudentCourseRecord record = createRecord(recordId, studentId, courseId);
+        Course course = createCourse(courseId, teacherId, branchId);
+        ClinicAttendanceOccupancyProjection otherCourseAttendance = occupancyOf(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                studentId,
+                session.getDate(),
+                LocalTime.of(18, 30),
+                LocalTime.of(19, 30)
+        );
+
+        given(clinicSessionRepository.findByIdAndDeletedAtIsNull(sessionId))
+                .willReturn(Optional.of(session));
+        given(studentCourseRecordRepository.findById(recordId)).willReturn(Optional.of(record));
+        given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
+        given(clinicAttendanceRepository.findOccupancyByStudentIdsAndDateRange(
+                List.of(studentId),
+                session.getDate(),
+                session.getDate()
+        )).willReturn(List.of(otherCourseAttendance));
+
+        assertThatThrownBy(() -> clinicAttendanceService.addAttendance(principal, sessionId, recordId))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("rsCode", RsCode.CLINIC_ATTENDANCE_TIME_OVERLAP);
+        verify(clinicAttendanceBooking, never()).book(any(), any());
+    }
+
     @Test
     void requestAttendance_shouldThrow_whenSessionCanceled() {
         UUID teacherId = UUID.randomUUID();
@@ -100,7 +153,7 @@ class ClinicAttendanceServiceTest {
         ClinicSession session = createSession(sessionId, teacherId, branchId, LocalDate.now().plusDays(1));
         session.cancel();
 
-        given(clinicSessionRepository.findByIdAndDeletedAtIsNullForUpdate(sessionId))
+        given(clinicSessionRepository.findByIdAndDeletedAtIsNull(sessionId))
                 .willReturn(Optional.of(session));
 
         assertThatThrownBy(() -> clinicAttendanceService.requestAttendance(principal, sessionId, courseId))
@@ -132,14 +185,14 @@ class ClinicAttendanceServiceTest {
         );
         given(clinicSessionRepository.findByIdAndDeletedAtIsNull(fromSessionId))
                 .willReturn(Optional.of(fromSession));
-        given(clinicSessionRepository.findByIdAndDeletedAtIsNullForUpdate(toSessionId))
+        given(clinicSessionRepository.findByIdAndDeletedAtIsNull(toSessionId))
                 .willReturn(Optional.of(toSession));
 
         assertThatThrownBy(() -> clinicAttendanceService.moveAttendance(principal, fromSessionId, toSessionId))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("rsCode", RsCode.CLINIC_ATTENDANCE_MOVE_FORBIDDEN);
 
-        verify(clinicAttendanceRepository, never()).save(any());
+        verify(clinicAttendanceBooking, never()).book(any(), any());
     }
 
     @Test
@@ -198,7 +251,8 @@ class ClinicAttendanceServiceTest {
 
         clinicAttendanceService.cancelStudentAttendance(principal, attendanceId);
 
-        verify(clinicAttendanceRepository).delete(attendance);
+        verify(clinicAttendanceBooking).cancel(attendance);
+        verify(clinicWaitlistService).promoteNext(session);
     }
 
     @Test
@@ -241,6 +295,60 @@ class ClinicAttendanceServiceTest {
                 .hasFieldOrPropertyWithValue("rsCode", RsCode.CLINIC_ATTENDANCE_CANCEL_FORBIDDEN);
     }
 
+    @Test
+    void bulkUpdateAttendances_shouldApplyValidItemsAndReportFailures() {
+        UUID teacherId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+        UUID courseId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        UUID otherSessionId = UUID.randomUUID();
+        UUID newRecordId = UUID.randomUUID();
+        UUID attendingRecordId = UUID.randomUUID();
+        MemberPrincipal principal = new MemberPrincipal(teacherId, MemberRole.TEACHER);
+        ClinicSession session = createSession(sessionId, teacherId, branchId, LocalDate.now().plusDays(1));
+        ClinicSession otherSession = createSession(otherSessionId, teacherId, branchId, LocalDate.now().plusDays(2));
+        StudentCourseRecord newRecord = createRecord(newRecordId, UUID.randomUUID(), courseId);
+        StudentCourseRecord attendingRecord = createRecord(attendingRecordId, UUID.randomUUID(), courseId);
+        Course course = createCourse(courseId, teacherId, branchId);
+        ClinicAttendance existing = ClinicAttendance.builder()
+                .clinicSessionId(sessionId)
+                .studentCourseRecordId(attendingRecordId)
+                .build();
+        session.addReservedCount(1);
+        List<ClinicAttendanceBulkRequest.Operation> operations = List.of(
+                new ClinicAttendanceBulkRequest.Operation(ClinicAttendanceBulkType.ADD, sessionId, newRecordId, null),
+                new ClinicAttendanceBulkRequest.Operation(ClinicAttendanceBulkType.ADD, sessionId, attendingRecordId, null),
+                new ClinicAttendanceBulkRequest.Operation(
+                        ClinicAttendanceBulkType.MOVE, sessionId, attendingRecordId, otherSessionId
+                ),
+                new ClinicAttendanceBulkRequest.Operation(ClinicAttendanceBulkType.REMOVE, otherSessionId, newRecordId, null)
+        );
+
+        given(clinicSessionRepository.findAllByIdInForUpdate(any())).willReturn(List.of(session, otherSession));
+        given(studentCourseRecordRepository.findAllById(any())).willReturn(List.of(newRecord, attendingRecord));
+        given(courseRepository.findAllById(any())).willReturn(List.of(course));
+        given(clinicAttendanceRepository.findByClinicSessionIdInAndStudentCourseRecordIdIn(any(), any()))
+                .willReturn(List.of(existing));
+        given(clinicAttendanceRepository.findOccupancyByStudentIdsAndDateRange(any(), any(), any()))
+                .willReturn(List.of());
+
+        ClinicAttendanceBulkResponse response = clinicAttendanceService.bulkUpdateAttendances(principal, operations);
+
+        assertThat(response.successCount()).isEqualTo(2);
+        assertThat(response.results())
+                .extracting(ClinicAttendanceBulkResponse.Result::code)
+                .containsExactly(
+                        RsCode.SUCCESS.name(),
+                        RsCode.CLINIC_ATTENDANCE_DUPLICATED.name(),
+                        RsCode.SUCCESS.name(),
+                        RsCode.CLINIC_ATTENDANCE_NOT_FOUND.name()
+                );
+        verify(clinicAttendanceRepository).deleteAllInBatch(List.of(existing));
+        verify(clinicSessionRepository).addReservedCount(otherSessionId, 1);
+        verify(clinicSessionRepository, never()).addReservedCount(eq(sessionId), anyInt());
+        verify(clinicPermissionValidator).ensureStaffAccess(principal, teacherId);
+    }
+
     private ClinicSession createSession(UUID sessionId, UUID teacherId, UUID branchId, LocalDate date) {
         ClinicSession session = ClinicSession.builder()
                 .slotId(UUID.randomUUID())
@@ -270,6 +378,45 @@ class ClinicAttendanceServiceTest {
         return record;
     }
 
+    private ClinicAttendanceOccupancyProjection occupancyOf(UUID sessionId,
+                                                            UUID recordId,
+                                                            UUID studentId,
+                                                            LocalDate date,
+                                                            LocalTime startTime,
+                                                            LocalTime endTime) {
+        return new ClinicAttendanceOccupancyProjection() {
+            @Override
+            public UUID getClinicSessionId() {
+                return sessionId;
+            }
+
+            @Override
+            public UUID getStudentCourseRecordId() {
+                return recordId;
+            }
+
+            @Override
+            public UUID getStudentMemberId() {
+                return studentId;
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public LocalTime getStartTime() {
+                return startTime;
+            }
+
+            @Override
+            public LocalTime getEndTime() {
+                return endTime;
+            }
+        };
+    }
+
     private Course createCourse(UUID courseId, UUID teacherId, UUID branchId) {
         Course course = Course.create(
                 branchId,
@@ -65,29 +65,54 @@ class ClinicAttendanceRepositoryQueryTest {
     }
 
     @Test
-    void countOverlappingAttendances_shouldCountOverlaps() {
+    void findOccupancyByStudentIdsAndDateRange_shouldReturnAttendancesAcrossStudentRecords() {
         UUID teacherId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
         Course course = courseRepository.save(createCourse(teacherId));
+        Course otherCourse = courseRepository.save(createCourse(UUID.randomUUID()));
         StudentCourseRecord record = studentCourseRecordRepository.save(
+                StudentCourseRecord.create(studentId, course.getId(), null, null, null)
+        );
+        StudentCourseRecord otherRecord = studentCourseRecordRepository.save(
+                StudentCourseRecord.create(studentId, otherCourse.getId(), null, null, null)
+        );
+        StudentCourseRecord otherStudentRecord = studentCourseRecordRepository.save(
                 StudentCourseRecord.create(UUID.randomUUID(), course.getId(), null, null, null)
         );
         ClinicSlot slot = clinicSlotRepository.save(createSlot(teacherId));
-        ClinicSession session = clinicSessionRepository.save(createSession(slot, teacherId, slot.getBranchId()));
-        clinicAttendanceRepository.save(
-                ClinicAttendance.builder()
-                        .clinicSessionId(session.getId())
-                        .studentCourseRecordId(record.getId())
-                        .build()
+        LocalDate baseDate = LocalDate.of(2024, Month.MARCH, 5);
+        ClinicSession session = clinicSessionRepository.save(
+                createSession(slot, teacherId, slot.getBranchId(), baseDate, LocalTime.of(18, 0))
         );
-
-        long count = clinicAttendanceRepository.countOverlappingAttendances(
-                record.getId(),
-                session.getDate(),
-                LocalTime.of(18, 30),
-                LocalTime.of(19, 30)
+        ClinicSession otherSession = clinicSessionRepository.save(
+                createSession(slot, teacherId, slot.getBranchId(), baseDate, LocalTime.of(20, 0))
+        );
+        ClinicSession outsideSession = clinicSessionRepository.save(
+                createSession(slot, teacherId, slot.getBranchId(), baseDate.plusDays(7), LocalTime.of(18, 0))
         );
+        clinicAttendanceRepository.save(attendanceFor(record.getId(), session.getId()));
+        clinicAttendanceRepository.save(attendanceFor(otherRecord.getId(), otherSession.getId()));
+        clinicAttendanceRepository.save(attendanceFor(record.getId(), outsideSession.getId()));
+        clinicAttendanceRepository.save(attendanceFor(otherStudentRecord.getId(), session.getId()));
 
-        assertThat(count).isEqualTo(1L);
+        List<ClinicAttendanceOccupancyProjection> results = clinicAttendanceRepository
+                .findOccupancyByStudentIdsAndDateRange(List.of(studentId), baseDate, baseDate.plusDays(6));
+
+        assertThat(results)
+                .extracting(ClinicAttendanceOccupancyProjection::getStudentCourseRecordId)
+                .containsExactlyInAnyOrder(record.getId(), otherRecord.getId());
+        assertThat(results)
+                .allSatisfy(result -> {
+                    assertThat(result.getStudentMemberId()).isEqualTo(studentId);
+                    assertThat(result.getDate()).isEqualTo(baseDate);
+                });
+        assertThat(results)
+                .filteredOn(result -> result.getClinicSessionId().equals(otherSession.getId()))
+                .singleElement()
+                .satisfies(result -> {
+                    assertThat(result.getStartTime()).isEqualTo(LocalTime.of(20, 0));
+                    assertThat(result.getEndTime()).isEqualTo(LocalTime.of(21, 0));
+                });
     }
 
     @Test
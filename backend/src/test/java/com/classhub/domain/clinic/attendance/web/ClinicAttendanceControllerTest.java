@@ -14,9 +14,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.classhub.domain.clinic.attendance.application.ClinicAttendanceService;
+import com.classhub.domain.clinic.attendance.dto.request.ClinicAttendanceBulkRequest;
+import com.classhub.domain.clinic.attendance.dto.request.ClinicAttendanceBulkType;
 import com.classhub.domain.clinic.attendance.dto.request.ClinicAttendanceCreateRequest;
 import com.classhub.domain.clinic.attendance.dto.request.ClinicAttendanceMoveRequest;
 import com.classhub.domain.clinic.attendance.dto.request.StudentClinicAttendanceRequest;
+import com.classhub.domain.clinic.attendance.dto.response.ClinicAttendanceBulkResponse;
 import com.classhub.domain.clinic.attendance.dto.response.ClinicAttendanceDetailResponse;
 import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
 import com.classhub.domain.clinic.attendance.dto.response.StudentClinicAttendanceListResponse;
@@ -219,6 +222,33 @@ class ClinicAttendanceControllerTest {
         verify(clinicAttendanceService).cancelStudentAttendance(any(MemberPrincipal.class), eq(attendanceId));
     }
 
+    @Test
+    void bulkUpdateAttendances_shouldReturnPerItemResults() throws Exception {
+        UUID teacherId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        UUID recordId = UUID.randomUUID();
+        ClinicAttendanceBulkRequest request = new ClinicAttendanceBulkRequest(List.of(
+                new ClinicAttendanceBulkRequest.Operation(ClinicAttendanceBulkType.ADD, sessionId, recordId, null)
+        ));
+        ClinicAttendanceBulkResponse response = ClinicAttendanceBulkResponse.from(List.of(
+                new ClinicAttendanceBulkResponse.Result(
+                        0, ClinicAttendanceBulkType.ADD, sessionId, null, recordId, false,
+                        RsCode.CLINIC_SESSION_FULL.name(), RsCode.CLINIC_SESSION_FULL.getMessage(), null
+                )
+        ));
+        given(clinicAttendanceService.bulkUpdateAttendances(any(MemberPrincipal.class), eq(request.operations())))
+                .willReturn(response);
+
+        mockMvc.perform(post("/api/v1/clinic-attendances/bulk")
+                        .with(SecurityMockMvcRequestPostProcessors.authentication(authToken(teacherId, MemberRole.TEACHER)))
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.successCount").value(0))
+                .andExpect(jsonPath("$.data.failureCount").value(1))
+                .andExpect(jsonPath("$.data.results[0].code").value(RsCode.CLINIC_SESSION_FULL.name()));
+    }
+
     private UsernamePasswordAuthenticationToken authToken(UUID memberId, MemberRole role) {
         MemberPrincipal principal = new MemberPrincipal(memberId, role);
         return new UsernamePasswordAuthenticationToken(
@@ -2,40 +2,61 @@ package com.classhub.domain.clinic.batch.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
+import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceOccupancyProjection;
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
+import com.classhub.domain.clinic.batch.dto.ClinicBatchReport;
+import com.classhub.domain.clinic.batch.repository.ClinicBatchJdbcRepository;
+import com.classhub.domain.clinic.batch.repository.ClinicBatchJdbcRepository.AttendanceRow;
+import com.classhub.domain.clinic.batch.repository.ClinicBatchJdbcRepository.SessionRow;
+import com.classhub.domain.clinic.batch.support.ClinicBatchPartition;
+import com.classhub.domain.clinic.batch.support.ClinicBatchPartitionRunner;
 import com.classhub.domain.clinic.session.model.ClinicSession;
 import com.classhub.domain.clinic.session.model.ClinicSessionType;
 import com.classhub.domain.clinic.session.repository.ClinicSessionRepository;
 import com.classhub.domain.clinic.slot.model.ClinicSlot;
 import com.classhub.domain.clinic.slot.repository.ClinicSlotRepository;
-import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
-import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
 import com.classhub.domain.studentcourse.model.StudentCourseRecord;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
+import com.classhub.global.entity.BulkInserter;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 class ClinicBatchServiceTest {
 
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, Month.MARCH, 6);
+    private static final LocalDate WEEK_START = LocalDate.of(2024, Month.MARCH, 4);
+    private static final LocalDate WEEK_END = LocalDate.of(2024, Month.MARCH, 10);
+
     @Mock
     private ClinicSlotRepository clinicSlotRepository;
 
@@ -48,39 +69,85 @@ class ClinicBatchServiceTest {
     @Mock
     private ClinicAttendanceRepository clinicAttendanceRepository;
 
-    @InjectMocks
+    @Mock
+    private ClinicBatchJdbcRepository clinicBatchJdbcRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CalendarEventJdbcRepository calendarEventJdbcRepository;
+
+    @Mock
+    private BulkInserter bulkInserter;
+
     private ClinicBatchService clinicBatchService;
 
+    @BeforeEach
+    void setUp() {
+        ClinicBatchPartitionRunner partitionRunner = new ClinicBatchPartitionRunner(
+                clinicBatchJdbcRepository,
+                transactionTemplate
+        );
+        ReflectionTestUtils.setField(partitionRunner, "parallelism", 1);
+        clinicBatchService = new ClinicBatchService(
+                clinicSlotRepository,
+                clinicSessionRepository,
+                studentCourseRecordRepository,
+                clinicAttendanceRepository,
+                clinicBatchJdbcRepository,
+                partitionRunner,
+                calendarEventJdbcRepository,
+                bulkInserter
+        );
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        lenient().when(clinicBatchJdbcRepository.insertSessions(anyList(), anyInt()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        lenient().when(clinicBatchJdbcRepository.insertAttendances(anyList(), anyInt()))
+                .thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        lenient().when(clinicBatchJdbcRepository.reserveSeats(anyList()))
+                .thenAnswer(invocation -> invocation.<List<AttendanceRow>>getArgument(0).stream()
+                        .map(AttendanceRow::clinicSessionId)
+                        .collect(Collectors.toSet()));
+        lenient().when(clinicBatchJdbcRepository.findCompletedPartitions(any(), any()))
+                .thenReturn(Set.of());
+        lenient().when(clinicSessionRepository.findSlotSessionsByDateRange(WEEK_START, WEEK_END))
+                .thenReturn(List.of());
+        lenient().when(clinicAttendanceRepository.findOccupancyByStudentIdsAndDateRange(anyList(), any(), any()))
+                .thenReturn(List.of());
+    }
+
     @Test
     void generateWeeklySessions_shouldCreateSessionsForActiveSlots() {
         UUID teacherId = UUID.randomUUID();
         UUID branchId = UUID.randomUUID();
         ClinicSlot mondaySlot = createSlot(teacherId, branchId, DayOfWeek.MONDAY, 5);
         ClinicSlot wednesdaySlot = createSlot(teacherId, branchId, DayOfWeek.WEDNESDAY, 7);
-        LocalDate baseDate = LocalDate.of(2024, Month.MARCH, 6);
-        LocalDate mondayDate = LocalDate.of(2024, Month.MARCH, 4);
-        LocalDate wednesdayDate = LocalDate.of(2024, Month.MARCH, 6);
 
         given(clinicSlotRepository.findByDeletedAtIsNull())
                 .willReturn(List.of(mondaySlot, wednesdaySlot));
-        given(clinicSessionRepository.findBySlotIdAndDateAndDeletedAtIsNull(mondaySlot.getId(), mondayDate))
-                .willReturn(Optional.empty());
-        given(clinicSessionRepository.findBySlotIdAndDateAndDeletedAtIsNull(wednesdaySlot.getId(), wednesdayDate))
-                .willReturn(Optional.empty());
-        given(clinicSessionRepository.save(any(ClinicSession.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
-
-        List<ClinicSession> created = clinicBatchService.generateWeeklySessions(baseDate);
-
-        assertThat(created).hasSize(2);
-        ArgumentCaptor<ClinicSession> captor = ArgumentCaptor.forClass(ClinicSession.class);
-        verify(clinicSessionRepository, times(2)).save(captor.capture());
-        assertThat(captor.getAllValues())
-                .extracting(ClinicSession::getSessionType)
-                .containsOnly(ClinicSessionType.REGULAR);
-        assertThat(captor.getAllValues())
-                .extracting(ClinicSession::getDate)
-                .containsExactlyInAnyOrder(mondayDate, wednesdayDate);
+
+        ClinicBatchReport report = clinicBatchService.generateWeeklySessions(BASE_DATE);
+
+        assertThat(report.partitions()).isEqualTo(1);
+        assertThat(report.written()).isEqualTo(2);
+        List<SessionRow> rows = captureSessionRows(1);
+        assertThat(rows)
+                .extracting(SessionRow::date)
+                .containsExactlyInAnyOrder(WEEK_START, LocalDate.of(2024, Month.MARCH, 6));
+        assertThat(rows)
+                .extracting(SessionRow::capacity)
+                .containsExactlyInAnyOrder(5, 7);
+        verify(clinicSessionRepository, never()).findBySlotIdAndDateAndDeletedAtIsNull(any(), any());
+        verify(clinicBatchJdbcRepository).insertCheckpoint(
+                ClinicBatchService.SESSION_STEP,
+                WEEK_START,
+                new ClinicBatchPartition.Key(branchId, teacherId),
+                2
+        );
     }
 
     @Test
@@ -88,30 +155,16 @@ class ClinicBatchServiceTest {
         UUID teacherId = UUID.randomUUID();
         UUID branchId = UUID.randomUUID();
         ClinicSlot slot = createSlot(teacherId, branchId, DayOfWeek.MONDAY, 8);
-        LocalDate baseDate = LocalDate.of(2024, Month.MARCH, 6);
-        LocalDate sessionDate = LocalDate.of(2024, Month.MARCH, 4);
-        ClinicSession existing = ClinicSession.builder()
-                .slotId(slot.getId())
-                .teacherMemberId(teacherId)
-                .branchId(branchId)
-                .sessionType(ClinicSessionType.REGULAR)
-                .creatorMemberId(null)
-                .date(sessionDate)
-                .startTime(slot.getStartTime())
-                .endTime(slot.getEndTime())
-                .capacity(slot.getDefaultCapacity())
-                .canceled(false)
-                .build();
+        ClinicSession existing = createSession(slot, WEEK_START);
 
-        given(clinicSlotRepository.findByDeletedAtIsNull())
-                .willReturn(List.of(slot));
-        given(clinicSessionRepository.findBySlotIdAndDateAndDeletedAtIsNull(slot.getId(), sessionDate))
-                .willReturn(Optional.of(existing));
+        given(clinicSlotRepository.findByDeletedAtIsNull()).willReturn(List.of(slot));
+        given(clinicSessionRepository.findSlotSessionsByDateRange(WEEK_START, WEEK_END))
+                .willReturn(List.of(existing));
 
-        List<ClinicSession> created = clinicBatchService.generateWeeklySessions(baseDate);
+        ClinicBatchReport report = clinicBatchService.generateWeeklySessions(BASE_DATE);
 
-        assertThat(created).isEmpty();
-        verify(clinicSessionRepository, never()).save(any(ClinicSession.class));
+        assertThat(report.written()).isZero();
+        assertThat(captureSessionRows(1)).isEmpty();
     }
 
     @Test
@@ -126,37 +179,55 @@ class ClinicBatchServiceTest {
         given(clinicSlotRepository.findByDeletedAtIsNull())
                 .willReturn(List.of(invalidCapacitySlot, invalidTimeSlot));
 
-        List<ClinicSession> created = clinicBatchService.generateWeeklySessions(LocalDate.of(2024, Month.MARCH, 6));
+        ClinicBatchReport report = clinicBatchService.generateWeeklySessions(BASE_DATE);
 
-        assertThat(created).isEmpty();
-        verify(clinicSessionRepository, never()).findBySlotIdAndDateAndDeletedAtIsNull(any(), any());
-        verify(clinicSessionRepository, never()).save(any(ClinicSession.class));
+        assertThat(report.partitions()).isZero();
+        verify(clinicBatchJdbcRepository, never()).insertSessions(anyList(), anyInt());
     }
 
     @Test
-    void generateWeeklySessions_shouldContinueWhenSessionSaveFails() {
-        UUID teacherId = UUID.randomUUID();
+    void generateWeeklySessions_shouldContinueWhenPartitionFails() {
         UUID branchId = UUID.randomUUID();
-        ClinicSlot mondaySlot = createSlot(teacherId, branchId, DayOfWeek.MONDAY, 5);
-        ClinicSlot tuesdaySlot = createSlot(teacherId, branchId, DayOfWeek.TUESDAY, 5);
-        LocalDate baseDate = LocalDate.of(2024, Month.MARCH, 6);
-        LocalDate mondayDate = LocalDate.of(2024, Month.MARCH, 4);
-        LocalDate tuesdayDate = LocalDate.of(2024, Month.MARCH, 5);
+        ClinicSlot firstTeacherSlot = createSlot(UUID.randomUUID(), branchId, DayOfWeek.MONDAY, 5);
+        ClinicSlot secondTeacherSlot = createSlot(UUID.randomUUID(), branchId, DayOfWeek.TUESDAY, 5);
 
         given(clinicSlotRepository.findByDeletedAtIsNull())
-                .willReturn(List.of(mondaySlot, tuesdaySlot));
-        given(clinicSessionRepository.findBySlotIdAndDateAndDeletedAtIsNull(mondaySlot.getId(), mondayDate))
-                .willReturn(Optional.empty());
-        given(clinicSessionRepository.findBySlotIdAndDateAndDeletedAtIsNull(tuesdaySlot.getId(), tuesdayDate))
-                .willReturn(Optional.empty());
-        given(clinicSessionRepository.save(any(ClinicSession.class)))
+                .willReturn(List.of(firstTeacherSlot, secondTeacherSlot));
+        given(clinicBatchJdbcRepository.insertSessions(anyList(), anyInt()))
                 .willThrow(new DataIntegrityViolationException("dup"))
-                .willAnswer(invocation -> invocation.getArgument(0));
+                .willAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        ClinicBatchReport report = clinicBatchService.generateWeeklySessions(BASE_DATE);
+
+        assertThat(report.partitions()).isEqualTo(2);
+        assertThat(report.written()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(1);
+        assertThat(report.partitionMetrics())
+                .extracting(ClinicBatchReport.PartitionMetrics::succeeded)
+                .containsExactly(false, true);
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(clinicBatchJdbcRepository, times(1)).insertCheckpoint(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void generateWeeklySessions_shouldResumeFromCheckpoints() {
+        UUID branchId = UUID.randomUUID();
+        UUID doneTeacherId = UUID.randomUUID();
+        ClinicSlot doneSlot = createSlot(doneTeacherId, branchId, DayOfWeek.MONDAY, 5);
+        ClinicSlot pendingSlot = createSlot(UUID.randomUUID(), branchId, DayOfWeek.TUESDAY, 5);
 
-        List<ClinicSession> created = clinicBatchService.generateWeeklySessions(baseDate);
+        given(clinicSlotRepository.findByDeletedAtIsNull())
+                .willReturn(List.of(doneSlot, pendingSlot));
+        given(clinicBatchJdbcRepository.findCompletedPartitions(ClinicBatchService.SESSION_STEP, WEEK_START))
+                .willReturn(Set.of(new ClinicBatchPartition.Key(branchId, doneTeacherId)));
 
-        assertThat(created).hasSize(1);
-        verify(clinicSessionRepository, times(2)).save(any(ClinicSession.class));
+        ClinicBatchReport report = clinicBatchService.generateWeeklySessions(BASE_DATE);
+
+        assertThat(report.resumed()).isEqualTo(1);
+        assertThat(report.written()).isEqualTo(1);
+        assertThat(captureSessionRows(1))
+                .extracting(SessionRow::slotId)
+                .containsExactly(pendingSlot.getId());
     }
 
     @Test
@@ -164,110 +235,155 @@ class ClinicBatchServiceTest {
         UUID teacherId = UUID.randomUUID();
         UUID branchId = UUID.randomUUID();
         ClinicSlot slot = createSlot(teacherId, branchId, DayOfWeek.MONDAY, 3);
-        LocalDate baseDate = LocalDate.of(2024, Month.MARCH, 6);
-        LocalDate sessionDate = LocalDate.of(2024, Month.MARCH, 4);
-        ClinicSession session = createSession(slot, sessionDate);
+        ClinicSession session = createSession(slot, WEEK_START);
         StudentCourseRecord recordOne = createRecord(slot.getId());
         StudentCourseRecord recordTwo = createRecord(slot.getId());
 
         given(clinicSlotRepository.findByDeletedAtIsNull()).willReturn(List.of(slot));
-        given(clinicSessionRepository.findBySlotIdAndDateAndDeletedAtIsNull(slot.getId(), sessionDate))
-                .willReturn(Optional.of(session));
-        given(studentCourseRecordRepository.findActiveByDefaultClinicSlotId(slot.getId()))
+        given(clinicSessionRepository.findSlotSessionsByDateRange(WEEK_START, WEEK_END))
+                .willReturn(List.of(session));
+        given(studentCourseRecordRepository.findActiveByDefaultClinicSlotIdIn(List.of(slot.getId())))
                 .willReturn(List.of(recordOne, recordTwo));
-        given(clinicAttendanceRepository.countByClinicSessionId(session.getId())).willReturn(0L);
-        given(clinicAttendanceRepository.existsByClinicSessionIdAndStudentCourseRecordId(session.getId(), recordOne.getId()))
-                .willReturn(false);
-        given(clinicAttendanceRepository.countOverlappingAttendances(
-                recordOne.getId(),
-                sessionDate,
-                session.getStartTime(),
-                session.getEndTime()
-        )).willReturn(0L);
-        given(clinicAttendanceRepository.save(any(ClinicAttendance.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
-
-        List<ClinicAttendance> created = clinicBatchService.generateWeeklyAttendances(baseDate);
-
-        assertThat(created).hasSize(2);
-        verify(clinicAttendanceRepository, times(2)).save(any(ClinicAttendance.class));
+
+        ClinicBatchReport report = clinicBatchService.generateWeeklyAttendances(BASE_DATE);
+
+        assertThat(report.written()).isEqualTo(2);
+        assertThat(captureAttendanceRows(1))
+                .extracting(AttendanceRow::studentCourseRecordId)
+                .containsExactly(recordOne.getId(), recordTwo.getId());
+        verify(clinicBatchJdbcRepository).reserveSeats(anyList());
+        verify(clinicAttendanceRepository, times(1)).findOccupancyByStudentIdsAndDateRange(anyList(), any(), any());
+        verify(clinicAttendanceRepository, never()).save(any(ClinicAttendance.class));
+    }
+
+    @Test
+    void generateWeeklyAttendances_shouldDropRowsWhenSeatReservationFails() {
+        UUID teacherId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+        ClinicSlot slot = createSlot(teacherId, branchId, DayOfWeek.MONDAY, 3);
+        ClinicSession session = createSession(slot, WEEK_START);
+        StudentCourseRecord record = createRecord(slot.getId());
+
+        given(clinicSlotRepository.findByDeletedAtIsNull()).willReturn(List.of(slot));
+        given(clinicSessionRepository.findSlotSessionsByDateRange(WEEK_START, WEEK_END))
+                .willReturn(List.of(session));
+        given(studentCourseRecordRepository.findActiveByDefaultClinicSlotIdIn(List.of(slot.getId())))
+                .willReturn(List.of(record));
+        given(clinicBatchJdbcRepository.reserveSeats(anyList())).willReturn(Set.of());
+
+        ClinicBatchReport report = clinicBatchService.generateWeeklyAttendances(BASE_DATE);
+
+        assertThat(report.written()).isZero();
+        assertThat(captureAttendanceRows(1)).isEmpty();
     }
 
     @Test
     void generateWeeklyAttendances_shouldSkipWhenCapacityReached() {
         UUID teacherId = UUID.randomUUID();
         UUID branchId = UUID.randomUUID();
-        ClinicSlot slot = createSlot(teacherId, branchId, DayOfWeek.MONDAY, 1);
-        LocalDate baseDate = LocalDate.of(2024, Month.MARCH, 6);
-        LocalDate sessionDate = LocalDate.of(2024, Month.MARCH, 4);
-        ClinicSession session = createSession(slot, sessionDate);
+        ClinicSlot slot = createSlot(teacherId, branchId, DayOfWeek.MONDAY, 2);
+        ClinicSession session = createSession(slot, WEEK_START);
+        session.addReservedCount(1);
         StudentCourseRecord recordOne = createRecord(slot.getId());
         StudentCourseRecord recordTwo = createRecord(slot.getId());
 
         given(clinicSlotRepository.findByDeletedAtIsNull()).willReturn(List.of(slot));
-        given(clinicSessionRepository.findBySlotIdAndDateAndDeletedAtIsNull(slot.getId(), sessionDate))
-                .willReturn(Optional.of(session));
-        given(studentCourseRecordRepository.findActiveByDefaultClinicSlotId(slot.getId()))
+        given(clinicSessionRepository.findSlotSessionsByDateRange(WEEK_START, WEEK_END))
+                .willReturn(List.of(session));
+        given(studentCourseRecordRepository.findActiveByDefaultClinicSlotIdIn(List.of(slot.getId())))
                 .willReturn(List.of(recordOne, recordTwo));
-        given(clinicAttendanceRepository.countByClinicSessionId(session.getId())).willReturn(0L);
-        given(clinicAttendanceRepository.existsByClinicSessionIdAndStudentCourseRecordId(session.getId(), recordOne.getId()))
-                .willReturn(false);
-        given(clinicAttendanceRepository.countOverlappingAttendances(
-                recordOne.getId(),
-                sessionDate,
-                session.getStartTime(),
-                session.getEndTime()
-        )).willReturn(0L);
-        given(clinicAttendanceRepository.save(any(ClinicAttendance.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
-
-        List<ClinicAttendance> created = clinicBatchService.generateWeeklyAttendances(baseDate);
 
-        assertThat(created).hasSize(1);
-        verify(clinicAttendanceRepository, times(1)).save(any(ClinicAttendance.class));
+        ClinicBatchReport report = clinicBatchService.generateWeeklyAttendances(BASE_DATE);
+
+        assertThat(report.written()).isEqualTo(1);
+        assertThat(captureAttendanceRows(1))
+                .extracting(AttendanceRow::studentCourseRecordId)
+                .containsExactly(recordOne.getId());
+    }
+
+    @Test
+    void generateWeeklyAttendances_shouldSkipDuplicateAndOverlappingRecords() {
+        UUID teacherId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+        ClinicSlot slot = createSlot(teacherId, branchId, DayOfWeek.MONDAY, 5);
+        ClinicSession session = createSession(slot, WEEK_START);
+        StudentCourseRecord alreadyAttending = createRecord(slot.getId());
+        StudentCourseRecord overlapping = createRecord(slot.getId());
+        StudentCourseRecord free = createRecord(slot.getId());
+
+        given(clinicSlotRepository.findByDeletedAtIsNull()).willReturn(List.of(slot));
+        given(clinicSessionRepository.findSlotSessionsByDateRange(WEEK_START, WEEK_END))
+                .willReturn(List.of(session));
+        given(studentCourseRecordRepository.findActiveByDefaultClinicSlotIdIn(List.of(slot.getId())))
+                .willReturn(List.of(alreadyAttending, overlapping, free));
+        given(clinicAttendanceRepository.findOccupancyByStudentIdsAndDateRange(anyList(), any(), any()))
+                .willReturn(List.of(
+                        occupancyOf(session.getId(), alreadyAttending, WEEK_START,
+                                session.getStartTime(), session.getEndTime()),
+                        occupancyOf(UUID.randomUUID(), overlapping, WEEK_START,
+                                LocalTime.of(18, 30), LocalTime.of(19, 30))
+                ));
+        session.addReservedCount(1);
+
+        ClinicBatchReport report = clinicBatchService.generateWeeklyAttendances(BASE_DATE);
+
+        assertThat(report.written()).isEqualTo(1);
+        assertThat(captureAttendanceRows(1))
+                .extracting(AttendanceRow::studentCourseRecordId)
+                .containsExactly(free.getId());
     }
 
     @Test
-    void generateWeeklyAttendances_shouldContinueWhenAttendanceSaveFails() {
+    void generateWeeklyAttendances_shouldSkipStudentBusyInAnotherCourse() {
+        UUID teacherId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+        ClinicSlot slot = createSlot(teacherId, branchId, DayOfWeek.MONDAY, 5);
+        ClinicSession session = createSession(slot, WEEK_START);
+        StudentCourseRecord busy = createRecord(slot.getId());
+        StudentCourseRecord free = createRecord(slot.getId());
+        StudentCourseRecord otherCourse = StudentCourseRecord.create(
+                busy.getStudentMemberId(),
+                UUID.randomUUID(),
+                null,
+                null,
+                null
+        );
+        ReflectionTestUtils.setField(otherCourse, "id", UUID.randomUUID());
+
+        given(clinicSlotRepository.findByDeletedAtIsNull()).willReturn(List.of(slot));
+        given(clinicSessionRepository.findSlotSessionsByDateRange(WEEK_START, WEEK_END))
+                .willReturn(List.of(session));
+        given(studentCourseRecordRepository.findActiveByDefaultClinicSlotIdIn(List.of(slot.getId())))
+                .willReturn(List.of(busy, free));
+        given(clinicAttendanceRepository.findOccupancyByStudentIdsAndDateRange(anyList(), any(), any()))
+                .willReturn(List.of(occupancyOf(UUID.randomUUID(), otherCourse, WEEK_START,
+                        LocalTime.of(18, 30), LocalTime.of(19, 30))));
+
+        ClinicBatchReport report = clinicBatchService.generateWeeklyAttendances(BASE_DATE);
+
+        assertThat(report.written()).isEqualTo(1);
+        assertThat(captureAttendanceRows(1))
+                .extracting(AttendanceRow::studentCourseRecordId)
+                .containsExactly(free.getId());
+    }
+
+    @Test
+    void generateWeeklyAttendances_shouldSkipCanceledSessions() {
         UUID teacherId = UUID.randomUUID();
         UUID branchId = UUID.randomUUID();
         ClinicSlot slot = createSlot(teacherId, branchId, DayOfWeek.MONDAY, 3);
-        LocalDate baseDate = LocalDate.of(2024, Month.MARCH, 6);
-        LocalDate sessionDate = LocalDate.of(2024, Month.MARCH, 4);
-        ClinicSession session = createSession(slot, sessionDate);
-        StudentCourseRecord recordOne = createRecord(slot.getId());
-        StudentCourseRecord recordTwo = createRecord(slot.getId());
+        ClinicSession session = createSession(slot, WEEK_START);
+        session.cancel();
 
         given(clinicSlotRepository.findByDeletedAtIsNull()).willReturn(List.of(slot));
-        given(clinicSessionRepository.findBySlotIdAndDateAndDeletedAtIsNull(slot.getId(), sessionDate))
-                .willReturn(Optional.of(session));
-        given(studentCourseRecordRepository.findActiveByDefaultClinicSlotId(slot.getId()))
-                .willReturn(List.of(recordOne, recordTwo));
-        given(clinicAttendanceRepository.countByClinicSessionId(session.getId())).willReturn(0L);
-        given(clinicAttendanceRepository.existsByClinicSessionIdAndStudentCourseRecordId(session.getId(), recordOne.getId()))
-                .willReturn(false);
-        given(clinicAttendanceRepository.existsByClinicSessionIdAndStudentCourseRecordId(session.getId(), recordTwo.getId()))
-                .willReturn(false);
-        given(clinicAttendanceRepository.countOverlappingAttendances(
-                recordOne.getId(),
-                sessionDate,
-                session.getStartTime(),
-                session.getEndTime()
-        )).willReturn(0L);
-        given(clinicAttendanceRepository.countOverlappingAttendances(
-                recordTwo.getId(),
-                sessionDate,
-                session.getStartTime(),
-                session.getEndTime()
-        )).willReturn(0L);
-        given(clinicAttendanceRepository.save(any(ClinicAttendance.class)))
-                .willThrow(new DataIntegrityViolationException("dup"))
-                .willAnswer(invocation -> invocation.getArgument(0));
+        given(clinicSessionRepository.findSlotSessionsByDateRange(WEEK_START, WEEK_END))
+                .willReturn(List.of(session));
 
-        List<ClinicAttendance> created = clinicBatchService.generateWeeklyAttendances(baseDate);
+        ClinicBatchReport report = clinicBatchService.generateWeeklyAttendances(BASE_DATE);
 
-        assertThat(created).hasSize(1);
-        verify(clinicAttendanceRepository, times(2)).save(any(ClinicAttendance.class));
+        assertThat(report.partitions()).isZero();
+        verify(studentCourseRecordRepository, never()).findActiveByDefaultClinicSlotIdIn(anyList());
+        verify(clinicBatchJdbcRepository, never()).insertAttendances(anyList(), anyInt());
     }
 
     @Test
@@ -287,21 +403,17 @@ class ClinicBatchServiceTest {
             ReflectionTestUtils.setField(session, "id", UUID.randomUUID());
             return session;
         });
-        given(studentCourseRecordRepository.findActiveByDefaultClinicSlotId(slot.getId()))
+        given(studentCourseRecordRepository.findActiveByDefaultClinicSlotIdIn(List.of(slot.getId())))
                 .willReturn(List.of(recordOne, recordTwo));
-        given(clinicAttendanceRepository.countByClinicSessionId(any())).willReturn(0L);
-        given(clinicAttendanceRepository.existsByClinicSessionIdAndStudentCourseRecordId(any(), any()))
-                .willReturn(false);
-        given(clinicAttendanceRepository.countOverlappingAttendances(any(), any(), any(), any()))
-                .willReturn(0L);
-        given(clinicAttendanceRepository.save(any(ClinicAttendance.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
 
         List<ClinicSession> created = clinicBatchService.generateRemainingSessionsForSlot(slot, now);
 
         assertThat(created).hasSize(1);
         verify(clinicSessionRepository, times(1)).save(any(ClinicSession.class));
-        verify(clinicAttendanceRepository, times(2)).save(any(ClinicAttendance.class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ClinicAttendance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkInserter).insertAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
     }
 
     @Test
@@ -315,7 +427,63 @@ class ClinicBatchServiceTest {
 
         assertThat(created).isEmpty();
         verify(clinicSessionRepository, never()).save(any(ClinicSession.class));
-        verify(clinicAttendanceRepository, never()).save(any(ClinicAttendance.class));
+        verify(clinicAttendanceRepository, never()).saveAll(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SessionRow> captureSessionRows(int invocations) {
+        ArgumentCaptor<List<SessionRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(clinicBatchJdbcRepository, times(invocations)).insertSessions(captor.capture(), anyInt());
+        List<SessionRow> rows = new ArrayList<>();
+        captor.getAllValues().forEach(rows::addAll);
+        return rows;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AttendanceRow> captureAttendanceRows(int invocations) {
+        ArgumentCaptor<List<AttendanceRow>> captor = ArgumentCaptor.forClass(List.class);
+        verify(clinicBatchJdbcRepository, times(invocations)).insertAttendances(captor.capture(), anyInt());
+        List<AttendanceRow> rows = new ArrayList<>();
+        captor.getAllValues().forEach(rows::addAll);
+        return rows;
+    }
+
+    private ClinicAttendanceOccupancyProjection occupancyOf(UUID sessionId,
+                                                            StudentCourseRecord record,
+                                                            LocalDate date,
+                                                            LocalTime startTime,
+                                                            LocalTime endTime) {
+        return new ClinicAttendanceOccupancyProjection() {
+            @Override
+            public UUID getClinicSessionId() {
+                return sessionId;
+            }
+
+            @Override
+            public UUID getStudentCourseRecordId() {
+                return record.getId();
+            }
+
+            @Override
+            public UUID getStudentMemberId() {
+                return record.getStudentMemberId();
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public LocalTime getStartTime() {
+                return startTime;
+            }
+
+            @Override
+            public LocalTime getEndTime() {
+                return endTime;
+            }
+        };
     }
 
     private ClinicSession createSession(ClinicSlot slot, LocalDate date) {
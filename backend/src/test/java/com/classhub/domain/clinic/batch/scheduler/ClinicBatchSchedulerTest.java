@@ -1,15 +1,34 @@
 package com.classhub.domain.clinic.batch.scheduler;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.classhub.domain.clinic.attendance.support.ClinicAttendancePolicy;
 import com.classhub.domain.clinic.batch.application.ClinicBatchService;
+import com.classhub.domain.clinic.batch.dto.ClinicBatchReport;
+import com.classhub.global.lock.SchedulerLeaseManager;
+import com.classhub.global.metrics.BatchJobMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class ClinicBatchSchedulerTest {
@@ -17,14 +36,80 @@ class ClinicBatchSchedulerTest {
     @Mock
     private ClinicBatchService clinicBatchService;
 
+    @Mock
+    private SchedulerLeaseManager schedulerLeaseManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private BatchJobMetrics batchJobMetrics = new BatchJobMetrics(meterRegistry);
+
     @InjectMocks
     private ClinicBatchScheduler clinicBatchScheduler;
 
     @Test
     void runWeeklyBatch_shouldTriggerBatchService() {
+        AtomicBoolean complete = runTaskWhenLeaseAcquired();
+        given(clinicBatchService.generateWeeklySessions(any(LocalDate.class)))
+                .willReturn(new ClinicBatchReport("clinic-session", 2, 0, 12, 0, List.of()));
+        given(clinicBatchService.generateWeeklyAttendances(any(LocalDate.class)))
+                .willReturn(new ClinicBatchReport("clinic-attendance", 2, 0, 30, 1, List.of()));
+
         clinicBatchScheduler.runWeeklyBatch();
 
         verify(clinicBatchService).generateWeeklySessions(any(LocalDate.class));
         verify(clinicBatchService).generateWeeklyAttendances(any(LocalDate.class));
+        assertThat(complete).isFalse();
+        assertThat(meterRegistry.get("classhub.batch.items").tag("job", ClinicBatchScheduler.SESSION_JOB)
+                .counter().count()).isEqualTo(12);
+        assertThat(meterRegistry.get("classhub.batch.duration").tag("job", ClinicBatchScheduler.ATTENDANCE_JOB)
+                .tag("outcome", BatchJobMetrics.PARTIAL).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void runWeeklyBatch_shouldSkipWhenLeaseHeldElsewhere() {
+        given(schedulerLeaseManager.runExclusivelyUntilComplete(eq(ClinicBatchScheduler.LEASE_NAME), any(), any()))
+                .willReturn(false);
+
+        clinicBatchScheduler.runWeeklyBatch();
+
+        verify(clinicBatchService, never()).generateWeeklySessions(any());
+    }
+
+    @Test
+    void catchUpOnStartup_shouldResumeLatestSundaySlot() {
+        LocalDate lastSunday = LocalDate.now(ZoneId.of("Asia/Seoul"))
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+        String runKey = ClinicAttendancePolicy.resolveWeek(lastSunday).startDate().toString();
+        AtomicBoolean complete = runTaskWhenLeaseAcquired();
+        given(clinicBatchService.generateWeeklySessions(lastSunday))
+                .willReturn(new ClinicBatchReport("clinic-session", 2, 2, 0, 0, List.of()));
+        given(clinicBatchService.generateWeeklyAttendances(lastSunday))
+                .willReturn(new ClinicBatchReport("clinic-attendance", 2, 1, 5, 0, List.of()));
+
+        clinicBatchScheduler.catchUpOnStartup();
+
+        verify(schedulerLeaseManager).runExclusivelyUntilComplete(eq(ClinicBatchScheduler.LEASE_NAME), eq(runKey), any());
+        assertThat(complete).isTrue();
+    }
+
+    @Test
+    void retryUnfinished_shouldDoNothingWhenCatchUpDisabled() {
+        ReflectionTestUtils.setField(clinicBatchScheduler, "catchUpEnabled", false);
+
+        clinicBatchScheduler.retryUnfinished();
+        clinicBatchScheduler.catchUpOnStartup();
+
+        verifyNoInteractions(schedulerLeaseManager, clinicBatchService);
+    }
+
+    private AtomicBoolean runTaskWhenLeaseAcquired() {
+        AtomicBoolean complete = new AtomicBoolean();
+        given(schedulerLeaseManager.runExclusivelyUntilComplete(eq(ClinicBatchScheduler.LEASE_NAME), anyString(), any()))
+                .willAnswer(invocation -> {
+                    complete.set(invocation.<BooleanSupplier>getArgument(2).getAsBoolean());
+                    return true;
+                });
+        return complete;
     }
 }
@@ -2,30 +2,31 @@ package com.classhub.domain.clinic.permission.application;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
-import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.domain.member.model.MemberRole;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
-import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 @ExtendWith(MockitoExtension.class)
 class ClinicPermissionValidatorTest {
 
     @Mock
-    private TeacherBranchAssignmentRepository teacherBranchAssignmentRepository;
-
-    @Mock
-    private TeacherAssistantAssignmentRepository teacherAssistantAssignmentRepository;
+    private MembershipGraph membershipGraph;
 
     @Mock
     private StudentCourseRecordRepository studentCourseRecordRepository;
@@ -33,13 +34,23 @@ class ClinicPermissionValidatorTest {
     @InjectMocks
     private ClinicPermissionValidator clinicPermissionValidator;
 
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_COMMITTED
+            );
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     void ensureTeacherAssignment_shouldThrow_whenAssignmentMissing() {
         UUID teacherId = UUID.randomUUID();
         UUID branchId = UUID.randomUUID();
 
-        given(teacherBranchAssignmentRepository.findByTeacherMemberIdAndBranchId(teacherId, branchId))
-                .willReturn(Optional.empty());
+        given(membershipGraph.isAssignedToBranch(teacherId, branchId)).willReturn(false);
 
         assertThatThrownBy(() -> clinicPermissionValidator.ensureTeacherAssignment(teacherId, branchId))
                 .isInstanceOf(BusinessException.class)
@@ -51,15 +62,43 @@ class ClinicPermissionValidatorTest {
         UUID teacherId = UUID.randomUUID();
         UUID assistantId = UUID.randomUUID();
 
-        given(teacherAssistantAssignmentRepository
-                .findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(teacherId, assistantId))
-                .willReturn(Optional.empty());
+        given(membershipGraph.isAssistantOf(teacherId, assistantId)).willReturn(false);
 
         assertThatThrownBy(() -> clinicPermissionValidator.ensureAssistantAssignment(assistantId, teacherId))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("rsCode", RsCode.FORBIDDEN);
     }
 
+    @Test
+    void ensureStaffAccess_shouldQueryAssistantAssignmentOncePerTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        UUID teacherId = UUID.randomUUID();
+        UUID assistantId = UUID.randomUUID();
+        MemberPrincipal principal = new MemberPrincipal(assistantId, MemberRole.ASSISTANT);
+        given(membershipGraph.isAssistantOf(teacherId, assistantId)).willReturn(true);
+
+        clinicPermissionValidator.ensureStaffAccess(principal, teacherId);
+        clinicPermissionValidator.ensureStaffAccess(principal, teacherId);
+        clinicPermissionValidator.ensureAssistantAssignment(assistantId, teacherId);
+
+        verify(membershipGraph, times(1)).isAssistantOf(teacherId, assistantId);
+    }
+
+    @Test
+    void ensureTeacherAssignment_shouldCacheRejectionWithinTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        UUID teacherId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+        given(membershipGraph.isAssignedToBranch(teacherId, branchId)).willReturn(false);
+
+        assertThatThrownBy(() -> clinicPermissionValidator.ensureTeacherAssignment(teacherId, branchId))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> clinicPermissionValidator.ensureTeacherAssignment(teacherId, branchId))
+                .isInstanceOf(BusinessException.class);
+
+        verify(membershipGraph, times(1)).isAssignedToBranch(teacherId, branchId);
+    }
+
     @Test
     void ensureStudentAccess_shouldThrow_whenNoActiveRecord() {
         UUID studentId = UUID.randomUUID();
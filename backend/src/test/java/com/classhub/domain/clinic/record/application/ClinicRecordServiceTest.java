@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.clinic.permission.application.ClinicPermissionValidator;
 import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
@@ -48,6 +49,9 @@ class ClinicRecordServiceTest {
     @Mock
     private ClinicPermissionValidator clinicPermissionValidator;
 
+    @Mock
+    private CalendarEventJdbcRepository calendarEventJdbcRepository;
+
     @InjectMocks
     private ClinicRecordService clinicRecordService;
 
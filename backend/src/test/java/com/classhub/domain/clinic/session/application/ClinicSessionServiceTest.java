@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceCountProjection;
 import com.classhub.domain.clinic.permission.application.ClinicPermissionValidator;
@@ -50,6 +51,9 @@ class ClinicSessionServiceTest {
     @Mock
     private BranchRepository branchRepository;
 
+    @Mock
+    private CalendarEventJdbcRepository calendarEventJdbcRepository;
+
     @InjectMocks
     private ClinicSessionService clinicSessionService;
 
@@ -7,6 +7,7 @@ import com.classhub.domain.clinic.session.model.ClinicSessionType;
 import com.classhub.domain.clinic.slot.model.ClinicSlot;
 import com.classhub.domain.clinic.slot.repository.ClinicSlotRepository;
 import com.classhub.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -29,6 +30,8 @@ class ClinicSessionRepositoryTest {
     private ClinicSessionRepository clinicSessionRepository;
     @Autowired
     private ClinicSlotRepository clinicSlotRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     void findBySlotIdAndDateAndDeletedAtIsNull_shouldReturnSession() {
@@ -108,6 +111,25 @@ class ClinicSessionRepositoryTest {
                 .containsExactly(inRangeSession.getId());
     }
 
+    @Test
+    void cancel_shouldNotOverwriteSeatsReservedByBulkUpdate() {
+        UUID teacherId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+        ClinicSlot slot = clinicSlotRepository.save(createSlot(teacherId, branchId));
+        ClinicSession session = clinicSessionRepository.saveAndFlush(
+                createRegularSession(slot, teacherId, branchId, LocalDate.of(2024, Month.MARCH, 4))
+        );
+
+        assertThat(clinicSessionRepository.tryReserveSeat(session.getId())).isEqualTo(1);
+        session.cancel();
+        entityManager.flush();
+        entityManager.clear();
+
+        ClinicSession reloaded = clinicSessionRepository.findById(session.getId()).orElseThrow();
+        assertThat(reloaded.isCanceled()).isTrue();
+        assertThat(reloaded.getReservedCount()).isEqualTo(1);
+    }
+
     private ClinicSlot createSlot(UUID teacherId, UUID branchId) {
         return ClinicSlot.builder()
                 .teacherMemberId(teacherId)
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
 import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
 import com.classhub.domain.clinic.attendance.support.ClinicAttendancePolicy;
@@ -16,10 +17,12 @@ import com.classhub.domain.clinic.session.model.ClinicSessionType;
 import com.classhub.domain.clinic.session.repository.ClinicSessionRepository;
 import com.classhub.domain.clinic.slot.model.ClinicSlot;
 import com.classhub.domain.clinic.slot.repository.ClinicSlotRepository;
+import com.classhub.domain.clinic.slot.repository.StudentDefaultSlotProjection;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.domain.studentcourse.model.StudentCourseRecord;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
+import com.classhub.global.entity.BulkInserter;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
 import java.time.DayOfWeek;
@@ -30,6 +33,7 @@ import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -53,6 +57,12 @@ class ClinicDefaultSlotServiceTest {
     @Mock
     private ClinicAttendanceRepository clinicAttendanceRepository;
 
+    @Mock
+    private CalendarEventJdbcRepository calendarEventJdbcRepository;
+
+    @Mock
+    private BulkInserter bulkInserter;
+
     @InjectMocks
     private ClinicDefaultSlotService clinicDefaultSlotService;
 
@@ -74,8 +84,8 @@ class ClinicDefaultSlotServiceTest {
                 .willReturn(Optional.of(record));
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
         given(clinicSlotRepository.findByIdAndDeletedAtIsNullForUpdate(slotId)).willReturn(Optional.of(slot));
-        given(recordRepository.findByStudentMemberIdAndDeletedAtIsNull(studentId))
-                .willReturn(List.of(record));
+        given(clinicSlotRepository.findDefaultSlotsOfStudent(studentId, record.getId()))
+                .willReturn(List.of());
         given(recordRepository.countByDefaultClinicSlotIdAndDeletedAtIsNull(slotId)).willReturn(0L);
         given(clinicSessionRepository.findBySlotIdAndDateRange(slotId, weekRange.startDate(), weekRange.endDate()))
                 .willReturn(List.of(pastSession, futureSession));
@@ -83,13 +93,50 @@ class ClinicDefaultSlotServiceTest {
                 futureSession.getId(),
                 record.getId()
         )).willReturn(false);
-        given(clinicAttendanceRepository.save(any(ClinicAttendance.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
+        given(clinicSessionRepository.tryReserveSeats(futureSession.getId(), 1)).willReturn(1);
 
         StudentCourseRecord updated = clinicDefaultSlotService.updateDefaultSlotForStudent(studentId, courseId, slotId);
 
         assertThat(updated.getDefaultClinicSlotId()).isEqualTo(slotId);
-        verify(clinicAttendanceRepository, times(1)).save(any(ClinicAttendance.class));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ClinicAttendance>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkInserter, times(1)).insertAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(ClinicAttendance::getClinicSessionId)
+                .containsExactly(futureSession.getId());
+    }
+
+    @Test
+    void updateDefaultSlotForStudent_shouldSkipAttendance_whenSessionIsFull() {
+        UUID studentId = UUID.randomUUID();
+        UUID courseId = UUID.randomUUID();
+        UUID teacherId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+        UUID slotId = UUID.randomUUID();
+        StudentCourseRecord record = createRecord(studentId, courseId, null);
+        Course course = createCourse(courseId, teacherId, branchId);
+        ClinicSlot slot = createSlot(slotId, teacherId, branchId, DayOfWeek.TUESDAY);
+        ClinicAttendancePolicy.WeekRange weekRange = ClinicAttendancePolicy.resolveWeek(LocalDate.now());
+        ClinicSession futureSession = createSession(slotId, teacherId, branchId, LocalDate.now().plusDays(1));
+
+        given(recordRepository.findByStudentMemberIdAndCourseIdAndDeletedAtIsNull(studentId, courseId))
+                .willReturn(Optional.of(record));
+        given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
+        given(clinicSlotRepository.findByIdAndDeletedAtIsNullForUpdate(slotId)).willReturn(Optional.of(slot));
+        given(clinicSlotRepository.findDefaultSlotsOfStudent(studentId, record.getId()))
+                .willReturn(List.of());
+        given(recordRepository.countByDefaultClinicSlotIdAndDeletedAtIsNull(slotId)).willReturn(0L);
+        given(clinicSessionRepository.findBySlotIdAndDateRange(slotId, weekRange.startDate(), weekRange.endDate()))
+                .willReturn(List.of(futureSession));
+        given(clinicAttendanceRepository.existsByClinicSessionIdAndStudentCourseRecordId(
+                futureSession.getId(),
+                record.getId()
+        )).willReturn(false);
+        given(clinicSessionRepository.tryReserveSeats(futureSession.getId(), 1)).willReturn(0);
+
+        clinicDefaultSlotService.updateDefaultSlotForStudent(studentId, courseId, slotId);
+
+        verify(bulkInserter, never()).insertAll(any());
     }
 
     @Test
@@ -100,13 +147,12 @@ class ClinicDefaultSlotServiceTest {
         UUID branchId = UUID.randomUUID();
         UUID slotId = UUID.randomUUID();
         StudentCourseRecord record = createRecord(studentId, courseId, null);
-        StudentCourseRecord otherRecord = createRecord(studentId, UUID.randomUUID(), slotId);
         Course course = createCourse(courseId, teacherId, branchId);
         ClinicSlot slot = createSlot(slotId, teacherId, branchId, DayOfWeek.MONDAY);
 
         given(clinicSlotRepository.findByIdAndDeletedAtIsNullForUpdate(slotId)).willReturn(Optional.of(slot));
-        given(recordRepository.findByStudentMemberIdAndDeletedAtIsNull(studentId))
-                .willReturn(List.of(record, otherRecord));
+        given(clinicSlotRepository.findDefaultSlotsOfStudent(studentId, record.getId()))
+                .willReturn(List.of(defaultSlotOf(slot)));
 
         assertThatThrownBy(() -> clinicDefaultSlotService.applyDefaultSlot(record, course, slotId))
                 .isInstanceOf(BusinessException.class)
@@ -123,16 +169,13 @@ class ClinicDefaultSlotServiceTest {
         UUID slotId = UUID.randomUUID();
         UUID otherSlotId = UUID.randomUUID();
         StudentCourseRecord record = createRecord(studentId, courseId, null);
-        StudentCourseRecord otherRecord = createRecord(studentId, UUID.randomUUID(), otherSlotId);
         Course course = createCourse(courseId, teacherId, branchId);
         ClinicSlot slot = createSlot(slotId, teacherId, branchId, DayOfWeek.TUESDAY);
         ClinicSlot otherSlot = createSlot(otherSlotId, teacherId, branchId, DayOfWeek.TUESDAY);
 
         given(clinicSlotRepository.findByIdAndDeletedAtIsNullForUpdate(slotId)).willReturn(Optional.of(slot));
-        given(recordRepository.findByStudentMemberIdAndDeletedAtIsNull(studentId))
-                .willReturn(List.of(record, otherRecord));
-        given(clinicSlotRepository.findByIdInAndDeletedAtIsNull(List.of(otherSlotId)))
-                .willReturn(List.of(otherSlot));
+        given(clinicSlotRepository.findDefaultSlotsOfStudent(studentId, record.getId()))
+                .willReturn(List.of(defaultSlotOf(otherSlot)));
 
         assertThatThrownBy(() -> clinicDefaultSlotService.applyDefaultSlot(record, course, slotId))
                 .isInstanceOf(BusinessException.class)
@@ -152,8 +195,8 @@ class ClinicDefaultSlotServiceTest {
         ReflectionTestUtils.setField(slot, "defaultCapacity", 2);
 
         given(clinicSlotRepository.findByIdAndDeletedAtIsNullForUpdate(slotId)).willReturn(Optional.of(slot));
-        given(recordRepository.findByStudentMemberIdAndDeletedAtIsNull(studentId))
-                .willReturn(List.of(record));
+        given(clinicSlotRepository.findDefaultSlotsOfStudent(studentId, record.getId()))
+                .willReturn(List.of());
         given(recordRepository.countByDefaultClinicSlotIdAndDeletedAtIsNull(slotId)).willReturn(2L);
 
         assertThatThrownBy(() -> clinicDefaultSlotService.applyDefaultSlot(record, course, slotId))
@@ -191,8 +234,8 @@ class ClinicDefaultSlotServiceTest {
         ClinicSlot slot = createSlot(slotId, teacherId, branchId, DayOfWeek.MONDAY);
 
         given(clinicSlotRepository.findByIdAndDeletedAtIsNullForUpdate(slotId)).willReturn(Optional.of(slot));
-        given(recordRepository.findByStudentMemberIdAndDeletedAtIsNull(studentId))
-                .willReturn(List.of(record));
+        given(clinicSlotRepository.findDefaultSlotsOfStudent(studentId, record.getId()))
+                .willReturn(List.of());
         given(recordRepository.countByDefaultClinicSlotIdAndDeletedAtIsNull(slotId)).willReturn(0L);
 
         clinicDefaultSlotService.applyDefaultSlot(record, course, slotId);
@@ -214,8 +257,8 @@ class ClinicDefaultSlotServiceTest {
         ClinicSlot slot = createSlot(slotId, teacherId, branchId, DayOfWeek.TUESDAY);
 
         given(clinicSlotRepository.findByIdAndDeletedAtIsNullForUpdate(slotId)).willReturn(Optional.of(slot));
-        given(recordRepository.findByStudentMemberIdAndDeletedAtIsNull(studentId))
-                .willReturn(List.of(record));
+        given(clinicSlotRepository.findDefaultSlotsOfStudent(studentId, record.getId()))
+                .willReturn(List.of());
         given(recordRepository.countByDefaultClinicSlotIdAndDeletedAtIsNull(slotId)).willReturn(0L);
 
         clinicDefaultSlotService.applyDefaultSlot(record, course, slotId);
@@ -224,6 +267,30 @@ class ClinicDefaultSlotServiceTest {
         verify(clinicSessionRepository, never()).findBySlotIdAndDateRange(any(), any(), any());
     }
 
+    private StudentDefaultSlotProjection defaultSlotOf(ClinicSlot slot) {
+        return new StudentDefaultSlotProjection() {
+            @Override
+            public UUID getSlotId() {
+                return slot.getId();
+            }
+
+            @Override
+            public DayOfWeek getDayOfWeek() {
+                return slot.getDayOfWeek();
+            }
+
+            @Override
+            public LocalTime getStartTime() {
+                return slot.getStartTime();
+            }
+
+            @Override
+            public LocalTime getEndTime() {
+                return slot.getEndTime();
+            }
+        };
+    }
+
     private StudentCourseRecord createRecord(UUID studentId, UUID courseId, UUID defaultSlotId) {
         StudentCourseRecord record = StudentCourseRecord.create(studentId, courseId, null, defaultSlotId, null);
         ReflectionTestUtils.setField(record, "id", UUID.randomUUID());
@@ -15,12 +15,14 @@ import com.classhub.domain.clinic.slot.dto.request.ClinicSlotUpdateRequest;
 import com.classhub.domain.clinic.slot.model.ClinicSlot;
 import com.classhub.domain.clinic.slot.repository.ClinicSlotRepository;
 import com.classhub.domain.company.branch.model.Branch;
-import com.classhub.domain.company.branch.repository.BranchRepository;
+import com.classhub.domain.company.cache.BranchSnapshot;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
 import com.classhub.domain.company.company.model.VerifiedStatus;
 import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.timetable.WeeklySchedule;
 import java.time.LocalDateTime;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
@@ -45,7 +47,7 @@ class ClinicSlotServiceTest {
     @Mock
     private ClinicPermissionValidator clinicPermissionValidator;
     @Mock
-    private BranchRepository branchRepository;
+    private CompanyReferenceCache companyReferenceCache;
     @Mock
     private CourseRepository courseRepository;
 
@@ -66,8 +68,8 @@ class ClinicSlotServiceTest {
                 LocalTime.of(19, 0),
                 10
         );
-        Branch branch = createBranch(branchId, VerifiedStatus.VERIFIED);
-        given(branchRepository.findById(branchId)).willReturn(Optional.of(branch));
+        BranchSnapshot branch = createBranch(branchId, VerifiedStatus.VERIFIED);
+        given(companyReferenceCache.findBranch(branchId)).willReturn(Optional.of(branch));
         given(clinicSlotRepository.save(any(ClinicSlot.class)))
                 .willAnswer(invocation -> invocation.getArgument(0));
         given(clinicBatchService.generateRemainingSessionsForSlot(any(ClinicSlot.class), any(LocalDateTime.class)))
@@ -142,9 +144,9 @@ class ClinicSlotServiceTest {
                 LocalTime.of(19, 0),
                 10
         );
-        Branch branch = createBranch(branchId, VerifiedStatus.VERIFIED);
+        BranchSnapshot branch = createBranch(branchId, VerifiedStatus.VERIFIED);
 
-        given(branchRepository.findById(branchId)).willReturn(Optional.of(branch));
+        given(companyReferenceCache.findBranch(branchId)).willReturn(Optional.of(branch));
         org.mockito.BDDMockito.willThrow(new BusinessException(RsCode.FORBIDDEN))
                 .given(clinicPermissionValidator)
                 .ensureTeacherAssignment(teacherId, branchId);
@@ -165,12 +167,11 @@ class ClinicSlotServiceTest {
                 LocalTime.of(19, 30),
                 10
         );
-        Branch branch = createBranch(branchId, VerifiedStatus.VERIFIED);
-        ClinicSlot existing = createSlot(UUID.randomUUID(), teacherId, DayOfWeek.MONDAY, LocalTime.of(18, 0));
+        BranchSnapshot branch = createBranch(branchId, VerifiedStatus.VERIFIED);
 
-        given(branchRepository.findById(branchId)).willReturn(Optional.of(branch));
-        given(clinicSlotRepository.findByTeacherMemberIdAndBranchIdAndDeletedAtIsNull(teacherId, branchId))
-                .willReturn(List.of(existing));
+        given(companyReferenceCache.findBranch(branchId)).willReturn(Optional.of(branch));
+        given(clinicSlotRepository.findSchedulesByTeacherAndBranch(teacherId, branchId, null))
+                .willReturn(List.of(schedule(DayOfWeek.MONDAY, LocalTime.of(18, 0), LocalTime.of(19, 0))));
 
         assertThatThrownBy(() -> clinicSlotService.createSlot(teacherId, request))
                 .isInstanceOf(BusinessException.class)
@@ -205,7 +206,6 @@ class ClinicSlotServiceTest {
         UUID teacherId = UUID.randomUUID();
         UUID slotId = UUID.randomUUID();
         ClinicSlot slot = createSlot(slotId, teacherId, DayOfWeek.MONDAY, LocalTime.of(18, 0));
-        ClinicSlot otherSlot = createSlot(UUID.randomUUID(), teacherId, DayOfWeek.MONDAY, LocalTime.of(18, 30));
         ClinicSlotUpdateRequest request = new ClinicSlotUpdateRequest(
                 DayOfWeek.MONDAY,
                 LocalTime.of(19, 0),
@@ -214,10 +214,8 @@ class ClinicSlotServiceTest {
         );
 
         given(clinicSlotRepository.findByIdAndDeletedAtIsNull(slotId)).willReturn(Optional.of(slot));
-        given(clinicSlotRepository.findByTeacherMemberIdAndBranchIdAndDeletedAtIsNull(
-                teacherId,
-                slot.getBranchId()
-        )).willReturn(List.of(slot, otherSlot));
+        given(clinicSlotRepository.findSchedulesByTeacherAndBranch(teacherId, slot.getBranchId(), slotId))
+                .willReturn(List.of(schedule(DayOfWeek.MONDAY, LocalTime.of(18, 30), LocalTime.of(19, 30))));
 
         assertThatThrownBy(() -> clinicSlotService.updateSlot(teacherId, slotId, request))
                 .isInstanceOf(BusinessException.class)
@@ -283,10 +281,10 @@ class ClinicSlotServiceTest {
         assertThat(result.get(slotIdB)).isEqualTo(0L);
     }
 
-    private Branch createBranch(UUID branchId, VerifiedStatus status) {
+    private BranchSnapshot createBranch(UUID branchId, VerifiedStatus status) {
         Branch branch = Branch.create(UUID.randomUUID(), "Branch", UUID.randomUUID(), status);
         ReflectionTestUtils.setField(branch, "id", branchId);
-        return branch;
+        return BranchSnapshot.from(branch);
     }
 
     private ClinicSlot createSlot(UUID slotId,
@@ -305,4 +303,23 @@ class ClinicSlotServiceTest {
         ReflectionTestUtils.setField(slot, "id", slotId);
         return slot;
     }
+
+    private WeeklySchedule schedule(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        return new WeeklySchedule() {
+            @Override
+            public DayOfWeek getDayOfWeek() {
+                return dayOfWeek;
+            }
+
+            @Override
+            public LocalTime getStartTime() {
+                return startTime;
+            }
+
+            @Override
+            public LocalTime getEndTime() {
+                return endTime;
+            }
+        };
+    }
 }
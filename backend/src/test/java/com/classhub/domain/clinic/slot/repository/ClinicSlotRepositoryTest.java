@@ -3,7 +3,10 @@ package com.classhub.domain.clinic.slot.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.classhub.domain.clinic.slot.model.ClinicSlot;
+import com.classhub.domain.studentcourse.model.StudentCourseRecord;
+import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
 import com.classhub.global.config.JpaConfig;
+import com.classhub.global.timetable.WeeklySchedule;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.List;
@@ -23,6 +26,9 @@ class ClinicSlotRepositoryTest {
     @Autowired
     private ClinicSlotRepository clinicSlotRepository;
 
+    @Autowired
+    private StudentCourseRecordRepository studentCourseRecordRepository;
+
     @Test
     void findByTeacherMemberIdAndBranchIdAndDeletedAtIsNull_shouldReturnActiveSlots() {
         UUID teacherId = UUID.randomUUID();
@@ -44,6 +50,68 @@ class ClinicSlotRepositoryTest {
                 .containsExactlyInAnyOrder(activeSlot.getId());
     }
 
+    @Test
+    void findSchedulesByTeacherAndBranch_shouldSkipExcludedAndDeletedSlots() {
+        UUID teacherId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+
+        clinicSlotRepository.save(createSlot(teacherId, branchId, DayOfWeek.MONDAY));
+        ClinicSlot excluded = clinicSlotRepository.save(createSlot(teacherId, branchId, DayOfWeek.TUESDAY));
+        clinicSlotRepository.save(createSlot(teacherId, UUID.randomUUID(), DayOfWeek.WEDNESDAY));
+        ClinicSlot deletedSlot = clinicSlotRepository.save(createSlot(teacherId, branchId, DayOfWeek.THURSDAY));
+        deletedSlot.delete();
+        clinicSlotRepository.save(deletedSlot);
+
+        List<WeeklySchedule> sameBranch = clinicSlotRepository
+                .findSchedulesByTeacherAndBranch(teacherId, branchId, excluded.getId());
+        List<WeeklySchedule> allBranches = clinicSlotRepository.findSchedulesByTeacher(teacherId);
+
+        assertThat(sameBranch)
+                .extracting(WeeklySchedule::getDayOfWeek)
+                .containsExactly(DayOfWeek.MONDAY);
+        assertThat(allBranches)
+                .extracting(WeeklySchedule::getDayOfWeek)
+                .containsExactlyInAnyOrder(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY);
+    }
+
+    @Test
+    void findDefaultSlotsOfStudent_shouldReturnOtherActiveRecordsSlots() {
+        UUID teacherId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+        UUID studentId = UUID.randomUUID();
+
+        ClinicSlot mondaySlot = clinicSlotRepository.save(createSlot(teacherId, branchId, DayOfWeek.MONDAY));
+        ClinicSlot tuesdaySlot = clinicSlotRepository.save(createSlot(teacherId, branchId, DayOfWeek.TUESDAY));
+        ClinicSlot deletedSlot = clinicSlotRepository.save(createSlot(teacherId, branchId, DayOfWeek.FRIDAY));
+        deletedSlot.delete();
+        clinicSlotRepository.save(deletedSlot);
+        StudentCourseRecord current = studentCourseRecordRepository.save(
+                StudentCourseRecord.create(studentId, UUID.randomUUID(), null, tuesdaySlot.getId(), null)
+        );
+        studentCourseRecordRepository.save(
+                StudentCourseRecord.create(studentId, UUID.randomUUID(), null, mondaySlot.getId(), null)
+        );
+        studentCourseRecordRepository.save(
+                StudentCourseRecord.create(studentId, UUID.randomUUID(), null, deletedSlot.getId(), null)
+        );
+        StudentCourseRecord deletedRecord = StudentCourseRecord.create(
+                studentId, UUID.randomUUID(), null, tuesdaySlot.getId(), null
+        );
+        deletedRecord.delete();
+        studentCourseRecordRepository.save(deletedRecord);
+        studentCourseRecordRepository.save(
+                StudentCourseRecord.create(UUID.randomUUID(), UUID.randomUUID(), null, tuesdaySlot.getId(), null)
+        );
+
+        List<StudentDefaultSlotProjection> results =
+                clinicSlotRepository.findDefaultSlotsOfStudent(studentId, current.getId());
+
+        assertThat(results).hasSize(1);
+        assertThat(results.getFirst().getSlotId()).isEqualTo(mondaySlot.getId());
+        assertThat(results.getFirst().getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(results.getFirst().getStartTime()).isEqualTo(LocalTime.of(18, 0));
+    }
+
     @Test
     void findByIdAndDeletedAtIsNull_shouldReturnEmpty_whenDeleted() {
         UUID teacherId = UUID.randomUUID();
@@ -0,0 +1,270 @@
+package com.classhub.domain.clinic.waitlist.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.classhub.domain.clinic.attendance.application.ClinicAttendanceBooking;
+import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceOccupancyProjection;
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
+import com.classhub.domain.clinic.session.model.ClinicSession;
+import com.classhub.domain.clinic.session.model.ClinicSessionType;
+import com.classhub.domain.clinic.session.repository.ClinicSessionRepository;
+import com.classhub.domain.clinic.waitlist.dto.response.ClinicWaitlistResponse;
+import com.classhub.domain.clinic.waitlist.model.ClinicWaitlist;
+import com.classhub.domain.clinic.waitlist.model.ClinicWaitlistStatus;
+import com.classhub.domain.clinic.waitlist.repository.ClinicWaitlistRepository;
+import com.classhub.domain.course.model.Course;
+import com.classhub.domain.course.repository.CourseRepository;
+import com.classhub.domain.member.dto.MemberPrincipal;
+import com.classhub.domain.member.model.MemberRole;
+import com.classhub.domain.studentcourse.model.StudentCourseRecord;
+import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepository;
+import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.RsCode;
+import com.classhub.global.util.KstTime;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ClinicWaitlistServiceTest {
+
+    @Mock
+    private ClinicWaitlistRepository clinicWaitlistRepository;
+    @Mock
+    private ClinicSessionRepository clinicSessionRepository;
+    @Mock
+    private ClinicAttendanceRepository clinicAttendanceRepository;
+    @Mock
+    private StudentCourseRecordRepository studentCourseRecordRepository;
+    @Mock
+    private CourseRepository courseRepository;
+    @Mock
+    private ClinicAttendanceBooking clinicAttendanceBooking;
+
+    @InjectMocks
+    private ClinicWaitlistService clinicWaitlistService;
+
+    @Test
+    void promoteNext_shouldBookHeadAndMarkPromoted() {
+        ClinicSession session = createSession(UUID.randomUUID(), LocalDate.now().plusDays(1));
+        StudentCourseRecord record = createRecord(UUID.randomUUID(), UUID.randomUUID());
+        ClinicWaitlist head = createWaitlist(session.getId(), record);
+        ClinicAttendance attendance = ClinicAttendance.builder()
+                .clinicSessionId(session.getId())
+                .studentCourseRecordId(record.getId())
+                .build();
+
+        given(clinicWaitlistRepository.findFirstByClinicSessionIdAndStatusOrderByCreatedAtAscIdAsc(
+                session.getId(), ClinicWaitlistStatus.WAITING
+        )).willReturn(Optional.of(head));
+        given(studentCourseRecordRepository.findById(record.getId())).willReturn(Optional.of(record));
+        given(clinicAttendanceBooking.bookIfAvailable(session.getId(), record.getId()))
+                .willReturn(Optional.of(attendance));
+
+        Optional<ClinicAttendance> promoted = clinicWaitlistService.promoteNext(session);
+
+        assertThat(promoted).contains(attendance);
+        assertThat(head.getStatus()).isEqualTo(ClinicWaitlistStatus.PROMOTED);
+    }
+
+    @Test
+    void promoteNext_shouldDropIneligibleHeadAndPromoteNext() {
+        ClinicSession session = createSession(UUID.randomUUID(), LocalDate.now().plusDays(1));
+        StudentCourseRecord overlapped = createRecord(UUID.randomUUID(), UUID.randomUUID());
+        StudentCourseRecord next = createRecord(UUID.randomUUID(), UUID.randomUUID());
+        ClinicWaitlist first = createWaitlist(session.getId(), overlapped);
+        ClinicWaitlist second = createWaitlist(session.getId(), next);
+
+        given(clinicWaitlistRepository.findFirstByClinicSessionIdAndStatusOrderByCreatedAtAscIdAsc(
+                session.getId(), ClinicWaitlistStatus.WAITING
+        )).willReturn(Optional.of(first), Optional.of(second));
+        given(studentCourseRecordRepository.findById(overlapped.getId())).willReturn(Optional.of(overlapped));
+        given(studentCourseRecordRepository.findById(next.getId())).willReturn(Optional.of(next));
+        given(clinicAttendanceRepository.findOccupancyByStudentIdsAndDateRange(
+                List.of(overlapped.getStudentMemberId()), session.getDate(), session.getDate()
+        )).willReturn(List.of(occupancyOf(UUID.randomUUID(), overlapped, session.getDate())));
+        given(clinicAttendanceRepository.findOccupancyByStudentIdsAndDateRange(
+                List.of(next.getStudentMemberId()), session.getDate(), session.getDate()
+        )).willReturn(List.of());
+        given(clinicAttendanceBooking.bookIfAvailable(session.getId(), next.getId()))
+                .willReturn(Optional.of(ClinicAttendance.builder()
+                        .clinicSessionId(session.getId())
+                        .studentCourseRecordId(next.getId())
+                        .build()));
+
+        Optional<ClinicAttendance> promoted = clinicWaitlistService.promoteNext(session);
+
+        assertThat(promoted).isPresent();
+        verify(clinicWaitlistRepository).delete(first);
+        assertThat(second.getStatus()).isEqualTo(ClinicWaitlistStatus.PROMOTED);
+    }
+
+    @Test
+    void promoteNext_shouldSkip_whenSessionLocked() {
+        LocalDateTime soon = LocalDateTime.now(KstTime.clock()).plusMinutes(5);
+        ClinicSession session = createSession(UUID.randomUUID(), soon.toLocalDate(), soon.toLocalTime());
+
+        Optional<ClinicAttendance> promoted = clinicWaitlistService.promoteNext(session);
+
+        assertThat(promoted).isEmpty();
+        verify(clinicWaitlistRepository, never())
+                .findFirstByClinicSessionIdAndStatusOrderByCreatedAtAscIdAsc(any(), any());
+        verify(clinicAttendanceBooking, never()).bookIfAvailable(any(), any());
+    }
+
+    @Test
+    void joinWaitlist_shouldThrow_whenSeatAvailable() {
+        UUID studentId = UUID.randomUUID();
+        ClinicSession session = createSession(UUID.randomUUID(), LocalDate.now().plusDays(1));
+        StudentCourseRecord record = createRecord(UUID.randomUUID(), studentId);
+        Course course = createCourse(record.getCourseId(), session);
+        MemberPrincipal principal = new MemberPrincipal(studentId, MemberRole.STUDENT);
+
+        given(clinicSessionRepository.findByIdAndDeletedAtIsNull(session.getId())).willReturn(Optional.of(session));
+        given(studentCourseRecordRepository.findByStudentMemberIdAndCourseIdAndDeletedAtIsNull(
+                studentId, record.getCourseId()
+        )).willReturn(Optional.of(record));
+        given(courseRepository.findById(record.getCourseId())).willReturn(Optional.of(course));
+
+        assertThatThrownBy(() -> clinicWaitlistService.joinWaitlist(principal, session.getId(), record.getCourseId()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("rsCode", RsCode.CLINIC_WAITLIST_SEAT_AVAILABLE);
+        verify(clinicWaitlistRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void getWaitlist_shouldReturnPositionFromCountAhead() {
+        UUID studentId = UUID.randomUUID();
+        StudentCourseRecord record = createRecord(UUID.randomUUID(), studentId);
+        ClinicWaitlist waitlist = createWaitlist(UUID.randomUUID(), record);
+        LocalDateTime createdAt = LocalDateTime.now();
+        ReflectionTestUtils.setField(waitlist, "createdAt", createdAt);
+
+        given(clinicWaitlistRepository.findById(waitlist.getId())).willReturn(Optional.of(waitlist));
+        given(clinicWaitlistRepository.countAhead(
+                waitlist.getClinicSessionId(), ClinicWaitlistStatus.WAITING, createdAt, waitlist.getId()
+        )).willReturn(2L);
+
+        ClinicWaitlistResponse response = clinicWaitlistService
+                .getWaitlist(new MemberPrincipal(studentId, MemberRole.STUDENT), waitlist.getId());
+
+        assertThat(response.position()).isEqualTo(3L);
+        assertThat(response.status()).isEqualTo(ClinicWaitlistStatus.WAITING);
+    }
+
+    @Test
+    void getWaitlist_shouldThrow_whenOtherStudent() {
+        StudentCourseRecord record = createRecord(UUID.randomUUID(), UUID.randomUUID());
+        ClinicWaitlist waitlist = createWaitlist(UUID.randomUUID(), record);
+        given(clinicWaitlistRepository.findById(waitlist.getId())).willReturn(Optional.of(waitlist));
+
+        MemberPrincipal other = new MemberPrincipal(UUID.randomUUID(), MemberRole.STUDENT);
+
+        assertThatThrownBy(() -> clinicWaitlistService.getWaitlist(other, waitlist.getId()))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("rsCode", RsCode.FORBIDDEN);
+    }
+
+    private ClinicSession createSession(UUID sessionId, LocalDate date) {
+        return createSession(sessionId, date, LocalTime.of(18, 0));
+    }
+
+    private ClinicSession createSession(UUID sessionId, LocalDate date, LocalTime startTime) {
+        ClinicSession session = ClinicSession.builder()
+                .slotId(UUID.randomUUID())
+                .teacherMemberId(UUID.randomUUID())
+                .branchId(UUID.randomUUID())
+                .sessionType(ClinicSessionType.REGULAR)
+                .date(date)
+                .startTime(startTime)
+                .endTime(startTime.plusHours(1))
+                .capacity(10)
+                .canceled(false)
+                .build();
+        ReflectionTestUtils.setField(session, "id", sessionId);
+        return session;
+    }
+
+    private ClinicAttendanceOccupancyProjection occupancyOf(UUID sessionId,
+                                                            StudentCourseRecord record,
+                                                            LocalDate date) {
+        return new ClinicAttendanceOccupancyProjection() {
+            @Override
+            public UUID getClinicSessionId() {
+                return sessionId;
+            }
+
+            @Override
+            public UUID getStudentCourseRecordId() {
+                return record.getId();
+            }
+
+            @Override
+            public UUID getStudentMemberId() {
+                return record.getStudentMemberId();
+            }
+
+            @Override
+            public LocalDate getDate() {
+                return date;
+            }
+
+            @Override
+            public LocalTime getStartTime() {
+                return LocalTime.of(18, 30);
+            }
+
+            @Override
+            public LocalTime getEndTime() {
+                return LocalTime.of(19, 30);
+            }
+        };
+    }
+
+    private StudentCourseRecord createRecord(UUID recordId, UUID studentId) {
+        StudentCourseRecord record = StudentCourseRecord.create(studentId, UUID.randomUUID(), null, null, null);
+        ReflectionTestUtils.setField(record, "id", recordId);
+        return record;
+    }
+
+    private ClinicWaitlist createWaitlist(UUID sessionId, StudentCourseRecord record) {
+        ClinicWaitlist waitlist = ClinicWaitlist.builder()
+                .clinicSessionId(sessionId)
+                .studentCourseRecordId(record.getId())
+                .studentMemberId(record.getStudentMemberId())
+                .build();
+        ReflectionTestUtils.setField(waitlist, "id", UUID.randomUUID());
+        return waitlist;
+    }
+
+    private Course createCourse(UUID courseId, ClinicSession session) {
+        Course course = Course.create(
+                session.getBranchId(),
+                session.getTeacherMemberId(),
+                "Course",
+                "Desc",
+                LocalDate.of(2024, Month.JANUARY, 1),
+                LocalDate.of(2024, Month.DECEMBER, 31),
+                Set.of()
+        );
+        ReflectionTestUtils.setField(course, "id", courseId);
+        return course;
+    }
+}
@@ -0,0 +1,117 @@
+package com.classhub.domain.clinic.waitlist.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.classhub.domain.clinic.waitlist.application.ClinicWaitlistService;
+import com.classhub.domain.clinic.waitlist.dto.request.ClinicWaitlistRequest;
+import com.classhub.domain.clinic.waitlist.dto.response.ClinicWaitlistResponse;
+import com.classhub.domain.clinic.waitlist.model.ClinicWaitlistStatus;
+import com.classhub.domain.member.dto.MemberPrincipal;
+import com.classhub.domain.member.model.MemberRole;
+import com.classhub.global.response.RsCode;
+import tools.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ClinicWaitlistControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ClinicWaitlistService clinicWaitlistService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    void joinWaitlist_shouldReturnCreated() throws Exception {
+        UUID studentId = UUID.randomUUID();
+        ClinicWaitlistRequest request = new ClinicWaitlistRequest(UUID.randomUUID(), UUID.randomUUID());
+        ClinicWaitlistResponse response = new ClinicWaitlistResponse(
+                UUID.randomUUID(), request.clinicSessionId(), ClinicWaitlistStatus.WAITING, 4L
+        );
+        given(clinicWaitlistService.joinWaitlist(any(MemberPrincipal.class), eq(request.clinicSessionId()),
+                eq(request.courseId()))).willReturn(response);
+
+        mockMvc.perform(post("/api/v1/students/me/clinic-waitlists")
+                        .with(SecurityMockMvcRequestPostProcessors.authentication(authToken(studentId, MemberRole.STUDENT)))
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.code").value(RsCode.CREATED.getCode()))
+                .andExpect(jsonPath("$.data.position").value(4));
+    }
+
+    @Test
+    void getWaitlist_shouldReturnPosition() throws Exception {
+        UUID studentId = UUID.randomUUID();
+        UUID waitlistId = UUID.randomUUID();
+        ClinicWaitlistResponse response = new ClinicWaitlistResponse(
+                waitlistId, UUID.randomUUID(), ClinicWaitlistStatus.WAITING, 2L
+        );
+        given(clinicWaitlistService.getWaitlist(any(MemberPrincipal.class), eq(waitlistId))).willReturn(response);
+
+        mockMvc.perform(get("/api/v1/students/me/clinic-waitlists/{waitlistId}", waitlistId)
+                        .with(SecurityMockMvcRequestPostProcessors.authentication(authToken(studentId, MemberRole.STUDENT))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.waitlistId").value(waitlistId.toString()))
+                .andExpect(jsonPath("$.data.status").value("WAITING"))
+                .andExpect(jsonPath("$.data.position").value(2));
+    }
+
+    @Test
+    void leaveWaitlist_shouldReturnSuccess() throws Exception {
+        UUID studentId = UUID.randomUUID();
+        UUID waitlistId = UUID.randomUUID();
+
+        mockMvc.perform(delete("/api/v1/students/me/clinic-waitlists/{waitlistId}", waitlistId)
+                        .with(SecurityMockMvcRequestPostProcessors.authentication(authToken(studentId, MemberRole.STUDENT))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(RsCode.SUCCESS.getCode()));
+
+        verify(clinicWaitlistService).leaveWaitlist(any(MemberPrincipal.class), eq(waitlistId));
+    }
+
+    private UsernamePasswordAuthenticationToken authToken(UUID memberId, MemberRole role) {
+        MemberPrincipal principal = new MemberPrincipal(memberId, role);
+        return new UsernamePasswordAuthenticationToken(
+                principal,
+                null,
+                List.of(new SimpleGrantedAuthority(role.name()))
+        );
+    }
+}
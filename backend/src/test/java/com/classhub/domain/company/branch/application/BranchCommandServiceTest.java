@@ -12,6 +12,7 @@ import com.classhub.domain.company.branch.dto.request.BranchVerifiedStatusReques
 import com.classhub.domain.company.branch.dto.response.BranchResponse;
 import com.classhub.domain.company.branch.model.Branch;
 import com.classhub.domain.company.branch.repository.BranchRepository;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
 import com.classhub.domain.company.company.model.Company;
 import com.classhub.domain.company.company.model.CompanyType;
 import com.classhub.domain.company.company.model.VerifiedStatus;
@@ -40,6 +41,9 @@ class BranchCommandServiceTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private CompanyReferenceCache companyReferenceCache;
+
     @InjectMocks
     private BranchCommandService branchCommandService;
 
@@ -111,6 +115,7 @@ class BranchCommandServiceTest {
         assertThat(response.name()).isEqualTo("잠실");
         assertThat(response.companyName()).isEqualTo("러셀");
         assertThat(response.deletedAt()).isNotNull();
+        verify(companyReferenceCache).evictBranch(branchId);
     }
 
     @Test
@@ -144,6 +149,7 @@ class BranchCommandServiceTest {
         assertThat(response.verifiedStatus()).isEqualTo(VerifiedStatus.VERIFIED);
         assertThat(response.companyName()).isEqualTo("러셀");
         assertThat(response.deletedAt()).isNull();
+        verify(companyReferenceCache).evictBranch(branchId);
     }
 
     @Test
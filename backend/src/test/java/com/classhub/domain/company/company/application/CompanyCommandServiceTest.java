@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 
 import com.classhub.domain.company.branch.model.Branch;
 import com.classhub.domain.company.branch.repository.BranchRepository;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
 import com.classhub.domain.company.company.dto.request.CompanyCreateRequest;
 import com.classhub.domain.company.company.dto.request.CompanyVerifiedStatusRequest;
 import com.classhub.domain.company.company.dto.response.CompanyResponse;
@@ -38,6 +39,9 @@ class CompanyCommandServiceTest {
     @Mock
     private BranchRepository branchRepository;
 
+    @Mock
+    private CompanyReferenceCache companyReferenceCache;
+
     @InjectMocks
     private CompanyCommandService companyCommandService;
 
@@ -102,6 +106,7 @@ class CompanyCommandServiceTest {
 
         assertThat(response.verifiedStatus()).isEqualTo(VerifiedStatus.VERIFIED);
         assertThat(response.deletedAt()).isNotNull();
+        verify(companyReferenceCache).evictCompany(companyId);
     }
 
     @Test
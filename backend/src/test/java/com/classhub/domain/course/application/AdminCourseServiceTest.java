@@ -13,6 +13,7 @@ import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.PageResponse;
+import com.classhub.global.search.KeywordSearchIndex;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +37,9 @@ class AdminCourseServiceTest {
     @Mock
     private CourseViewAssembler courseViewAssembler;
 
+    @Mock
+    private KeywordSearchIndex keywordSearchIndex;
+
     @InjectMocks
     private AdminCourseService adminCourseService;
 
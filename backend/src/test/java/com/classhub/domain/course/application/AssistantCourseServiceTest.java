@@ -10,8 +10,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.course.dto.CourseStatusFilter;
 import com.classhub.domain.course.dto.response.CourseResponse;
 import com.classhub.domain.course.dto.response.CourseWithTeacherResponse;
@@ -22,6 +21,7 @@ import com.classhub.domain.member.model.MemberRole;
 import com.classhub.domain.member.repository.MemberRepository;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.PageResponse;
+import com.classhub.global.search.KeywordSearchIndex;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -41,7 +41,7 @@ import org.springframework.data.domain.PageRequest;
 class AssistantCourseServiceTest {
 
     @Mock
-    private TeacherAssistantAssignmentRepository assignmentRepository;
+    private MembershipGraph membershipGraph;
 
     @Mock
     private CourseRepository courseRepository;
@@ -52,6 +52,9 @@ class AssistantCourseServiceTest {
     @Mock
     private CourseViewAssembler courseViewAssembler;
 
+    @Mock
+    private KeywordSearchIndex keywordSearchIndex;
+
     @InjectMocks
     private AssistantCourseService assistantCourseService;
 
@@ -59,9 +62,7 @@ class AssistantCourseServiceTest {
     void getCourses_shouldReturnResponsesForAssignedTeachers() {
         UUID assistantId = UUID.randomUUID();
         UUID teacherId = UUID.randomUUID();
-        TeacherAssistantAssignment assignment = TeacherAssistantAssignment.create(teacherId, assistantId);
-        when(assignmentRepository.findByAssistantMemberIdAndDeletedAtIsNull(assistantId))
-                .thenReturn(List.of(assignment));
+        when(membershipGraph.getTeacherIdsOfAssistant(assistantId)).thenReturn(List.of(teacherId));
 
         Course course = Course.create(
                 UUID.randomUUID(),
@@ -119,8 +120,7 @@ class AssistantCourseServiceTest {
     @Test
     void getCourses_shouldReturnEmptyWhenNoAssignments() {
         UUID assistantId = UUID.randomUUID();
-        when(assignmentRepository.findByAssistantMemberIdAndDeletedAtIsNull(assistantId))
-                .thenReturn(List.of());
+        when(membershipGraph.getTeacherIdsOfAssistant(assistantId)).thenReturn(List.of());
 
         PageResponse<CourseWithTeacherResponse> result = assistantCourseService.getCourses(
                 assistantId,
@@ -139,8 +139,7 @@ class AssistantCourseServiceTest {
     void getCourses_shouldThrowWhenTeacherFilterNotAssigned() {
         UUID assistantId = UUID.randomUUID();
         UUID teacherId = UUID.randomUUID();
-        when(assignmentRepository.findByAssistantMemberIdAndDeletedAtIsNull(assistantId))
-                .thenReturn(List.of(TeacherAssistantAssignment.create(UUID.randomUUID(), assistantId)));
+        when(membershipGraph.getTeacherIdsOfAssistant(assistantId)).thenReturn(List.of(UUID.randomUUID()));
 
         assertThatThrownBy(() -> assistantCourseService.getCourses(
                 assistantId,
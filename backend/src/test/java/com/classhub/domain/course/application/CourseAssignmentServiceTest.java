@@ -8,11 +8,10 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
-import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.assignment.model.TeacherStudentAssignment;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
 import com.classhub.domain.assignment.repository.TeacherStudentAssignmentRepository;
-import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
+import com.classhub.domain.clinic.attendance.application.ClinicAttendanceBooking;
 import com.classhub.domain.clinic.slot.application.ClinicDefaultSlotService;
 import com.classhub.domain.course.dto.response.CourseResponse;
 import com.classhub.domain.course.dto.response.CourseStudentResponse;
@@ -35,8 +34,10 @@ import com.classhub.domain.studentcourse.repository.StudentCourseRecordRepositor
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.search.KeywordCandidates;
+import com.classhub.global.search.KeywordSearchIndex;
 import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -58,7 +59,7 @@ class CourseAssignmentServiceTest {
     @Mock
     private CourseRepository courseRepository;
     @Mock
-    private TeacherAssistantAssignmentRepository assistantAssignmentRepository;
+    private MembershipGraph membershipGraph;
     @Mock
     private TeacherStudentAssignmentRepository teacherStudentAssignmentRepository;
     @Mock
@@ -72,9 +73,11 @@ class CourseAssignmentServiceTest {
     @Mock
     private CourseViewAssembler courseViewAssembler;
     @Mock
-    private ClinicAttendanceRepository clinicAttendanceRepository;
+    private ClinicAttendanceBooking clinicAttendanceBooking;
     @Mock
     private ClinicDefaultSlotService clinicDefaultSlotService;
+    @Mock
+    private KeywordSearchIndex keywordSearchIndex;
 
     @InjectMocks
     private CourseAssignmentService courseAssignmentService;
@@ -113,8 +116,7 @@ class CourseAssignmentServiceTest {
     @Test
     void getAssignableCourses_shouldReturnEmptyForAssistantWithoutAssignments() {
         MemberPrincipal principal = new MemberPrincipal(assistantId, MemberRole.ASSISTANT);
-        given(assistantAssignmentRepository.findByAssistantMemberIdAndDeletedAtIsNull(assistantId))
-                .willReturn(List.of());
+        given(membershipGraph.getTeacherIdsOfAssistant(assistantId)).willReturn(List.of());
 
         PageResponse<CourseResponse> response = courseAssignmentService.getAssignableCourses(
                 principal,
@@ -134,9 +136,10 @@ class CourseAssignmentServiceTest {
         TeacherStudentAssignment assignment = TeacherStudentAssignment.create(teacherId, studentId);
         ReflectionTestUtils.setField(assignment, "id", UUID.randomUUID());
         given(courseRepository.findById(course.getId())).willReturn(Optional.of(course));
+        given(keywordSearchIndex.students("학생")).willReturn(KeywordCandidates.like("학생"));
         given(teacherStudentAssignmentRepository.searchAssignmentsForTeacher(
                 eq(teacherId),
-                eq("학생"),
+                eq(KeywordCandidates.like("학생")),
                 any(),
                 any()
         )).willReturn(new PageImpl<>(List.of(assignment), PageRequest.of(0, 10), 1));
@@ -160,10 +163,7 @@ class CourseAssignmentServiceTest {
         MemberPrincipal principal = new MemberPrincipal(teacherId, MemberRole.TEACHER);
         StudentCourseAssignmentCreateRequest request = new StudentCourseAssignmentCreateRequest(studentId, course.getId());
         given(courseRepository.findById(course.getId())).willReturn(Optional.of(course));
-        given(teacherStudentAssignmentRepository.existsByTeacherMemberIdAndStudentMemberIdAndDeletedAtIsNull(
-                teacherId,
-                studentId
-        )).willReturn(true);
+        given(membershipGraph.isStudentOf(teacherId, studentId)).willReturn(true);
         given(studentCourseAssignmentRepository.existsByStudentMemberIdAndCourseId(studentId, course.getId()))
                 .willReturn(false);
         given(studentCourseAssignmentRepository.save(any(StudentCourseAssignment.class))).willAnswer(invocation -> {
@@ -186,10 +186,7 @@ class CourseAssignmentServiceTest {
         MemberPrincipal principal = new MemberPrincipal(teacherId, MemberRole.TEACHER);
         StudentCourseAssignmentCreateRequest request = new StudentCourseAssignmentCreateRequest(studentId, course.getId());
         given(courseRepository.findById(course.getId())).willReturn(Optional.of(course));
-        given(teacherStudentAssignmentRepository.existsByTeacherMemberIdAndStudentMemberIdAndDeletedAtIsNull(
-                teacherId,
-                studentId
-        )).willReturn(false);
+        given(membershipGraph.isStudentOf(teacherId, studentId)).willReturn(false);
 
         assertThatThrownBy(() -> courseAssignmentService.createAssignment(principal, request))
                 .isInstanceOf(BusinessException.class)
@@ -253,12 +250,8 @@ class CourseAssignmentServiceTest {
     @Test
     void getCourseStudents_shouldReturnForAssistantWithAssignment() {
         MemberPrincipal principal = new MemberPrincipal(assistantId, MemberRole.ASSISTANT);
-        TeacherAssistantAssignment assignment = TeacherAssistantAssignment.create(teacherId, assistantId);
         given(courseRepository.findById(course.getId())).willReturn(Optional.of(course));
-        given(assistantAssignmentRepository.findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(
-                teacherId,
-                assistantId
-        )).willReturn(Optional.of(assignment));
+        given(membershipGraph.isAssistantOf(teacherId, assistantId)).willReturn(true);
 
         StudentCourseAssignment courseAssignment = StudentCourseAssignment.create(studentId, course.getId(), teacherId, null);
         given(studentCourseAssignmentRepository.findByCourseId(eq(course.getId()), any()))
@@ -286,10 +279,7 @@ class CourseAssignmentServiceTest {
     void getCourseStudents_shouldThrow_whenAssistantNotAssigned() {
         MemberPrincipal principal = new MemberPrincipal(assistantId, MemberRole.ASSISTANT);
         given(courseRepository.findById(course.getId())).willReturn(Optional.of(course));
-        given(assistantAssignmentRepository.findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(
-                teacherId,
-                assistantId
-        )).willReturn(Optional.empty());
+        given(membershipGraph.isAssistantOf(teacherId, assistantId)).willReturn(false);
 
         assertThatThrownBy(() -> courseAssignmentService.getCourseStudents(principal, course.getId(), 0, 10))
                 .isInstanceOf(BusinessException.class)
@@ -347,8 +337,7 @@ class CourseAssignmentServiceTest {
         assertThat(record.isDeleted()).isTrue();
         verify(studentCourseAssignmentRepository).save(assignment);
         verify(studentCourseRecordRepository).save(record);
-        verify(clinicAttendanceRepository)
-                .deleteUpcomingAttendances(eq(record.getId()), any(LocalDate.class), any(LocalTime.class));
+        verify(clinicAttendanceBooking).cancelUpcoming(eq(record.getId()), any(LocalDateTime.class));
     }
 
     @Test
@@ -6,14 +6,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.classhub.domain.assignment.model.BranchRole;
-import com.classhub.domain.assignment.model.TeacherBranchAssignment;
-import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.company.branch.model.Branch;
 import com.classhub.domain.company.branch.repository.BranchRepository;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
 import com.classhub.domain.company.company.model.Company;
 import com.classhub.domain.company.company.model.CompanyType;
 import com.classhub.domain.company.company.model.VerifiedStatus;
@@ -27,16 +28,27 @@ import com.classhub.domain.course.dto.response.CourseResponse;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.domain.course.application.CourseViewAssembler;
+import com.classhub.global.cache.CacheVersionTracker;
+import com.classhub.global.datasource.PrimaryReads;
 import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.CursorSliceResponse;
 import com.classhub.global.response.PageResponse;
 import com.classhub.global.response.RsCode;
+import com.classhub.global.search.KeywordCandidates;
+import com.classhub.global.search.KeywordSearchIndex;
+import com.classhub.global.util.ListingCountCache;
+import com.classhub.global.util.SeekCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -55,7 +67,7 @@ class CourseServiceTest {
     private CourseRepository courseRepository;
 
     @Mock
-    private TeacherBranchAssignmentRepository teacherBranchAssignmentRepository;
+    private MembershipGraph membershipGraph;
 
     @Mock
     private BranchRepository branchRepository;
@@ -63,6 +75,18 @@ class CourseServiceTest {
     @Mock
     private CompanyRepository companyRepository;
 
+    @Mock
+    private ListingCountCache listingCountCache;
+
+    @Mock
+    private KeywordSearchIndex keywordSearchIndex;
+
+    @Mock
+    private CacheVersionTracker cacheVersionTracker;
+
+    @Mock
+    private PrimaryReads primaryReads;
+
     private CourseService courseService;
 
     private CourseViewAssembler courseViewAssembler;
@@ -72,7 +96,6 @@ class CourseServiceTest {
     private UUID companyId;
     private Branch branch;
     private Company company;
-    private TeacherBranchAssignment assignment;
 
     @BeforeEach
     void setUp() {
@@ -83,14 +106,27 @@ class CourseServiceTest {
         ReflectionTestUtils.setField(branch, "id", branchId);
         company = Company.create("러셀", "desc", CompanyType.ACADEMY, VerifiedStatus.VERIFIED, teacherId);
         ReflectionTestUtils.setField(company, "id", companyId);
-        assignment = TeacherBranchAssignment.create(teacherId, branchId, BranchRole.FREELANCE);
-        courseViewAssembler = new CourseViewAssembler(branchRepository, companyRepository);
+        lenient().when(primaryReads.load(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        CompanyReferenceCache companyReferenceCache = new CompanyReferenceCache(
+                branchRepository,
+                companyRepository,
+                cacheVersionTracker,
+                primaryReads,
+                Clock.systemUTC(),
+                new SimpleMeterRegistry(),
+                60_000,
+                100
+        );
+        courseViewAssembler = new CourseViewAssembler(companyReferenceCache);
         courseService = new CourseService(
                 courseRepository,
-                teacherBranchAssignmentRepository,
+                membershipGraph,
                 branchRepository,
                 companyRepository,
-                courseViewAssembler
+                courseViewAssembler,
+                listingCountCache,
+                keywordSearchIndex
         );
     }
 
@@ -107,9 +143,8 @@ class CourseServiceTest {
         UUID courseId = UUID.randomUUID();
         when(branchRepository.findById(branchId)).thenReturn(Optional.of(branch));
         when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
-        when(teacherBranchAssignmentRepository.findByTeacherMemberIdAndBranchId(teacherId, branchId))
-                .thenReturn(Optional.of(assignment));
-        when(courseRepository.findOverlappingCourses(
+        when(membershipGraph.isAssignedToBranch(teacherId, branchId)).thenReturn(true);
+        when(courseRepository.findOverlappingSchedules(
                 eq(teacherId),
                 eq(request.startDate()),
                 eq(request.endDate()),
@@ -151,14 +186,13 @@ class CourseServiceTest {
         );
         when(branchRepository.findById(branchId)).thenReturn(Optional.of(branch));
         when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
-        when(teacherBranchAssignmentRepository.findByTeacherMemberIdAndBranchId(teacherId, branchId))
-                .thenReturn(Optional.of(assignment));
-        when(courseRepository.findOverlappingCourses(
+        when(membershipGraph.isAssignedToBranch(teacherId, branchId)).thenReturn(true);
+        when(courseRepository.findOverlappingSchedules(
                 eq(teacherId),
                 eq(request.startDate()),
                 eq(request.endDate()),
                 eq(null)
-        )).thenReturn(List.of(existing));
+        )).thenReturn(List.copyOf(existing.getSchedules()));
 
         assertThatThrownBy(() -> courseService.createCourse(teacherId, request))
                 .isInstanceOf(BusinessException.class)
@@ -177,8 +211,7 @@ class CourseServiceTest {
         );
         when(branchRepository.findById(branchId)).thenReturn(Optional.of(branch));
         when(companyRepository.findById(companyId)).thenReturn(Optional.of(company));
-        when(teacherBranchAssignmentRepository.findByTeacherMemberIdAndBranchId(teacherId, branchId))
-                .thenReturn(Optional.empty());
+        when(membershipGraph.isAssignedToBranch(teacherId, branchId)).thenReturn(false);
 
         assertThatThrownBy(() -> courseService.createCourse(teacherId, request))
                 .isInstanceOf(BusinessException.class)
@@ -198,7 +231,8 @@ class CourseServiceTest {
         );
         ReflectionTestUtils.setField(course, "id", UUID.randomUUID());
         Page<Course> page = new PageImpl<>(List.of(course), PageRequest.of(0, 10), 1);
-        when(courseRepository.searchCourses(eq(teacherId), eq(branchId), eq(CourseStatusFilter.ACTIVE), anyString(), any(PageRequest.class)))
+        when(keywordSearchIndex.courses("수학")).thenReturn(KeywordCandidates.like("수학"));
+        when(courseRepository.searchCourses(eq(teacherId), eq(branchId), eq(CourseStatusFilter.ACTIVE), any(), any(PageRequest.class)))
                 .thenReturn(page);
         when(branchRepository.findAllById(any())).thenReturn(List.of(branch));
         when(companyRepository.findAllById(any())).thenReturn(List.of(company));
@@ -218,11 +252,60 @@ class CourseServiceTest {
                 eq(teacherId),
                 eq(branchId),
                 eq(CourseStatusFilter.ACTIVE),
-                eq("수학"),
+                eq(KeywordCandidates.like("수학")),
                 eq(PageRequest.of(0, 10))
         );
     }
 
+    @Test
+    void getCoursesByCursor_shouldReturnSliceWithoutCount() {
+        Course first = cursorCourse(LocalDateTime.of(2024, 3, 2, 10, 0));
+        Course second = cursorCourse(LocalDateTime.of(2024, 3, 1, 10, 0));
+        Course extra = cursorCourse(LocalDateTime.of(2024, 2, 28, 10, 0));
+        when(courseRepository.searchCoursesAfter(teacherId, null, CourseStatusFilter.ALL, null, null, null,
+                PageRequest.of(0, 3)))
+                .thenReturn(List.of(first, second, extra));
+        when(branchRepository.findAllById(any())).thenReturn(List.of(branch));
+        when(companyRepository.findAllById(any())).thenReturn(List.of(company));
+
+        CursorSliceResponse<CourseResponse> response = courseService.getCoursesByCursor(
+                teacherId, CourseStatusFilter.ALL, null, null, null, 2, false
+        );
+
+        assertThat(response.content()).hasSize(2);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.totalElements()).isNull();
+        assertThat(SeekCursor.decode(response.nextCursor()))
+                .isEqualTo(new SeekCursor(second.getCreatedAt(), second.getId()));
+        verify(courseRepository, never()).countCourses(any(), any(), any(), any());
+    }
+
+    @Test
+    void getCoursesByCursor_shouldContinueFromCursor() {
+        SeekCursor cursor = new SeekCursor(LocalDateTime.of(2024, 3, 1, 10, 0), UUID.randomUUID());
+        when(courseRepository.searchCoursesAfter(teacherId, null, CourseStatusFilter.ALL, null,
+                cursor.createdAt(), cursor.id(), PageRequest.of(0, 3)))
+                .thenReturn(List.of());
+        when(listingCountCache.get(anyString(), any())).thenReturn(7L);
+
+        CursorSliceResponse<CourseResponse> response = courseService.getCoursesByCursor(
+                teacherId, CourseStatusFilter.ALL, null, null, cursor.encode(), 2, true
+        );
+
+        assertThat(response.content()).isEmpty();
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+        assertThat(response.totalElements()).isEqualTo(7L);
+    }
+
+    @Test
+    void getCoursesByCursor_shouldRejectInvalidCursor() {
+        assertThatThrownBy(() -> courseService.getCoursesByCursor(
+                teacherId, CourseStatusFilter.ALL, null, null, "not-a-cursor", 20, false))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("rsCode", RsCode.BAD_REQUEST);
+    }
+
     @Test
     void getCourse_shouldThrow_whenNotFound() {
         UUID courseId = UUID.randomUUID();
@@ -248,7 +331,7 @@ class CourseServiceTest {
         when(courseRepository.findById(course.getId())).thenReturn(Optional.of(course));
         when(branchRepository.findAllById(any())).thenReturn(List.of(branch));
         when(companyRepository.findAllById(any())).thenReturn(List.of(company));
-        when(courseRepository.findOverlappingCourses(
+        when(courseRepository.findOverlappingSchedules(
                 eq(teacherId),
                 any(LocalDate.class),
                 any(LocalDate.class),
@@ -297,12 +380,12 @@ class CourseServiceTest {
                 Set.of(new Course.CourseSchedule(DayOfWeek.MONDAY, LocalTime.of(9, 30), LocalTime.of(10, 30)))
         );
         when(courseRepository.findById(course.getId())).thenReturn(Optional.of(course));
-        when(courseRepository.findOverlappingCourses(
+        when(courseRepository.findOverlappingSchedules(
                 eq(teacherId),
                 any(LocalDate.class),
                 any(LocalDate.class),
                 eq(course.getId())
-        )).thenReturn(List.of(existing));
+        )).thenReturn(List.copyOf(existing.getSchedules()));
 
         CourseUpdateRequest request = new CourseUpdateRequest(
                 null,
@@ -385,4 +468,19 @@ class CourseServiceTest {
         )).isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("rsCode", RsCode.BAD_REQUEST);
     }
+
+    private Course cursorCourse(LocalDateTime createdAt) {
+        Course course = Course.create(
+                branchId,
+                teacherId,
+                "중3 수학",
+                null,
+                LocalDate.now(),
+                LocalDate.now().plusMonths(1),
+                Set.of(new Course.CourseSchedule(DayOfWeek.MONDAY, LocalTime.NOON, LocalTime.NOON.plusHours(1)))
+        );
+        ReflectionTestUtils.setField(course, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(course, "createdAt", createdAt);
+        return course;
+    }
 }
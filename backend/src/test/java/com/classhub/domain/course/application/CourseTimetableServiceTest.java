@@ -0,0 +1,63 @@
+package com.classhub.domain.course.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.classhub.domain.clinic.slot.repository.ClinicSlotRepository;
+import com.classhub.domain.course.dto.response.CourseScheduleResponse;
+import com.classhub.domain.course.model.Course;
+import com.classhub.domain.course.repository.CourseRepository;
+import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.RsCode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CourseTimetableServiceTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private ClinicSlotRepository clinicSlotRepository;
+
+    @InjectMocks
+    private CourseTimetableService courseTimetableService;
+
+    private final UUID teacherId = UUID.randomUUID();
+    private final LocalDate startDate = LocalDate.of(2025, 3, 1);
+    private final LocalDate endDate = LocalDate.of(2025, 6, 30);
+
+    @Test
+    void getFreeWindows_shouldExcludeCourseSchedulesAndClinicSlots() {
+        given(courseRepository.findOverlappingSchedules(teacherId, startDate, endDate, null))
+                .willReturn(List.of(new Course.CourseSchedule(DayOfWeek.MONDAY, LocalTime.of(6, 0), LocalTime.of(18, 0))));
+        given(clinicSlotRepository.findSchedulesByTeacher(teacherId))
+                .willReturn(List.of(new Course.CourseSchedule(DayOfWeek.MONDAY, LocalTime.of(19, 0), LocalTime.of(21, 30))));
+
+        List<CourseScheduleResponse> windows = courseTimetableService.getFreeWindows(teacherId, startDate, endDate, 60);
+
+        assertThat(windows)
+                .filteredOn(window -> window.dayOfWeek() == DayOfWeek.MONDAY)
+                .containsExactly(new CourseScheduleResponse(DayOfWeek.MONDAY, LocalTime.of(18, 0), LocalTime.of(19, 0)));
+        assertThat(windows)
+                .filteredOn(window -> window.dayOfWeek() == DayOfWeek.TUESDAY)
+                .containsExactly(new CourseScheduleResponse(DayOfWeek.TUESDAY, LocalTime.of(6, 0), LocalTime.of(22, 0)));
+    }
+
+    @Test
+    void getFreeWindows_shouldThrow_whenMinMinutesNotPositive() {
+        assertThatThrownBy(() -> courseTimetableService.getFreeWindows(teacherId, startDate, endDate, 0))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("rsCode", RsCode.BAD_REQUEST);
+    }
+}
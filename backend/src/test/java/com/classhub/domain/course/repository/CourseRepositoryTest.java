@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.classhub.domain.course.dto.CourseStatusFilter;
 import com.classhub.domain.course.model.Course;
 import com.classhub.global.config.JpaConfig;
+import com.classhub.global.search.KeywordCandidates;
+import com.classhub.global.timetable.WeeklySchedule;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -46,7 +48,7 @@ class CourseRepositoryTest {
                 teacherId,
                 branchA,
                 CourseStatusFilter.ACTIVE,
-                "수학",
+                KeywordCandidates.like("수학"),
                 PageRequest.of(0, 10)
         );
 
@@ -54,6 +56,34 @@ class CourseRepositoryTest {
         assertThat(result.getContent().getFirst().getName()).isEqualTo("중3 수학");
     }
 
+    @Test
+    void searchCourses_shouldFilterByIndexedCandidateIds() {
+        UUID teacherId = UUID.randomUUID();
+        UUID branchId = UUID.randomUUID();
+        Course math = createCourse(branchId, teacherId, "중3 수학", LocalDate.now(), LocalDate.now().plusMonths(1));
+        Course physics = createCourse(branchId, teacherId, "고2 물리", LocalDate.now(), LocalDate.now().plusMonths(1));
+        Course otherTeacher = createCourse(branchId, UUID.randomUUID(), "중3 수학", LocalDate.now(), LocalDate.now().plusMonths(1));
+        courseRepository.saveAll(List.of(math, physics, otherTeacher));
+
+        Page<Course> result = courseRepository.searchCourses(
+                teacherId,
+                null,
+                CourseStatusFilter.ALL,
+                KeywordCandidates.of(List.of(math.getId(), otherTeacher.getId())),
+                PageRequest.of(0, 10)
+        );
+        Page<Course> noMatch = courseRepository.searchCourses(
+                teacherId,
+                null,
+                CourseStatusFilter.ALL,
+                KeywordCandidates.of(List.of()),
+                PageRequest.of(0, 10)
+        );
+
+        assertThat(result.getContent()).extracting(Course::getId).containsExactly(math.getId());
+        assertThat(noMatch.getContent()).isEmpty();
+    }
+
     @Test
     void searchCourses_shouldReturnInactiveCourses() {
         UUID teacherId = UUID.randomUUID();
@@ -65,7 +95,7 @@ class CourseRepositoryTest {
                 teacherId,
                 null,
                 CourseStatusFilter.INACTIVE,
-                null,
+                KeywordCandidates.none(),
                 PageRequest.of(0, 10)
         );
 
@@ -95,6 +125,28 @@ class CourseRepositoryTest {
                 .isEqualTo("겨울 특강");
     }
 
+    @Test
+    void findOverlappingSchedules_shouldReturnSchedulesOfActiveCoursesInPeriodExceptExcluded() {
+        UUID teacherId = UUID.randomUUID();
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end = LocalDate.of(2025, 1, 31);
+
+        Course overlapping = createCourse(UUID.randomUUID(), teacherId, "겨울 특강", start.minusDays(1), end.minusDays(10));
+        Course excluded = createCourse(UUID.randomUUID(), teacherId, "수정 중", start, end);
+        Course outside = createCourse(UUID.randomUUID(), teacherId, "봄 특강", end.plusDays(1), end.plusMonths(1));
+        Course deleted = createCourse(UUID.randomUUID(), teacherId, "비활성", start, end);
+        deleted.delete();
+        Course otherTeacher = createCourse(UUID.randomUUID(), UUID.randomUUID(), "다른 선생님", start, end);
+        courseRepository.saveAll(List.of(overlapping, excluded, outside, deleted, otherTeacher));
+
+        List<WeeklySchedule> results = courseRepository.findOverlappingSchedules(teacherId, start, end, excluded.getId());
+
+        assertThat(results).hasSize(1);
+        assertThat(results.getFirst().getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(results.getFirst().getStartTime()).isEqualTo(LocalTime.of(7, 0));
+        assertThat(results.getFirst().getEndTime()).isEqualTo(LocalTime.of(8, 0));
+    }
+
     @Test
     void searchAssignableCoursesForTeacher_shouldExcludeEndedOrDeleted() {
         UUID teacherId = UUID.randomUUID();
@@ -110,7 +162,7 @@ class CourseRepositoryTest {
         Page<Course> result = courseRepository.searchAssignableCoursesForTeacher(
                 teacherId,
                 null,
-                null,
+                KeywordCandidates.none(),
                 today,
                 PageRequest.of(0, 10)
         );
@@ -135,7 +187,7 @@ class CourseRepositoryTest {
         Page<Course> result = courseRepository.searchAssignableCoursesForTeachers(
                 List.of(teacherId),
                 branchA,
-                "과학",
+                KeywordCandidates.like("과학"),
                 today,
                 PageRequest.of(0, 10)
         );
@@ -1,15 +1,22 @@
 package com.classhub.domain.course.scheduler;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.classhub.domain.course.application.CourseArchiveService;
+import com.classhub.global.lock.SchedulerLeaseManager;
+import com.classhub.global.metrics.BatchJobMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,15 +27,36 @@ class CourseArchiveSchedulerTest {
     @Mock
     private CourseArchiveService courseArchiveService;
 
+    @Mock
+    private SchedulerLeaseManager schedulerLeaseManager;
+
+    @Spy
+    private BatchJobMetrics batchJobMetrics = new BatchJobMetrics(new SimpleMeterRegistry());
+
     @InjectMocks
     private CourseArchiveScheduler scheduler;
 
     @Test
     void archiveExpiredCourses_shouldInvokeServiceWithKstDate() {
         LocalDate today = LocalDate.now(KST);
+        given(schedulerLeaseManager.runExclusively(eq(CourseArchiveScheduler.LEASE_NAME), eq(today.toString()), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(2).run();
+                    return true;
+                });
 
         scheduler.archiveExpiredCourses();
 
         verify(courseArchiveService).archiveExpiredCourses(eq(today));
     }
+
+    @Test
+    void archiveExpiredCourses_shouldSkipWhenLeaseHeldElsewhere() {
+        given(schedulerLeaseManager.runExclusively(eq(CourseArchiveScheduler.LEASE_NAME), any(), any()))
+                .willReturn(false);
+
+        scheduler.archiveExpiredCourses();
+
+        verify(courseArchiveService, never()).archiveExpiredCourses(any());
+    }
 }
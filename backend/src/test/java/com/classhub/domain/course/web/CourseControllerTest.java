@@ -13,6 +13,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.classhub.domain.course.application.CourseService;
+import com.classhub.domain.course.application.CourseTimetableService;
 import com.classhub.domain.course.dto.CourseStatusFilter;
 import com.classhub.domain.course.dto.request.CourseCreateRequest;
 import com.classhub.domain.course.dto.request.CourseScheduleRequest;
@@ -56,6 +57,9 @@ class CourseControllerTest {
     @MockitoBean
     private CourseService courseService;
 
+    @MockitoBean
+    private CourseTimetableService courseTimetableService;
+
     private MockMvc mockMvc;
 
     private MemberPrincipal principal;
@@ -160,6 +164,29 @@ class CourseControllerTest {
         );
     }
 
+    @Test
+    void getFreeWindows_shouldReturnWindows() throws Exception {
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = startDate.plusDays(30);
+        given(courseTimetableService.getFreeWindows(principal.id(), startDate, endDate, 90))
+                .willReturn(List.of(new CourseScheduleResponse(
+                        DayOfWeek.MONDAY,
+                        LocalTime.of(6, 0),
+                        LocalTime.of(9, 0)
+                )));
+
+        mockMvc.perform(get("/api/v1/courses/free-windows")
+                        .with(SecurityMockMvcRequestPostProcessors.authentication(authenticationToken))
+                        .param("startDate", startDate.toString())
+                        .param("endDate", endDate.toString())
+                        .param("minMinutes", "90"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value(RsCode.SUCCESS.getCode()))
+                .andExpect(jsonPath("$.data[0].dayOfWeek").value("MONDAY"));
+
+        verify(courseTimetableService).getFreeWindows(principal.id(), startDate, endDate, 90);
+    }
+
     @Test
     void getCourse_shouldReturnDetail() throws Exception {
         CourseResponse response = sampleResponse();
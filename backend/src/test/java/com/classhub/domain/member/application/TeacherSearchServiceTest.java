@@ -1,20 +1,19 @@
 package com.classhub.domain.member.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.classhub.domain.assignment.model.TeacherBranchAssignment;
-import com.classhub.domain.assignment.model.TeacherStudentAssignment;
 import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
-import com.classhub.domain.assignment.repository.TeacherStudentAssignmentRepository;
 import com.classhub.domain.company.branch.model.Branch;
-import com.classhub.domain.company.branch.repository.BranchRepository;
+import com.classhub.domain.company.cache.BranchSnapshot;
+import com.classhub.domain.company.cache.CompanyReferenceCache;
+import com.classhub.domain.company.cache.CompanySnapshot;
 import com.classhub.domain.company.company.model.Company;
 import com.classhub.domain.company.company.model.CompanyType;
 import com.classhub.domain.company.company.model.VerifiedStatus;
-import com.classhub.domain.company.company.repository.CompanyRepository;
 import com.classhub.domain.assignment.model.TeacherStudentRequestStatus;
-import com.classhub.domain.assignment.repository.StudentTeacherRequestRepository;
 import com.classhub.domain.member.dto.response.TeacherSearchResponse;
 import com.classhub.domain.member.model.Member;
 import com.classhub.domain.member.model.MemberRole;
@@ -22,6 +21,7 @@ import com.classhub.domain.member.repository.MemberRepository;
 import com.classhub.global.response.PageResponse;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +34,7 @@ import org.springframework.data.domain.PageImpl;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -46,13 +47,7 @@ class TeacherSearchServiceTest {
     @Mock
     private TeacherBranchAssignmentRepository teacherBranchAssignmentRepository;
     @Mock
-    private BranchRepository branchRepository;
-    @Mock
-    private CompanyRepository companyRepository;
-    @Mock
-    private StudentTeacherRequestRepository studentTeacherRequestRepository;
-    @Mock
-    private TeacherStudentAssignmentRepository teacherStudentAssignmentRepository;
+    private CompanyReferenceCache companyReferenceCache;
 
     @InjectMocks
     private TeacherSearchService teacherSearchService;
@@ -89,21 +84,22 @@ class TeacherSearchServiceTest {
     void searchTeachers_shouldReturnTeachersWithVerifiedBranches() {
         Page<Member> page = new PageImpl<>(List.of(teacher), PageRequest.of(0, 10), 1);
         TeacherBranchAssignment assignment = TeacherBranchAssignment.create(teacherId, branchId, com.classhub.domain.assignment.model.BranchRole.OWNER);
-        when(memberRepository.findByRoleAndDeletedAtIsNullAndNameContainingIgnoreCase(
+        when(memberRepository.searchTeachersForStudent(
                 eq(MemberRole.TEACHER),
                 eq("kim"),
+                eq(studentId),
+                eq(EnumSet.of(TeacherStudentRequestStatus.PENDING, TeacherStudentRequestStatus.APPROVED, TeacherStudentRequestStatus.REJECTED)),
+                eq(VerifiedStatus.VERIFIED),
+                isNull(),
+                isNull(),
                 any()
         )).thenReturn(page);
-        when(studentTeacherRequestRepository.findTeacherMemberIdsByStudentMemberIdAndStatusIn(
-                studentId,
-                EnumSet.of(TeacherStudentRequestStatus.PENDING, TeacherStudentRequestStatus.APPROVED, TeacherStudentRequestStatus.REJECTED)
-        )).thenReturn(List.of());
-        when(teacherStudentAssignmentRepository.findByStudentMemberIdAndDeletedAtIsNull(studentId))
-                .thenReturn(List.of());
         when(teacherBranchAssignmentRepository.findByTeacherMemberIdInAndDeletedAtIsNull(anyList()))
                 .thenReturn(List.of(assignment));
-        when(branchRepository.findAllById(any())).thenReturn(List.of(branch));
-        when(companyRepository.findAllById(any())).thenReturn(List.of(company));
+        when(companyReferenceCache.getBranches(any()))
+                .thenReturn(Map.of(branchId, BranchSnapshot.from(branch)));
+        when(companyReferenceCache.getCompanies(any()))
+                .thenReturn(Map.of(companyId, CompanySnapshot.from(company)));
 
         PageResponse<TeacherSearchResponse> response = teacherSearchService.searchTeachers(
                 studentId,
@@ -117,22 +113,56 @@ class TeacherSearchServiceTest {
         assertThat(response.content()).hasSize(1);
         assertThat(response.content().getFirst().teacherId()).isEqualTo(teacherId);
         assertThat(response.content().getFirst().branches()).hasSize(1);
+        assertThat(response.totalElements()).isEqualTo(1);
     }
 
     @Test
-    void searchTeachers_shouldExcludeTeachersWithPendingRequests() {
-        Page<Member> page = new PageImpl<>(List.of(teacher), PageRequest.of(0, 10), 1);
-        when(memberRepository.findByRoleAndDeletedAtIsNullAndNameContainingIgnoreCase(
+    void searchTeachers_shouldKeepTotalFromQuery_whenPageIsFull() {
+        Page<Member> page = new PageImpl<>(List.of(teacher), PageRequest.of(0, 1), 25);
+        TeacherBranchAssignment assignment = TeacherBranchAssignment.create(teacherId, branchId, com.classhub.domain.assignment.model.BranchRole.OWNER);
+        when(memberRepository.searchTeachersForStudent(
                 eq(MemberRole.TEACHER),
                 eq("kim"),
+                eq(studentId),
+                any(),
+                eq(VerifiedStatus.VERIFIED),
+                eq(companyId),
+                isNull(),
                 any()
         )).thenReturn(page);
-        when(studentTeacherRequestRepository.findTeacherMemberIdsByStudentMemberIdAndStatusIn(
+        when(teacherBranchAssignmentRepository.findByTeacherMemberIdInAndDeletedAtIsNull(anyList()))
+                .thenReturn(List.of(assignment));
+        when(companyReferenceCache.getBranches(any()))
+                .thenReturn(Map.of(branchId, BranchSnapshot.from(branch)));
+        when(companyReferenceCache.getCompanies(any()))
+                .thenReturn(Map.of(companyId, CompanySnapshot.from(company)));
+
+        PageResponse<TeacherSearchResponse> response = teacherSearchService.searchTeachers(
                 studentId,
-                EnumSet.of(TeacherStudentRequestStatus.PENDING, TeacherStudentRequestStatus.APPROVED, TeacherStudentRequestStatus.REJECTED)
-        )).thenReturn(List.of(teacherId));
-        when(teacherStudentAssignmentRepository.findByStudentMemberIdAndDeletedAtIsNull(studentId))
-                .thenReturn(List.of());
+                "kim",
+                companyId,
+                null,
+                0,
+                1
+        );
+
+        assertThat(response.content()).hasSize(1);
+        assertThat(response.totalElements()).isEqualTo(25);
+        assertThat(response.totalPages()).isEqualTo(25);
+    }
+
+    @Test
+    void searchTeachers_shouldReturnEmpty_whenQueryFindsNoTeacher() {
+        when(memberRepository.searchTeachersForStudent(
+                eq(MemberRole.TEACHER),
+                eq("kim"),
+                eq(studentId),
+                any(),
+                eq(VerifiedStatus.VERIFIED),
+                isNull(),
+                isNull(),
+                any()
+        )).thenReturn(Page.empty());
 
         PageResponse<TeacherSearchResponse> response = teacherSearchService.searchTeachers(
                 studentId,
@@ -144,5 +174,6 @@ class TeacherSearchServiceTest {
         );
 
         assertThat(response.content()).isEmpty();
+        verifyNoInteractions(teacherBranchAssignmentRepository, companyReferenceCache);
     }
 }
@@ -2,14 +2,34 @@ package com.classhub.domain.member.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.classhub.domain.assignment.model.BranchRole;
+import com.classhub.domain.assignment.model.StudentTeacherRequest;
+import com.classhub.domain.assignment.model.TeacherBranchAssignment;
+import com.classhub.domain.assignment.model.TeacherStudentAssignment;
+import com.classhub.domain.assignment.model.TeacherStudentRequestStatus;
+import com.classhub.domain.assignment.repository.StudentTeacherRequestRepository;
+import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
+import com.classhub.domain.assignment.repository.TeacherStudentAssignmentRepository;
+import com.classhub.domain.company.branch.model.Branch;
+import com.classhub.domain.company.branch.repository.BranchRepository;
+import com.classhub.domain.company.company.model.Company;
+import com.classhub.domain.company.company.model.CompanyType;
+import com.classhub.domain.company.company.model.VerifiedStatus;
+import com.classhub.domain.company.company.repository.CompanyRepository;
 import com.classhub.domain.member.model.Member;
 import com.classhub.domain.member.model.MemberRole;
 import com.classhub.global.config.JpaConfig;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
@@ -17,8 +37,24 @@ import org.springframework.test.context.ActiveProfiles;
 @Import(JpaConfig.class)
 class MemberRepositoryTest {
 
+    private static final Set<TeacherStudentRequestStatus> EXCLUDED_STATUSES = EnumSet.of(
+            TeacherStudentRequestStatus.PENDING,
+            TeacherStudentRequestStatus.APPROVED,
+            TeacherStudentRequestStatus.REJECTED
+    );
+
     @Autowired
     private MemberRepository memberRepository;
+    @Autowired
+    private CompanyRepository companyRepository;
+    @Autowired
+    private BranchRepository branchRepository;
+    @Autowired
+    private TeacherBranchAssignmentRepository teacherBranchAssignmentRepository;
+    @Autowired
+    private StudentTeacherRequestRepository studentTeacherRequestRepository;
+    @Autowired
+    private TeacherStudentAssignmentRepository teacherStudentAssignmentRepository;
 
     @Test
     void findByEmail_shouldReturnMember_whenExists() {
@@ -160,4 +196,78 @@ class MemberRepositoryTest {
                 .extracting(Member::getEmail)
                 .containsExactly(active.getEmail());
     }
+
+    @Test
+    void searchTeachersForStudent_shouldFilterInQueryAndReportExactTotal() {
+        UUID studentId = UUID.randomUUID();
+        Company company = companyRepository.save(
+                Company.create("러셀", "desc", CompanyType.ACADEMY, VerifiedStatus.VERIFIED, null)
+        );
+        Branch verified = branchRepository.save(Branch.create(company.getId(), "강남", null, VerifiedStatus.VERIFIED));
+        Branch unverified = branchRepository.save(Branch.create(company.getId(), "대치", null, VerifiedStatus.UNVERIFIED));
+
+        Member requested = saveTeacher("Kim A", verified);
+        Member assigned = saveTeacher("Kim B", verified);
+        Member unverifiedOnly = saveTeacher("Kim C", unverified);
+        saveTeacher("Kim D", null);
+        Member first = saveTeacher("Kim E", verified);
+        Member second = saveTeacher("Kim F", verified);
+        Member third = saveTeacher("Kim G", verified);
+        studentTeacherRequestRepository.save(StudentTeacherRequest.builder()
+                .studentMemberId(studentId)
+                .teacherMemberId(requested.getId())
+                .build());
+        teacherStudentAssignmentRepository.save(TeacherStudentAssignment.create(assigned.getId(), studentId));
+
+        PageRequest firstPage = PageRequest.of(0, 2, Sort.by("name"));
+        Page<Member> page = memberRepository.searchTeachersForStudent(
+                MemberRole.TEACHER, "kim", studentId, EXCLUDED_STATUSES, VerifiedStatus.VERIFIED, null, null, firstPage
+        );
+        Page<Member> last = memberRepository.searchTeachersForStudent(
+                MemberRole.TEACHER, "kim", studentId, EXCLUDED_STATUSES, VerifiedStatus.VERIFIED, null, null, firstPage.next()
+        );
+
+        assertThat(page.getContent()).extracting(Member::getId).containsExactly(first.getId(), second.getId());
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(last.getContent()).extracting(Member::getId).containsExactly(third.getId());
+        assertThat(page.getContent()).extracting(Member::getId).doesNotContain(unverifiedOnly.getId());
+    }
+
+    @Test
+    void searchTeachersForStudent_shouldApplyBranchFilter() {
+        UUID studentId = UUID.randomUUID();
+        Company company = companyRepository.save(
+                Company.create("러셀", "desc", CompanyType.ACADEMY, VerifiedStatus.VERIFIED, null)
+        );
+        Branch gangnam = branchRepository.save(Branch.create(company.getId(), "강남", null, VerifiedStatus.VERIFIED));
+        Branch daechi = branchRepository.save(Branch.create(company.getId(), "대치", null, VerifiedStatus.VERIFIED));
+        Member target = saveTeacher("Lee A", daechi);
+        saveTeacher("Lee B", gangnam);
+
+        Page<Member> page = memberRepository.searchTeachersForStudent(
+                MemberRole.TEACHER, "lee", studentId, EXCLUDED_STATUSES, VerifiedStatus.VERIFIED,
+                company.getId(), daechi.getId(), PageRequest.of(0, 10)
+        );
+
+        assertThat(page.getContent()).extracting(Member::getId).containsExactly(target.getId());
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    private Member saveTeacher(String name, Branch branch) {
+        Member teacher = memberRepository.save(
+                Member.builder()
+                        .email(UUID.randomUUID() + "@classhub.com")
+                        .password("encoded")
+                        .name(name)
+                        .phoneNumber("01012345678")
+                        .role(MemberRole.TEACHER)
+                        .build()
+        );
+        if (branch != null) {
+            teacherBranchAssignmentRepository.save(
+                    TeacherBranchAssignment.create(teacher.getId(), branch.getId(), BranchRole.FREELANCE)
+            );
+        }
+        return teacher;
+    }
 }
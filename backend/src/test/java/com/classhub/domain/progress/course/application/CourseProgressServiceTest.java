@@ -3,11 +3,13 @@ package com.classhub.domain.progress.course.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.domain.member.model.MemberRole;
@@ -20,16 +22,17 @@ import com.classhub.domain.progress.course.model.CourseProgress;
 import com.classhub.domain.progress.course.repository.CourseProgressRepository;
 import com.classhub.domain.progress.dto.ProgressSliceResponse;
 import com.classhub.domain.progress.personal.dto.request.PersonalProgressComposeRequest;
-import com.classhub.domain.progress.personal.repository.PersonalProgressRepository;
 import com.classhub.domain.progress.support.ProgressPermissionValidator;
 import com.classhub.domain.progress.support.ProgressPermissionValidator.ProgressAccessMode;
 import com.classhub.domain.studentcourse.model.StudentCourseRecord;
+import com.classhub.global.entity.BulkInserter;
 import com.classhub.global.exception.BusinessException;
 import com.classhub.global.response.RsCode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,12 +51,15 @@ class CourseProgressServiceTest {
     @Mock
     private CourseProgressRepository courseProgressRepository;
     @Mock
-    private PersonalProgressRepository personalProgressRepository;
+    private BulkInserter bulkInserter;
     @Mock
     private ProgressPermissionValidator permissionValidator;
     @Mock
     private CourseProgressMapper courseProgressMapper;
 
+    @Mock
+    private CalendarEventJdbcRepository calendarEventJdbcRepository;
+
     @InjectMocks
     private CourseProgressService courseProgressService;
 
@@ -127,13 +133,13 @@ class CourseProgressServiceTest {
         StudentCourseRecord recordB = createRecord(request.personalProgressList().get(1).studentCourseRecordId(), courseId);
         given(permissionValidator.ensureCourseAccess(teacherPrincipal, courseId, ProgressAccessMode.WRITE))
                 .willReturn(course);
-        given(permissionValidator.ensureRecordAccess(teacherPrincipal, recordA.getId(), ProgressAccessMode.WRITE))
-                .willReturn(recordA);
-        given(permissionValidator.ensureRecordAccess(teacherPrincipal, recordB.getId(), ProgressAccessMode.WRITE))
-                .willReturn(recordB);
+        given(permissionValidator.ensureRecordsAccess(
+                teacherPrincipal,
+                List.of(recordA.getId(), recordB.getId()),
+                ProgressAccessMode.WRITE
+        )).willReturn(Map.of(recordA.getId(), recordA, recordB.getId(), recordB));
         CourseProgress saved = buildCourseProgress(courseId, teacherId, request.courseProgress().date(), "Shared");
         given(courseProgressRepository.save(any(CourseProgress.class))).willReturn(saved);
-        given(personalProgressRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
 
         CourseProgressResponse mockResponse = new CourseProgressResponse(
                 saved.getId(),
@@ -157,7 +163,8 @@ class CourseProgressServiceTest {
 
         assertThat(response.id()).isEqualTo(saved.getId());
         verify(courseProgressRepository).save(any(CourseProgress.class));
-        verify(personalProgressRepository).saveAll(any());
+        verify(bulkInserter).insertAll(anyList());
+        verify(permissionValidator, never()).ensureRecordAccess(any(), any(), any());
     }
 
     @Test
@@ -170,15 +177,15 @@ class CourseProgressServiceTest {
         StudentCourseRecord record = createRecord(request.personalProgressList().get(0).studentCourseRecordId(), UUID.randomUUID());
         given(permissionValidator.ensureCourseAccess(teacherPrincipal, courseId, ProgressAccessMode.WRITE))
                 .willReturn(course);
-        given(permissionValidator.ensureRecordAccess(teacherPrincipal, record.getId(), ProgressAccessMode.WRITE))
-                .willReturn(record);
+        given(permissionValidator.ensureRecordsAccess(teacherPrincipal, List.of(record.getId()), ProgressAccessMode.WRITE))
+                .willReturn(Map.of(record.getId(), record));
 
         assertThatThrownBy(() -> courseProgressService.composeCourseProgress(teacherPrincipal, courseId, request))
                 .isInstanceOf(BusinessException.class)
                 .hasFieldOrPropertyWithValue("rsCode", RsCode.BAD_REQUEST);
 
         verify(courseProgressRepository, never()).save(any());
-        verify(personalProgressRepository, never()).saveAll(any());
+        verify(bulkInserter, never()).insertAll(anyList());
     }
 
     @Test
@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import com.classhub.domain.calendar.repository.CalendarEventJdbcRepository;
 import com.classhub.domain.member.dto.MemberPrincipal;
 import com.classhub.domain.member.model.MemberRole;
 import com.classhub.domain.progress.dto.ProgressSliceResponse;
@@ -46,6 +47,9 @@ class PersonalProgressServiceTest {
     @Mock
     private PersonalProgressMapper personalProgressMapper;
 
+    @Mock
+    private CalendarEventJdbcRepository calendarEventJdbcRepository;
+
     @InjectMocks
     private PersonalProgressService personalProgressService;
 
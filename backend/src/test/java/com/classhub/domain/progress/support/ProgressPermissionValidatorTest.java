@@ -2,10 +2,13 @@ package com.classhub.domain.progress.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
-import com.classhub.domain.assignment.model.TeacherAssistantAssignment;
-import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
+import com.classhub.domain.assignment.membership.MembershipGraph;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.domain.member.dto.MemberPrincipal;
@@ -19,9 +22,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,6 +34,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 @ExtendWith(MockitoExtension.class)
 class ProgressPermissionValidatorTest {
@@ -38,7 +46,7 @@ class ProgressPermissionValidatorTest {
     @Mock
     private StudentCourseRecordRepository studentCourseRecordRepository;
     @Mock
-    private TeacherAssistantAssignmentRepository assistantAssignmentRepository;
+    private MembershipGraph membershipGraph;
 
     @InjectMocks
     private ProgressPermissionValidator validator;
@@ -58,6 +66,17 @@ class ProgressPermissionValidatorTest {
         assistantPrincipal = new MemberPrincipal(assistantId, MemberRole.ASSISTANT);
     }
 
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_COMMITTED
+            );
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     void ensureCourseAccess_shouldReturnCourse_whenTeacherOwnsCourse() {
         UUID courseId = UUID.randomUUID();
@@ -86,8 +105,7 @@ class ProgressPermissionValidatorTest {
         UUID courseId = UUID.randomUUID();
         Course course = createCourse(courseId, teacherId);
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(assistantAssignmentRepository.findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(teacherId, assistantId))
-                .willReturn(Optional.of(TeacherAssistantAssignment.create(teacherId, assistantId)));
+        given(membershipGraph.isAssistantOf(teacherId, assistantId)).willReturn(true);
 
         Course result = validator.ensureCourseAccess(assistantPrincipal, courseId, ProgressAccessMode.READ);
 
@@ -99,8 +117,7 @@ class ProgressPermissionValidatorTest {
         UUID courseId = UUID.randomUUID();
         Course course = createCourse(courseId, teacherId);
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(assistantAssignmentRepository.findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(teacherId, assistantId))
-                .willReturn(Optional.empty());
+        given(membershipGraph.isAssistantOf(teacherId, assistantId)).willReturn(false);
 
         assertThatThrownBy(() -> validator.ensureCourseAccess(assistantPrincipal, courseId, ProgressAccessMode.READ))
                 .isInstanceOf(BusinessException.class)
@@ -112,8 +129,7 @@ class ProgressPermissionValidatorTest {
         UUID courseId = UUID.randomUUID();
         Course course = createCourse(courseId, teacherId);
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(assistantAssignmentRepository.findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(teacherId, assistantId))
-                .willReturn(Optional.of(TeacherAssistantAssignment.create(teacherId, assistantId)));
+        given(membershipGraph.isAssistantOf(teacherId, assistantId)).willReturn(true);
 
         Course result = validator.ensureCourseAccess(assistantPrincipal, courseId, ProgressAccessMode.WRITE);
 
@@ -162,8 +178,7 @@ class ProgressPermissionValidatorTest {
         Course course = createCourse(courseId, teacherId);
         given(studentCourseRecordRepository.findById(recordId)).willReturn(Optional.of(record));
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(assistantAssignmentRepository.findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(teacherId, assistantId))
-                .willReturn(Optional.of(TeacherAssistantAssignment.create(teacherId, assistantId)));
+        given(membershipGraph.isAssistantOf(teacherId, assistantId)).willReturn(true);
 
         StudentCourseRecord result = validator.ensureRecordAccess(assistantPrincipal, recordId, ProgressAccessMode.READ);
 
@@ -178,14 +193,88 @@ class ProgressPermissionValidatorTest {
         Course course = createCourse(courseId, teacherId);
         given(studentCourseRecordRepository.findById(recordId)).willReturn(Optional.of(record));
         given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-        given(assistantAssignmentRepository.findByTeacherMemberIdAndAssistantMemberIdAndDeletedAtIsNull(teacherId, assistantId))
-                .willReturn(Optional.of(TeacherAssistantAssignment.create(teacherId, assistantId)));
+        given(membershipGraph.isAssistantOf(teacherId, assistantId)).willReturn(true);
 
         StudentCourseRecord result = validator.ensureRecordAccess(assistantPrincipal, recordId, ProgressAccessMode.WRITE);
 
         assertThat(result).isEqualTo(record);
     }
 
+    @Test
+    void ensureRecordAccess_shouldReuseLookupsWithinTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        UUID recordId = UUID.randomUUID();
+        UUID courseId = UUID.randomUUID();
+        StudentCourseRecord record = createRecord(recordId, studentId, courseId);
+        Course course = createCourse(courseId, teacherId);
+        given(studentCourseRecordRepository.findById(recordId)).willReturn(Optional.of(record));
+        given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
+        given(membershipGraph.isAssistantOf(teacherId, assistantId)).willReturn(true);
+
+        validator.ensureRecordAccess(assistantPrincipal, recordId, ProgressAccessMode.WRITE);
+        validator.ensureRecordAccess(assistantPrincipal, recordId, ProgressAccessMode.WRITE);
+        validator.ensureCourseAccess(assistantPrincipal, courseId, ProgressAccessMode.READ);
+
+        verify(studentCourseRecordRepository, times(1)).findById(recordId);
+        verify(courseRepository, times(1)).findById(courseId);
+        verify(membershipGraph, times(1)).isAssistantOf(teacherId, assistantId);
+    }
+
+    @Test
+    void ensureRecordsAccess_shouldResolveAllRecordsWithSingleQueries() {
+        UUID courseA = UUID.randomUUID();
+        UUID courseB = UUID.randomUUID();
+        StudentCourseRecord recordA = createRecord(UUID.randomUUID(), studentId, courseA);
+        StudentCourseRecord recordB = createRecord(UUID.randomUUID(), UUID.randomUUID(), courseA);
+        StudentCourseRecord recordC = createRecord(UUID.randomUUID(), UUID.randomUUID(), courseB);
+        given(studentCourseRecordRepository.findAllById(any())).willReturn(List.of(recordA, recordB, recordC));
+        given(courseRepository.findAllById(any()))
+                .willReturn(List.of(createCourse(courseA, teacherId), createCourse(courseB, teacherId)));
+        given(membershipGraph.isAssistantOf(teacherId, assistantId)).willReturn(true);
+
+        Map<UUID, StudentCourseRecord> result = validator.ensureRecordsAccess(
+                assistantPrincipal,
+                List.of(recordA.getId(), recordB.getId(), recordC.getId()),
+                ProgressAccessMode.WRITE
+        );
+
+        assertThat(result).containsOnlyKeys(recordA.getId(), recordB.getId(), recordC.getId());
+        verify(studentCourseRecordRepository, times(1)).findAllById(any());
+        verify(courseRepository, times(1)).findAllById(any());
+        verify(membershipGraph, times(1)).isAssistantOf(teacherId, assistantId);
+        verify(studentCourseRecordRepository, never()).findById(any());
+    }
+
+    @Test
+    void ensureRecordsAccess_shouldThrow_whenAnyRecordMissing() {
+        StudentCourseRecord record = createRecord(UUID.randomUUID(), studentId, UUID.randomUUID());
+        given(studentCourseRecordRepository.findAllById(any())).willReturn(List.of(record));
+
+        assertThatThrownBy(() -> validator.ensureRecordsAccess(
+                teacherPrincipal,
+                List.of(record.getId(), UUID.randomUUID()),
+                ProgressAccessMode.WRITE
+        ))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("rsCode", RsCode.STUDENT_COURSE_RECORD_NOT_FOUND);
+    }
+
+    @Test
+    void ensureRecordsAccess_shouldThrow_whenTeacherDoesNotOwnCourse() {
+        UUID courseId = UUID.randomUUID();
+        StudentCourseRecord record = createRecord(UUID.randomUUID(), studentId, courseId);
+        given(studentCourseRecordRepository.findAllById(any())).willReturn(List.of(record));
+        given(courseRepository.findAllById(any())).willReturn(List.of(createCourse(courseId, UUID.randomUUID())));
+
+        assertThatThrownBy(() -> validator.ensureRecordsAccess(
+                teacherPrincipal,
+                List.of(record.getId()),
+                ProgressAccessMode.WRITE
+        ))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("rsCode", RsCode.COURSE_FORBIDDEN);
+    }
+
     @Test
     void ensureCalendarAccess_shouldReturnRecordsForTeacher() {
         List<StudentCourseRecord> records = List.of(createRecord(UUID.randomUUID(), studentId, UUID.randomUUID()));
@@ -211,11 +300,7 @@ class ProgressPermissionValidatorTest {
     void ensureCalendarAccess_shouldReturnRecordsForAssistant() {
         UUID teacherB = UUID.randomUUID();
         List<StudentCourseRecord> records = List.of(createRecord(UUID.randomUUID(), studentId, UUID.randomUUID()));
-        given(assistantAssignmentRepository.findByAssistantMemberIdAndDeletedAtIsNull(assistantId))
-                .willReturn(List.of(
-                        TeacherAssistantAssignment.create(teacherId, assistantId),
-                        TeacherAssistantAssignment.create(teacherB, assistantId)
-                ));
+        given(membershipGraph.getTeacherIdsOfAssistant(assistantId)).willReturn(List.of(teacherId, teacherB));
         given(studentCourseRecordRepository.findActiveByStudentIdAndTeacherIds(studentId, List.of(teacherId, teacherB)))
                 .willReturn(records);
 
@@ -226,8 +311,7 @@ class ProgressPermissionValidatorTest {
 
     @Test
     void ensureCalendarAccess_shouldThrow_whenAssistantHasNoAssignment() {
-        given(assistantAssignmentRepository.findByAssistantMemberIdAndDeletedAtIsNull(assistantId))
-                .willReturn(List.of());
+        given(membershipGraph.getTeacherIdsOfAssistant(assistantId)).willReturn(List.of());
 
         assertThatThrownBy(() -> validator.ensureCalendarAccess(assistantPrincipal, studentId))
                 .isInstanceOf(BusinessException.class)
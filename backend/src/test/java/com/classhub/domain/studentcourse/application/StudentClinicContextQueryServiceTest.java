@@ -6,6 +6,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.classhub.domain.company.branch.model.Branch;
+import com.classhub.domain.company.cache.BranchSnapshot;
+import com.classhub.domain.company.cache.CompanySnapshot;
 import com.classhub.domain.company.company.model.Company;
 import com.classhub.domain.company.company.model.CompanyType;
 import com.classhub.domain.company.company.model.VerifiedStatus;
@@ -117,8 +119,8 @@ class StudentClinicContextQueryServiceTest {
         Company company = Company.create("러셀", null, CompanyType.ACADEMY, VerifiedStatus.VERIFIED, teacherId);
         ReflectionTestUtils.setField(company, "id", companyId);
         CourseViewAssembler.CourseContext context = new CourseViewAssembler.CourseContext(
-                Map.of(branchId, branch),
-                Map.of(companyId, company),
+                Map.of(branchId, BranchSnapshot.from(branch)),
+                Map.of(companyId, CompanySnapshot.from(company)),
                 Map.of(branchId, companyId)
         );
 
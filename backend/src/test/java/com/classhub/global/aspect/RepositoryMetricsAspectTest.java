@@ -0,0 +1,83 @@
+package com.classhub.global.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+
+class RepositoryMetricsAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void repositoryCall_shouldRecordTimerAndRowCountByInterfaceName() {
+        SampleRepository repository = proxy(new InMemorySampleRepository());
+
+        repository.findNames();
+        repository.findNames();
+        repository.findFirstName();
+
+        assertThat(registry.get(RepositoryMetricsAspect.METRIC_NAME)
+                .tag("repository", "SampleRepository")
+                .tag("method", "findNames")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get(RepositoryMetricsAspect.ROWS_METRIC_NAME)
+                .tag("method", "findNames")
+                .summary().totalAmount()).isEqualTo(6);
+        assertThat(registry.get(RepositoryMetricsAspect.ROWS_METRIC_NAME)
+                .tag("method", "findFirstName")
+                .summary().totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void repositoryCall_shouldSkipRowCount_whenResultIsScalar() {
+        SampleRepository repository = proxy(new InMemorySampleRepository());
+
+        assertThat(repository.countNames()).isEqualTo(3);
+
+        assertThat(registry.get(RepositoryMetricsAspect.METRIC_NAME).tag("method", "countNames").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.find(RepositoryMetricsAspect.ROWS_METRIC_NAME).tag("method", "countNames").summary())
+                .isNull();
+    }
+
+    private SampleRepository proxy(SampleRepository target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new RepositoryMetricsAspect(registry));
+        return factory.getProxy();
+    }
+
+    interface SampleRepository extends Repository<Object, UUID> {
+
+        List<String> findNames();
+
+        Optional<String> findFirstName();
+
+        long countNames();
+    }
+
+    static class InMemorySampleRepository implements SampleRepository {
+
+        private final List<String> names = List.of("김철수", "이영희", "박민수");
+
+        @Override
+        public List<String> findNames() {
+            return names;
+        }
+
+        @Override
+        public Optional<String> findFirstName() {
+            return names.stream().findFirst();
+        }
+
+        @Override
+        public long countNames() {
+            return names.size();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.classhub.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class CacheVersionTrackerTest {
+
+    @Mock
+    private CacheVersionRepository cacheVersionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private CacheVersionTracker cacheVersionTracker;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void poll_shouldInvalidateOnlyWhenVersionChanges() {
+        AtomicInteger invalidations = new AtomicInteger();
+        cacheVersionTracker.register("reference", invalidations::incrementAndGet);
+        given(cacheVersionRepository.findAll()).willReturn(
+                Map.of(),
+                Map.of("reference", 1L),
+                Map.of("reference", 1L),
+                Map.of("reference", 3L)
+        );
+
+        cacheVersionTracker.poll();
+        assertThat(invalidations).hasValue(0);
+        cacheVersionTracker.poll();
+        cacheVersionTracker.poll();
+        assertThat(invalidations).hasValue(1);
+        cacheVersionTracker.poll();
+        assertThat(invalidations).hasValue(2);
+    }
+
+    @Test
+    void bump_shouldInvalidateImmediatelyAndAgainWhenTransactionCompletes() {
+        AtomicInteger invalidations = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cacheVersionTracker.bump("reference", invalidations::incrementAndGet);
+
+        verify(cacheVersionRepository).bump("reference");
+        assertThat(invalidations).hasValue(1);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(invalidations).hasValue(2);
+    }
+
+    @Test
+    void poll_shouldIgnoreVersionsBumpedByThisNode() {
+        AtomicInteger invalidations = new AtomicInteger();
+        cacheVersionTracker.register("reference", invalidations::incrementAndGet);
+        given(cacheVersionRepository.findAll()).willReturn(
+                Map.of("reference", 1L),
+                Map.of("reference", 2L),
+                Map.of("reference", 4L)
+        );
+        given(cacheVersionRepository.bump("reference")).willReturn(2L, 3L);
+        cacheVersionTracker.poll();
+        assertThat(invalidations).hasValue(1);
+
+        cacheVersionTracker.bump("reference", () -> {
+        });
+        cacheVersionTracker.poll();
+        assertThat(invalidations).hasValue(1);
+
+        cacheVersionTracker.bump("reference", () -> {
+        });
+        cacheVersionTracker.poll();
+        assertThat(invalidations).hasValue(2);
+    }
+
+    @Test
+    void bump_shouldNotRecordOwnVersionWhenRolledBack() {
+        AtomicInteger invalidations = new AtomicInteger();
+        cacheVersionTracker.register("reference", invalidations::incrementAndGet);
+        given(cacheVersionRepository.bump("reference")).willReturn(1L);
+        given(cacheVersionRepository.findAll()).willReturn(Map.of("reference", 1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cacheVersionTracker.bump("reference", () -> {
+        });
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        cacheVersionTracker.poll();
+
+        assertThat(invalidations).hasValue(1);
+    }
+
+    @Test
+    void bumpAfterCommit_shouldBumpOnceAfterCommitAndIgnoreItOnPoll() {
+        AtomicInteger invalidations = new AtomicInteger();
+        cacheVersionTracker.register("keyword", invalidations::incrementAndGet);
+        given(cacheVersionRepository.bump("keyword")).willReturn(1L);
+        given(cacheVersionRepository.findAll()).willReturn(Map.of("keyword", 1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cacheVersionTracker.bumpAfterCommit("keyword");
+        cacheVersionTracker.bumpAfterCommit("keyword");
+
+        verify(cacheVersionRepository, never()).bump("keyword");
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(cacheVersionRepository, times(1)).bump("keyword");
+
+        cacheVersionTracker.poll();
+        assertThat(invalidations).hasValue(0);
+    }
+}
@@ -0,0 +1,141 @@
+package com.classhub.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.classhub.global.support.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+class NearCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-04T00:00:00Z");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void getAll_shouldLoadOnlyMissingKeysAndCountHitsAndMisses() {
+        NearCache<Integer, String> cache = cache(new MutableClock(NOW), 10);
+        RecordingLoader loader = new RecordingLoader();
+
+        assertThat(cache.getAll(List.of(1, 2), loader)).containsOnly(Map.entry(1, "v1"), Map.entry(2, "v2"));
+        assertThat(cache.getAll(List.of(1, 2, 3), loader)).hasSize(3);
+
+        assertThat(loader.calls).containsExactly(List.of(1, 2), List.of(3));
+        assertThat(gets("hit")).isEqualTo(2);
+        assertThat(gets("miss")).isEqualTo(3);
+        assertThat(meterRegistry.get("classhub.cache.size").tag("cache", "test").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void getAll_shouldNotCacheAbsentKeys() {
+        NearCache<Integer, String> cache = cache(new MutableClock(NOW), 10);
+        RecordingLoader loader = new RecordingLoader();
+        loader.absent = 7;
+
+        assertThat(cache.getAll(List.of(7), loader)).isEmpty();
+        assertThat(cache.get(7, key -> Optional.of("created"))).contains("created");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void getAll_shouldReloadExpiredEntries() {
+        MutableClock clock = new MutableClock(NOW);
+        NearCache<Integer, String> cache = cache(clock, 10);
+        RecordingLoader loader = new RecordingLoader();
+        cache.getAll(List.of(1), loader);
+
+        clock.advance(Duration.ofSeconds(60));
+        cache.getAll(List.of(1), loader);
+
+        assertThat(loader.calls).hasSize(2);
+    }
+
+    @Test
+    void getAll_shouldEvictEldestEntriesWhenMaxSizeExceeded() {
+        NearCache<Integer, String> cache = cache(new MutableClock(NOW), 2);
+        RecordingLoader loader = new RecordingLoader();
+
+        cache.getAll(List.of(1), loader);
+        cache.getAll(List.of(2), loader);
+        cache.getAll(List.of(3), loader);
+        cache.getAll(List.of(2, 3), loader);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(loader.calls).containsExactly(List.of(1), List.of(2), List.of(3));
+        assertThat(meterRegistry.get("classhub.cache.evictions").tag("reason", "size").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_shouldDropKeySoNextGetReloads() {
+        NearCache<Integer, String> cache = cache(new MutableClock(NOW), 10);
+        RecordingLoader loader = new RecordingLoader();
+        cache.getAll(List.of(1, 2), loader);
+
+        cache.invalidate(List.of(1));
+        cache.getAll(List.of(1, 2), loader);
+
+        assertThat(loader.calls).containsExactly(List.of(1, 2), List.of(1));
+    }
+
+    @Test
+    void getAll_shouldNotStoreValueLoadedWhileInvalidated() {
+        NearCache<Integer, String> cache = cache(new MutableClock(NOW), 10);
+
+        Map<Integer, String> loaded = cache.getAll(List.of(1), keys -> {
+            cache.invalidateAll();
+            return Map.of(1, "stale");
+        });
+
+        assertThat(loaded).containsEntry(1, "stale");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void getAll_shouldBypassCacheWhenDisabled() {
+        NearCache<Integer, String> cache = cache(new MutableClock(NOW), 0);
+        RecordingLoader loader = new RecordingLoader();
+
+        cache.getAll(List.of(1), loader);
+        cache.getAll(List.of(1), loader);
+
+        assertThat(loader.calls).hasSize(2);
+        assertThat(cache.size()).isZero();
+    }
+
+    private NearCache<Integer, String> cache(Clock clock, int maxSize) {
+        return new NearCache<>("test", clock, Duration.ofSeconds(30), maxSize, meterRegistry);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("classhub.cache.gets").tag("result", result).counter().count();
+    }
+
+    private static final class RecordingLoader implements Function<Collection<Integer>, Map<Integer, String>> {
+
+        private final List<List<Integer>> calls = new ArrayList<>();
+        private Integer absent;
+
+        @Override
+        public Map<Integer, String> apply(Collection<Integer> keys) {
+            calls.add(List.copyOf(keys));
+            Map<Integer, String> values = new HashMap<>();
+            for (Integer key : keys) {
+                if (!key.equals(absent)) {
+                    values.put(key, "v" + key);
+                }
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.classhub.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 두 개의 H2 인스턴스를 primary/replica로 두고, 어느 쪽에서 읽었는지 probe 테이블 값으로 확인한다.
+ * 복제는 없으므로 하트비트 행을 replica에 직접 써서 복제 지연을 흉내 낸다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate routedJdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private PrimaryReads primaryReads;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        monitor = new ReplicaLagMonitor(primary, replica, clock, new SimpleMeterRegistry(), 3_000);
+        DataSource routed = ReadWriteRoutingDataSource.lazy(primary, replica, monitor::isUsable);
+        routedJdbc = new JdbcTemplate(routed);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routed);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+        primaryReads = new PrimaryReads(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransaction_shouldUseReplica_whenLagWithinLimit() {
+        replicate(NOW - 500);
+        monitor.check();
+
+        assertThat(monitor.isUsable()).isTrue();
+        assertThat(monitor.getLagMillis()).isEqualTo(500);
+        assertThat(readOnly.execute(status -> source())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> source())).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_shouldFallBackToPrimary_whenReplicaLagsOrHasNoHeartbeat() {
+        monitor.check();
+        assertThat(monitor.isUsable()).isFalse();
+        assertThat(readOnly.execute(status -> source())).isEqualTo("primary");
+
+        replicate(NOW - 10_000);
+        monitor.check();
+
+        assertThat(monitor.isUsable()).isFalse();
+        assertThat(readOnly.execute(status -> source())).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_shouldStayOnPrimary_afterWriteCommittedInSameRequest() {
+        replicate(NOW);
+        monitor.check();
+        AtomicInteger markers = new AtomicInteger();
+        ReadYourWrites.begin(false, markers::incrementAndGet);
+
+        assertThat(readOnly.execute(status -> source())).isEqualTo("replica");
+        readWrite.executeWithoutResult(status -> routedJdbc.update("UPDATE probe SET name = name"));
+        readWrite.executeWithoutResult(status -> routedJdbc.update("UPDATE probe SET name = name"));
+
+        assertThat(readOnly.execute(status -> source())).isEqualTo("primary");
+        assertThat(markers).hasValue(1);
+    }
+
+    @Test
+    void readOnlyTransaction_shouldNotPin_whenWriteRolledBack() {
+        replicate(NOW);
+        monitor.check();
+        AtomicInteger markers = new AtomicInteger();
+        ReadYourWrites.begin(false, markers::incrementAndGet);
+
+        readWrite.executeWithoutResult(status -> {
+            routedJdbc.update("UPDATE probe SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnly.execute(status -> source())).isEqualTo("replica");
+        assertThat(markers).hasValue(0);
+    }
+
+    @Test
+    void readOnlyTransaction_shouldUsePrimary_whenRequestArrivesPinned() {
+        replicate(NOW);
+        monitor.check();
+        ReadYourWrites.begin(true, () -> {
+        });
+
+        assertThat(readOnly.execute(status -> source())).isEqualTo("primary");
+    }
+
+    @Test
+    void primaryReads_shouldReadPrimaryInsideReplicaTransactionWithoutPinning() {
+        replicate(NOW);
+        monitor.check();
+        AtomicInteger markers = new AtomicInteger();
+        ReadYourWrites.begin(false, markers::incrementAndGet);
+
+        String outer = readOnly.execute(status -> source()
+                + "," + primaryReads.load(this::source)
+                + "," + source());
+
+        assertThat(outer).isEqualTo("replica,primary,replica");
+        assertThat(readOnly.execute(status -> source())).isEqualTo("replica");
+        assertThat(markers).hasValue(0);
+    }
+
+    private String source() {
+        return routedJdbc.queryForObject("SELECT name FROM probe", String.class);
+    }
+
+    private void replicate(long beatAt) {
+        new JdbcTemplate(replica).update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", beatAt);
+    }
+
+    private static DataSource h2(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MYSQL;DB_CLOSE_DELAY=-1",
+                "sa",
+                ""
+        );
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE replication_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE probe (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO probe (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
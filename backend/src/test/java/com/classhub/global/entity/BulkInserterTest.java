@@ -0,0 +1,193 @@
+package com.classhub.global.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.classhub.domain.clinic.attendance.model.ClinicAttendance;
+import com.classhub.domain.clinic.attendance.repository.ClinicAttendanceRepository;
+import com.classhub.domain.progress.course.model.CourseProgress;
+import com.classhub.domain.progress.course.repository.CourseProgressRepository;
+import com.classhub.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JpaConfig.class, BulkInserter.class, BulkInserterTest.RoundTripCounterConfig.class})
+class BulkInserterTest {
+
+    private static final RoundTripCounter COUNTER = new RoundTripCounter();
+
+    @Autowired
+    private BulkInserter bulkInserter;
+
+    @Autowired
+    private ClinicAttendanceRepository clinicAttendanceRepository;
+
+    @Autowired
+    private CourseProgressRepository courseProgressRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void insertAll_shouldSendInsertsInJdbcBatchesWithoutSelect() {
+        List<ClinicAttendance> attendances = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            attendances.add(ClinicAttendance.builder()
+                    .clinicSessionId(UUID.randomUUID())
+                    .studentCourseRecordId(UUID.randomUUID())
+                    .build());
+        }
+        entityManager.flush();
+        COUNTER.reset();
+
+        List<ClinicAttendance> inserted = bulkInserter.insertAll(attendances);
+
+        assertThat(COUNTER.batches()).isEqualTo(3);
+        assertThat(COUNTER.statements()).isZero();
+        assertThat(inserted).allSatisfy(attendance -> assertThat(attendance.getId()).isNotNull());
+        assertThat(clinicAttendanceRepository.count()).isEqualTo(1_200);
+    }
+
+    @Test
+    void insertAll_shouldDetachOnlyInsertedEntities() {
+        CourseProgress managed = courseProgressRepository.save(CourseProgress.builder()
+                .courseId(UUID.randomUUID())
+                .writerId(UUID.randomUUID())
+                .date(LocalDate.of(2024, 3, 4))
+                .title("진도")
+                .content("내용")
+                .build());
+        ClinicAttendance attendance = ClinicAttendance.builder()
+                .clinicSessionId(UUID.randomUUID())
+                .studentCourseRecordId(UUID.randomUUID())
+                .build();
+
+        bulkInserter.insertAll(Set.of(attendance));
+
+        assertThat(entityManager.contains(managed)).isTrue();
+        assertThat(entityManager.contains(attendance)).isFalse();
+        assertThat(clinicAttendanceRepository.findById(attendance.getId())).isPresent();
+    }
+
+    @Test
+    void insertAll_shouldReturnEmpty_whenNothingToInsert() {
+        COUNTER.reset();
+
+        assertThat(bulkInserter.insertAll(List.<ClinicAttendance>of())).isEmpty();
+        assertThat(COUNTER.batches()).isZero();
+        assertThat(COUNTER.statements()).isZero();
+    }
+
+    @TestConfiguration
+    static class RoundTripCounterConfig {
+
+        @Bean
+        static BeanPostProcessor roundTripCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? COUNTER.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * DB 왕복 수를 센다. executeBatch는 batch 1회, 나머지 execute*는 단건 1회로 본다.
+     */
+    static class RoundTripCounter {
+
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger statements = new AtomicInteger();
+
+        void reset() {
+            batches.set(0);
+            statements.set(0);
+        }
+
+        int batches() {
+            return batches.get();
+        }
+
+        int statements() {
+            return statements.get();
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return proxy(Connection.class, super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return proxy(Connection.class, super.getConnection(username, password));
+                }
+            };
+        }
+
+        private <T> T proxy(Class<T> type, T target) {
+            Object proxy = Proxy.newProxyInstance(
+                    type.getClassLoader(),
+                    new Class<?>[]{type},
+                    (instance, method, args) -> {
+                        count(method);
+                        Object result = invoke(method, target, args);
+                        if (result instanceof PreparedStatement statement) {
+                            return proxy(PreparedStatement.class, statement);
+                        }
+                        if (result instanceof Statement statement) {
+                            return proxy(Statement.class, statement);
+                        }
+                        return result;
+                    }
+            );
+            return type.cast(proxy);
+        }
+
+        private void count(Method method) {
+            if (!Statement.class.isAssignableFrom(method.getDeclaringClass())) {
+                return;
+            }
+            String name = method.getName();
+            if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                batches.incrementAndGet();
+            } else if (name.startsWith("execute")) {
+                statements.incrementAndGet();
+            }
+        }
+
+        private Object invoke(Method method, Object target, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
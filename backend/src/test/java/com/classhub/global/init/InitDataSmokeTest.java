@@ -14,6 +14,7 @@ import com.classhub.domain.assignment.model.TeacherStudentRequestStatus;
 import com.classhub.domain.assignment.repository.TeacherAssistantAssignmentRepository;
 import com.classhub.domain.assignment.repository.TeacherBranchAssignmentRepository;
 import com.classhub.domain.assignment.repository.StudentTeacherRequestRepository;
+import com.classhub.domain.course.dto.CourseStatusFilter;
 import com.classhub.domain.course.model.Course;
 import com.classhub.domain.course.repository.CourseRepository;
 import com.classhub.domain.member.model.Member;
@@ -25,6 +26,7 @@ import com.classhub.global.init.seeds.InitBranches;
 import com.classhub.global.init.seeds.InitCompanies;
 import com.classhub.global.init.seeds.InitMembers;
 
+import com.classhub.global.search.KeywordCandidates;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -144,12 +146,11 @@ class InitDataSmokeTest {
     }
 
     private void assertCoursesForTeacher(UUID teacherId) {
-        Page<Course> courses = courseRepository.searchCoursesInternal(
+        Page<Course> courses = courseRepository.searchCourses(
                 teacherId,
                 null,
-                false,
-                false,
-                null,
+                CourseStatusFilter.ALL,
+                KeywordCandidates.none(),
                 Pageable.unpaged()
         );
         assertThat(courses.getContent()).hasSize(4);
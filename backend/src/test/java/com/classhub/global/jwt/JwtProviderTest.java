@@ -59,6 +59,31 @@ class JwtProviderTest {
         assertThat(jwtProvider.isValidToken(token)).isFalse();
     }
 
+    @Test
+    void verifyAccessToken_shouldReturnPrincipalAndExpirationInSinglePass() {
+        JwtProvider jwtProvider = new JwtProvider(defaultProperties());
+        UUID memberId = UUID.randomUUID();
+        String token = jwtProvider.generateAccessToken(memberId, MemberRole.ASSISTANT);
+
+        VerifiedAccessToken verified = jwtProvider.verifyAccessToken(token).orElseThrow();
+
+        assertThat(verified.principal()).isEqualTo(new MemberPrincipal(memberId, MemberRole.ASSISTANT));
+        assertThat(verified.expiresAt()).isEqualTo(jwtProvider.getClaims(token).getExpiration().toInstant());
+    }
+
+    @Test
+    void verifyAccessToken_shouldRejectRefreshAndTamperedTokens() {
+        JwtProvider jwtProvider = new JwtProvider(defaultProperties());
+        UUID memberId = UUID.randomUUID();
+        String refreshToken = jwtProvider.generateRefreshToken(memberId);
+        String accessToken = jwtProvider.generateAccessToken(memberId, MemberRole.TEACHER);
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+        assertThat(jwtProvider.verifyAccessToken(refreshToken)).isEmpty();
+        assertThat(jwtProvider.verifyAccessToken(tampered)).isEmpty();
+        assertThat(jwtProvider.verifyAccessToken("not-a-jwt")).isEmpty();
+    }
+
     private JwtProperties defaultProperties() {
         JwtProperties properties = new JwtProperties();
         properties.setIssuer("classhub-test");
@@ -0,0 +1,89 @@
+package com.classhub.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.classhub.domain.member.dto.MemberPrincipal;
+import com.classhub.domain.member.model.MemberRole;
+import com.classhub.global.support.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-04T00:00:00Z");
+
+    @Test
+    void get_shouldReturnCachedPrincipalUntilExpiration() {
+        MutableClock clock = new MutableClock(NOW);
+        VerifiedTokenCache cache = new VerifiedTokenCache(properties(10), clock);
+        MemberPrincipal principal = new MemberPrincipal(UUID.randomUUID(), MemberRole.STUDENT);
+
+        cache.put("token", new VerifiedAccessToken(principal, NOW.plusSeconds(60)));
+
+        assertThat(cache.get("token")).contains(principal);
+        assertThat(cache.get("other-token")).isEmpty();
+
+        clock.advance(Duration.ofSeconds(60));
+
+        assertThat(cache.get("token")).isEmpty();
+    }
+
+    @Test
+    void put_shouldIgnoreAlreadyExpiredTokens() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(properties(10), new MutableClock(NOW));
+        MemberPrincipal principal = new MemberPrincipal(UUID.randomUUID(), MemberRole.TEACHER);
+
+        cache.put("token", new VerifiedAccessToken(principal, NOW.minusSeconds(1)));
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get("token")).isEmpty();
+    }
+
+    @Test
+    void put_shouldEvictEldestEntriesWhenMaxSizeExceeded() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(properties(2), new MutableClock(NOW));
+
+        for (int i = 0; i < 3; i++) {
+            MemberPrincipal principal = new MemberPrincipal(UUID.randomUUID(), MemberRole.TEACHER);
+            cache.put("token-" + i, new VerifiedAccessToken(principal, NOW.plusSeconds(60)));
+        }
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("token-0")).isEmpty();
+        assertThat(cache.get("token-1")).isPresent();
+        assertThat(cache.get("token-2")).isPresent();
+    }
+
+    @Test
+    void put_shouldDropExpiredEntriesAtHeadOnNextWrite() {
+        MutableClock clock = new MutableClock(NOW);
+        VerifiedTokenCache cache = new VerifiedTokenCache(properties(10), clock);
+        MemberPrincipal principal = new MemberPrincipal(UUID.randomUUID(), MemberRole.TEACHER);
+        cache.put("short-lived", new VerifiedAccessToken(principal, NOW.plusSeconds(5)));
+
+        clock.advance(Duration.ofSeconds(10));
+        cache.put("fresh", new VerifiedAccessToken(principal, clock.instant().plusSeconds(60)));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("fresh")).contains(principal);
+    }
+
+    @Test
+    void get_shouldBypassCacheWhenDisabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(properties(0), new MutableClock(NOW));
+        MemberPrincipal principal = new MemberPrincipal(UUID.randomUUID(), MemberRole.TEACHER);
+
+        cache.put("token", new VerifiedAccessToken(principal, NOW.plusSeconds(60)));
+
+        assertThat(cache.get("token")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    private JwtProperties properties(int maxSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setVerifiedCacheMaxSize(maxSize);
+        return properties;
+    }
+}
@@ -0,0 +1,85 @@
+package com.classhub.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.classhub.global.util.KstTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLeaseManagerTest {
+
+    @Mock
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    private SchedulerLeaseManager schedulerLeaseManager;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLeaseManager = new SchedulerLeaseManager(schedulerLeaseRepository, KstTime.clock(), 60_000, "node-a");
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulerLeaseManager.shutdown();
+    }
+
+    @Test
+    void runExclusively_shouldRunAndReleaseWhenAcquired() {
+        given(schedulerLeaseRepository.tryAcquire(eq("job"), eq("node-a"), eq("2026-10-17"), any(), any())).willReturn(true);
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean ran = schedulerLeaseManager.runExclusively("job", "2026-10-17", runs::incrementAndGet);
+
+        assertThat(ran).isTrue();
+        assertThat(runs).hasValue(1);
+        verify(schedulerLeaseRepository).release(eq("job"), eq("node-a"), eq("2026-10-17"), any(), any(), eq(SchedulerRunStatus.SUCCEEDED));
+    }
+
+    @Test
+    void runExclusively_shouldSkipWhenLeaseHeldElsewhere() {
+        given(schedulerLeaseRepository.tryAcquire(eq("job"), eq("node-a"), eq("2026-10-17"), any(), any())).willReturn(false);
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean ran = schedulerLeaseManager.runExclusively("job", "2026-10-17", runs::incrementAndGet);
+
+        assertThat(ran).isFalse();
+        assertThat(runs).hasValue(0);
+        verify(schedulerLeaseRepository, never()).release(anyString(), anyString(), any(), any(), any(), any());
+    }
+
+    @Test
+    void runExclusively_shouldRecordFailureAndRethrow() {
+        given(schedulerLeaseRepository.tryAcquire(eq("job"), eq("node-a"), eq("2026-10-17"), any(), any())).willReturn(true);
+
+        assertThatThrownBy(() -> schedulerLeaseManager.runExclusively("job", "2026-10-17", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(schedulerLeaseRepository).release(eq("job"), eq("node-a"), eq("2026-10-17"), any(), any(), eq(SchedulerRunStatus.FAILED));
+    }
+
+    @Test
+    void runExclusivelyUntilComplete_shouldRecordPartialWhenTaskIsIncomplete() {
+        given(schedulerLeaseRepository.tryAcquire(eq("job"), eq("node-a"), eq("2026-10-17"), any(), any()))
+                .willReturn(true);
+
+        boolean ran = schedulerLeaseManager.runExclusivelyUntilComplete("job", "2026-10-17", () -> false);
+
+        assertThat(ran).isTrue();
+        verify(schedulerLeaseRepository)
+                .release(eq("job"), eq("node-a"), eq("2026-10-17"), any(), any(), eq(SchedulerRunStatus.PARTIAL));
+    }
+}
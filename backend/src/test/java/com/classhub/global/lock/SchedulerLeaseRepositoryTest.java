@@ -0,0 +1,121 @@
+package com.classhub.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.classhub.global.util.KstTime;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SchedulerLeaseRepositoryTest {
+
+    private static final String LEASE = "test-lease";
+    private static final String RUN_KEY = "2026-10-17";
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM scheduler_lease");
+    }
+
+    @Test
+    void tryAcquire_shouldRejectOtherHolderWhileLeaseIsActive() {
+        LocalDateTime now = KstTime.nowDateTime();
+
+        assertThat(schedulerLeaseRepository.tryAcquire(LEASE, "node-a", RUN_KEY, now, now.plusMinutes(5))).isTrue();
+        assertThat(schedulerLeaseRepository.tryAcquire(LEASE, "node-b", RUN_KEY, now.plusMinutes(1), now.plusMinutes(6)))
+                .isFalse();
+    }
+
+    @Test
+    void tryAcquire_shouldTakeOverExpiredLease() {
+        LocalDateTime now = KstTime.nowDateTime();
+        schedulerLeaseRepository.tryAcquire(LEASE, "node-a", RUN_KEY, now, now.plusMinutes(5));
+
+        LocalDateTime later = now.plusMinutes(6);
+        assertThat(schedulerLeaseRepository.tryAcquire(LEASE, "node-b", RUN_KEY, later, later.plusMinutes(5))).isTrue();
+        assertThat(schedulerLeaseRepository.renew(LEASE, "node-a", later, later.plusMinutes(5))).isFalse();
+        assertThat(schedulerLeaseRepository.renew(LEASE, "node-b", later, later.plusMinutes(5))).isTrue();
+    }
+
+    @Test
+    void release_shouldRecordLastRunAndFreeLeaseForRetryAfterFailure() {
+        LocalDateTime now = KstTime.nowDateTime();
+        schedulerLeaseRepository.tryAcquire(LEASE, "node-a", RUN_KEY, now, now.plusMinutes(5));
+
+        LocalDateTime finishedAt = now.plusSeconds(30);
+        schedulerLeaseRepository.release(LEASE, "node-a", RUN_KEY, now, finishedAt, SchedulerRunStatus.FAILED);
+
+        List<SchedulerLeaseStatus> statuses = schedulerLeaseRepository.findAll(finishedAt.plusSeconds(1));
+        assertThat(statuses).hasSize(1);
+        SchedulerLeaseStatus status = statuses.getFirst();
+        assertThat(status.active()).isFalse();
+        assertThat(status.lastRunHolder()).isEqualTo("node-a");
+        assertThat(status.lastRunStatus()).isEqualTo(SchedulerRunStatus.FAILED);
+        assertThat(status.lastCompletedKey()).isNull();
+        assertThat(status.runCount()).isEqualTo(1);
+        assertThat(schedulerLeaseRepository.tryAcquire(LEASE, "node-b", RUN_KEY, finishedAt, finishedAt.plusMinutes(5)))
+                .isTrue();
+    }
+
+    @Test
+    void tryAcquire_shouldSkipRunKeyThatAlreadySucceeded() {
+        LocalDateTime now = KstTime.nowDateTime();
+        schedulerLeaseRepository.tryAcquire(LEASE, "node-a", RUN_KEY, now, now.plusMinutes(5));
+        LocalDateTime finishedAt = now.plusNanos(5_000_000);
+        schedulerLeaseRepository.release(LEASE, "node-a", RUN_KEY, now, finishedAt, SchedulerRunStatus.SUCCEEDED);
+
+        LocalDateTime lateCron = finishedAt.plusSeconds(1);
+        assertThat(schedulerLeaseRepository.tryAcquire(LEASE, "node-b", RUN_KEY, lateCron, lateCron.plusMinutes(5)))
+                .isFalse();
+        assertThat(schedulerLeaseRepository.tryAcquire(LEASE, "node-a", RUN_KEY, lateCron, lateCron.plusMinutes(5)))
+                .isFalse();
+        assertThat(schedulerLeaseRepository.findAll(lateCron).getFirst().lastCompletedKey()).isEqualTo(RUN_KEY);
+
+        LocalDateTime nextDay = now.plusDays(1);
+        assertThat(schedulerLeaseRepository.tryAcquire(LEASE, "node-b", "2026-10-18", nextDay, nextDay.plusMinutes(5)))
+                .isTrue();
+    }
+
+    @Test
+    void tryAcquire_shouldElectSingleHolderUnderContention() throws Exception {
+        int nodes = 8;
+        LocalDateTime now = KstTime.nowDateTime();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(nodes)) {
+            for (int i = 0; i < nodes; i++) {
+                String holder = "node-" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return schedulerLeaseRepository.tryAcquire(LEASE, holder, RUN_KEY, now, now.plusMinutes(5));
+                }));
+            }
+            start.countDown();
+            int acquired = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    acquired++;
+                }
+            }
+            assertThat(acquired).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.classhub.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class BatchJobMetricsTest {
+
+    private final MockClock clock = new MockClock();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+    private final BatchJobMetrics batchJobMetrics = new BatchJobMetrics(registry);
+
+    @Test
+    void record_shouldCountItemsAndMarkLastSuccess() {
+        clock.add(90, TimeUnit.SECONDS);
+
+        int archived = batchJobMetrics.record("course-archive", () -> 7, Integer::intValue, result -> 0);
+
+        assertThat(archived).isEqualTo(7);
+        assertThat(registry.get("classhub.batch.items").tag("job", "course-archive").counter().count())
+                .isEqualTo(7);
+        assertThat(registry.get("classhub.batch.duration").tag("outcome", BatchJobMetrics.SUCCESS).timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("classhub.batch.last.success").tag("job", "course-archive").gauge().value())
+                .isEqualTo(TimeUnit.MILLISECONDS.toSeconds(clock.wallTime()));
+    }
+
+    @Test
+    void record_shouldNotMarkLastSuccess_whenPartitionsFailed() {
+        batchJobMetrics.record("clinic-weekly-sessions", () -> 3, result -> 10, result -> result);
+
+        assertThat(registry.get("classhub.batch.failures").counter().count()).isEqualTo(3);
+        assertThat(registry.get("classhub.batch.duration").tag("outcome", BatchJobMetrics.PARTIAL).timer().count())
+                .isEqualTo(1);
+        assertThat(registry.find("classhub.batch.last.success").gauge()).isNull();
+    }
+
+    @Test
+    void record_shouldTimeFailure_whenTaskThrows() {
+        assertThatThrownBy(() -> batchJobMetrics.record("course-archive", () -> {
+            throw new IllegalStateException("boom");
+        }, result -> 0, result -> 0)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get("classhub.batch.duration").tag("outcome", BatchJobMetrics.FAILURE).timer().count())
+                .isEqualTo(1);
+        assertThat(registry.find("classhub.batch.items").counter()).isNull();
+    }
+}
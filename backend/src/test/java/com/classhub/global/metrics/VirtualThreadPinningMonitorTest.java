@@ -0,0 +1,52 @@
+package com.classhub.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(registry, false, 20, 2);
+
+    @Test
+    void site_shouldPreferApplicationFrame() {
+        String site = VirtualThreadPinningMonitor.site(List.of(
+                "java.lang.VirtualThread.parkOnCarrierThread",
+                "com.mysql.cj.NativeSession.execSQL",
+                "com.classhub.domain.clinic.attendance.application.ClinicAttendanceService.reserve"
+        ));
+
+        assertThat(site).isEqualTo("com.classhub.domain.clinic.attendance.application.ClinicAttendanceService.reserve");
+    }
+
+    @Test
+    void site_shouldFallBackToFirstLibraryFrame() {
+        String site = VirtualThreadPinningMonitor.site(List.of(
+                "java.lang.VirtualThread.parkOnCarrierThread",
+                "jdk.internal.misc.Unsafe.park",
+                "com.mysql.cj.NativeSession.execSQL"
+        ));
+
+        assertThat(site).isEqualTo("com.mysql.cj.NativeSession.execSQL");
+        assertThat(VirtualThreadPinningMonitor.site(List.of())).isEqualTo(VirtualThreadPinningMonitor.UNKNOWN_SITE);
+    }
+
+    @Test
+    void record_shouldTagBySite_andFoldOverflowIntoOther() {
+        monitor.record(List.of("com.classhub.A.a"), Duration.ofMillis(30));
+        monitor.record(List.of("com.classhub.A.a"), Duration.ofMillis(50));
+        monitor.record(List.of("com.classhub.B.b"), Duration.ofMillis(25));
+        monitor.record(List.of("com.classhub.C.c"), Duration.ofMillis(40));
+
+        assertThat(registry.get("classhub.vthread.pinned").tag("site", "com.classhub.A.a").timer().count())
+                .isEqualTo(2);
+        assertThat(registry.get("classhub.vthread.pinned").tag("site", "com.classhub.B.b").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("classhub.vthread.pinned").tag("site", VirtualThreadPinningMonitor.OTHER_SITE).timer().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,166 @@
+package com.classhub.global.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.classhub.domain.course.model.Course;
+import com.classhub.global.cache.CacheVersionTracker;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordSearchIndexTest {
+
+    @Mock
+    private SearchIndexJdbcRepository searchIndexJdbcRepository;
+    @Mock
+    private CacheVersionTracker cacheVersionTracker;
+
+    private KeywordSearchIndex index;
+    private UUID kim;
+    private UUID lee;
+    private UUID mathCourse;
+
+    @BeforeEach
+    void setUp() {
+        index = new KeywordSearchIndex(searchIndexJdbcRepository, cacheVersionTracker, 1);
+        kim = UUID.randomUUID();
+        lee = UUID.randomUUID();
+        mathCourse = UUID.randomUUID();
+    }
+
+    @Test
+    void students_shouldFallBackToLikeUntilRebuilt() {
+        assertThat(index.students("김")).isEqualTo(KeywordCandidates.like("김"));
+        assertThat(index.students(null)).isEqualTo(KeywordCandidates.none());
+    }
+
+    @Test
+    void students_shouldMatchNameSchoolAndPhoneAfterRebuild() {
+        rebuild();
+
+        assertThat(index.students("김철").ids()).containsExactly(kim);
+        assertThat(index.students("대치").ids()).containsExactly(lee);
+        assertThat(index.students("1234-5678").ids()).containsExactly(kim);
+        assertThat(index.students("없는이름").filtered()).isTrue();
+        assertThat(index.students("없는이름").ids()).doesNotContain(kim, lee);
+        assertThat(index.courses("수학").ids()).containsExactly(mathCourse);
+    }
+
+    @Test
+    void students_shouldFallBackToLikeWhenTooManyCandidates() {
+        rebuild();
+
+        assertThat(index.students("학교")).isEqualTo(KeywordCandidates.like("학교"));
+    }
+
+    @Test
+    void index_shouldApplyEntityChangesIncrementally() {
+        rebuild();
+        Course course = Course.create(UUID.randomUUID(), UUID.randomUUID(), "고2 물리", null,
+                LocalDate.now(), LocalDate.now().plusMonths(1), Set.of());
+        ReflectionTestUtils.setField(course, "id", mathCourse);
+
+        index.index(course);
+
+        assertThat(index.courses("수학").ids()).doesNotContain(mathCourse);
+        assertThat(index.courses("물리").ids()).containsExactly(mathCourse);
+
+        index.evict(course);
+
+        assertThat(index.courses("물리").ids()).doesNotContain(mathCourse);
+    }
+
+    @Test
+    void rebuild_shouldReplayListenerChangesMadeWhileReadingSnapshot() {
+        Course course = Course.create(UUID.randomUUID(), UUID.randomUUID(), "고2 물리", null,
+                LocalDate.now(), LocalDate.now().plusMonths(1), Set.of());
+        ReflectionTestUtils.setField(course, "id", mathCourse);
+        stubMembers();
+        given(searchIndexJdbcRepository.findAll(SearchTarget.COURSE_NAME)).willAnswer(invocation -> {
+            index.index(course);
+            return Map.of(mathCourse, "중3 수학");
+        });
+
+        index.rebuild();
+
+        assertThat(index.courses("물리").ids()).containsExactly(mathCourse);
+        assertThat(index.courses("수학").ids()).doesNotContain(mathCourse);
+    }
+
+    @Test
+    void markStale_shouldFallBackToLikeUntilNextRebuild() {
+        rebuild();
+
+        index.markStale();
+
+        assertThat(index.courses("수학")).isEqualTo(KeywordCandidates.like("수학"));
+
+        index.refreshIfStale();
+
+        assertThat(index.courses("수학").ids()).containsExactly(mathCourse);
+    }
+
+    @Test
+    void rebuild_shouldStayStaleWhenRemoteChangeSeenDuringRebuild() {
+        stubMembers();
+        given(searchIndexJdbcRepository.findAll(SearchTarget.COURSE_NAME)).willAnswer(invocation -> {
+            index.markStale();
+            return Map.of(mathCourse, "중3 수학");
+        });
+
+        index.rebuild();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.isCurrent()).isFalse();
+        assertThat(index.courses("수학")).isEqualTo(KeywordCandidates.like("수학"));
+    }
+
+    @Test
+    void publishChange_shouldBumpCacheVersion() {
+        verify(cacheVersionTracker).register(eq("keyword-search"), any());
+
+        index.publishChange();
+
+        verify(cacheVersionTracker).bumpAfterCommit("keyword-search");
+    }
+
+    @Test
+    void ngramIndex_shouldRequireContiguousMatch() {
+        NgramIndex ngramIndex = new NgramIndex(false);
+        UUID id = UUID.randomUUID();
+        ngramIndex.put(id, "ABBA");
+
+        assertThat(ngramIndex.search("abb")).containsExactly(id);
+        assertThat(ngramIndex.search("b")).containsExactly(id);
+        assertThat(ngramIndex.search("aba")).isEmpty();
+    }
+
+    private void rebuild() {
+        stubMembers();
+        given(searchIndexJdbcRepository.findAll(SearchTarget.COURSE_NAME))
+                .willReturn(Map.of(mathCourse, "중3 수학"));
+        index.rebuild();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    private void stubMembers() {
+        given(searchIndexJdbcRepository.findAll(SearchTarget.MEMBER_NAME))
+                .willReturn(Map.of(kim, "김철수", lee, "이영희"));
+        given(searchIndexJdbcRepository.findAll(SearchTarget.MEMBER_PHONE))
+                .willReturn(Map.of(kim, "010-1234-5678", lee, "010-9999-0000"));
+        given(searchIndexJdbcRepository.findAll(SearchTarget.SCHOOL_NAME))
+                .willReturn(Map.of(kim, "서초중학교", lee, "대치중학교"));
+    }
+}
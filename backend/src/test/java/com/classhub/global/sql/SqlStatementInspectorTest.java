@@ -0,0 +1,65 @@
+package com.classhub.global.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.classhub.domain.course.model.Course;
+import com.classhub.domain.course.repository.CourseRepository;
+import com.classhub.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaConfig.class)
+class SqlStatementInspectorTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void inspector_shouldCountLazyScheduleLoadsOncePerBatch() {
+        UUID branchId = UUID.randomUUID();
+        UUID teacherId = UUID.randomUUID();
+        List<UUID> courseIds = courseRepository.saveAll(List.of(
+                course(branchId, teacherId, "수학 A"),
+                course(branchId, teacherId, "수학 B"),
+                course(branchId, teacherId, "수학 C")
+        )).stream().map(Course::getId).toList();
+        entityManager.flush();
+        entityManager.clear();
+
+        try (SqlStatementScope scope = SqlStatementTracker.open("schedules")) {
+            List<Course> courses = courseRepository.findAllById(courseIds);
+            courses.forEach(course -> assertThat(course.getSchedules()).hasSize(1));
+
+            assertThat(scope.statementCount()).isEqualTo(2);
+            assertThat(scope.maxSelectRepeat()).isEqualTo(1);
+        }
+    }
+
+    private Course course(UUID branchId, UUID teacherId, String name) {
+        return Course.create(
+                branchId,
+                teacherId,
+                name,
+                null,
+                LocalDate.of(2024, 3, 1),
+                LocalDate.of(2024, 6, 30),
+                Set.of(new Course.CourseSchedule(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0)))
+        );
+    }
+}
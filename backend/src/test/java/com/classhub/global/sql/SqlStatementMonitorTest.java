@@ -0,0 +1,112 @@
+package com.classhub.global.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.annotation.Annotation;
+import org.junit.jupiter.api.Test;
+
+class SqlStatementMonitorTest {
+
+    private static final String SELECT_SCHEDULE = "select cs.course_id from course_schedule cs where cs.course_id=?";
+    private static final String INSERT_ATTENDANCE = "insert into clinic_attendance (id) values (?)";
+
+    private final SqlStatementInspector inspector = new SqlStatementInspector();
+
+    @Test
+    void tracker_shouldCountStatementsInEveryOpenScope() {
+        try (SqlStatementScope outer = SqlStatementTracker.open("GET /api/v1/courses")) {
+            inspector.inspect("select c.id from course c");
+            try (SqlStatementScope inner = SqlStatementTracker.open("CourseService.getCourses")) {
+                inspector.inspect(SELECT_SCHEDULE);
+                inspector.inspect(SELECT_SCHEDULE);
+
+                assertThat(inner.isOutermost()).isFalse();
+                assertThat(inner.statementCount()).isEqualTo(2);
+            }
+            inspector.inspect("select b.id from branch b");
+
+            assertThat(outer.isOutermost()).isTrue();
+            assertThat(outer.statementCount()).isEqualTo(4);
+            assertThat(outer.maxSelectRepeat()).isEqualTo(2);
+        }
+        inspector.inspect("select 1");
+    }
+
+    @Test
+    void repeatedSelects_shouldIgnoreRepeatedInserts() {
+        try (SqlStatementScope scope = SqlStatementTracker.open("bulk")) {
+            for (int i = 0; i < 20; i++) {
+                inspector.inspect(INSERT_ATTENDANCE);
+                inspector.inspect(SELECT_SCHEDULE);
+            }
+
+            assertThat(scope.repeatedSelects(10)).containsOnlyKeys(SELECT_SCHEDULE);
+            assertThat(scope.maxSelectRepeat()).isEqualTo(20);
+        }
+    }
+
+    @Test
+    void complete_shouldRecordMetricsAndRepeatedSelects() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlStatementMonitor monitor = new SqlStatementMonitor(registry, true, 5, false);
+        SqlStatementScope scope = SqlStatementTracker.open("GET /api/v1/courses");
+        for (int i = 0; i < 6; i++) {
+            inspector.inspect(SELECT_SCHEDULE);
+        }
+        scope.close();
+
+        monitor.complete(scope, SqlStatementMonitor.REQUEST_SCOPE, null);
+
+        assertThat(registry.get("sql.statements").tag("name", "GET /api/v1/courses").summary().totalAmount())
+                .isEqualTo(6);
+        assertThat(registry.get("sql.statements.repeated").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void complete_shouldThrow_whenBudgetExceededInFailMode() {
+        SqlStatementMonitor monitor = new SqlStatementMonitor(new SimpleMeterRegistry(), true, 10, true);
+        SqlStatementScope scope = SqlStatementTracker.open("CourseController.getCourses");
+        inspector.inspect(SELECT_SCHEDULE);
+        inspector.inspect(SELECT_SCHEDULE);
+        scope.close();
+
+        assertThatThrownBy(() -> monitor.complete(scope, SqlStatementMonitor.METHOD_SCOPE, budget(10, 1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("CourseController.getCourses");
+    }
+
+    @Test
+    void complete_shouldOnlyCountExceededBudget_whenWarnMode() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlStatementMonitor monitor = new SqlStatementMonitor(registry, true, 10, false);
+        SqlStatementScope scope = SqlStatementTracker.open("CourseController.getCourses");
+        inspector.inspect("select c.id from course c");
+        inspector.inspect("select b.id from branch b");
+        scope.close();
+
+        monitor.complete(scope, SqlStatementMonitor.METHOD_SCOPE, budget(1, Integer.MAX_VALUE));
+
+        assertThat(registry.get("sql.budget.exceeded").counter().count()).isEqualTo(1);
+    }
+
+    private SqlBudget budget(int statements, int repeats) {
+        return new SqlBudget() {
+            @Override
+            public int statements() {
+                return statements;
+            }
+
+            @Override
+            public int repeats() {
+                return repeats;
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return SqlBudget.class;
+            }
+        };
+    }
+}
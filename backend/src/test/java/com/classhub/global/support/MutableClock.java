@@ -0,0 +1,44 @@
+package com.classhub.global.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * 테스트에서 시간을 직접 흘려보내는 Clock. 만료·TTL 판정을 sleep 없이 검증할 때 쓴다.
+ */
+public final class MutableClock extends Clock {
+
+    private final ZoneId zone;
+    private Instant instant;
+
+    public MutableClock(Instant instant) {
+        this(instant, ZoneOffset.UTC);
+    }
+
+    public MutableClock(Instant instant, ZoneId zone) {
+        this.instant = instant;
+        this.zone = zone;
+    }
+
+    public void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new MutableClock(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,77 @@
+package com.classhub.global.timetable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import org.junit.jupiter.api.Test;
+
+class WeeklyTimetableTest {
+
+    @Test
+    void intersects_shouldDetectOverlapOnSameDayOnly() {
+        WeeklyTimetable timetable = new WeeklyTimetable()
+                .mark(DayOfWeek.MONDAY, LocalTime.of(9, 30), LocalTime.of(10, 30));
+
+        assertThat(timetable.intersects(DayOfWeek.MONDAY, LocalTime.of(10, 0), LocalTime.of(11, 0))).isTrue();
+        assertThat(timetable.intersects(DayOfWeek.TUESDAY, LocalTime.of(10, 0), LocalTime.of(11, 0))).isFalse();
+        assertThat(timetable.intersects(new WeeklyTimetable()
+                .mark(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(12, 0)))).isTrue();
+    }
+
+    @Test
+    void intersects_shouldTreatTouchingRangesAsFree() {
+        WeeklyTimetable timetable = new WeeklyTimetable()
+                .mark(DayOfWeek.WEDNESDAY, LocalTime.of(9, 0), LocalTime.of(10, 0));
+
+        assertThat(timetable.intersects(DayOfWeek.WEDNESDAY, LocalTime.of(10, 0), LocalTime.of(11, 0))).isFalse();
+        assertThat(timetable.intersects(DayOfWeek.WEDNESDAY, LocalTime.of(8, 0), LocalTime.of(9, 0))).isFalse();
+        assertThat(timetable.intersects(DayOfWeek.WEDNESDAY, LocalTime.of(9, 59), LocalTime.of(11, 0))).isTrue();
+    }
+
+    @Test
+    void intersects_shouldNotMissSubMinuteOverlap() {
+        WeeklyTimetable timetable = new WeeklyTimetable()
+                .mark(DayOfWeek.FRIDAY, LocalTime.of(9, 0), LocalTime.of(10, 0, 30));
+
+        assertThat(timetable.intersects(DayOfWeek.FRIDAY, LocalTime.of(10, 0, 15), LocalTime.of(11, 0))).isTrue();
+    }
+
+    @Test
+    void intersects_shouldHandleRangesSpanningManyWords() {
+        WeeklyTimetable timetable = new WeeklyTimetable()
+                .mark(DayOfWeek.SUNDAY, LocalTime.of(6, 0), LocalTime.of(22, 0));
+
+        assertThat(timetable.intersects(DayOfWeek.SUNDAY, LocalTime.of(21, 59), LocalTime.MAX)).isTrue();
+        assertThat(timetable.intersects(DayOfWeek.SUNDAY, LocalTime.of(22, 0), LocalTime.MAX)).isFalse();
+        assertThat(timetable.intersects(DayOfWeek.SATURDAY, LocalTime.MIN, LocalTime.MAX)).isFalse();
+    }
+
+    @Test
+    void freeWindows_shouldReturnGapsLongerThanMinimum() {
+        WeeklyTimetable timetable = new WeeklyTimetable()
+                .mark(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0))
+                .mark(DayOfWeek.MONDAY, LocalTime.of(10, 30), LocalTime.of(21, 0));
+
+        assertThat(timetable.freeWindows(LocalTime.of(6, 0), LocalTime.of(22, 0), 60))
+                .filteredOn(window -> window.dayOfWeek() == DayOfWeek.MONDAY)
+                .containsExactly(
+                        new WeeklyTimetable.Window(DayOfWeek.MONDAY, LocalTime.of(6, 0), LocalTime.of(9, 0)),
+                        new WeeklyTimetable.Window(DayOfWeek.MONDAY, LocalTime.of(21, 0), LocalTime.of(22, 0))
+                );
+        assertThat(timetable.freeWindows(LocalTime.of(6, 0), LocalTime.of(22, 0), 60))
+                .filteredOn(window -> window.dayOfWeek() == DayOfWeek.TUESDAY)
+                .containsExactly(new WeeklyTimetable.Window(DayOfWeek.TUESDAY, LocalTime.of(6, 0), LocalTime.of(22, 0)));
+    }
+
+    @Test
+    void freeWindows_shouldReturnNothingWhenDayIsFull() {
+        WeeklyTimetable timetable = new WeeklyTimetable();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            timetable.mark(dayOfWeek, LocalTime.of(6, 0), LocalTime.of(22, 0));
+        }
+
+        assertThat(timetable.freeWindows(LocalTime.of(6, 0), LocalTime.of(22, 0), 1)).isEmpty();
+        assertThat(timetable.isEmpty()).isFalse();
+    }
+}
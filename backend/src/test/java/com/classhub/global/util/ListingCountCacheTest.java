@@ -0,0 +1,62 @@
+package com.classhub.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.classhub.global.exception.BusinessException;
+import com.classhub.global.response.RsCode;
+import com.classhub.global.support.MutableClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ListingCountCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-04T00:00:00Z");
+
+    @Test
+    void get_shouldReuseCountWithinTtl() {
+        MutableClock clock = new MutableClock(NOW);
+        ListingCountCache cache = new ListingCountCache(clock, 30_000, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        long first = cache.get("courses:a", () -> calls.incrementAndGet() * 10L);
+        long second = cache.get("courses:a", () -> calls.incrementAndGet() * 10L);
+
+        assertThat(first).isEqualTo(10L);
+        assertThat(second).isEqualTo(10L);
+        assertThat(calls).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(cache.get("courses:a", () -> calls.incrementAndGet() * 10L)).isEqualTo(20L);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void get_shouldNotCacheBeyondMaxSize() {
+        ListingCountCache cache = new ListingCountCache(new MutableClock(NOW), 30_000, 1);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get("a", calls::incrementAndGet);
+        cache.get("b", calls::incrementAndGet);
+        cache.get("b", calls::incrementAndGet);
+
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void seekCursor_shouldRoundTripAndRejectMalformedToken() {
+        SeekCursor cursor = new SeekCursor(LocalDateTime.of(2024, 3, 4, 9, 30, 15, 123_000_000), UUID.randomUUID());
+
+        assertThat(SeekCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThat(SeekCursor.decode(null)).isNull();
+        assertThat(SeekCursor.decode(" ")).isNull();
+        assertThatThrownBy(() -> SeekCursor.decode("%%%"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("rsCode", RsCode.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,44 @@
+package com.classhub.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidTest {
+
+    @Test
+    void next_shouldSetVersionAndVariant() {
+        UUID uuid = TimeOrderedUuid.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void next_shouldEmbedCurrentMillis() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuid.next();
+
+        long millis = uuid.getMostSignificantBits() >>> 16;
+        assertThat(millis).isGreaterThanOrEqualTo(before).isCloseTo(before, within(1_000L));
+    }
+
+    @Test
+    void next_shouldBeMonotonicInStoredByteOrder() {
+        List<byte[]> ids = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            ids.add(UuidBytes.toBytes(TimeOrderedUuid.next()));
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Arrays.compareUnsigned(ids.get(i - 1), ids.get(i))).isNegative();
+        }
+        assertThat(new HashSet<>(ids.stream().map(UuidBytes::fromBytes).toList())).hasSize(ids.size());
+    }
+}